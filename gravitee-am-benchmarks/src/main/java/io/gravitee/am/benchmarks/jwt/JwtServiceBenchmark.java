@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.benchmarks.support.BenchmarkContext;
+import io.gravitee.am.benchmarks.support.CertificateProviders;
+import io.gravitee.am.benchmarks.support.InMemoryCertificateManager;
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.handler.jwt.JwtService;
+import io.gravitee.am.gateway.handler.jwt.impl.JwtServiceImpl;
+import io.gravitee.am.model.Client;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the signature and the verification of access tokens through {@link JwtServiceImpl}, with the client
+ * certificate resolved from the certificate manager as done on the token and introspection endpoints.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String DOMAIN = "benchmark";
+    private static final String CERTIFICATE = "benchmark-certificate";
+
+    @Param({"HS256", "RS256", "RS512"})
+    private String algorithm;
+
+    private AnnotationConfigApplicationContext context;
+    private JwtService jwtService;
+    private Client client;
+    private JWT jwt;
+    private String encodedJwt;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        InMemoryCertificateManager certificateManager = new InMemoryCertificateManager(DOMAIN, CERTIFICATE,
+                CertificateProviders.create(CERTIFICATE, SignatureAlgorithm.forName(algorithm), objectMapper));
+
+        context = BenchmarkContext.create(Arrays.asList(objectMapper, certificateManager), JwtServiceImpl.class);
+        jwtService = context.getBean(JwtService.class);
+
+        client = new Client();
+        client.setId("client-id");
+        client.setClientId("client-id");
+        client.setDomain(DOMAIN);
+        client.setCertificate(CERTIFICATE);
+
+        long now = System.currentTimeMillis() / 1000L;
+        jwt = new JWT();
+        jwt.setIss("http://gravitee.am");
+        jwt.setSub(UUID.randomUUID().toString());
+        jwt.setAud(client.getClientId());
+        jwt.setDomain(DOMAIN);
+        jwt.setIat(now);
+        jwt.setExp(now + TimeUnit.DAYS.toSeconds(1));
+        jwt.setJti(UUID.randomUUID().toString());
+        jwt.setScope("openid profile email");
+
+        encodedJwt = jwtService.encode(jwt, client).blockingGet();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtService.encode(jwt, client).blockingGet();
+    }
+
+    @Benchmark
+    public JWT decodeAndVerify() {
+        return jwtService.decodeAndVerify(encodedJwt, client).blockingGet();
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import io.gravitee.am.benchmarks.support.BenchmarkContext;
+import io.gravitee.am.gateway.handler.oauth2.approval.ApprovalService;
+import io.gravitee.am.gateway.handler.oauth2.approval.impl.ApprovalServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
+import io.gravitee.common.event.impl.EventManagerImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the approval check done on each authorization request by {@link ApprovalServiceImpl}, either from the
+ * client auto approve scopes or from the scopes previously approved by the user.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApprovalServiceBenchmark {
+
+    private static final String DOMAIN = "benchmark";
+    private static final String USERNAME = "user";
+    private static final List<String> SCOPES = Arrays.asList("openid", "profile", "email", "read:users");
+
+    private AnnotationConfigApplicationContext repositories;
+    private AnnotationConfigApplicationContext context;
+    private ApprovalService approvalService;
+    private Client autoApproveClient;
+    private Client client;
+
+    @Setup
+    public void setup() {
+        Domain domain = new Domain();
+        domain.setId(DOMAIN);
+        domain.setName(DOMAIN);
+
+        autoApproveClient = client("auto-approve-client", Arrays.asList("openid", "profile", "email", "read:.*"));
+        client = client("client", Collections.emptyList());
+
+        repositories = BenchmarkContext.repositories();
+        ClientRepository clientRepository = repositories.getBean(ClientRepository.class);
+        clientRepository.create(autoApproveClient).blockingGet();
+        clientRepository.create(client).blockingGet();
+        ScopeApprovalRepository scopeApprovalRepository = repositories.getBean(ScopeApprovalRepository.class);
+        Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(30));
+        SCOPES.forEach(scope -> scopeApprovalRepository.upsert(
+                new ScopeApproval(USERNAME, client.getClientId(), scope, ScopeApproval.ApprovalStatus.APPROVED, expiresAt, DOMAIN)).blockingGet());
+
+        context = BenchmarkContext.create(repositories,
+                Arrays.asList(domain, new EventManagerImpl()),
+                ClientSyncServiceImpl.class, ApprovalServiceImpl.class);
+        approvalService = context.getBean(ApprovalService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        repositories.close();
+    }
+
+    @Benchmark
+    public AuthorizationRequest autoApproval() {
+        return approvalService.checkApproval(authorizationRequest(autoApproveClient), autoApproveClient, USERNAME).blockingGet();
+    }
+
+    @Benchmark
+    public AuthorizationRequest userApproval() {
+        return approvalService.checkApproval(authorizationRequest(client), client, USERNAME).blockingGet();
+    }
+
+    private static AuthorizationRequest authorizationRequest(Client client) {
+        AuthorizationRequest authorizationRequest = new AuthorizationRequest();
+        authorizationRequest.setClientId(client.getClientId());
+        authorizationRequest.setResponseType("code");
+        authorizationRequest.setScopes(new HashSet<>(SCOPES));
+        return authorizationRequest;
+    }
+
+    private static Client client(String clientId, List<String> autoApproveScopes) {
+        Client client = new Client();
+        client.setId(clientId);
+        client.setClientId(clientId);
+        client.setDomain(DOMAIN);
+        client.setAutoApproveScopes(autoApproveScopes);
+        return client;
+    }
+}
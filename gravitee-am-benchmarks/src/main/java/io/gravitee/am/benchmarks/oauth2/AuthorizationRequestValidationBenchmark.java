@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
+import io.gravitee.am.model.Client;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the authorization request validation (grant types, response type, redirect uri and auto approve scopes)
+ * done from the raw {@link Client} model on each request (previous implementation) with the checks done on the
+ * {@link CompiledClient} built once when the client is loaded.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationRequestValidationBenchmark {
+
+    private static final String RESPONSE_TYPE = "code id_token";
+    private static final String REDIRECT_URI = "https://app5.gravitee.io/login/callback?state=1";
+    private static final List<String> SCOPES = Arrays.asList("openid", "profile", "read:users");
+
+    private Client client;
+    private CompiledClient compiledClient;
+
+    @Setup
+    public void setup() {
+        client = new Client();
+        client.setId("client-id");
+        client.setClientId("client-id");
+        client.setAuthorizedGrantTypes(Arrays.asList("client_credentials", "password", "refresh_token", "authorization_code"));
+        client.setResponseTypes(Arrays.asList("token", "id_token", "code"));
+        client.setRedirectUris(Arrays.asList(
+                "https://app1.gravitee.io/login/callback",
+                "https://app2.gravitee.io/login/callback",
+                "https://app3.gravitee.io/login/callback",
+                "https://app4.gravitee.io/login/callback",
+                "https://app5.gravitee.io/login/callback"));
+        client.setAutoApproveScopes(Arrays.asList("openid", "profile", "email", "read:.*"));
+
+        compiledClient = new CompiledClient(client);
+    }
+
+    @Benchmark
+    public boolean rawClient() {
+        return containsGrantType(client.getAuthorizedGrantTypes())
+                && Arrays.stream(RESPONSE_TYPE.split("\\s")).allMatch(type -> client.getResponseTypes().contains(type))
+                && client.getRedirectUris().stream().anyMatch(registered -> redirectMatches(REDIRECT_URI, registered))
+                && SCOPES.stream().allMatch(scope -> isAutoApprove(client.getAutoApproveScopes(), scope));
+    }
+
+    @Benchmark
+    public boolean compiledClient() {
+        return compiledClient.isAuthorizationEndpointAllowed()
+                && compiledClient.isAuthorizedResponseType(RESPONSE_TYPE)
+                && compiledClient.matchesRedirectUri(REDIRECT_URI)
+                && SCOPES.stream().allMatch(compiledClient::isAutoApprove);
+    }
+
+    private static boolean containsGrantType(List<String> authorizedGrantTypes) {
+        return authorizedGrantTypes.stream()
+                .anyMatch(authorizedGrantType -> "authorization_code".equals(authorizedGrantType) || "implicit".equals(authorizedGrantType));
+    }
+
+    private static boolean redirectMatches(String requestedRedirect, String registeredClientUri) {
+        try {
+            URL req = new URL(requestedRedirect);
+            URL reg = new URL(registeredClientUri);
+
+            int requestedPort = req.getPort() != -1 ? req.getPort() : req.getDefaultPort();
+            int registeredPort = reg.getPort() != -1 ? reg.getPort() : reg.getDefaultPort();
+
+            if (reg.getProtocol().equals(req.getProtocol()) && reg.getHost().equals(req.getHost()) && registeredPort == requestedPort) {
+                return req.getPath().startsWith(reg.getPath());
+            }
+        } catch (MalformedURLException e) {
+        }
+        return requestedRedirect.equals(registeredClientUri);
+    }
+
+    private static boolean isAutoApprove(List<String> autoApproveScopes, String scope) {
+        for (String auto : autoApproveScopes) {
+            if (auto.equals("true") || scope.matches(auto)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import io.gravitee.am.benchmarks.support.BenchmarkContext;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.common.event.impl.EventManagerImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the client lookup done by {@link ClientSyncServiceImpl} on each OAuth 2.0 request, depending on the number
+ * of clients registered in the security domain.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSyncServiceBenchmark {
+
+    private static final String DOMAIN = "benchmark";
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    private AnnotationConfigApplicationContext repositories;
+    private AnnotationConfigApplicationContext context;
+    private ClientSyncService clientSyncService;
+    private String[] clientIds;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Domain domain = new Domain();
+        domain.setId(DOMAIN);
+        domain.setName(DOMAIN);
+
+        repositories = BenchmarkContext.repositories();
+        ClientRepository clientRepository = repositories.getBean(ClientRepository.class);
+        clientIds = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client();
+            client.setId("id-" + i);
+            client.setClientId("client-" + i);
+            client.setDomain(DOMAIN);
+            client.setAuthorizedGrantTypes(Arrays.asList("authorization_code", "refresh_token"));
+            client.setRedirectUris(Arrays.asList("https://app" + i + ".gravitee.io/login/callback"));
+            clientRepository.create(client).blockingGet();
+            clientIds[i] = client.getClientId();
+        }
+
+        context = BenchmarkContext.create(repositories,
+                Arrays.asList(domain, new EventManagerImpl()),
+                ClientSyncServiceImpl.class);
+        clientSyncService = context.getBean(ClientSyncService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        repositories.close();
+    }
+
+    @Benchmark
+    public Client findByClientId() {
+        String clientId = clientIds[next];
+        next = (next + 1) % clientIds.length;
+        return clientSyncService.findByClientId(clientId).blockingGet();
+    }
+
+    @Benchmark
+    public Client findByUnknownClientId() {
+        return clientSyncService.findByClientId("unknown-client").blockingGet();
+    }
+}
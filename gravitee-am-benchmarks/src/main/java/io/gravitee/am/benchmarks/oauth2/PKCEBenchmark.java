@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import io.gravitee.am.gateway.handler.oauth2.pkce.PKCEUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the PKCE checks done when an authorization code is exchanged with the S256 code challenge method: code
+ * verifier validation, S256 challenge computation and comparison with the stored code challenge.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PKCEBenchmark {
+
+    private String codeVerifier;
+    private String codeChallenge;
+
+    @Setup
+    public void setup() throws Exception {
+        // https://tools.ietf.org/html/rfc7636#section-4.1 (32 random octets, 43 characters once encoded)
+        byte[] octets = new byte[32];
+        new SecureRandom().nextBytes(octets);
+        codeVerifier = Base64.getUrlEncoder().withoutPadding().encodeToString(octets);
+        codeChallenge = PKCEUtils.getS256CodeChallenge(codeVerifier);
+    }
+
+    @Benchmark
+    public boolean validCodeChallenge() {
+        return PKCEUtils.validCodeChallenge(codeChallenge);
+    }
+
+    @Benchmark
+    public boolean validCodeVerifier() {
+        return PKCEUtils.validCodeVerifier(codeVerifier);
+    }
+
+    @Benchmark
+    public boolean verifyS256() throws Exception {
+        return PKCEUtils.validCodeVerifier(codeVerifier) && codeChallenge.equals(PKCEUtils.getS256CodeChallenge(codeVerifier));
+    }
+}
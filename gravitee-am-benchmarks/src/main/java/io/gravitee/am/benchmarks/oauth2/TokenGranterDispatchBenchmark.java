@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import io.gravitee.am.gateway.handler.oauth2.exception.UnsupportedGrantTypeException;
+import io.gravitee.am.gateway.handler.oauth2.granter.CompositeTokenGranter;
+import io.gravitee.am.gateway.handler.oauth2.granter.TokenGranter;
+import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
+import io.gravitee.am.gateway.handler.oauth2.token.Token;
+import io.gravitee.am.gateway.handler.oauth2.token.impl.AccessToken;
+import io.gravitee.am.model.Client;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the token granter dispatch done by filtering every registered granter through an Rx pipeline
+ * (previous implementation) with the grant type registry of the {@link CompositeTokenGranter}.
+ *
+ * Run with <code>-prof gc</code> to get the allocation rate per operation.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenGranterDispatchBenchmark {
+
+    private static final String[] GRANT_TYPES = {
+            "client_credentials", "password", "authorization_code", "refresh_token",
+            "urn:ietf:params:oauth:grant-type:jwt-bearer", "urn:ietf:params:oauth:grant-type:saml2-bearer"
+    };
+
+    private final Map<String, TokenGranter> tokenGranters = new LinkedHashMap<>();
+    private final CompositeTokenGranter compositeTokenGranter = new CompositeTokenGranter();
+    private final Client client = new Client();
+    private TokenRequest tokenRequest;
+
+    @Setup
+    public void setup() {
+        for (String grantType : GRANT_TYPES) {
+            TokenGranter tokenGranter = new StaticTokenGranter(grantType);
+            tokenGranters.put(grantType, tokenGranter);
+            compositeTokenGranter.addTokenGranter(grantType, tokenGranter);
+        }
+        tokenRequest = new TokenRequest();
+        tokenRequest.setGrantType("refresh_token");
+    }
+
+    @Benchmark
+    public Token observableDispatch() {
+        return Observable
+                .fromIterable(tokenGranters.values())
+                .filter(tokenGranter -> tokenGranter.handle(tokenRequest.getGrantType()))
+                .switchIfEmpty(Observable.error(new UnsupportedGrantTypeException("Unsupported grant type: " + tokenRequest.getGrantType())))
+                .flatMapSingle(tokenGranter -> tokenGranter.grant(tokenRequest, client)).singleOrError()
+                .blockingGet();
+    }
+
+    @Benchmark
+    public Token registryDispatch() {
+        return compositeTokenGranter.grant(tokenRequest, client).blockingGet();
+    }
+
+    private static class StaticTokenGranter implements TokenGranter {
+
+        private final String grantType;
+        private final Single<Token> token = Single.just(new AccessToken("token"));
+
+        StaticTokenGranter(String grantType) {
+            this.grantType = grantType;
+        }
+
+        @Override
+        public boolean handle(String grantType) {
+            return this.grantType.equals(grantType);
+        }
+
+        @Override
+        public Single<Token> grant(TokenRequest tokenRequest, Client client) {
+            return token;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.benchmarks.support.*;
+import io.gravitee.am.gateway.handler.jwt.impl.JwtServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.gateway.handler.oauth2.request.OAuth2Request;
+import io.gravitee.am.gateway.handler.oauth2.token.Token;
+import io.gravitee.am.gateway.handler.oauth2.token.TokenEnhancer;
+import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
+import io.gravitee.am.gateway.handler.oauth2.token.impl.TokenServiceImpl;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.User;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.memory.oauth2.MemoryAccessTokenRepository;
+import io.gravitee.am.repository.memory.oauth2.MemoryRefreshTokenRepository;
+import io.gravitee.common.event.impl.EventManagerImpl;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.reactivex.Single;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the access token (and refresh token) creation done by {@link TokenServiceImpl}: tokens storage, JWT
+ * signature with the client certificate and response conversion. Tokens are stored in memory so that only the
+ * gateway side of the token endpoint is measured.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String DOMAIN = "benchmark";
+    private static final String CERTIFICATE = "benchmark-certificate";
+
+    @Param({"false", "true"})
+    private boolean refreshToken;
+
+    private AnnotationConfigApplicationContext repositories;
+    private AnnotationConfigApplicationContext context;
+    private MemoryAccessTokenRepository accessTokenRepository;
+    private MemoryRefreshTokenRepository refreshTokenRepository;
+    private TokenService tokenService;
+    private OAuth2Request oAuth2Request;
+    private Client client;
+    private User user;
+
+    @Setup
+    public void setup() throws Exception {
+        Domain domain = new Domain();
+        domain.setId(DOMAIN);
+        domain.setName(DOMAIN);
+
+        client = new Client();
+        client.setId("client-id");
+        client.setClientId("client-id");
+        client.setDomain(DOMAIN);
+        client.setCertificate(CERTIFICATE);
+
+        user = new User();
+        user.setId("user-id");
+        user.setUsername("user");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        InMemoryCertificateManager certificateManager = new InMemoryCertificateManager(DOMAIN, CERTIFICATE,
+                CertificateProviders.create(CERTIFICATE, SignatureAlgorithm.RS256, objectMapper));
+        repositories = BenchmarkContext.repositories();
+        repositories.getBean(ClientRepository.class).create(client).blockingGet();
+        accessTokenRepository = repositories.getBean(MemoryAccessTokenRepository.class);
+        refreshTokenRepository = repositories.getBean(MemoryRefreshTokenRepository.class);
+        // ID token generation is measured on its own, keep the access token response as is
+        TokenEnhancer tokenEnhancer = (accessToken, oAuth2Request, client, endUser) -> Single.just(accessToken);
+
+        context = BenchmarkContext.create(repositories,
+                Arrays.asList(domain, objectMapper, certificateManager, tokenEnhancer, new EventManagerImpl()),
+                JwtServiceImpl.class, ClientSyncServiceImpl.class, TokenServiceImpl.class);
+        tokenService = context.getBean(TokenService.class);
+
+        oAuth2Request = new OAuth2Request();
+        oAuth2Request.setClientId(client.getClientId());
+        oAuth2Request.setGrantType("password");
+        oAuth2Request.setSubject(user.getId());
+        oAuth2Request.setScopes(new HashSet<>(Arrays.asList("openid", "profile", "email")));
+        oAuth2Request.setSupportRefreshToken(refreshToken);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTokens() {
+        accessTokenRepository.clear();
+        refreshTokenRepository.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        repositories.close();
+    }
+
+    @Benchmark
+    public Token create() {
+        return tokenService.create(oAuth2Request, client, user).blockingGet();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.oidc;
+
+import io.gravitee.am.gateway.handler.oidc.request.ClaimsRequest;
+import io.gravitee.am.gateway.handler.oidc.request.ClaimsRequestResolver;
+import io.gravitee.am.gateway.handler.oidc.request.ClaimsRequestSyntaxException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the parsing of the OpenID Connect claims request parameter, resolved on authorization requests and again on
+ * UserInfo requests from the access token.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClaimsRequestResolverBenchmark {
+
+    // https://openid.net/specs/openid-connect-core-1_0.html#ClaimsParameter
+    private static final String CLAIMS = "{\"userinfo\":{\"given_name\":{\"essential\":true},\"nickname\":null," +
+            "\"email\":{\"essential\":true},\"email_verified\":{\"essential\":true},\"picture\":null," +
+            "\"http://example.info/claims/groups\":null},\"id_token\":{\"auth_time\":{\"essential\":true}," +
+            "\"acr\":{\"values\":[\"urn:mace:incommon:iap:silver\"]}}}";
+
+    private ClaimsRequestResolver claimsRequestResolver;
+
+    @Setup
+    public void setup() {
+        claimsRequestResolver = new ClaimsRequestResolver();
+    }
+
+    @Benchmark
+    public ClaimsRequest resolve() throws ClaimsRequestSyntaxException {
+        return claimsRequestResolver.resolve(CLAIMS);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.plugins;
+
+import io.gravitee.am.identityprovider.inline.InlineIdentityProviderConfiguration;
+import io.gravitee.am.identityprovider.inline.InlineIdentityProviderMapper;
+import io.gravitee.am.identityprovider.inline.InlineIdentityProviderRoleMapper;
+import io.gravitee.am.identityprovider.inline.authentication.InlineAuthenticationProvider;
+import io.gravitee.am.identityprovider.inline.model.User;
+import io.gravitee.am.plugins.core.PluginFactory;
+import io.gravitee.am.plugins.core.impl.InjectorPluginFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the instantiation of an identity provider through a dedicated Spring context (as done by the plugin
+ * managers before the {@link PluginFactory} SPI) and through the {@link InjectorPluginFactory}.
+ *
+ * Instantiation time is measured by JMH (add <code>-prof gc</code> for the allocated bytes per instance):
+ * <pre>
+ *     java -jar target/benchmarks.jar PluginInstantiationBenchmark -prof gc
+ * </pre>
+ * Retained heap per instance is measured by the main method, which keeps the given number of instances alive:
+ * <pre>
+ *     java -cp target/benchmarks.jar io.gravitee.am.benchmarks.plugins.PluginInstantiationBenchmark 1000
+ * </pre>
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginInstantiationBenchmark {
+
+    private static final PluginFactory PLUGIN_FACTORY = new InjectorPluginFactory();
+
+    @Benchmark
+    public Object springContext() throws Exception {
+        return createWithSpringContext(beans());
+    }
+
+    @Benchmark
+    public Object pluginFactory() throws Exception {
+        return PLUGIN_FACTORY.create(InlineAuthenticationProvider.class, beans());
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        // warm up both paths before measuring
+        measure("warmup", 50, () -> createWithSpringContext(beans()));
+        measure("warmup", 50, () -> PLUGIN_FACTORY.create(InlineAuthenticationProvider.class, beans()));
+
+        System.out.println(measure("spring context", count, () -> createWithSpringContext(beans())));
+        System.out.println(measure("plugin factory", count, () -> PLUGIN_FACTORY.create(InlineAuthenticationProvider.class, beans())));
+    }
+
+    private static String measure(String name, int count, Callable<Object> factory) throws Exception {
+        List<Object> instances = new ArrayList<>(count);
+        long usedBefore = usedHeap();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            instances.add(factory.call());
+        }
+        long elapsed = System.nanoTime() - start;
+        long usedAfter = usedHeap();
+
+        return String.format("%-16s %10.1f us/instance %12d bytes retained/instance (%d instances)",
+                name, elapsed / 1000.0 / count, (usedAfter - usedBefore) / instances.size(), instances.size());
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Same steps as the plugin context used by the plugin managers: register the provided beans as singletons,
+     * register the imported configuration classes, then autowire and initialize the plugin.
+     */
+    private static Object createWithSpringContext(Map<String, Object> beans) throws Exception {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        beans.forEach(context.getBeanFactory()::registerSingleton);
+        context.register(InlineAuthenticationProvider.class.getAnnotation(Import.class).value());
+        context.refresh();
+
+        InlineAuthenticationProvider provider = new InlineAuthenticationProvider();
+        context.getAutowireCapableBeanFactory().autowireBean(provider);
+        provider.afterPropertiesSet();
+        return provider;
+    }
+
+    private static Map<String, Object> beans() {
+        User user = new User();
+        user.setUsername("admin");
+        user.setPassword("adminadmin");
+        user.setFirstname("Administrator");
+        user.setLastname("Administrator");
+
+        InlineIdentityProviderConfiguration configuration = new InlineIdentityProviderConfiguration();
+        configuration.setUsers(Collections.singletonList(user));
+
+        Map<String, Object> beans = new LinkedHashMap<>();
+        beans.put("configuration", configuration);
+        beans.put("mapper", new InlineIdentityProviderMapper());
+        beans.put("roleMapper", new InlineIdentityProviderRoleMapper());
+        return beans;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.repository;
+
+import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.repository.mongodb.common.codec.RepositoryCodecProvider;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * Compare the access token (de)serialization through the reflection based POJO codec followed by a conversion to the
+ * repository model (previous mapping) with the explicit {@link RepositoryCodecProvider} codec.
+ *
+ * Run with <code>-prof gc</code> to compare the allocated bytes per operation.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenCodecBenchmark {
+
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private Codec<AccessTokenEntity> pojoCodec;
+    private Codec<AccessToken> explicitCodec;
+    private AccessToken accessToken;
+    private byte[] encodedAccessToken;
+
+    @Setup
+    public void setup() {
+        CodecRegistry pojoCodecRegistry = fromRegistries(MongoClients.getDefaultCodecRegistry(),
+                fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+        CodecRegistry codecRegistry = fromRegistries(MongoClients.getDefaultCodecRegistry(),
+                fromProviders(new RepositoryCodecProvider(), PojoCodecProvider.builder().automatic(true).build()));
+
+        pojoCodec = pojoCodecRegistry.get(AccessTokenEntity.class);
+        explicitCodec = codecRegistry.get(AccessToken.class);
+
+        accessToken = new AccessToken();
+        accessToken.setId(UUID.randomUUID().toString());
+        accessToken.setToken(UUID.randomUUID().toString());
+        accessToken.setDomain("my-domain");
+        accessToken.setClient("my-client");
+        accessToken.setSubject(UUID.randomUUID().toString());
+        accessToken.setAuthorizationCode(UUID.randomUUID().toString());
+        accessToken.setRefreshToken(UUID.randomUUID().toString());
+        accessToken.setCreatedAt(new Date());
+        accessToken.setExpireAt(new Date(System.currentTimeMillis() + 7200_000L));
+
+        encodedAccessToken = encode(explicitCodec, accessToken);
+    }
+
+    @Benchmark
+    public byte[] encodePojo() {
+        return encode(pojoCodec, AccessTokenEntity.from(accessToken));
+    }
+
+    @Benchmark
+    public byte[] encodeExplicit() {
+        return encode(explicitCodec, accessToken);
+    }
+
+    @Benchmark
+    public AccessToken decodePojo() {
+        return decode(pojoCodec, encodedAccessToken).toAccessToken();
+    }
+
+    @Benchmark
+    public AccessToken decodeExplicit() {
+        return decode(explicitCodec, encodedAccessToken);
+    }
+
+    private static <T> byte[] encode(Codec<T> codec, T value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, value, ENCODER_CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static <T> T decode(Codec<T> codec, byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return codec.decode(reader, DECODER_CONTEXT);
+        }
+    }
+
+    /**
+     * Mongo entity mapped by the POJO codec, as it was used by the access token repository.
+     */
+    public static class AccessTokenEntity {
+
+        @BsonId
+        private String id;
+        private String token;
+        @BsonProperty("created_at")
+        private Date createdAt;
+        @BsonProperty("expire_at")
+        private Date expireAt;
+        private String domain;
+        private String client;
+        private String subject;
+        @BsonProperty("authorization_code")
+        private String authorizationCode;
+        @BsonProperty("refresh_token")
+        private String refreshToken;
+
+        static AccessTokenEntity from(AccessToken accessToken) {
+            AccessTokenEntity entity = new AccessTokenEntity();
+            entity.setId(accessToken.getId());
+            entity.setToken(accessToken.getToken());
+            entity.setDomain(accessToken.getDomain());
+            entity.setClient(accessToken.getClient());
+            entity.setSubject(accessToken.getSubject());
+            entity.setAuthorizationCode(accessToken.getAuthorizationCode());
+            entity.setRefreshToken(accessToken.getRefreshToken());
+            entity.setCreatedAt(accessToken.getCreatedAt());
+            entity.setExpireAt(accessToken.getExpireAt());
+            return entity;
+        }
+
+        AccessToken toAccessToken() {
+            AccessToken accessToken = new AccessToken();
+            accessToken.setId(id);
+            accessToken.setToken(token);
+            accessToken.setDomain(domain);
+            accessToken.setClient(client);
+            accessToken.setSubject(subject);
+            accessToken.setAuthorizationCode(authorizationCode);
+            accessToken.setRefreshToken(refreshToken);
+            accessToken.setCreatedAt(createdAt);
+            accessToken.setExpireAt(expireAt);
+            return accessToken;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public void setToken(String token) {
+            this.token = token;
+        }
+
+        public Date getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Date getExpireAt() {
+            return expireAt;
+        }
+
+        public void setExpireAt(Date expireAt) {
+            this.expireAt = expireAt;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public void setDomain(String domain) {
+            this.domain = domain;
+        }
+
+        public String getClient() {
+            return client;
+        }
+
+        public void setClient(String client) {
+            this.client = client;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public void setSubject(String subject) {
+            this.subject = subject;
+        }
+
+        public String getAuthorizationCode() {
+            return authorizationCode;
+        }
+
+        public void setAuthorizationCode(String authorizationCode) {
+            this.authorizationCode = authorizationCode;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.repository.memory.management.ManagementRepositoryConfiguration;
+import io.gravitee.am.repository.memory.oauth2.OAuth2RepositoryConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+
+/**
+ * Build a minimal Spring context so that the gateway services are autowired the same way as in a security domain
+ * context, with the in-memory repositories in place of the database ones.
+ *
+ * @author GraviteeSource Team
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @return the refreshed context of the in-memory repositories, to be filled before creating the gateway context
+     * and closed when the benchmark is torn down
+     */
+    public static AnnotationConfigApplicationContext repositories() {
+        return new AnnotationConfigApplicationContext(ManagementRepositoryConfiguration.class, OAuth2RepositoryConfiguration.class);
+    }
+
+    /**
+     * @param beans singletons available for autowiring (domain, ...)
+     * @param components gateway components to instantiate
+     * @return the refreshed context, to be closed when the benchmark is torn down
+     */
+    public static AnnotationConfigApplicationContext create(List<Object> beans, Class<?>... components) {
+        return create(null, beans, components);
+    }
+
+    /**
+     * @param repositories context of the repositories, see {@link #repositories()}
+     * @param beans singletons available for autowiring (domain, ...)
+     * @param components gateway components to instantiate
+     * @return the refreshed context, to be closed when the benchmark is torn down
+     */
+    public static AnnotationConfigApplicationContext create(ApplicationContext repositories, List<Object> beans, Class<?>... components) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setParent(repositories);
+        for (Object bean : beans) {
+            context.getBeanFactory().registerSingleton(bean.getClass().getName() + '#' + System.identityHashCode(bean), bean);
+        }
+        context.register(components);
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.gateway.handler.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.jwt.impl.JJwtBuilder;
+import io.gravitee.am.gateway.handler.jwt.impl.JJwtParser;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.JacksonDeserializer;
+import io.jsonwebtoken.io.JacksonSerializer;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Create certificate providers backed by generated keys, the JWT builder and parser are set up as done by the
+ * gateway certificate manager.
+ *
+ * @author GraviteeSource Team
+ */
+public final class CertificateProviders {
+
+    private static final int RSA_KEY_SIZE = 2048;
+
+    private CertificateProviders() {
+    }
+
+    public static CertificateProvider create(String keyId, SignatureAlgorithm algorithm, ObjectMapper objectMapper) throws NoSuchAlgorithmException {
+        Key signingKey;
+        Key verifyingKey;
+        if (algorithm.isHmac()) {
+            signingKey = verifyingKey = Keys.secretKeyFor(algorithm);
+        } else {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(algorithm.getFamilyName());
+            keyPairGenerator.initialize(RSA_KEY_SIZE);
+            KeyPair keyPair = keyPairGenerator.generateKeyPair();
+            signingKey = keyPair.getPrivate();
+            verifyingKey = keyPair.getPublic();
+        }
+
+        // only the JWT builder and parser are used to sign and verify tokens
+        CertificateProvider certificateProvider = new CertificateProvider(null);
+        certificateProvider.setJwtParser(new JJwtParser(Jwts.parser().deserializeJsonWith(new JacksonDeserializer(objectMapper)).setSigningKey(verifyingKey)));
+        certificateProvider.setJwtBuilder(new JJwtBuilder(Jwts.builder().serializeToJsonWith(new JacksonSerializer(objectMapper)).signWith(signingKey, algorithm).setHeaderParam(JwsHeader.KEY_ID, keyId)));
+        return certificateProvider;
+    }
+}
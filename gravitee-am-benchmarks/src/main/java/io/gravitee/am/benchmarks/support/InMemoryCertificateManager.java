@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.support;
+
+import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.certificate.CertificateProvider;
+import io.gravitee.am.model.Certificate;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Maybe;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Certificate manager holding a single certificate provider, also used as the default one.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemoryCertificateManager extends AbstractService implements CertificateManager {
+
+    private final String domain;
+    private final String certificateId;
+    private final CertificateProvider certificateProvider;
+
+    public InMemoryCertificateManager(String domain, String certificateId, CertificateProvider certificateProvider) {
+        this.domain = domain;
+        this.certificateId = certificateId;
+        this.certificateProvider = certificateProvider;
+    }
+
+    @Override
+    public Maybe<CertificateProvider> get(String id) {
+        return certificateId.equals(id) ? Maybe.just(certificateProvider) : Maybe.empty();
+    }
+
+    @Override
+    public Maybe<CertificateProvider> findByDomainAndId(String domain, String id) {
+        return this.domain.equals(domain) ? get(id) : Maybe.empty();
+    }
+
+    @Override
+    public Collection<CertificateProvider> providers() {
+        return Collections.singletonList(certificateProvider);
+    }
+
+    @Override
+    public CertificateProvider defaultCertificateProvider() {
+        return certificateProvider;
+    }
+
+    @Override
+    public Collection<Certificate> certificates() {
+        return Collections.emptyList();
+    }
+}
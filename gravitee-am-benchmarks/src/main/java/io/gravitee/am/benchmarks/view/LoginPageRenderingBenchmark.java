@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.benchmarks.view;
+
+import io.gravitee.am.gateway.handler.vertx.view.DomainBasedTemplateResolver;
+import io.gravitee.am.gateway.handler.vertx.view.ThymeleafConfiguration;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.Form;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the rendering of the login page by the template engine of a security domain, with the default template or
+ * with a domain form, and with or without the compiled template cache.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginPageRenderingBenchmark {
+
+    private static final String LOGIN_TEMPLATE = "login";
+
+    @Param({"default", "form"})
+    public String template;
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private TemplateEngine templateEngine;
+    private Context context;
+
+    @Setup
+    public void setup() throws Exception {
+        ThymeleafConfiguration thymeleafConfiguration = new ThymeleafConfiguration();
+        ITemplateResolver templateResolver = thymeleafConfiguration.overrideTemplateResolver();
+        templateEngine = new TemplateEngine();
+        if (!cache) {
+            templateEngine.setCacheManager(null);
+        }
+        ((DomainBasedTemplateResolver) templateResolver).setTemplateEngine(templateEngine);
+        templateEngine.setTemplateResolver(templateResolver);
+
+        if ("form".equals(template)) {
+            Form form = new Form();
+            form.setTemplate(LOGIN_TEMPLATE);
+            form.setContent(loadDefaultTemplate());
+            ((DomainBasedTemplateResolver) templateResolver).addPage(form);
+        }
+
+        Domain domain = new Domain();
+        domain.setName("benchmark");
+
+        Map<String, String> csrf = new HashMap<>();
+        csrf.put("parameterName", "X-XSRF-TOKEN");
+        csrf.put("token", "csrf-token");
+
+        Map<String, String> params = new HashMap<>();
+        params.put("client_id", "client-id");
+
+        context = new Context();
+        context.setVariable("domain", domain);
+        context.setVariable("_csrf", csrf);
+        context.setVariable("param", params);
+        context.setVariable("allowForgotPassword", true);
+        context.setVariable("allowRegister", true);
+        context.setVariable("oauth2Providers", Collections.emptyList());
+        context.setVariable("authorizeUrls", Collections.emptyMap());
+    }
+
+    @Benchmark
+    public String renderLoginPage() {
+        return templateEngine.process(LOGIN_TEMPLATE, context);
+    }
+
+    private static String loadDefaultTemplate() throws Exception {
+        try (InputStream inputStream = LoginPageRenderingBenchmark.class.getResourceAsStream("/webroot/views/login.html");
+             Scanner scanner = new Scanner(inputStream, StandardCharsets.UTF_8.name())) {
+            return scanner.useDelimiter("\\A").next();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler;
 
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.event.DomainEventManager;
 import io.gravitee.am.gateway.handler.oauth2.granter.extensiongrant.ExtensionGrantManager;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.form.FormManager;
@@ -24,8 +25,12 @@ import io.gravitee.am.gateway.handler.spring.HandlerConfiguration;
 import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.model.Domain;
 import io.gravitee.common.component.LifecycleComponent;
+import io.gravitee.common.event.EventManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -37,21 +42,44 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class SecurityDomainRouterFactory {
+public class SecurityDomainRouterFactory implements InitializingBean {
 
     private final Logger logger = LoggerFactory.getLogger(SecurityDomainRouterFactory.class);
 
     @Autowired
     private ApplicationContext gatewayApplicationContext;
 
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, AbstractApplicationContext> applicationContexts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DomainEventManager> domainEventManagers = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        Gauge.builder("am.gateway.domains.contexts", applicationContexts, Map::size)
+                .description("Number of security domain contexts currently deployed")
+                .register(meterRegistry);
+    }
+
     public VertxSecurityDomainHandler create(Domain domain) {
         if (domain.isEnabled()) {
+            // release a previous context of the same domain, if any
+            destroy(domain);
+
             AbstractApplicationContext internalApplicationContext = createApplicationContext(domain);
+            applicationContexts.put(domain.getId(), internalApplicationContext);
             startComponents(internalApplicationContext);
             VertxSecurityDomainHandler handler = internalApplicationContext.getBean(VertxSecurityDomainHandler.class);
             return handler;
@@ -61,6 +89,22 @@ public class SecurityDomainRouterFactory {
         }
     }
 
+    /**
+     * Stop the components of the domain and close its application context.
+     *
+     * @param domain the security domain to destroy
+     */
+    public void destroy(Domain domain) {
+        AbstractApplicationContext internalApplicationContext = applicationContexts.remove(domain.getId());
+        if (internalApplicationContext != null) {
+            DomainEventManager domainEventManager = domainEventManagers.get(domain.getId());
+            if (domainEventManager != null) {
+                domainEventManager.reset();
+            }
+            closeApplicationContext(internalApplicationContext);
+        }
+    }
+
     AbstractApplicationContext createApplicationContext(Domain domain) {
         AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
         context.setParent(gatewayApplicationContext);
@@ -73,6 +117,9 @@ public class SecurityDomainRouterFactory {
         context.addBeanFactoryPostProcessor(configurer);
 
         context.getBeanFactory().registerSingleton("domain", domain);
+        // override the gateway event manager to be able to release domain listeners when the context is closed
+        context.getBeanFactory().registerSingleton("eventManager",
+                domainEventManagers.computeIfAbsent(domain.getId(), k -> new DomainEventManager(eventManager)));
         context.register(HandlerConfiguration.class);
         context.setId("context-domain-" + domain.getId());
         context.refresh();
@@ -87,15 +134,7 @@ public class SecurityDomainRouterFactory {
     }
 
     private void startComponents(ApplicationContext applicationContext) {
-        // register components that require event listener feature
-        List<Class<? extends LifecycleComponent>> components = new ArrayList<>();
-        components.add(ClientSyncService.class);
-        components.add(CertificateManager.class);
-        components.add(IdentityProviderManager.class);
-        components.add(ExtensionGrantManager.class);
-        components.add(FormManager.class);
-
-        components.forEach(componentClass -> {
+        components().forEach(componentClass -> {
             LifecycleComponent lifecyclecomponent = applicationContext.getBean(componentClass);
             try {
                 lifecyclecomponent.start();
@@ -104,4 +143,31 @@ public class SecurityDomainRouterFactory {
             }
         });
     }
+
+    private void closeApplicationContext(AbstractApplicationContext applicationContext) {
+        components().forEach(componentClass -> {
+            try {
+                applicationContext.getBean(componentClass).stop();
+            } catch (Exception e) {
+                logger.error("An error occurs while stopping component {}", componentClass.getSimpleName(), e);
+            }
+        });
+
+        try {
+            applicationContext.close();
+        } catch (Exception e) {
+            logger.error("An error occurs while closing context {}", applicationContext.getId(), e);
+        }
+    }
+
+    private List<Class<? extends LifecycleComponent>> components() {
+        // register components that require event listener feature
+        List<Class<? extends LifecycleComponent>> components = new ArrayList<>();
+        components.add(ClientSyncService.class);
+        components.add(CertificateManager.class);
+        components.add(IdentityProviderManager.class);
+        components.add(ExtensionGrantManager.class);
+        components.add(FormManager.class);
+        return components;
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.auth;
+
+import io.gravitee.am.model.User;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * End user profiles resolved through the identity providers, kept to avoid an identity provider round trip each time
+ * a pre-authenticated user is loaded again (refresh token and authorization code grants).
+ *
+ * Profiles are keyed by identity provider and username. A profile is only served while the stored user has not been
+ * updated since it has been cached (profile update, password reset, account disabled, ...) and for a limited period
+ * so that the changes made on the identity provider side are eventually picked up.
+ *
+ * @author GraviteeSource Team
+ */
+public class UserProfileCache {
+
+    @Value("${oauth2.userProfile.cache.ttl:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${oauth2.userProfile.cache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    private final ConcurrentMap<String, CachedProfile> profiles = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return ttlSeconds > 0 && maxSize > 0;
+    }
+
+    /**
+     * @param user the stored user
+     * @return the cached profile of the user, or <code>null</code> if the profile is missing, expired or outdated
+     */
+    public User get(User user) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        final String key = key(user.getSource(), user.getUsername());
+        CachedProfile profile = profiles.get(key);
+        if (profile == null) {
+            return null;
+        }
+        if (profile.isExpired() || !Objects.equals(profile.updatedAt, user.getUpdatedAt())) {
+            profiles.remove(key, profile);
+            return null;
+        }
+        return profile.user;
+    }
+
+    /**
+     * @param user the user profile loaded from its identity provider
+     */
+    public void put(User user) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (profiles.size() >= maxSize) {
+            profiles.values().removeIf(CachedProfile::isExpired);
+            if (profiles.size() >= maxSize) {
+                profiles.clear();
+            }
+        }
+        profiles.put(key(user.getSource(), user.getUsername()),
+                new CachedProfile(user, user.getUpdatedAt(), System.currentTimeMillis() + ttlSeconds * 1000L));
+    }
+
+    public void evict(String source, String username) {
+        profiles.remove(key(source, username));
+    }
+
+    public void clear() {
+        profiles.clear();
+    }
+
+    private static String key(String source, String username) {
+        return source + '\u0000' + username;
+    }
+
+    private static class CachedProfile {
+
+        private final User user;
+        private final Date updatedAt;
+        private final long expireAt;
+
+        CachedProfile(User user, Date updatedAt, long expireAt) {
+            this.user = user;
+            this.updatedAt = updatedAt;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expireAt;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.common.service.Service;
 import io.reactivex.Maybe;
 
+import java.util.Collection;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -32,4 +34,9 @@ public interface IdentityProviderManager extends Service {
     Maybe<IdentityProvider> getIdentityProvider(String id);
 
     Maybe<UserProvider> getUserProvider(String id);
+
+    /**
+     * @return the identity providers of the security domain
+     */
+    Collection<IdentityProvider> getIdentityProviders();
 }
@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -81,6 +83,11 @@ public class IdentityProviderManagerImpl extends AbstractService implements Iden
         return (userProvider != null) ? Maybe.just(userProvider) : Maybe.empty();
     }
 
+    @Override
+    public Collection<IdentityProvider> getIdentityProviders() {
+        return Collections.unmodifiableCollection(identities.values());
+    }
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing identity providers for domain {}", domain.getName());
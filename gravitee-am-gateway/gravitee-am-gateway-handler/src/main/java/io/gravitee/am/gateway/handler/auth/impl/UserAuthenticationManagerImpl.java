@@ -16,7 +16,9 @@
 package io.gravitee.am.gateway.handler.auth.impl;
 
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
+import io.gravitee.am.gateway.handler.auth.UserProfileCache;
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
 import io.gravitee.am.identityprovider.api.Authentication;
 import io.gravitee.am.identityprovider.api.DefaultUser;
@@ -67,6 +69,12 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
     @Autowired
     private IdentityProviderManager identityProviderManager;
 
+    @Autowired
+    private DomainMetrics domainMetrics;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
     @Override
     public Single<User> authenticate(Client client, Authentication authentication) {
         logger.debug("Trying to authenticate [{}]", authentication);
@@ -110,7 +118,9 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                         throw new AccountDisabledException("Account is disabled for user " + user.getUsername());
                     }
                     return user;
-                });
+                })
+                .doOnSuccess(user -> domainMetrics.authenticationSucceeded())
+                .doOnError(error -> domainMetrics.authenticationFailed(error));
     }
 
     @Override
@@ -120,17 +130,26 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
         return userService
                 .findById(subject)
                 .switchIfEmpty(Maybe.error(new UserNotFoundException(subject)))
-                .flatMap(user -> identityProviderManager.get(user.getSource())
-                        .flatMap(authenticationProvider -> authenticationProvider.loadUserByUsername(user.getUsername()))
-                        .flatMap(idpUser -> {
-                            // enhance idp user with required information
-                            Map<String, Object> additionalInformation = idpUser.getAdditionalInformation() == null ? new HashMap<>() : new HashMap<>(idpUser.getAdditionalInformation());
-                            additionalInformation.put("source", user.getSource());
-                            additionalInformation.put(OAuth2Constants.CLIENT_ID, user.getClient());
-                            ((DefaultUser) idpUser).setAdditionalInformation(additionalInformation);
-                            return loadUser(idpUser).toMaybe();
-                        })
-                        .switchIfEmpty(Maybe.just(user).flatMap(user1 -> enhanceUserWithRoles(user1).toMaybe())));
+                .flatMap(user -> {
+                    // the profile is still valid if the user has not been updated since it has been cached
+                    User cachedUser = userProfileCache.get(user);
+                    if (cachedUser != null) {
+                        logger.debug("User {} loaded from the profile cache of identity provider {}", user.getUsername(), user.getSource());
+                        return Maybe.just(cachedUser);
+                    }
+
+                    return identityProviderManager.get(user.getSource())
+                            .flatMap(authenticationProvider -> authenticationProvider.loadUserByUsername(user.getUsername()))
+                            .flatMap(idpUser -> {
+                                // enhance idp user with required information
+                                Map<String, Object> additionalInformation = idpUser.getAdditionalInformation() == null ? new HashMap<>() : new HashMap<>(idpUser.getAdditionalInformation());
+                                additionalInformation.put("source", user.getSource());
+                                additionalInformation.put(OAuth2Constants.CLIENT_ID, user.getClient());
+                                ((DefaultUser) idpUser).setAdditionalInformation(additionalInformation);
+                                return loadUser(idpUser).doOnSuccess(userProfileCache::put).toMaybe();
+                            })
+                            .switchIfEmpty(Maybe.just(user).flatMap(user1 -> enhanceUserWithRoles(user1).toMaybe()));
+                });
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.certificate;
 
+import io.gravitee.am.model.Certificate;
 import io.gravitee.common.service.Service;
 import io.reactivex.Maybe;
 
@@ -33,4 +34,9 @@ public interface CertificateManager extends Service {
     Collection<CertificateProvider> providers();
 
     CertificateProvider defaultCertificateProvider();
+
+    /**
+     * @return the certificates of the security domain
+     */
+    Collection<Certificate> certificates();
 }
@@ -90,6 +90,9 @@ public class CertificateManagerImpl extends AbstractService implements Certifica
 
     private ConcurrentMap<String, Map<String, CertificateProvider>> domainsCertificateProviders = new ConcurrentHashMap<>();
 
+    // certificates of the security domain, kept to avoid repository lookups (e.g default certificate of registered clients)
+    private ConcurrentMap<String, Certificate> certificates = new ConcurrentHashMap<>();
+
     private CertificateProvider defaultCertificateProvider;
 
     @Override
@@ -119,6 +122,11 @@ public class CertificateManagerImpl extends AbstractService implements Certifica
         return defaultCertificateProvider;
     }
 
+    @Override
+    public Collection<Certificate> certificates() {
+        return Collections.unmodifiableCollection(certificates.values());
+    }
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing default certificate provider for domain {}", domain.getName());
@@ -175,6 +183,7 @@ public class CertificateManagerImpl extends AbstractService implements Certifica
 
     private void removeCertificate(String certificateId, String domainId) {
         logger.info("Domain {} has received certificate event, delete certificate {}", domain.getName(), certificateId);
+        certificates.remove(certificateId);
         domainsCertificateProviders.get(domainId).remove(certificateId);
     }
 
@@ -194,6 +203,10 @@ public class CertificateManagerImpl extends AbstractService implements Certifica
         } else {
             domainsCertificateProviders.put(certificate.getDomain(), Collections.singletonMap(certificate.getId(), certificateProvider));
         }
+
+        if (domain.getId().equals(certificate.getDomain())) {
+            certificates.put(certificate.getId(), certificate);
+        }
     }
 
     private void initDefaultCertificateProvider() {
@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor shared by all the security domains of the gateway to send emails in background.
+ *
+ * The number of threads and the number of pending emails are bounded, emails submitted while the queue is full are
+ * rejected (and counted) so that a burst of requests (e.g. forgot password requests) can not exhaust the gateway resources.
+ *
+ * The counters are exposed as <code>am.gateway.emails</code> meters tagged with the result of the submission.
+ *
+ * @author GraviteeSource Team
+ */
+public class EmailExecutor implements MeterBinder, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailExecutor.class);
+    private static final String EMAILS = "am.gateway.emails";
+    private static final String TAG_RESULT = "result";
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public EmailExecutor(int threads, int queueCapacity) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gio.am-email-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit an email task.
+     *
+     * @param task the task sending the email
+     * @return false if the task has been rejected because too many emails are waiting to be sent
+     */
+    public boolean execute(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                    completed.incrementAndGet();
+                } catch (Exception ex) {
+                    failed.incrementAndGet();
+                    LOGGER.error("An error occurs while sending email", ex);
+                }
+            });
+            submitted.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException ex) {
+            long count = rejected.incrementAndGet();
+            LOGGER.warn("Email rejected, {} emails are already waiting to be sent ({} rejected so far)", executor.getQueue().size(), count);
+            return false;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        emailCounter(registry, "submitted", submitted, "Emails accepted by the executor");
+        emailCounter(registry, "rejected", rejected, "Emails dropped because too many emails were waiting to be sent");
+        emailCounter(registry, "completed", completed, "Emails sent");
+        emailCounter(registry, "failed", failed, "Emails which could not be sent");
+
+        Gauge.builder(EMAILS + ".pending", executor, pool -> pool.getQueue().size())
+                .description("Emails waiting to be sent")
+                .register(registry);
+        Gauge.builder(EMAILS + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Emails being sent")
+                .register(registry);
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static void emailCounter(MeterRegistry registry, String result, AtomicLong count, String description) {
+        FunctionCounter.builder(EMAILS, count, AtomicLong::get)
+                .description(description)
+                .tag(TAG_RESULT, result)
+                .register(registry);
+    }
+}
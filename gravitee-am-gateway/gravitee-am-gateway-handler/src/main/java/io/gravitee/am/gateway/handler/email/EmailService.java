@@ -24,4 +24,12 @@ import io.gravitee.am.common.email.Email;
 public interface EmailService {
 
     void send(Email email);
+
+    /**
+     * Send the email in background.
+     * The email is dropped if too many emails are already waiting to be sent.
+     *
+     * @param email the email to send
+     */
+    void sendAsync(Email email);
 }
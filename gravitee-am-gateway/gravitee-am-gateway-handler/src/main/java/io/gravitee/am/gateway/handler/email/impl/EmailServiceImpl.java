@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.email.impl;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import io.gravitee.am.common.email.Email;
+import io.gravitee.am.gateway.handler.email.EmailExecutor;
 import io.gravitee.am.gateway.handler.email.EmailService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import org.jsoup.Jsoup;
@@ -68,6 +69,9 @@ public class EmailServiceImpl implements EmailService {
     @Autowired
     private Configuration freemarkerConfiguration;
 
+    @Autowired
+    private EmailExecutor emailExecutor;
+
     @Override
     public void send(Email email) {
         if (enabled) {
@@ -95,12 +99,20 @@ public class EmailServiceImpl implements EmailService {
 
                 mailSender.send(mailMessage.getMimeMessage());
             } catch (final Exception ex) {
-                LOGGER.error("Error while sending email", ex);
-                new TechnicalManagementException("Error while sending email", ex);
+                // logged and counted by the email executor when the email is sent in background
+                throw new TechnicalManagementException("Error while sending email", ex);
             }
         }
     }
 
+    @Override
+    public void sendAsync(Email email) {
+        if (enabled) {
+            // the email is dropped (and counted) by the executor if too many emails are already waiting to be sent
+            emailExecutor.execute(() -> send(email));
+        }
+    }
+
     private String addResourcesInMessage(final MimeMessageHelper mailMessage, final String htmlText) throws Exception {
         final Document document = Jsoup.parse(htmlText);
 
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.*;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link JavaMailSenderImpl} keeping the SMTP connections open between two emails instead of opening
+ * a new connection (and authenticating) for each email.
+ *
+ * Idle connections are kept for a limited time only because SMTP servers close them on their side, an email sent over
+ * a connection closed by the server is sent again over a new connection.
+ *
+ * @author GraviteeSource Team
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledJavaMailSender.class);
+    private static final String DEFAULT_PROTOCOL = "smtp";
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final BlockingQueue<PooledTransport> idleTransports;
+    private final long keepAlive;
+
+    /**
+     * @param maxIdle maximum number of idle connections
+     * @param keepAlive time in milliseconds after which an idle connection is closed
+     */
+    public PooledJavaMailSender(int maxIdle, long keepAlive) {
+        this.idleTransports = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+        this.keepAlive = keepAlive;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (int i = 0; i < mimeMessages.length; i++) {
+            MimeMessage mimeMessage = mimeMessages[i];
+            try {
+                prepareMessage(mimeMessage);
+                sendPooled(mimeMessage);
+            } catch (AuthenticationFailedException ex) {
+                throw new MailAuthenticationException(ex);
+            } catch (Exception ex) {
+                Object original = (originalMessages != null ? originalMessages[i] : mimeMessage);
+                failedMessages.put(original, ex);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            transport.close();
+        }
+    }
+
+    private void sendPooled(MimeMessage mimeMessage) throws MessagingException {
+        PooledTransport transport = borrowTransport();
+        try {
+            transport.send(mimeMessage);
+        } catch (MessagingException ex) {
+            transport.close();
+            if (!transport.reused || ex instanceof SendFailedException) {
+                throw ex;
+            }
+            // the connection may have been closed by the server, send the message again over a new connection
+            LOGGER.debug("Unable to send email over a pooled connection, retrying over a new connection", ex);
+            transport = new PooledTransport(connect());
+            try {
+                transport.send(mimeMessage);
+            } catch (MessagingException ex1) {
+                transport.close();
+                throw ex1;
+            }
+        }
+        releaseTransport(transport);
+    }
+
+    private PooledTransport borrowTransport() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            if (System.currentTimeMillis() - transport.lastUsed < keepAlive && transport.transport.isConnected()) {
+                transport.reused = true;
+                return transport;
+            }
+            transport.close();
+        }
+        return new PooledTransport(connect());
+    }
+
+    private void releaseTransport(PooledTransport transport) {
+        transport.lastUsed = System.currentTimeMillis();
+        if (!idleTransports.offer(transport)) {
+            transport.close();
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        String username = getUsername();
+        String password = getPassword();
+        if ("".equals(username)) {
+            // probably from a placeholder
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        Transport transport = getSession().getTransport(getProtocol() != null ? getProtocol() : DEFAULT_PROTOCOL);
+        transport.connect(getHost(), getPort(), username, password);
+        return transport;
+    }
+
+    private static void prepareMessage(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // preserve explicitly specified message id...
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+    }
+
+    private static class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsed = System.currentTimeMillis();
+        private boolean reused;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        void send(MimeMessage mimeMessage) throws MessagingException {
+            Address[] addresses = mimeMessage.getAllRecipients();
+            transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+        }
+
+        void close() {
+            try {
+                transport.close();
+            } catch (MessagingException ex) {
+                LOGGER.debug("Unable to close SMTP connection", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.event;
+
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Event manager scoped to a security domain context.
+ *
+ * The gateway event manager does not allow to unregister listeners, so the components of a domain context
+ * subscribe through this manager instead. It registers a single listener per event type on the gateway event manager
+ * and dispatches events to the domain listeners until {@link #reset()} is called when the domain context is closed.
+ * The same instance is reused when the domain context is created again so that no listener leaks on the gateway
+ * event manager.
+ *
+ * @author GraviteeSource Team
+ */
+public class DomainEventManager implements EventManager {
+
+    private final EventManager eventManager;
+    private final ConcurrentMap<Class<? extends Enum>, List<EventListenerWrapper>> listeners = new ConcurrentHashMap<>();
+    private final Set<Class<? extends Enum>> forwardedEventTypes = ConcurrentHashMap.newKeySet();
+
+    public DomainEventManager(EventManager eventManager) {
+        this.eventManager = eventManager;
+    }
+
+    @Override
+    public void publishEvent(Enum type, Object content) {
+        eventManager.publishEvent(type, content);
+    }
+
+    @Override
+    public void publishEvent(Event event) {
+        eventManager.publishEvent(event);
+    }
+
+    @Override
+    public <T extends Enum> void subscribeForEvents(EventListener<T, ?> eventListener, T... events) {
+        for (T event : events) {
+            addEventListener(eventListener, (Class<T>) event.getClass(), Arrays.asList(events));
+        }
+    }
+
+    @Override
+    public <T extends Enum> void subscribeForEvents(EventListener<T, ?> eventListener, Class<T> events) {
+        addEventListener(eventListener, events, EnumSet.allOf(events));
+    }
+
+    /**
+     * Remove all the domain listeners, events are no longer dispatched until new listeners subscribe.
+     */
+    public void reset() {
+        listeners.clear();
+    }
+
+    private <T extends Enum> void addEventListener(EventListener<T, ?> eventListener, Class<T> enumClass, Collection<T> events) {
+        listeners.computeIfAbsent(enumClass, k -> new CopyOnWriteArrayList<>()).add(new EventListenerWrapper(eventListener, events));
+
+        if (forwardedEventTypes.add(enumClass)) {
+            eventManager.subscribeForEvents((EventListener<T, Object>) this::dispatch, enumClass);
+        }
+    }
+
+    private void dispatch(Event event) {
+        List<EventListenerWrapper> eventListeners = listeners.get(event.type().getDeclaringClass());
+        if (eventListeners != null) {
+            for (EventListenerWrapper listener : eventListeners) {
+                if (listener.events().contains(event.type())) {
+                    listener.eventListener().onEvent(event);
+                }
+            }
+        }
+    }
+
+    private static class EventListenerWrapper {
+
+        private final EventListener eventListener;
+        private final Set<Enum> events;
+
+        EventListenerWrapper(EventListener eventListener, Collection<? extends Enum> events) {
+            this.eventListener = eventListener;
+            this.events = new HashSet<>(events);
+        }
+
+        EventListener eventListener() {
+            return eventListener;
+        }
+
+        Set<Enum> events() {
+            return events;
+        }
+    }
+}
@@ -114,7 +114,9 @@ public class FormManagerImpl extends AbstractService implements FormManager, Ini
     private void removeForm(String formId) {
         logger.info("Domain {} has received form event, delete form {}", domain.getName(), formId);
         Form deletedForm = forms.remove(formId);
-        ((DomainBasedTemplateResolver) templateResolver).removePage(deletedForm);
+        if (deletedForm != null) {
+            ((DomainBasedTemplateResolver) templateResolver).removePage(deletedForm);
+        }
     }
 
     private void updatePages(List<Form> forms) {
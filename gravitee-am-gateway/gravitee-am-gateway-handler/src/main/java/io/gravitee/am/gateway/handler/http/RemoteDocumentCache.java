@@ -0,0 +1,199 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.http;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Single;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.ext.web.client.HttpRequest;
+import io.vertx.reactivex.ext.web.client.HttpResponse;
+import io.vertx.reactivex.ext.web.client.WebClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remote documents (sector identifier, JSON Web Key Set) fetched by the gateway on behalf of the clients.
+ *
+ * Documents are kept according to the HTTP caching headers of the response (Cache-Control max-age, no-store and
+ * no-cache, Expires) or for a default period when the response has none. Stale documents are revalidated with a
+ * conditional request when the response had an ETag or a Last-Modified header.
+ * Concurrent requests for the same document share a single fetch.
+ *
+ * @author GraviteeSource Team
+ */
+public class RemoteDocumentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteDocumentCache.class);
+    private static final long DO_NOT_STORE = -1;
+
+    @Autowired
+    private WebClient client;
+
+    @Value("${oidc.remoteDocuments.cache.defaultTtl:300}")
+    private long defaultTtlSeconds = 300;
+
+    @Value("${oidc.remoteDocuments.cache.maxTtl:86400}")
+    private long maxTtlSeconds = 86400;
+
+    @Value("${oidc.remoteDocuments.cache.maxSize:1000}")
+    private int maxSize = 1000;
+
+    private final ConcurrentMap<String, CachedDocument> documents = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Single<String>> inflightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * @param uri absolute URI of the document
+     * @return the document body, fails if the document can not be retrieved
+     */
+    public Single<String> get(String uri) {
+        CachedDocument document = documents.get(uri);
+        if (document != null && !document.isExpired()) {
+            return Single.just(document.body);
+        }
+
+        return inflightRequests.computeIfAbsent(uri, key -> fetch(key, document)
+                .doFinally(() -> inflightRequests.remove(key))
+                .cache());
+    }
+
+    /**
+     * Remove all the documents, next requests will fetch them again.
+     */
+    public void clear() {
+        documents.clear();
+    }
+
+    private Single<String> fetch(String uri, CachedDocument staleDocument) {
+        HttpRequest<Buffer> request = client.getAbs(uri);
+        if (staleDocument != null) {
+            if (staleDocument.etag != null) {
+                request.putHeader(HttpHeaders.IF_NONE_MATCH, staleDocument.etag);
+            }
+            if (staleDocument.lastModified != null) {
+                request.putHeader(HttpHeaders.IF_MODIFIED_SINCE, staleDocument.lastModified);
+            }
+        }
+
+        return request.rxSend()
+                .map(response -> {
+                    if (response.statusCode() == HttpStatusCode.NOT_MODIFIED_304 && staleDocument != null) {
+                        logger.debug("Remote document {} has not been modified", uri);
+                        store(uri, staleDocument.body, response);
+                        return staleDocument.body;
+                    }
+                    if (response.statusCode() != HttpStatusCode.OK_200) {
+                        throw new IllegalStateException("Unexpected response status " + response.statusCode() + " for " + uri);
+                    }
+                    String body = response.bodyAsString();
+                    store(uri, body, response);
+                    return body;
+                });
+    }
+
+    private void store(String uri, String body, HttpResponse<Buffer> response) {
+        long ttl = freshnessLifetime(response);
+        if (ttl == DO_NOT_STORE || body == null) {
+            documents.remove(uri);
+            return;
+        }
+
+        if (documents.size() >= maxSize && !documents.containsKey(uri)) {
+            documents.values().removeIf(CachedDocument::isExpired);
+            if (documents.size() >= maxSize) {
+                documents.clear();
+            }
+        }
+
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        documents.put(uri, new CachedDocument(body, System.currentTimeMillis() + ttl, etag, lastModified));
+    }
+
+    /**
+     * @return how long the response can be used without revalidation (in milliseconds), or {@link #DO_NOT_STORE}
+     */
+    private long freshnessLifetime(HttpResponse<Buffer> response) {
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                String value = directive.trim().toLowerCase();
+                if (value.equals("no-store")) {
+                    return DO_NOT_STORE;
+                }
+                if (value.equals("no-cache")) {
+                    return 0;
+                }
+                if (value.startsWith("max-age=")) {
+                    try {
+                        return clamp(TimeUnit.SECONDS.toMillis(Long.parseLong(value.substring("max-age=".length()).trim())));
+                    } catch (NumberFormatException ex) {
+                        // invalid freshness information, the response is stale
+                        return 0;
+                    }
+                }
+            }
+        }
+
+        String expires = response.getHeader(HttpHeaders.EXPIRES);
+        if (expires != null) {
+            try {
+                String date = response.getHeader(HttpHeaders.DATE);
+                long now = date == null ? System.currentTimeMillis() : parseDate(date);
+                return clamp(parseDate(expires) - now);
+            } catch (DateTimeParseException ex) {
+                return 0;
+            }
+        }
+
+        return clamp(TimeUnit.SECONDS.toMillis(defaultTtlSeconds));
+    }
+
+    private long clamp(long ttl) {
+        return Math.max(0, Math.min(ttl, TimeUnit.SECONDS.toMillis(maxTtlSeconds)));
+    }
+
+    private static long parseDate(String date) {
+        return ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    private static class CachedDocument {
+        private final String body;
+        private final long expireAt;
+        private final String etag;
+        private final String lastModified;
+
+        CachedDocument(String body, long expireAt, String etag, String lastModified) {
+            this.body = body;
+            this.expireAt = expireAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expireAt;
+        }
+    }
+}
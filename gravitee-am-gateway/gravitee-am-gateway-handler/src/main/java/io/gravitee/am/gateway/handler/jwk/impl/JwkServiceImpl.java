@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.jwk.impl;
 
+import io.gravitee.am.gateway.handler.http.RemoteDocumentCache;
 import io.gravitee.am.gateway.handler.jwk.JwkService;
 import io.gravitee.am.gateway.handler.oidc.converter.JWKSetDeserializer;
 import io.gravitee.am.model.jose.JWK;
@@ -23,8 +24,6 @@ import io.gravitee.am.service.exception.InvalidClientMetadataException;
 import io.gravitee.am.service.utils.UriBuilder;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
-import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.client.WebClient;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.net.URISyntaxException;
@@ -37,14 +36,12 @@ import java.util.Optional;
 public class JwkServiceImpl implements JwkService {
 
     @Autowired
-    public WebClient client;
+    private RemoteDocumentCache remoteDocumentCache;
 
     @Override
     public Maybe<JWKSet> getKeys(String jwksUri) {
         try{
-            return client.getAbs(UriBuilder.fromHttpUrl(jwksUri).build().toString())
-                    .rxSend()
-                    .map(HttpResponse::bodyAsString)
+            return remoteDocumentCache.get(UriBuilder.fromHttpUrl(jwksUri).build().toString())
                     .map(new JWKSetDeserializer()::convert)
                     .flatMapMaybe(jwkSet -> {
                         if(jwkSet!=null && jwkSet.isPresent()) {
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.metrics;
+
+import io.gravitee.am.gateway.handler.vertx.handler.metrics.EndpointMetricsHandler;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.service.exception.authentication.AccountDisabledException;
+import io.gravitee.am.service.exception.authentication.BadCredentialsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+
+/**
+ * Meters of a security domain.
+ *
+ * To keep the number of time series bounded, meters are tagged with the domain path only if the domain is listed in the
+ * <code>metrics.tags.domains</code> property (comma separated domain paths), other domains share the <code>other</code> tag.
+ *
+ * @author GraviteeSource Team
+ */
+public class DomainMetrics implements InitializingBean {
+
+    public static final String TAG_DOMAIN = "domain";
+    public static final String TAG_RESULT = "result";
+    public static final String OTHER_DOMAINS = "other";
+    private static final String AUTHENTICATIONS = "am.gateway.authentications";
+    private static final String ADMISSION_REJECTIONS = "am.gateway.admission.rejections";
+    private static final String ADMISSION_LIMIT = "am.gateway.admission.limit";
+    private static final String TAG_ENDPOINT = "endpoint";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private Environment environment;
+
+    private String domainTag;
+    private Counter authenticationSuccess;
+    private Counter authenticationInvalidCredentials;
+    private Counter authenticationAccountDisabled;
+    private Counter authenticationError;
+
+    @Override
+    public void afterPropertiesSet() {
+        final String domains = environment.getProperty("metrics.tags.domains", "");
+        domainTag = Arrays.stream(domains.split(","))
+                .map(String::trim)
+                .anyMatch(path -> path.equals(domain.getPath())) ? domain.getPath() : OTHER_DOMAINS;
+
+        authenticationSuccess = authenticationCounter("success");
+        authenticationInvalidCredentials = authenticationCounter("invalid_credentials");
+        authenticationAccountDisabled = authenticationCounter("account_disabled");
+        authenticationError = authenticationCounter("error");
+    }
+
+    /**
+     * @param endpoint endpoint name
+     * @return a route handler timing the requests of the endpoint
+     */
+    public Handler<RoutingContext> endpointHandler(String endpoint) {
+        return new EndpointMetricsHandler(meterRegistry, endpoint, domainTag, false);
+    }
+
+    /**
+     * @param endpoint endpoint name
+     * @return a route handler timing the requests of the endpoint per grant type
+     */
+    public Handler<RoutingContext> grantEndpointHandler(String endpoint) {
+        return new EndpointMetricsHandler(meterRegistry, endpoint, domainTag, true);
+    }
+
+    /**
+     * @param endpoint endpoint class name
+     * @return the counter of the requests rejected by the admission control of the endpoint class
+     */
+    public Counter admissionRejections(String endpoint) {
+        return Counter.builder(ADMISSION_REJECTIONS)
+                .description("Requests rejected because the concurrency limit of the endpoint was reached")
+                .tag(TAG_DOMAIN, domainTag)
+                .tag(TAG_ENDPOINT, endpoint)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param endpoint endpoint class name
+     * @return the summary of the concurrency limits computed by the admission control of the endpoint class
+     */
+    public DistributionSummary admissionLimit(String endpoint) {
+        return DistributionSummary.builder(ADMISSION_LIMIT)
+                .description("Concurrency limit of the endpoint, recorded each time it is adjusted")
+                .tag(TAG_DOMAIN, domainTag)
+                .tag(TAG_ENDPOINT, endpoint)
+                .register(meterRegistry);
+    }
+
+    public void authenticationSucceeded() {
+        authenticationSuccess.increment();
+    }
+
+    public void authenticationFailed(Throwable throwable) {
+        if (throwable instanceof BadCredentialsException) {
+            authenticationInvalidCredentials.increment();
+        } else if (throwable instanceof AccountDisabledException) {
+            authenticationAccountDisabled.increment();
+        } else {
+            authenticationError.increment();
+        }
+    }
+
+    public String getDomainTag() {
+        return domainTag;
+    }
+
+    private Counter authenticationCounter(String result) {
+        return Counter.builder(AUTHENTICATIONS)
+                .description("End-user authentications against the identity providers")
+                .tag(TAG_DOMAIN, domainTag)
+                .tag(TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
@@ -16,6 +16,8 @@
 package io.gravitee.am.gateway.handler.oauth2.approval.impl;
 
 import io.gravitee.am.gateway.handler.oauth2.approval.ApprovalService;
+import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
 import io.gravitee.am.gateway.handler.oauth2.exception.AccessDeniedException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
 import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
@@ -23,12 +25,13 @@ import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,15 +40,27 @@ import java.util.stream.Collectors;
  */
 public class ApprovalServiceImpl implements ApprovalService {
 
+    // user approvals, per (user, client), kept for a short time to avoid a database lookup on each authorization request
+    private final ConcurrentMap<String, CachedApprovals> userApprovals = new ConcurrentHashMap<>();
+
     @Autowired
     private ScopeApprovalRepository scopeApprovalRepository;
 
     @Autowired
     private Domain domain;
 
+    @Autowired
+    private ClientSyncService clientSyncService;
+
     @Value("${oauth2.approval.expiry:-1}")
     private int approvalExpirySeconds;
 
+    @Value("${oauth2.approval.cache.ttl:30}")
+    private int approvalCacheTtlSeconds = 30;
+
+    @Value("${oauth2.approval.cache.maxSize:10000}")
+    private int approvalCacheMaxSize = 10000;
+
     @Override
     public Single<AuthorizationRequest> checkApproval(AuthorizationRequest authorizationRequest, Client client, String username) {
         // check client auto approval option
@@ -85,9 +100,10 @@ public class ApprovalServiceImpl implements ApprovalService {
             }
         }
 
-        return Observable.fromIterable(approvals)
-                .flatMapSingle(approval -> scopeApprovalRepository.upsert(approval))
-                .toList()
+        final String cacheKey = cacheKey(username, authorizationRequest.getClientId());
+        userApprovals.remove(cacheKey);
+        return scopeApprovalRepository.bulkUpsert(approvals)
+                .doFinally(() -> userApprovals.remove(cacheKey))
                 .flatMap(savedApprovals -> {
                     boolean approved;
                     authorizationRequest.setScopes(approvedScopes);
@@ -105,7 +121,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     private Single<AuthorizationRequest> checkUserApproval(AuthorizationRequest authorizationRequest, String username) {
         Set<String> requestedScopes = authorizationRequest.getScopes();
         Set<String> approvedScopes = new HashSet<>();
-        return scopeApprovalRepository.findByDomainAndUserAndClient(domain.getId(), username, authorizationRequest.getClientId())
+        return findUserApprovals(username, authorizationRequest.getClientId())
                 .flatMap(userApprovals -> {
                     // Look at the scopes and see if they have expired
                     if (userApprovals != null) {
@@ -132,26 +148,46 @@ public class ApprovalServiceImpl implements ApprovalService {
                 });
     }
 
+    private Single<Set<ScopeApproval>> findUserApprovals(String username, String clientId) {
+        if (approvalCacheTtlSeconds <= 0) {
+            return scopeApprovalRepository.findByDomainAndUserAndClient(domain.getId(), username, clientId);
+        }
+
+        final String cacheKey = cacheKey(username, clientId);
+        CachedApprovals cachedApprovals = userApprovals.get(cacheKey);
+        if (cachedApprovals != null && !cachedApprovals.isExpired()) {
+            return Single.just(cachedApprovals.approvals);
+        }
+
+        if (userApprovals.size() >= approvalCacheMaxSize) {
+            userApprovals.values().removeIf(CachedApprovals::isExpired);
+            if (userApprovals.size() >= approvalCacheMaxSize) {
+                userApprovals.clear();
+            }
+        }
+
+        // the loaded approvals are cached only if the loading marker is still there: saving approvals removes it, the
+        // loaded approvals may then be older than the saved ones
+        final CachedApprovals loading = new CachedApprovals(null, 0);
+        userApprovals.put(cacheKey, loading);
+        return scopeApprovalRepository.findByDomainAndUserAndClient(domain.getId(), username, clientId)
+                .doOnSuccess(approvals -> userApprovals.replace(cacheKey, loading,
+                        new CachedApprovals(approvals, System.currentTimeMillis() + approvalCacheTtlSeconds * 1000L)))
+                .doOnError(error -> userApprovals.remove(cacheKey, loading));
+    }
+
     private Single<AuthorizationRequest> checkAutoApproval(AuthorizationRequest authorizationRequest, Client client) {
-        List<String> clientAutoApproveScopes = client.getAutoApproveScopes();
+        CompiledClient compiledClient = clientSyncService.getCompiledClient(client);
         Set<String> requestedScopes = authorizationRequest.getScopes();
-        Set<String> approvedScopes = requestedScopes.stream().filter(scope -> isAutoApprove(clientAutoApproveScopes, scope)).collect(Collectors.toSet());
+        Set<String> approvedScopes = requestedScopes.stream().filter(compiledClient::isAutoApprove).collect(Collectors.toSet());
         if (approvedScopes.containsAll(requestedScopes)) {
             authorizationRequest.setApproved(true);
         }
         return Single.just(authorizationRequest);
     }
 
-    private boolean isAutoApprove(List<String> autoApproveScopes, String scope) {
-        if (autoApproveScopes == null) {
-            return false;
-        }
-        for (String auto : autoApproveScopes) {
-            if (auto.equals("true") || scope.matches(auto)) {
-                return true;
-            }
-        }
-        return false;
+    private static String cacheKey(String username, String clientId) {
+        return username + '\u0000' + clientId;
     }
 
     private Date computeExpiry() {
@@ -164,4 +200,19 @@ public class ApprovalServiceImpl implements ApprovalService {
         }
         return expiresAt.getTime();
     }
+
+    private static class CachedApprovals {
+
+        private final Set<ScopeApproval> approvals;
+        private final long expireAt;
+
+        CachedApprovals(Set<ScopeApproval> approvals, long expireAt) {
+            this.approvals = approvals;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expireAt;
+        }
+    }
 }
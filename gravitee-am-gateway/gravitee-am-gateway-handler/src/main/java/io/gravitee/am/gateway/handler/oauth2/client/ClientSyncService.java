@@ -32,4 +32,13 @@ public interface ClientSyncService extends Service {
     Client addDynamicClientRegistred(Client client);
 
     Client removeDynamicClientRegistred(Client client);
+
+    /**
+     * Get the runtime view of the given client. The view is built when the client is loaded, it is built on demand
+     * for a client instance which is not managed by this service.
+     *
+     * @param client the client
+     * @return the runtime view of the client
+     */
+    CompiledClient getCompiledClient(Client client);
 }
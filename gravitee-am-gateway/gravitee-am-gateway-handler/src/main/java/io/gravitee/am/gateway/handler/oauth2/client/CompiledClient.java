@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.client;
+
+import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
+import io.gravitee.am.model.Client;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable runtime view of a client, built once when the client is loaded so that the authorization requests and the
+ * approvals only have to do constant-time checks instead of re-deriving the client policy from the {@link Client} model.
+ *
+ * The view is bound to the client instance it has been built from and must be rebuilt if the client is updated.
+ *
+ * @author GraviteeSource Team
+ */
+public final class CompiledClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledClient.class);
+    private static final String AUTO_APPROVE_ALL = "true";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s");
+    // characters making an auto approve scope a regular expression rather than a plain scope
+    private static final Pattern REGEX_CHARACTERS = Pattern.compile("[\\\\\\[\\](){}.*+?^$|]");
+
+    private final Client client;
+    private final Set<String> authorizedGrantTypes;
+    private final Set<String> responseTypes;
+    private final boolean authorizationEndpointAllowed;
+    private final List<String> redirectUris;
+    private final Set<String> exactRedirectUris;
+    private final List<RegisteredRedirectUri> registeredRedirectUris;
+    private final boolean autoApproveAll;
+    private final Set<String> autoApproveScopes;
+    private final List<Pattern> autoApprovePatterns;
+
+    public CompiledClient(Client client) {
+        Objects.requireNonNull(client);
+        this.client = client;
+        this.authorizedGrantTypes = toSet(client.getAuthorizedGrantTypes());
+        this.responseTypes = client.getResponseTypes() == null ? null : toSet(client.getResponseTypes());
+        this.authorizationEndpointAllowed = authorizedGrantTypes.contains(OAuth2Constants.AUTHORIZATION_CODE)
+                || authorizedGrantTypes.contains(OAuth2Constants.IMPLICIT);
+
+        // redirect uris
+        this.redirectUris = client.getRedirectUris() == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(client.getRedirectUris()));
+        this.exactRedirectUris = toSet(redirectUris);
+        List<RegisteredRedirectUri> registered = new ArrayList<>(redirectUris.size());
+        for (String redirectUri : redirectUris) {
+            registered.add(new RegisteredRedirectUri(redirectUri));
+        }
+        this.registeredRedirectUris = Collections.unmodifiableList(registered);
+
+        // auto approve scopes
+        List<String> clientAutoApproveScopes = client.getAutoApproveScopes() == null ? Collections.emptyList() : client.getAutoApproveScopes();
+        this.autoApproveAll = clientAutoApproveScopes.contains(AUTO_APPROVE_ALL);
+        Set<String> plainScopes = new HashSet<>();
+        List<Pattern> patterns = new ArrayList<>();
+        if (!autoApproveAll) {
+            for (String auto : clientAutoApproveScopes) {
+                if (!REGEX_CHARACTERS.matcher(auto).find()) {
+                    plainScopes.add(auto);
+                    continue;
+                }
+                try {
+                    patterns.add(Pattern.compile(auto));
+                } catch (PatternSyntaxException ex) {
+                    logger.warn("Invalid auto approve scope pattern {} for client {}, using it as a plain scope", auto, client.getClientId());
+                    plainScopes.add(auto);
+                }
+            }
+        }
+        this.autoApproveScopes = Collections.unmodifiableSet(plainScopes);
+        this.autoApprovePatterns = Collections.unmodifiableList(patterns);
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public boolean hasAuthorizedGrantTypes() {
+        return !authorizedGrantTypes.isEmpty();
+    }
+
+    /**
+     * @return <code>true</code> if the client has the authorization_code or the implicit grant type
+     */
+    public boolean isAuthorizationEndpointAllowed() {
+        return authorizationEndpointAllowed;
+    }
+
+    public boolean hasResponseTypes() {
+        return responseTypes != null;
+    }
+
+    /**
+     * @param responseType space separated list of response types
+     * @return <code>true</code> if all the response types are allowed for the client
+     */
+    public boolean isAuthorizedResponseType(String responseType) {
+        if (responseTypes == null) {
+            return false;
+        }
+        for (String type : WHITESPACES.split(responseType)) {
+            if (!responseTypes.contains(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<String> getRedirectUris() {
+        return redirectUris;
+    }
+
+    /**
+     * A requested redirect uri matches a registered one if they have the same scheme, host and port and if the
+     * requested path starts with the registered path. Non URL redirect uris must be equal.
+     *
+     * @param requestedRedirectUri the redirect_uri request parameter
+     * @return <code>true</code> if the redirect uri matches one of the client registered redirect uris
+     */
+    public boolean matchesRedirectUri(String requestedRedirectUri) {
+        if (exactRedirectUris.contains(requestedRedirectUri)) {
+            return true;
+        }
+
+        URL requested = parse(requestedRedirectUri);
+        for (RegisteredRedirectUri registeredRedirectUri : registeredRedirectUris) {
+            if (registeredRedirectUri.matches(requestedRedirectUri, requested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isAutoApprove(String scope) {
+        if (autoApproveAll || autoApproveScopes.contains(scope)) {
+            return true;
+        }
+        for (Pattern pattern : autoApprovePatterns) {
+            if (pattern.matcher(scope).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> toSet(Collection<String> values) {
+        return values == null || values.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    private static URL parse(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    private static class RegisteredRedirectUri {
+
+        private final String value;
+        private final String protocol;
+        private final String host;
+        private final int port;
+        private final String path;
+
+        RegisteredRedirectUri(String value) {
+            this.value = value;
+            URL url = parse(value);
+            if (url != null) {
+                this.protocol = url.getProtocol();
+                this.host = url.getHost();
+                this.port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+                this.path = url.getPath();
+            } else {
+                this.protocol = null;
+                this.host = null;
+                this.port = -1;
+                this.path = null;
+            }
+        }
+
+        boolean matches(String requestedValue, URL requested) {
+            if (protocol != null && requested != null) {
+                int requestedPort = requested.getPort() != -1 ? requested.getPort() : requested.getDefaultPort();
+                if (protocol.equals(requested.getProtocol()) && host.equals(requested.getHost()) && port == requestedPort) {
+                    return requested.getPath().startsWith(path);
+                }
+            }
+            return requestedValue.equals(value);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.oauth2.client.impl;
 
 import io.gravitee.am.gateway.core.event.ClientEvent;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.common.event.Payload;
@@ -26,14 +27,14 @@ import io.gravitee.common.event.EventListener;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.common.service.AbstractService;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,7 +48,8 @@ import java.util.concurrent.ConcurrentMap;
 public class ClientSyncServiceImpl extends AbstractService implements ClientSyncService, InitializingBean, EventListener<ClientEvent, Payload> {
 
     private final Logger logger = LoggerFactory.getLogger(ClientSyncServiceImpl.class);
-    private ConcurrentMap<String, Set<Client>> domainsClients = new ConcurrentHashMap<>();
+    // clients indexed by domain and client_id, each domain map is replaced (never modified) on update
+    private ConcurrentMap<String, Map<String, CompiledClient>> domainsClients = new ConcurrentHashMap<>();
 
     @Autowired
     private Domain domain;
@@ -65,9 +67,9 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
 
     @Override
     public Maybe<Client> findByDomainAndClientId(String domain, String clientId) {
-        return Observable.fromIterable(domainsClients.get(domain))
-                .filter(client -> client.getClientId().equals(clientId))
-                .firstElement();
+        Map<String, CompiledClient> clients = domainsClients.get(domain);
+        CompiledClient compiledClient = (clients == null || clientId == null) ? null : clients.get(clientId);
+        return compiledClient == null ? Maybe.empty() : Maybe.just(compiledClient.getClient());
     }
 
     @Override
@@ -82,6 +84,13 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
         return client;
     }
 
+    @Override
+    public CompiledClient getCompiledClient(Client client) {
+        Map<String, CompiledClient> clients = domainsClients.get(client.getDomain());
+        CompiledClient compiledClient = (clients == null || client.getClientId() == null) ? null : clients.get(client.getClientId());
+        return (compiledClient != null && compiledClient.getClient() == client) ? compiledClient : new CompiledClient(client);
+    }
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing clients for domain {}", domain.getName());
@@ -131,22 +140,24 @@ public class ClientSyncServiceImpl extends AbstractService implements ClientSync
 
     private void removeClient(String idClient, String domainId) {
         logger.info("Domain {} has received client event, delete client {}", domain.getName(), idClient);
-        domainsClients.get(domainId).removeIf(client -> client.getId().equals(idClient));
+        domainsClients.computeIfPresent(domainId, (key, existingDomainClients) -> {
+            Map<String, CompiledClient> updateClients = new HashMap<>(existingDomainClients);
+            updateClients.values().removeIf(compiledClient -> idClient.equals(compiledClient.getClient().getId()));
+            return updateClients;
+        });
     }
 
     private void updateClients(Set<Client> clients) {
         clients.forEach(client -> {
-            Set<Client> existingDomainClients = domainsClients.get(client.getDomain());
-            if (existingDomainClients != null) {
-                Set<Client> updateClients = new HashSet<>(existingDomainClients);
-                if (updateClients.contains(client)) {
-                    updateClients.remove(client);
-                }
-                updateClients.add(client);
-                domainsClients.put(client.getDomain(), updateClients);
-            } else {
-                domainsClients.put(client.getDomain(), Collections.singleton(client));
-            }
+            // compile the client once, requests will only use the compiled view
+            CompiledClient compiledClient = new CompiledClient(client);
+            domainsClients.compute(client.getDomain(), (key, existingDomainClients) -> {
+                Map<String, CompiledClient> updateClients = existingDomainClients == null ? new HashMap<>() : new HashMap<>(existingDomainClients);
+                // client_id may have changed
+                updateClients.values().removeIf(existingClient -> existingClient.getClient().equals(client));
+                updateClients.put(client.getClientId(), compiledClient);
+                return updateClients;
+            });
         });
     }
 }
@@ -23,9 +23,9 @@ import io.gravitee.am.model.User;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
 import io.gravitee.common.utils.UUID;
-import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -85,13 +85,11 @@ public class AuthorizationCodeServiceImpl implements AuthorizationCodeService {
         // revoke (when possible) all tokens previously issued based on that authorization code.
         // https://tools.ietf.org/html/rfc6749#section-4.1.2
         return accessTokenRepository.findByAuthorizationCode(code)
-                .flatMapCompletable(accessToken -> {
-                    Completable deleteAccessTokenAction = accessTokenRepository.delete(accessToken.getToken());
-                    if (accessToken.getRefreshToken() != null) {
-                        deleteAccessTokenAction.andThen(refreshTokenRepository.delete(accessToken.getRefreshToken()));
-                    }
-                    return deleteAccessTokenAction;
-                })
+                .filter(accessToken -> accessToken.getRefreshToken() != null)
+                .map(AccessToken::getRefreshToken)
+                .toList()
+                .flatMapCompletable(refreshTokens -> refreshTokenRepository.deleteByTokens(refreshTokens)
+                        .andThen(accessTokenRepository.deleteByAuthorizationCode(code)))
                 .andThen(Maybe.error(new InvalidGrantException("The authorization code " + code + " is invalid.")));
     }
 }
@@ -28,7 +28,6 @@ import io.gravitee.am.gateway.handler.oauth2.request.TokenRequestResolver;
 import io.gravitee.am.gateway.handler.oauth2.token.Token;
 import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
 import io.gravitee.am.model.Client;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +43,8 @@ import java.util.concurrent.ConcurrentMap;
 public class CompositeTokenGranter implements TokenGranter, InitializingBean {
 
     private ConcurrentMap<String, TokenGranter> tokenGranters = new ConcurrentHashMap<>();
+    // grant type -> token granter, replaced each time the token granters change
+    private volatile ConcurrentMap<String, TokenGranter> grantTypes = new ConcurrentHashMap<>();
     private TokenRequestResolver tokenRequestResolver = new TokenRequestResolver();
 
     @Autowired
@@ -58,22 +59,51 @@ public class CompositeTokenGranter implements TokenGranter, InitializingBean {
     public CompositeTokenGranter() { }
 
     public Single<Token> grant(TokenRequest tokenRequest, Client client) {
-        return Observable
-                .fromIterable(tokenGranters.values())
-                .filter(tokenGranter -> tokenGranter.handle(tokenRequest.getGrantType()))
-                .switchIfEmpty(Observable.error(new UnsupportedGrantTypeException("Unsupported grant type: " + tokenRequest.getGrantType())))
-                .flatMapSingle(tokenGranter -> tokenGranter.grant(tokenRequest, client)).singleOrError();
+        final TokenGranter tokenGranter = getTokenGranter(tokenRequest.getGrantType());
+        if (tokenGranter == null) {
+            return Single.error(new UnsupportedGrantTypeException("Unsupported grant type: " + tokenRequest.getGrantType()));
+        }
+        return tokenGranter.grant(tokenRequest, client);
     }
 
-
     public void addTokenGranter(String tokenGranterId, TokenGranter tokenGranter) {
         Objects.requireNonNull(tokenGranterId);
         Objects.requireNonNull(tokenGranter);
         tokenGranters.put(tokenGranterId, tokenGranter);
+        grantTypes = new ConcurrentHashMap<>();
     }
 
     public void removeTokenGranter(String tokenGranterId) {
         tokenGranters.remove(tokenGranterId);
+        grantTypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolve the token granter for the given grant type.
+     *
+     * The resolution is done once per grant type and kept until a token granter is added or removed
+     * (i.e when extension grants are deployed, updated or undeployed).
+     * Unknown grant types are not kept to avoid filling the registry with values sent by clients.
+     *
+     * @param grantType grant type of the token request
+     * @return the token granter handling the grant type or null if the grant type is not supported
+     */
+    private TokenGranter getTokenGranter(String grantType) {
+        if (grantType == null) {
+            return null;
+        }
+        final ConcurrentMap<String, TokenGranter> currentGrantTypes = grantTypes;
+        TokenGranter tokenGranter = currentGrantTypes.get(grantType);
+        if (tokenGranter == null) {
+            for (TokenGranter candidate : tokenGranters.values()) {
+                if (candidate.handle(grantType)) {
+                    tokenGranter = candidate;
+                    currentGrantTypes.put(grantType, tokenGranter);
+                    break;
+                }
+            }
+        }
+        return tokenGranter;
     }
 
     @Override
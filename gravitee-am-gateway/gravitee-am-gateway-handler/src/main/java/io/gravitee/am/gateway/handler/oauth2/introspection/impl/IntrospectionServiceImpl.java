@@ -26,6 +26,9 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -39,6 +42,8 @@ public class IntrospectionServiceImpl implements IntrospectionService {
     @Autowired
     private UserService userService;
 
+    private final ConcurrentMap<String, Maybe<User>> inflightUsers = new ConcurrentHashMap<>();
+
     @Override
     public Single<IntrospectionResponse> introspect(IntrospectionRequest introspectionRequest) {
         return tokenService.introspect(introspectionRequest.getToken())
@@ -46,8 +51,7 @@ public class IntrospectionServiceImpl implements IntrospectionService {
                 .flatMap(token -> {
                     AccessToken accessToken = (AccessToken) token;
                     if (accessToken.getSubject() != null) {
-                        return userService
-                                .findById(accessToken.getSubject())
+                        return findUser(accessToken.getSubject())
                                 .map(user -> convert(accessToken, user))
                                 .defaultIfEmpty(convert(accessToken, null));
 
@@ -60,6 +64,15 @@ public class IntrospectionServiceImpl implements IntrospectionService {
                 .toSingle();
     }
 
+    /**
+     * Concurrent introspections of tokens issued to the same user share a single user lookup.
+     */
+    private Maybe<User> findUser(String userId) {
+        return inflightUsers.computeIfAbsent(userId, key -> userService.findById(key)
+                .doFinally(() -> inflightUsers.remove(key))
+                .cache());
+    }
+
     private IntrospectionResponse convert(AccessToken accessToken, User user) {
         IntrospectionResponse introspectionResponse = new IntrospectionResponse();
         introspectionResponse.setActive(true);
@@ -44,6 +44,8 @@ import org.springframework.beans.factory.annotation.Value;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -73,6 +75,8 @@ public class TokenServiceImpl implements TokenService {
     @Autowired
     private ClientSyncService clientSyncService;
 
+    private final ConcurrentMap<String, Maybe<io.gravitee.am.repository.oauth2.model.AccessToken>> inflightAccessTokens = new ConcurrentHashMap<>();
+
     @Override
     public Maybe<Token> getAccessToken(String token, Client client) {
         return jwtService.decodeAndVerify(token, client)
@@ -82,7 +86,7 @@ public class TokenServiceImpl implements TokenService {
                     }
                     return Single.error(ex);
                 })
-                .flatMapMaybe(jwt -> accessTokenRepository.findByToken(jwt.getJti()).map(accessToken -> convertAccessToken(jwt)));
+                .flatMapMaybe(jwt -> findAccessToken(jwt.getJti()).map(accessToken -> convertAccessToken(jwt)));
     }
 
     @Override
@@ -155,6 +159,16 @@ public class TokenServiceImpl implements TokenService {
         return refreshTokenRepository.delete(refreshToken);
     }
 
+    /**
+     * Concurrent lookups of the same access token (several requests of a client using the same token at once)
+     * share a single repository query.
+     */
+    private Maybe<io.gravitee.am.repository.oauth2.model.AccessToken> findAccessToken(String token) {
+        return inflightAccessTokens.computeIfAbsent(token, key -> accessTokenRepository.findByToken(key)
+                .doFinally(() -> inflightAccessTokens.remove(key))
+                .cache());
+    }
+
     /**
      * Store access token
      * @param oAuth2Request oauth2 token or authorization request
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oidc.claims;
+
+import io.gravitee.am.common.oidc.Scope;
+
+import java.util.*;
+
+/**
+ * Claims which can be returned to a client for the OpenID Connect scope values it has been granted.
+ *
+ * Only a few scopes are bound to claims (profile, email, address and phone) so every combination is precomputed
+ * once and looked up by a bitset of the requested scopes. Selecting the claims from a user profile is then a single
+ * pass over the precomputed claim names, the profile itself is neither copied nor walked.
+ *
+ * See <a href="https://openid.net/specs/openid-connect-core-1_0.html#ScopeClaims">5.4. Requesting Claims using Scope Values</a>
+ *
+ * @author GraviteeSource Team
+ */
+public final class ClaimsProjection {
+
+    private static final Scope[] CLAIMS_SCOPES = Arrays.stream(Scope.values())
+            .filter(scope -> !scope.getClaims().isEmpty())
+            .toArray(Scope[]::new);
+    private static final ClaimsProjection[] PROJECTIONS = new ClaimsProjection[1 << CLAIMS_SCOPES.length];
+
+    static {
+        for (int mask = 0; mask < PROJECTIONS.length; mask++) {
+            Set<String> claims = new LinkedHashSet<>();
+            for (int i = 0; i < CLAIMS_SCOPES.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    claims.addAll(CLAIMS_SCOPES[i].getClaims());
+                }
+            }
+            PROJECTIONS[mask] = new ClaimsProjection(claims.toArray(new String[claims.size()]));
+        }
+    }
+
+    private final String[] claims;
+
+    private ClaimsProjection(String[] claims) {
+        this.claims = claims;
+    }
+
+    /**
+     * @param scopes granted scopes
+     * @return the projection of the claims bound to the given scopes
+     */
+    public static ClaimsProjection of(Collection<String> scopes) {
+        if (scopes == null || scopes.isEmpty()) {
+            return PROJECTIONS[0];
+        }
+        int mask = 0;
+        for (String scope : scopes) {
+            if (scope != null) {
+                mask |= bit(scope, 0, scope.length());
+            }
+        }
+        return PROJECTIONS[mask];
+    }
+
+    /**
+     * @param scope whitespace separated granted scopes, as stored in an access token
+     * @return the projection of the claims bound to the given scopes
+     */
+    public static ClaimsProjection of(String scope) {
+        if (scope == null || scope.isEmpty()) {
+            return PROJECTIONS[0];
+        }
+        int mask = 0;
+        int length = scope.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && Character.isWhitespace(scope.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !Character.isWhitespace(scope.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                mask |= bit(scope, start, end - start);
+            }
+            start = end;
+        }
+        return PROJECTIONS[mask];
+    }
+
+    /**
+     * @return true if none of the scopes is bound to claims
+     */
+    public boolean isEmpty() {
+        return claims.length == 0;
+    }
+
+    /**
+     * @return the claim names of this projection
+     */
+    public List<String> getClaims() {
+        return Collections.unmodifiableList(Arrays.asList(claims));
+    }
+
+    /**
+     * Copy the claims of this projection available in the user profile to the requested claims.
+     * Claims already present in the requested claims are not overridden.
+     *
+     * @param userClaims user full claims list
+     * @param requestedClaims requested claims
+     */
+    public void select(Map<String, Object> userClaims, Map<String, Object> requestedClaims) {
+        if (userClaims == null || userClaims.isEmpty()) {
+            return;
+        }
+        for (String claim : claims) {
+            Object value = userClaims.get(claim);
+            if (value != null || userClaims.containsKey(claim)) {
+                requestedClaims.putIfAbsent(claim, value);
+            }
+        }
+    }
+
+    private static int bit(String scope, int offset, int length) {
+        // scope values are matched case insensitively, without allocating any intermediate string
+        for (int i = 0; i < CLAIMS_SCOPES.length; i++) {
+            String key = CLAIMS_SCOPES[i].getKey();
+            if (key.length() == length && scope.regionMatches(true, offset, key, 0, length)) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+}
@@ -17,15 +17,18 @@ package io.gravitee.am.gateway.handler.oidc.clientregistration.impl;
 
 import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.common.oidc.Scope;
+import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.http.RemoteDocumentCache;
 import io.gravitee.am.gateway.handler.jwk.JwkService;
 import io.gravitee.am.gateway.handler.jwt.JwtService;
 import io.gravitee.am.gateway.handler.oidc.clientregistration.DynamicClientRegistrationService;
 import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDDiscoveryService;
 import io.gravitee.am.gateway.handler.oidc.discovery.OpenIDProviderMetadata;
 import io.gravitee.am.gateway.handler.oidc.request.DynamicClientRegistrationRequest;
+import io.gravitee.am.model.Certificate;
 import io.gravitee.am.model.Client;
-import io.gravitee.am.service.CertificateService;
-import io.gravitee.am.service.IdentityProviderService;
+import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
 import io.gravitee.am.service.exception.InvalidRedirectUriException;
 import io.gravitee.am.service.utils.GrantTypeUtils;
@@ -37,8 +40,6 @@ import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
-import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.client.WebClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +48,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -62,15 +64,22 @@ import static io.gravitee.am.common.oidc.Scope.SCOPE_DELIMITER;
 public class DynamicClientRegistrationServiceImpl implements DynamicClientRegistrationService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicClientRegistrationServiceImpl.class);
+    // the oldest identity provider/certificate of the domain is used by default
+    private static final Comparator<IdentityProvider> IDENTITY_PROVIDER_ORDER = Comparator
+            .comparing(IdentityProvider::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(IdentityProvider::getId);
+    private static final Comparator<Certificate> CERTIFICATE_ORDER = Comparator
+            .comparing(Certificate::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Certificate::getId);
 
     @Autowired
     private OpenIDDiscoveryService openIDDiscoveryService;
 
     @Autowired
-    private IdentityProviderService identityProviderService;
+    private IdentityProviderManager identityProviderManager;
 
     @Autowired
-    private CertificateService certificateService;
+    private CertificateManager certificateManager;
 
     @Autowired
     private JwkService jwkService;
@@ -79,7 +88,7 @@ public class DynamicClientRegistrationServiceImpl implements DynamicClientRegist
     private JwtService jwtService;
 
     @Autowired
-    public WebClient client;
+    private RemoteDocumentCache remoteDocumentCache;
 
     @Override
     public Client create(String domain, DynamicClientRegistrationRequest request) {
@@ -91,36 +100,32 @@ public class DynamicClientRegistrationServiceImpl implements DynamicClientRegist
 
     /**
      * Identity provider is not part of dynamic client registration but needed on the client.
-     * So we set the first identoty provider available on the domain.
+     * So we set the first identoty provider available on the domain (already loaded by the identity provider manager).
      * @param client App to create
      * @return
      */
     @Override
     public Single<Client> applyDefaultIdentityProvider(Client client) {
-        return identityProviderService.findByDomain(client.getDomain())
-            .map(identityProviders -> {
-                if(identityProviders!=null && !identityProviders.isEmpty()) {
-                    client.setIdentities(Collections.singleton(identityProviders.get(0).getId()));
-                }
-                return client;
-            });
+        identityProviderManager.getIdentityProviders()
+                .stream()
+                .min(IDENTITY_PROVIDER_ORDER)
+                .ifPresent(identityProvider -> client.setIdentities(Collections.singleton(identityProvider.getId())));
+        return Single.just(client);
     }
 
     /**
      * Certificate provider is not part of dynamic client registration but needed on the client.
-     * So we set the first certificate provider available on the domain.
+     * So we set the first certificate provider available on the domain (already loaded by the certificate manager).
      * @param client App to create
      * @return
      */
     @Override
     public Single<Client> applyDefaultCertificateProvider(Client client) {
-        return certificateService.findByDomain(client.getDomain())
-                .map(certificates -> {
-                    if(certificates!=null && !certificates.isEmpty()) {
-                        client.setCertificate(certificates.get(0).getId());
-                    }
-                    return client;
-                });
+        certificateManager.certificates()
+                .stream()
+                .min(CERTIFICATE_ORDER)
+                .ifPresent(certificate -> client.setCertificate(certificate.getId()));
+        return Single.just(client);
     }
 
     @Override
@@ -242,9 +247,7 @@ public class DynamicClientRegistrationServiceImpl implements DynamicClientRegist
                 return Single.error(new InvalidClientMetadataException("Scheme must be https for sector_identifier_uri : "+request.getSectorIdentifierUri().get()));
             }
 
-            return client.getAbs(uri.toString())
-                    .rxSend()
-                    .map(HttpResponse::bodyAsString)
+            return remoteDocumentCache.get(uri.toString())
                     .map(JsonArray::new)
                     .onErrorResumeNext(Single.error(new InvalidClientMetadataException("Unable to parse sector_identifier_uri : "+ uri.toString())))
                     .flatMapPublisher(Flowable::fromIterable)
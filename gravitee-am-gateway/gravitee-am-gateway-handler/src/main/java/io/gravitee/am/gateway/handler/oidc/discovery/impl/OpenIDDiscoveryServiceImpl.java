@@ -31,6 +31,8 @@ import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,6 +50,8 @@ public class OpenIDDiscoveryServiceImpl implements OpenIDDiscoveryService {
     private static final String INTROSPECTION_ENDPOINT = "/oauth/introspect";
     private static final String ENDSESSION_ENDPOINT = "/logout";
     private static final String REGISTRATION_ENDPOINT = "/oidc/register";
+    // base paths come from the request headers, keep a few of them only
+    private static final int MAX_CONFIGURATIONS = 32;
 
     @Value("${oidc.iss:http://gravitee.am}")
     private String iss;
@@ -55,8 +59,21 @@ public class OpenIDDiscoveryServiceImpl implements OpenIDDiscoveryService {
     @Autowired
     private Domain domain;
 
+    private final ConcurrentMap<String, OpenIDProviderMetadata> configurations = new ConcurrentHashMap<>();
+
     @Override
     public OpenIDProviderMetadata getConfiguration(String basePath) {
+        OpenIDProviderMetadata openIDProviderMetadata = configurations.get(basePath);
+        if (openIDProviderMetadata == null) {
+            if (configurations.size() >= MAX_CONFIGURATIONS) {
+                configurations.clear();
+            }
+            openIDProviderMetadata = configurations.computeIfAbsent(basePath, this::createConfiguration);
+        }
+        return openIDProviderMetadata;
+    }
+
+    private OpenIDProviderMetadata createConfiguration(String basePath) {
         OpenIDProviderMetadata openIDProviderMetadata = new OpenIDProviderMetadata();
 
         // issuer
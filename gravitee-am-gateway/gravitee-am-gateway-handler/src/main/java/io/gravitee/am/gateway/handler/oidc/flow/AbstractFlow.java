@@ -67,6 +67,10 @@ public abstract class AbstractFlow implements Flow {
         return approvalService.checkApproval(authorizationRequest, client, endUser.getUsername());
     }
 
+    public List<String> getResponseTypes() {
+        return responseTypes;
+    }
+
     public AuthorizationRequestResolver getAuthorizationRequestResolver() {
         return authorizationRequestResolver;
     }
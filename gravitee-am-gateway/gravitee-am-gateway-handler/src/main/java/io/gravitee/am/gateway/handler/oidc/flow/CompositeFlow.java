@@ -28,13 +28,12 @@ import io.gravitee.am.gateway.handler.oidc.flow.implicit.ImplicitFlow;
 import io.gravitee.am.gateway.handler.oidc.idtoken.IDTokenService;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.User;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -43,7 +42,8 @@ import java.util.Objects;
  */
 public class CompositeFlow implements Flow, InitializingBean  {
 
-    private List<Flow> flows = new ArrayList<>();
+    // response type -> flow
+    private final Map<String, Flow> flows = new HashMap<>();
     private final AuthorizationRequestResolver authorizationRequestResolver = new AuthorizationRequestResolver();
 
     @Autowired
@@ -65,11 +65,11 @@ public class CompositeFlow implements Flow, InitializingBean  {
 
     @Override
     public Single<AuthorizationResponse> run(AuthorizationRequest authorizationRequest, Client client, User endUser) {
-        return Observable
-                .fromIterable(flows)
-                .filter(flow -> flow.handle(authorizationRequest.getResponseType()))
-                .switchIfEmpty(Observable.error(new UnsupportedResponseTypeException("Unsupported response type: " + authorizationRequest.getResponseType())))
-                .flatMapSingle(flow -> flow.run(authorizationRequest, client, endUser)).singleOrError();
+        final Flow flow = authorizationRequest.getResponseType() == null ? null : flows.get(authorizationRequest.getResponseType());
+        if (flow == null) {
+            return Single.error(new UnsupportedResponseTypeException("Unsupported response type: " + authorizationRequest.getResponseType()));
+        }
+        return flow.run(authorizationRequest, client, endUser);
     }
 
     @Override
@@ -79,9 +79,9 @@ public class CompositeFlow implements Flow, InitializingBean  {
         addFlow(new HybridFlow(authorizationRequestResolver, approvalService, authorizationCodeService, tokenService, idTokenService));
     }
 
-    private void addFlow(Flow flow) {
+    private void addFlow(AbstractFlow flow) {
         Objects.requireNonNull(flow);
-        flows.add(flow);
+        flow.getResponseTypes().forEach(responseType -> flows.put(responseType, flow));
     }
 
 }
@@ -17,13 +17,13 @@ package io.gravitee.am.gateway.handler.oidc.idtoken.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.gravitee.am.certificate.api.CertificateMetadata;
-import io.gravitee.am.common.oidc.Scope;
 import io.gravitee.am.common.oidc.idtoken.Claims;
 import io.gravitee.am.common.oidc.idtoken.IDToken;
 import io.gravitee.am.gateway.handler.jwt.JwtService;
 import io.gravitee.am.gateway.handler.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.oauth2.request.OAuth2Request;
 import io.gravitee.am.gateway.handler.oauth2.utils.OIDCParameters;
+import io.gravitee.am.gateway.handler.oidc.claims.ClaimsProjection;
 import io.gravitee.am.gateway.handler.oidc.idtoken.IDTokenService;
 import io.gravitee.am.gateway.handler.oidc.idtoken.IDTokenUtils;
 import io.gravitee.am.gateway.handler.oidc.request.ClaimsRequest;
@@ -35,7 +35,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -148,26 +147,15 @@ public class IDTokenServiceImpl implements IDTokenService {
      * @return true if OpenID Connect scopes have been found
      */
     private boolean processScopesRequest(Set<String> scopes, final Map<String, Object> userClaims, Map<String, Object> requestedClaims) {
-        // get requested scopes claims
-        final List<String> scopesClaims = scopes.stream()
-                .map(scope -> scope.toUpperCase())
-                .filter(scope -> Scope.exists(scope) && !Scope.valueOf(scope).getClaims().isEmpty())
-                .map(scope -> Scope.valueOf(scope))
-                .map(scope -> scope.getClaims())
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+        final ClaimsProjection claimsProjection = ClaimsProjection.of(scopes);
 
         // no OpenID Connect scopes requested continue
-        if (scopesClaims.isEmpty()) {
+        if (claimsProjection.isEmpty()) {
             return false;
         }
 
         // return specific available sets of information made by scope value request
-        scopesClaims.forEach(scopeClaim -> {
-            if (userClaims.containsKey(scopeClaim)) {
-                requestedClaims.putIfAbsent(scopeClaim, userClaims.get(scopeClaim));
-            }
-        });
+        claimsProjection.select(userClaims, requestedClaims);
 
         return true;
     }
@@ -22,6 +22,7 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -33,6 +34,8 @@ public interface GroupService {
 
     Single<List<Group>> findByMember(String memberId);
 
+    Single<Map<String, List<Group>>> findByMembers(List<String> memberIds);
+
     Maybe<Group> get(String groupId, String baseUrl);
 
     Single<Group> create(Group group, String baseUrl);
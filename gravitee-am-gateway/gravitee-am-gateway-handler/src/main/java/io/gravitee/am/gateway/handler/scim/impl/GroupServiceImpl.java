@@ -40,6 +40,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -98,6 +99,19 @@ public class GroupServiceImpl implements GroupService {
                 });
     }
 
+    @Override
+    public Single<Map<String, List<Group>>> findByMembers(List<String> memberIds) {
+        LOGGER.debug("Find groups by members : {}", memberIds);
+        return groupRepository.findByMembers(memberIds)
+                .map(groups -> groups.entrySet()
+                        .stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream().map(group -> convert(group, null, true)).collect(Collectors.toList()))))
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to find groups using members", ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to find groups using members", ex));
+                });
+    }
+
     @Override
     public Maybe<Group> get(String groupId, String baseUrl) {
         LOGGER.debug("Find group by id : {}", groupId);
@@ -30,7 +30,6 @@ import io.gravitee.am.service.exception.*;
 import io.gravitee.common.utils.UUID;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,12 +70,13 @@ public class UserServiceImpl implements UserService {
                         return Single.just(new ListResponse<User>(null, userPage.getCurrentPage() + 1, userPage.getTotalCount(), 0));
                     } else {
                         // SCIM use 1-based index (increment current page)
-                        return Observable.fromIterable(userPage.getData())
-                                .map(user1 -> convert(user1, baseUrl, true))
-                                // set groups
-                                .flatMapSingle(user1 -> setGroups(user1))
-                                .toList()
-                                .map(users -> new ListResponse<>(users, userPage.getCurrentPage() + 1, userPage.getTotalCount(), users.size()));
+                        List<User> users = userPage.getData().stream().map(user1 -> convert(user1, baseUrl, true)).collect(Collectors.toList());
+                        // set groups of the whole page at once
+                        return groupService.findByMembers(users.stream().map(User::getId).collect(Collectors.toList()))
+                                .map(groups -> {
+                                    users.forEach(user1 -> setGroups(user1, groups.get(user1.getId())));
+                                    return new ListResponse<>(users, userPage.getCurrentPage() + 1, userPage.getTotalCount(), users.size());
+                                });
                     }
                 })
                 .onErrorResumeNext(ex -> {
@@ -243,22 +243,22 @@ public class UserServiceImpl implements UserService {
     private Single<User> setGroups(User scimUser) {
         // fetch groups
         return groupService.findByMember(scimUser.getId())
-                .map(groups -> {
-                    if (!groups.isEmpty()) {
-                        List<Member> scimGroups = groups
-                                .stream()
-                                .map(group -> {
-                                    Member member = new Member();
-                                    member.setValue(group.getId());
-                                    member.setDisplay(group.getDisplayName());
-                                    return member;
-                                }).collect(Collectors.toList());
-                        scimUser.setGroups(scimGroups);
-                        return scimUser;
-                    } else {
-                        return scimUser;
-                    }
-                });
+                .map(groups -> setGroups(scimUser, groups));
+    }
+
+    private User setGroups(User scimUser, List<Group> groups) {
+        if (groups != null && !groups.isEmpty()) {
+            List<Member> scimGroups = groups
+                    .stream()
+                    .map(group -> {
+                        Member member = new Member();
+                        member.setValue(group.getId());
+                        member.setDisplay(group.getDisplayName());
+                        return member;
+                    }).collect(Collectors.toList());
+            scimUser.setGroups(scimGroups);
+        }
+        return scimUser;
     }
 
     private User convert(io.gravitee.am.model.User user, String baseUrl, boolean listing) {
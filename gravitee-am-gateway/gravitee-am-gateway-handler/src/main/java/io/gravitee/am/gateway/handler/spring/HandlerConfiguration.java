@@ -16,15 +16,18 @@
 package io.gravitee.am.gateway.handler.spring;
 
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
+import io.gravitee.am.gateway.handler.auth.UserProfileCache;
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.auth.idp.impl.IdentityProviderManagerImpl;
 import io.gravitee.am.gateway.handler.auth.impl.UserAuthenticationManagerImpl;
+import io.gravitee.am.gateway.handler.http.RemoteDocumentCache;
 import io.gravitee.am.gateway.handler.jwk.JwkService;
 import io.gravitee.am.gateway.handler.jwk.impl.JwkServiceImpl;
 import io.gravitee.am.gateway.handler.jws.JwsService;
 import io.gravitee.am.gateway.handler.jws.impl.JwsServiceImpl;
 import io.gravitee.am.gateway.handler.email.EmailService;
 import io.gravitee.am.gateway.handler.email.impl.EmailServiceImpl;
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.jwt.JwtService;
 import io.gravitee.am.gateway.handler.jwt.impl.JwtServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.spring.OAuth2Configuration;
@@ -64,6 +67,11 @@ public class HandlerConfiguration {
         return new UserAuthenticationManagerImpl();
     }
 
+    @Bean
+    public UserProfileCache userProfileCache() {
+        return new UserProfileCache();
+    }
+
     @Bean
     public JwtService jwtService() {
         return new JwtServiceImpl();
@@ -79,6 +87,11 @@ public class HandlerConfiguration {
         return new JwkServiceImpl();
     }
 
+    @Bean
+    public RemoteDocumentCache remoteDocumentCache() {
+        return new RemoteDocumentCache();
+    }
+
     @Bean
     public EmailService emailService() {
         return new EmailServiceImpl();
@@ -93,4 +106,9 @@ public class HandlerConfiguration {
     public FormManager pageManager() {
         return new FormManagerImpl();
     }
+
+    @Bean
+    public DomainMetrics domainMetrics() {
+        return new DomainMetrics();
+    }
 }
@@ -20,6 +20,7 @@ import io.gravitee.am.common.email.EmailBuilder;
 import io.gravitee.am.common.jwt.Claims;
 import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.gateway.handler.auth.UserProfileCache;
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.email.EmailService;
 import io.gravitee.am.gateway.handler.jwt.JwtBuilder;
@@ -29,6 +30,8 @@ import io.gravitee.am.identityprovider.api.DefaultUser;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.User;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
 import io.gravitee.am.service.exception.UserProviderNotFoundException;
@@ -77,6 +80,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private IdentityProviderManager identityProviderManager;
 
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Override
     public Maybe<User> verifyToken(String token) {
         return Maybe.fromCallable(() -> jwtParser.parse(token))
@@ -146,7 +158,10 @@ public class UserServiceImpl implements UserService {
                     user.setUpdatedAt(new Date());
                     return userRepository.update(user);
                 })
-                .toCompletable();
+                .doOnSuccess(user1 -> userProfileCache.evict(user1.getSource(), user1.getUsername()))
+                // revoke the tokens issued with the previous password
+                .flatMapCompletable(user1 -> accessTokenRepository.deleteByDomainAndSubject(domain.getId(), user1.getId())
+                        .andThen(refreshTokenRepository.deleteByDomainAndSubject(domain.getId(), user1.getId())));
     }
 
     @Override
@@ -161,7 +176,7 @@ public class UserServiceImpl implements UserService {
                                 EmailBuilder.EmailTemplate.RESET_PASSWORD,
                                 "/resetPassword",
                                 "resetPasswordUrl"))
-                .doOnSuccess(email1 -> new Thread(() -> emailService.send(email1)).start())
+                .doOnSuccess(email1 -> emailService.sendAsync(email1))
                 .toSingle().toCompletable();
 
     }
@@ -16,9 +16,13 @@
 package io.gravitee.am.gateway.handler.vertx;
 
 import io.gravitee.am.gateway.handler.auth.UserAuthenticationManager;
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.vertx.auth.provider.UserAuthenticationProvider;
 import io.gravitee.am.gateway.handler.vertx.handler.ExceptionHandler;
+import io.gravitee.am.gateway.handler.vertx.handler.StaticAssetHandler;
+import io.gravitee.am.gateway.handler.vertx.handler.admission.AdaptiveConcurrencyLimiter;
+import io.gravitee.am.gateway.handler.vertx.handler.admission.AdmissionControlHandler;
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.OAuth2Router;
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.authorization.AuthorizationEndpointFailureHandler;
 import io.gravitee.am.gateway.handler.vertx.handler.oidc.OIDCRouter;
@@ -29,6 +33,7 @@ import io.gravitee.am.gateway.handler.vertx.handler.session.RxSessionHandler;
 import io.gravitee.am.model.Domain;
 import io.gravitee.common.utils.UUID;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.ext.auth.AuthProvider;
 import io.vertx.reactivex.ext.web.Router;
@@ -47,6 +52,15 @@ public class VertxSecurityDomainHandler {
 
     private static final String DEFAULT_SESSION_COOKIE_NAME = "GRAVITEE_IO_AM_SESSION";
     private static final long DEFAULT_SESSION_TIMEOUT = 30 * 60 * 1000; // 30 minutes
+    private static final long DEFAULT_FORM_BODY_LIMIT = 16 * 1024; // 16 KB
+    private static final long DEFAULT_REGISTRATION_BODY_LIMIT = 64 * 1024; // 64 KB
+    private static final long DEFAULT_SCIM_BODY_LIMIT = 1024 * 1024; // 1 MB
+    private static final int DEFAULT_ADMISSION_INITIAL_LIMIT = 50;
+    private static final int DEFAULT_ADMISSION_MIN_LIMIT = 5;
+    private static final int DEFAULT_ADMISSION_MAX_LIMIT = 500;
+    private static final double DEFAULT_ADMISSION_BACKOFF_RATIO = 0.9;
+    private static final long DEFAULT_ADMISSION_LATENCY_THRESHOLD = 1000; // 1 second
+    private static final long DEFAULT_ADMISSION_RETRY_AFTER = 1; // 1 second
 
     @Autowired
     private UserAuthenticationManager userAuthenticationManager;
@@ -75,6 +89,12 @@ public class VertxSecurityDomainHandler {
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private StaticAssetHandler staticAssetHandler;
+
+    @Autowired
+    private DomainMetrics domainMetrics;
+
     public Router create() {
         // Create the security domain router
         final Router router = Router.router(vertx);
@@ -89,8 +109,13 @@ public class VertxSecurityDomainHandler {
         // user authentication handler
         final AuthProvider userAuthProvider = new AuthProvider(new UserAuthenticationProvider(userAuthenticationManager, clientSyncService));
 
+        // admission control handler
+        if (environment.getProperty("http.admission.enabled", Boolean.class, false)) {
+            admissionControlHandler(router);
+        }
+
         // body handler
-        router.route().handler(BodyHandler.create());
+        bodyHandler(router);
 
         // static handler
         staticHandler(router);
@@ -130,10 +155,76 @@ public class VertxSecurityDomainHandler {
         this.domain = domain;
     }
 
+    private void admissionControlHandler(Router router) {
+        // requests are rejected before their body is read, each endpoint class has its own concurrency limit
+        AdaptiveConcurrencyLimiter introspectionLimiter = concurrencyLimiter();
+        Handler<RoutingContext> introspectionHandler = admissionControlHandler("introspect", introspectionLimiter, null);
+        router.route(HttpMethod.POST, "/oauth/introspect").handler(introspectionHandler);
+        router.route("/oauth/check_token").handler(introspectionHandler);
+
+        router.route(HttpMethod.POST, "/oauth/token").handler(admissionControlHandler("token", concurrencyLimiter(), null));
+
+        // interactive login yields to token introspection (resource servers) when the latter is saturated
+        AdaptiveConcurrencyLimiter loginPriorityLimiter =
+                environment.getProperty("http.admission.prioritizeIntrospection", Boolean.class, true) ? introspectionLimiter : null;
+        router.route(HttpMethod.POST, "/login").handler(admissionControlHandler("login", concurrencyLimiter(), loginPriorityLimiter));
+    }
+
+    private AdaptiveConcurrencyLimiter concurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(
+                environment.getProperty("http.admission.initialLimit", Integer.class, DEFAULT_ADMISSION_INITIAL_LIMIT),
+                environment.getProperty("http.admission.minLimit", Integer.class, DEFAULT_ADMISSION_MIN_LIMIT),
+                environment.getProperty("http.admission.maxLimit", Integer.class, DEFAULT_ADMISSION_MAX_LIMIT),
+                environment.getProperty("http.admission.backoffRatio", Double.class, DEFAULT_ADMISSION_BACKOFF_RATIO),
+                environment.getProperty("http.admission.latencyThreshold", Long.class, DEFAULT_ADMISSION_LATENCY_THRESHOLD));
+    }
+
+    private Handler<RoutingContext> admissionControlHandler(String endpoint, AdaptiveConcurrencyLimiter limiter, AdaptiveConcurrencyLimiter priorityLimiter) {
+        return new AdmissionControlHandler(limiter, priorityLimiter,
+                environment.getProperty("http.admission.retryAfter", Long.class, DEFAULT_ADMISSION_RETRY_AFTER),
+                domainMetrics.admissionRejections(endpoint),
+                domainMetrics.admissionLimit(endpoint));
+    }
+
+    private void bodyHandler(Router router) {
+        // request bodies are only read for the endpoints which expect one, other requests are not buffered
+        BodyHandler formBodyHandler = bodyHandler("http.body.form.limit", DEFAULT_FORM_BODY_LIMIT);
+        router.route(HttpMethod.POST, "/login").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/register").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/confirmRegistration").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/forgotPassword").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/resetPassword").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/authorize").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/confirm_access").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/token").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/check_token").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/introspect").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oauth/revoke").handler(formBodyHandler);
+        router.route(HttpMethod.POST, "/oidc/userinfo").handler(formBodyHandler);
+
+        // OpenID Connect Dynamic Client Registration
+        BodyHandler registrationBodyHandler = bodyHandler("http.body.registration.limit", DEFAULT_REGISTRATION_BODY_LIMIT);
+        router.route(HttpMethod.POST, "/oidc/register").handler(registrationBodyHandler);
+        router.route(HttpMethod.PATCH, "/oidc/register/*").handler(registrationBodyHandler);
+
+        // SCIM resources
+        if (isSCIMEnabled()) {
+            BodyHandler scimBodyHandler = bodyHandler("http.body.scim.limit", DEFAULT_SCIM_BODY_LIMIT);
+            router.route(HttpMethod.POST, "/scim/*").handler(scimBodyHandler);
+            router.route(HttpMethod.PUT, "/scim/*").handler(scimBodyHandler);
+        }
+    }
+
+    private BodyHandler bodyHandler(String limitProperty, long defaultLimit) {
+        return BodyHandler.create()
+                .setBodyLimit(environment.getProperty(limitProperty, Long.class, defaultLimit))
+                .setDeleteUploadedFilesOnEnd(true);
+    }
+
     private void staticHandler(Router router) {
-        StaticHandler staticHandler = StaticHandler.create();
-        router.route().handler(staticHandler);
-        router.route("/oauth/*").handler(staticHandler);
+        // assets are loaded once for the whole gateway, only the routes are declared for each domain
+        router.route().handler(staticAssetHandler);
+        router.route("/oauth/*").handler(staticAssetHandler);
     }
 
     private void sessionAndCookieHandler(Router router, AuthProvider userAuthProvider) {
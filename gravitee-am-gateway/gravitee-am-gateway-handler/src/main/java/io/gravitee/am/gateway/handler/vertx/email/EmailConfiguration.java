@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.vertx.email;
 
+import io.gravitee.am.gateway.handler.email.impl.PooledJavaMailSender;
 import io.gravitee.common.util.EnvironmentUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,6 +53,12 @@ public class EmailConfiguration {
     @Value("${email.protocol:smtp}")
     private String protocol;
 
+    @Value("${email.pool.maxIdle:2}")
+    private int poolMaxIdle;
+
+    @Value("${email.pool.keepAlive:30000}")
+    private long poolKeepAlive;
+
     @Value("${templates.path:${gravitee.home}/templates}")
     private String templatesPath;
 
@@ -60,7 +67,7 @@ public class EmailConfiguration {
 
     @Bean
     public JavaMailSender mailSender() {
-        final JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        final JavaMailSenderImpl javaMailSender = new PooledJavaMailSender(poolMaxIdle, poolKeepAlive);
         javaMailSender.setHost(host);
         try {
             javaMailSender.setPort(Integer.valueOf(this.port));
@@ -50,7 +50,10 @@ public class ExceptionHandler implements Handler<RoutingContext> {
                         .setStatusCode(oAuth2Exception.getHttpStatusCode())
                         .end(Json.encodePrettily(oAuth2ErrorResponse));
             } else {
-                logger.error(throwable.getMessage(), throwable);
+                // failure may only be an HTTP status code (e.g. 413 when the request body is too large)
+                if (throwable != null) {
+                    logger.error(throwable.getMessage(), throwable);
+                }
                 if (routingContext.statusCode() != -1) {
                     routingContext
                             .response()
@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Static assets handler shared by all the security domains of the gateway.
+ *
+ * The assets of the web root are loaded once in memory when the gateway starts, with a gzip variant precomputed
+ * for the assets which benefit from compression. Responses carry a strong ETag and a long-lived Cache-Control header,
+ * no file system access is done while serving requests.
+ *
+ * @author GraviteeSource Team
+ */
+public class StaticAssetHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticAssetHandler.class);
+    private static final String DEFAULT_WEB_ROOT = "webroot";
+    // templates are rendered by the view engine, they must not be served as is
+    private static final String VIEWS_DIRECTORY = "views/";
+    private static final String GZIP = "gzip";
+    // keep the gzip variant only if it saves at least 10% of the asset size
+    private static final double MIN_COMPRESSION_RATIO = 0.9;
+
+    private final Map<String, Asset> assets;
+    private final String cacheControl;
+
+    public StaticAssetHandler(long maxAge) {
+        this(DEFAULT_WEB_ROOT, maxAge);
+    }
+
+    public StaticAssetHandler(String webRoot, long maxAge) {
+        this.assets = Collections.unmodifiableMap(loadAssets(webRoot));
+        this.cacheControl = maxAge > 0 ? "public, max-age=" + maxAge + ", immutable" : "no-cache";
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        HttpMethod method = context.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            context.next();
+            return;
+        }
+
+        Asset asset = assets.get(relativePath(context));
+        if (asset == null) {
+            context.next();
+            return;
+        }
+
+        boolean gzip = asset.gzipContent != null && acceptsGzip(context.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? asset.gzipEtag : asset.etag;
+
+        HttpServerResponse response = context.response();
+        response.putHeader(HttpHeaders.ETAG, etag);
+        response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (asset.gzipContent != null) {
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (matches(context.request().getHeader(HttpHeaders.IF_NONE_MATCH), asset)) {
+            response.setStatusCode(HttpStatusCode.NOT_MODIFIED_304).end();
+            return;
+        }
+
+        Buffer content = gzip ? asset.gzipContent : asset.content;
+        response.putHeader(HttpHeaders.CONTENT_TYPE, asset.contentType);
+        response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.length()));
+        if (gzip) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        if (method == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(io.vertx.reactivex.core.buffer.Buffer.newInstance(content));
+        }
+    }
+
+    int size() {
+        return assets.size();
+    }
+
+    /**
+     * Strip the mount point of the domain router and the prefix of the current route, as done by the Vert.x static handler.
+     */
+    private static String relativePath(RoutingContext context) {
+        String path = context.normalisedPath();
+        String mountPoint = context.mountPoint();
+        if (mountPoint != null && path.startsWith(mountPoint)) {
+            path = path.substring(mountPoint.length());
+        }
+        String routePath = context.currentRoute() != null ? context.currentRoute().getPath() : null;
+        if (routePath != null) {
+            if (routePath.endsWith("/")) {
+                routePath = routePath.substring(0, routePath.length() - 1);
+            }
+            if (path.startsWith(routePath)) {
+                path = path.substring(routePath.length());
+            }
+        }
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private static boolean matches(String ifNoneMatch, Asset asset) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if ("*".equals(value) || value.equals(asset.etag) || value.equals(asset.gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (GZIP.equalsIgnoreCase(name) || "*".equals(name)) {
+                return !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0{0,3})?"));
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Asset> loadAssets(String webRoot) {
+        Map<String, Asset> assets = new HashMap<>();
+        String pattern = "classpath*:" + webRoot + "/**";
+        String marker = "/" + webRoot + "/";
+        long size = 0;
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(pattern)) {
+                String url = resource.getURL().toString();
+                int index = url.lastIndexOf(marker);
+                if (url.endsWith("/") || index == -1 || !resource.isReadable()) {
+                    continue;
+                }
+                String path = url.substring(index + marker.length());
+                if (path.isEmpty() || path.startsWith(VIEWS_DIRECTORY) || assets.containsKey(path)) {
+                    continue;
+                }
+                try (InputStream inputStream = resource.getInputStream()) {
+                    Asset asset = new Asset(path, StreamUtils.copyToByteArray(inputStream));
+                    assets.put(path, asset);
+                    size += asset.content.length();
+                }
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to load static assets from " + webRoot, ex);
+        }
+        logger.info("{} static assets loaded ({} bytes)", assets.size(), size);
+        return assets;
+    }
+
+    private static class Asset {
+
+        private final Buffer content;
+        private final String etag;
+        private final Buffer gzipContent;
+        private final String gzipEtag;
+        private final String contentType;
+
+        Asset(String path, byte[] content) throws IOException {
+            this.content = Buffer.buffer(content);
+            String digest = digest(content);
+            this.etag = '"' + digest + '"';
+
+            byte[] compressed = gzip(content);
+            if (compressed.length < content.length * MIN_COMPRESSION_RATIO) {
+                this.gzipContent = Buffer.buffer(compressed);
+                this.gzipEtag = '"' + digest + "-" + GZIP + '"';
+            } else {
+                this.gzipContent = null;
+                this.gzipEtag = null;
+            }
+
+            String mimeType = MimeMapping.getMimeTypeForFilename(path);
+            if (mimeType == null) {
+                this.contentType = "application/octet-stream";
+            } else if (mimeType.startsWith("text")) {
+                this.contentType = mimeType + ";charset=UTF-8";
+            } else {
+                this.contentType = mimeType;
+            }
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length);
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(content);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit adjusted with an additive increase / multiplicative decrease (AIMD) policy.
+ *
+ * The limit grows by one when a request completes in time while at least half of the limit is in use, and is
+ * multiplied by the backoff ratio when a request is too slow or fails with a server error. Limit updates are not
+ * synchronized: a lost update only delays the next adjustment.
+ *
+ * @author GraviteeSource Team
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdMillis) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * @return <code>true</code> if the request is admitted, {@link #release(long, boolean)} must then be called once it completes
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param latencyNanos request duration
+     * @param failed <code>true</code> if the request ended with a server error
+     * @return <code>true</code> if the limit has changed
+     */
+    public boolean release(long latencyNanos, boolean failed) {
+        int current = inflight.getAndDecrement();
+        double currentLimit = limit;
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, currentLimit * backoffRatio);
+        } else if (current * 2 >= currentLimit) {
+            limit = Math.min(maxLimit, currentLimit + 1);
+        }
+        return getLimit() != (int) currentLimit;
+    }
+
+    /**
+     * @return <code>true</code> if no more request can be admitted
+     */
+    public boolean isSaturated() {
+        return inflight.get() >= getLimit();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.admission;
+
+import io.gravitee.am.gateway.handler.vertx.utils.ConnectionCloseHandlers;
+import io.gravitee.common.http.HttpStatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control of an endpoint class: requests beyond the concurrency limit are rejected with a
+ * <code>503 Service Unavailable</code> response and a <code>Retry-After</code> header instead of being queued.
+ *
+ * Requests of a lower priority endpoint class are also rejected while the limiter of the higher priority class
+ * is saturated, so that they leave the backends to the higher priority requests.
+ *
+ * @author GraviteeSource Team
+ */
+public class AdmissionControlHandler implements Handler<RoutingContext> {
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AdaptiveConcurrencyLimiter priorityLimiter;
+    private final String retryAfter;
+    private final Counter rejections;
+    private final DistributionSummary limits;
+
+    public AdmissionControlHandler(AdaptiveConcurrencyLimiter limiter, AdaptiveConcurrencyLimiter priorityLimiter,
+                                   long retryAfterSeconds, Counter rejections, DistributionSummary limits) {
+        this.limiter = limiter;
+        this.priorityLimiter = priorityLimiter;
+        this.retryAfter = String.valueOf(retryAfterSeconds);
+        this.rejections = rejections;
+        this.limits = limits;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        if ((priorityLimiter != null && priorityLimiter.isSaturated()) || !limiter.tryAcquire()) {
+            rejections.increment();
+            context.response()
+                    .putHeader(RETRY_AFTER, retryAfter)
+                    .setStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503)
+                    .end();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final Handler<Void> release = v -> {
+            if (released.compareAndSet(false, true)) {
+                boolean failed = context.response().getStatusCode() >= HttpStatusCode.INTERNAL_SERVER_ERROR_500;
+                if (limiter.release(System.nanoTime() - start, failed)) {
+                    limits.record(limiter.getLimit());
+                }
+            }
+        };
+        // body end handlers are chained by the routing context, unlike the response close handler which is a single
+        // handler that the next route handlers may need. They are not called if the client disconnects before the
+        // response has ended, the permit is then released when the connection closes.
+        ConnectionCloseHandlers.add(context.request(), release);
+        context.addBodyEndHandler(v -> {
+            ConnectionCloseHandlers.remove(context.request(), release);
+            release.handle(null);
+        });
+        context.next();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.metrics;
+
+import io.gravitee.am.common.oauth2.GrantType;
+import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record the duration of the requests of an endpoint, from the route to the end of the response.
+ *
+ * Timers are registered once per grant type and status class and kept by the handler so that recording a request
+ * does not look up the registry. Grant types other than the standard ones are tagged <code>extension</code>
+ * as their values are sent by the clients.
+ *
+ * @author GraviteeSource Team
+ */
+public class EndpointMetricsHandler implements Handler<RoutingContext> {
+
+    private static final String REQUESTS = "am.gateway.http.requests";
+    private static final String NO_GRANT_TYPE = "none";
+    private static final String EXTENSION_GRANT_TYPE = "extension";
+    private static final Set<String> STANDARD_GRANT_TYPES = new HashSet<>(Arrays.asList(
+            GrantType.AUTHORIZATION_CODE, GrantType.CLIENT_CREDENTIALS, GrantType.IMPLICIT,
+            GrantType.PASSWORD, GrantType.REFRESH_TOKEN));
+
+    private final MeterRegistry meterRegistry;
+    private final String endpoint;
+    private final String domain;
+    private final boolean grantTypeAware;
+    // grant type -> timers indexed by status class
+    private final ConcurrentMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public EndpointMetricsHandler(MeterRegistry meterRegistry, String endpoint, String domain, boolean grantTypeAware) {
+        this.meterRegistry = meterRegistry;
+        this.endpoint = endpoint;
+        this.domain = domain;
+        this.grantTypeAware = grantTypeAware;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        final long start = System.nanoTime();
+        context.addBodyEndHandler(v -> timer(context).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        context.next();
+    }
+
+    private Timer timer(RoutingContext context) {
+        String grantType = NO_GRANT_TYPE;
+        if (grantTypeAware) {
+            String requestedGrantType = context.request().getParam(OAuth2Constants.GRANT_TYPE);
+            if (requestedGrantType != null) {
+                grantType = STANDARD_GRANT_TYPES.contains(requestedGrantType) ? requestedGrantType : EXTENSION_GRANT_TYPE;
+            }
+        }
+        int statusClass = Math.min(Math.max(context.response().getStatusCode() / 100, 1), 5);
+
+        Timer[] grantTypeTimers = timers.computeIfAbsent(grantType, k -> new Timer[5]);
+        Timer timer = grantTypeTimers[statusClass - 1];
+        if (timer == null) {
+            // a timer may be registered twice concurrently, the registry returns the same instance
+            timer = Timer.builder(REQUESTS)
+                    .description("Duration of the requests handled by the gateway endpoints")
+                    .tag("endpoint", endpoint)
+                    .tag("domain", domain)
+                    .tag("grant_type", grantType)
+                    .tag("status", statusClass + "xx")
+                    .register(meterRegistry);
+            grantTypeTimers[statusClass - 1] = timer;
+        }
+        return timer;
+    }
+}
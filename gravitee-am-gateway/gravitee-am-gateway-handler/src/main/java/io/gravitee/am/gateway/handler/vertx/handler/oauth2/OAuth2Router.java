@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.vertx.handler.oauth2;
 
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.oauth2.approval.ApprovalService;
 import io.gravitee.am.gateway.handler.oauth2.assertion.ClientAssertionService;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
@@ -39,18 +40,30 @@ import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.introspectio
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.revocation.RevocationTokenEndpointHandler;
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.token.TokenEndpointHandler;
 import io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.token.TokenRequestParseHandler;
+import io.gravitee.am.gateway.handler.vertx.handler.ratelimit.ClientRateLimitHandler;
+import io.gravitee.am.gateway.handler.vertx.handler.ratelimit.RateLimiter;
+import io.gravitee.am.gateway.handler.vertx.handler.ratelimit.RemoteAddressRateLimitHandler;
+import io.gravitee.am.gateway.handler.vertx.handler.ratelimit.RemoteAddressResolver;
+import io.gravitee.am.gateway.handler.vertx.handler.ratelimit.TokenBucket;
 import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.common.http.MediaType;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.ext.auth.AuthProvider;
+import io.vertx.reactivex.ext.web.Route;
 import io.vertx.reactivex.ext.web.Router;
 import io.vertx.reactivex.ext.web.RoutingContext;
 import io.vertx.reactivex.ext.web.handler.AuthHandler;
 import io.vertx.reactivex.ext.web.handler.ChainAuthHandler;
 import io.vertx.reactivex.ext.web.templ.ThymeleafTemplateEngine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -58,6 +71,12 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public class OAuth2Router {
 
+    private static final long DEFAULT_CLIENT_RATE_LIMIT_CAPACITY = 100;
+    private static final double DEFAULT_CLIENT_RATE_LIMIT_REFILL_RATE = 10; // per second
+    private static final long DEFAULT_REMOTE_ADDRESS_RATE_LIMIT_CAPACITY = 200;
+    private static final double DEFAULT_REMOTE_ADDRESS_RATE_LIMIT_REFILL_RATE = 20; // per second
+    private static final int DEFAULT_RATE_LIMIT_MAX_SIZE = 100000;
+
     @Autowired
     private TokenGranter tokenGranter;
 
@@ -91,12 +110,18 @@ public class OAuth2Router {
     @Autowired
     private ThymeleafTemplateEngine thymeleafTemplateEngine;
 
+    @Autowired
+    private DomainMetrics domainMetrics;
+
     @Autowired
     private Domain domain;
 
     @Autowired
     private Vertx vertx;
 
+    @Autowired
+    private Environment environment;
+
     public Router route(AuthProvider userAuthProvider) {
         // Create the OAuth 2.0 router
         final Router router = Router.router(vertx);
@@ -135,6 +160,7 @@ public class OAuth2Router {
 
         // declare oauth2 routes
         router.route(HttpMethod.GET,"/authorize")
+                .handler(domainMetrics.endpointHandler("authorize"))
                 .handler(authorizationRequestParseRequiredParametersHandler)
                 .handler(authorizationRequestParseClientHandler)
                 .handler(authorizationRequestParseParametersHandler)
@@ -143,16 +169,28 @@ public class OAuth2Router {
         router.route(HttpMethod.POST, "/authorize")
                 .handler(userAuthHandler)
                 .handler(authorizeApprovalEndpoint);
-        router.route(HttpMethod.POST, "/token")
-                .handler(tokenRequestParseHandler)
-                .handler(clientAuthHandler)
-                .handler(tokenEndpoint);
+        Route tokenRoute = router.route(HttpMethod.POST, "/token")
+                .handler(domainMetrics.grantEndpointHandler("token"));
+        if (environment.getProperty("oauth2.rateLimit.enabled", Boolean.class, false)) {
+            // throttle the callers before any client authentication work, then the authenticated clients before the token generation
+            tokenRoute
+                    .handler(remoteAddressRateLimitHandler())
+                    .handler(tokenRequestParseHandler)
+                    .handler(clientAuthHandler)
+                    .handler(clientRateLimitHandler());
+        } else {
+            tokenRoute
+                    .handler(tokenRequestParseHandler)
+                    .handler(clientAuthHandler);
+        }
+        tokenRoute.handler(tokenEndpoint);
         router.route(HttpMethod.POST, "/check_token")
                 .consumes(MediaType.APPLICATION_FORM_URLENCODED)
                 .handler(clientAuthHandler)
                 .handler(checkTokenEndpoint);
         router.route(HttpMethod.POST, "/introspect")
                 .consumes(MediaType.APPLICATION_FORM_URLENCODED)
+                .handler(domainMetrics.endpointHandler("introspect"))
                 .handler(clientAuthHandler)
                 .handler(introspectionEndpoint);
         router.route(HttpMethod.POST, "/revoke")
@@ -166,4 +204,33 @@ public class OAuth2Router {
 
         return router;
     }
+
+    private Handler<RoutingContext> remoteAddressRateLimitHandler() {
+        final Clock clock = Clock.systemUTC();
+        final int maxSize = environment.getProperty("oauth2.rateLimit.maxSize", Integer.class, DEFAULT_RATE_LIMIT_MAX_SIZE);
+        final long capacity = environment.getProperty("oauth2.rateLimit.remoteAddress.capacity", Long.class, DEFAULT_REMOTE_ADDRESS_RATE_LIMIT_CAPACITY);
+        final double refillRate = environment.getProperty("oauth2.rateLimit.remoteAddress.refillRate", Double.class, DEFAULT_REMOTE_ADDRESS_RATE_LIMIT_REFILL_RATE);
+        final String trustedProxies = environment.getProperty("oauth2.rateLimit.trustedProxies", "");
+
+        RateLimiter rateLimiter = new RateLimiter(remoteAddress -> new TokenBucket(capacity, refillRate, clock), maxSize);
+        RemoteAddressResolver remoteAddressResolver = new RemoteAddressResolver(Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toList()));
+        return new RemoteAddressRateLimitHandler(rateLimiter, remoteAddressResolver);
+    }
+
+    private Handler<RoutingContext> clientRateLimitHandler() {
+        final Clock clock = Clock.systemUTC();
+        final int maxSize = environment.getProperty("oauth2.rateLimit.maxSize", Integer.class, DEFAULT_RATE_LIMIT_MAX_SIZE);
+        // the domain rate limit settings override the gateway defaults, the client ones are applied by the handler
+        final RateLimitSettings settings = domain.getRateLimit();
+        final long capacity = settings != null && settings.getCapacity() != null ? settings.getCapacity()
+                : environment.getProperty("oauth2.rateLimit.client.capacity", Long.class, DEFAULT_CLIENT_RATE_LIMIT_CAPACITY);
+        final double refillRate = settings != null && settings.getRefillRate() != null ? settings.getRefillRate()
+                : environment.getProperty("oauth2.rateLimit.client.refillRate", Double.class, DEFAULT_CLIENT_RATE_LIMIT_REFILL_RATE);
+
+        RateLimiter rateLimiter = new RateLimiter(clientId -> new TokenBucket(capacity, refillRate, clock), maxSize);
+        return new ClientRateLimitHandler(rateLimiter, capacity, refillRate, clock);
+    }
 }
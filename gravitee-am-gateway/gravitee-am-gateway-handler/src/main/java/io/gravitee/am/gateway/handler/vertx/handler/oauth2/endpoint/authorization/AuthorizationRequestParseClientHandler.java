@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.vertx.handler.oauth2.endpoint.authorization;
 
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidRequestException;
 import io.gravitee.am.gateway.handler.oauth2.exception.RedirectMismatchException;
 import io.gravitee.am.gateway.handler.oauth2.exception.ServerErrorException;
@@ -27,12 +28,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.ext.web.RoutingContext;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.util.Arrays;
 import java.util.List;
 
-
 /**
  * The authorization server must ensure that the client used for the Authorization Request is registered and
  * should not redirect to login page if the client does not exist
@@ -66,9 +63,10 @@ public class AuthorizationRequestParseClientHandler implements Handler<RoutingCo
 
             // additional check
             try {
-                checkGrantTypes(client);
-                checkResponseType(responseType, client);
-                checkRedirectUri(redirectUri, client);
+                CompiledClient compiledClient = clientSyncService.getCompiledClient(client);
+                checkGrantTypes(compiledClient);
+                checkResponseType(responseType, compiledClient);
+                checkRedirectUri(redirectUri, compiledClient);
                 context.next();
             } catch (Exception ex) {
                 context.fail(ex);
@@ -86,36 +84,29 @@ public class AuthorizationRequestParseClientHandler implements Handler<RoutingCo
                 );
     }
 
-    private void checkGrantTypes(Client client) {
+    private void checkGrantTypes(CompiledClient client) {
         // Authorization endpoint implies that the client should at least have authorization_code ou implicit grant types.
-        List<String> authorizedGrantTypes = client.getAuthorizedGrantTypes();
-        if (authorizedGrantTypes == null || authorizedGrantTypes.isEmpty()) {
+        if (!client.hasAuthorizedGrantTypes()) {
             throw new UnauthorizedClientException("Client should at least have one authorized grand type");
         }
-        if (!containsGrantType(authorizedGrantTypes)) {
+        if (!client.isAuthorizationEndpointAllowed()) {
             throw new UnauthorizedClientException("Client must at least have authorization_code or implicit grant type enable");
         }
     }
 
-    private boolean containsGrantType(List<String> authorizedGrantTypes) {
-        return authorizedGrantTypes.stream()
-                .anyMatch(authorizedGrantType -> OAuth2Constants.AUTHORIZATION_CODE.equals(authorizedGrantType)
-                        || OAuth2Constants.IMPLICIT.equals(authorizedGrantType));
-    }
-
-    private void checkResponseType(String responseType, Client client) {
+    private void checkResponseType(String responseType, CompiledClient client) {
         // Authorization endpoint implies that the client should have response_type
-        if (client.getResponseTypes() == null) {
+        if (!client.hasResponseTypes()) {
             throw new UnauthorizedClientException("Client should have response_type.");
         }
-        if(!Arrays.stream(responseType.split("\\s")).allMatch(type -> client.getResponseTypes().contains(type))) {
+        if (!client.isAuthorizedResponseType(responseType)) {
             throw new UnauthorizedClientException("Client should have all requested response_type");
         }
     }
 
-    private void checkRedirectUri(String requestedRedirectUri, Client client) {
+    private void checkRedirectUri(String requestedRedirectUri, CompiledClient client) {
         final List<String> registeredClientRedirectUris = client.getRedirectUris();
-        final boolean hasRegisteredClientRedirectUris = registeredClientRedirectUris != null && !registeredClientRedirectUris.isEmpty();
+        final boolean hasRegisteredClientRedirectUris = !registeredClientRedirectUris.isEmpty();
         final boolean hasRequestedRedirectUri = requestedRedirectUri != null && !requestedRedirectUri.isEmpty();
 
         // if no requested redirect_uri and no registered client redirect_uris
@@ -126,44 +117,14 @@ public class AuthorizationRequestParseClientHandler implements Handler<RoutingCo
 
         // if no requested redirect_uri and more than one registered client redirect_uris
         // throw invalid request exception
-        if (!hasRequestedRedirectUri && (registeredClientRedirectUris != null && registeredClientRedirectUris.size() > 1)) {
+        if (!hasRequestedRedirectUri && registeredClientRedirectUris.size() > 1) {
             throw new InvalidRequestException("Unable to find suitable redirect_uri, a redirect_uri must be supplied");
         }
 
         // if requested redirect_uri doesn't match registered client redirect_uris
         // throw redirect mismatch exception
-        if (hasRequestedRedirectUri && hasRegisteredClientRedirectUris) {
-            checkMatchingRedirectUri(requestedRedirectUri, registeredClientRedirectUris);
-        }
-    }
-
-    private void checkMatchingRedirectUri(String requestedRedirect, List<String> registeredClientRedirectUris) {
-        if (registeredClientRedirectUris
-                .stream()
-                .noneMatch(registeredClientUri -> redirectMatches(requestedRedirect, registeredClientUri))) {
+        if (hasRequestedRedirectUri && hasRegisteredClientRedirectUris && !client.matchesRedirectUri(requestedRedirectUri)) {
             throw new RedirectMismatchException("The redirect_uri MUST match the registered callback URL for this application");
         }
     }
-
-    private boolean redirectMatches(String requestedRedirect, String registeredClientUri) {
-        try {
-            URL req = new URL(requestedRedirect);
-            URL reg = new URL(registeredClientUri);
-
-            int requestedPort = req.getPort() != -1 ? req.getPort() : req.getDefaultPort();
-            int registeredPort = reg.getPort() != -1 ? reg.getPort() : reg.getDefaultPort();
-
-            boolean portsMatch = registeredPort == requestedPort;
-
-            if (reg.getProtocol().equals(req.getProtocol()) &&
-                    reg.getHost().equals(req.getHost()) &&
-                    portsMatch) {
-                return req.getPath().startsWith(reg.getPath());
-            }
-        } catch (MalformedURLException e) {
-
-        }
-
-        return requestedRedirect.equals(registeredClientUri);
-    }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.vertx.handler.oidc;
 
 import io.gravitee.am.gateway.handler.jwt.JwtService;
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.oauth2.token.TokenService;
 import io.gravitee.am.gateway.handler.oidc.clientregistration.DynamicClientRegistrationService;
@@ -80,6 +81,9 @@ public class OIDCRouter {
     @Autowired
     private ClientService clientService;
 
+    @Autowired
+    private DomainMetrics domainMetrics;
+
     @Autowired
     private Domain domain;
 
@@ -104,14 +108,17 @@ public class OIDCRouter {
         // UserInfo Endpoint
         Handler<RoutingContext> userInfoEndpoint = new UserInfoEndpoint(userService);
         Handler<RoutingContext> userInfoRequestParseHandler = new UserInfoRequestParseHandler(tokenService, clientSyncService, jwtService);
+        Handler<RoutingContext> userInfoMetricsHandler = domainMetrics.endpointHandler("userinfo");
         router.route("/userinfo").handler(CorsHandler.newInstance(corsHandler()));
         router
                 .route(HttpMethod.GET, "/userinfo")
+                .handler(userInfoMetricsHandler)
                 .handler(userInfoRequestParseHandler)
                 .handler(userInfoEndpoint);
         router
                 .route(HttpMethod.POST, "/userinfo")
                 .consumes(MediaType.APPLICATION_FORM_URLENCODED)
+                .handler(userInfoMetricsHandler)
                 .handler(userInfoRequestParseHandler)
                 .handler(userInfoEndpoint);
 
@@ -28,6 +28,7 @@ import io.gravitee.common.http.MediaType;
 import io.reactivex.Single;
 import io.vertx.core.Handler;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.Json;
 import io.vertx.reactivex.ext.web.RoutingContext;
 import org.slf4j.Logger;
@@ -91,10 +92,11 @@ public class DynamicClientRegistrationEndpoint implements Handler<RoutingContext
 
     protected Single<DynamicClientRegistrationRequest> extractRequest(RoutingContext context) {
         try{
-            if(context.getBodyAsJson()==null) {
+            JsonObject body = context.getBodyAsJson();
+            if(body==null) {
                 throw new InvalidClientMetadataException("no content");
             }
-            return Single.just(context.getBodyAsJson().mapTo(DynamicClientRegistrationRequest.class));
+            return Single.just(body.mapTo(DynamicClientRegistrationRequest.class));
         }catch (Exception ex) {
             if(ex instanceof DecodeException) {
                 return Single.error(new InvalidClientMetadataException(ex.getMessage()));
@@ -15,28 +15,27 @@
  */
 package io.gravitee.am.gateway.handler.vertx.handler.oidc.endpoint;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.gravitee.am.common.jwt.Claims;
-import io.gravitee.am.common.oidc.Scope;
 import io.gravitee.am.common.oidc.StandardClaims;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidRequestException;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidTokenException;
 import io.gravitee.am.gateway.handler.oauth2.token.Token;
 import io.gravitee.am.gateway.handler.oauth2.token.impl.AccessToken;
+import io.gravitee.am.gateway.handler.oidc.claims.ClaimsProjection;
 import io.gravitee.am.gateway.handler.oidc.request.ClaimsRequest;
 import io.gravitee.am.service.UserService;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.MediaType;
 import io.vertx.core.Handler;
 import io.vertx.core.json.Json;
+import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.ext.web.RoutingContext;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * The UserInfo Endpoint is an OAuth 2.0 Protected Resource that returns Claims about the authenticated End-User.
@@ -51,6 +50,8 @@ import java.util.stream.Collectors;
  */
 public class UserInfoEndpoint implements Handler<RoutingContext> {
 
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
     private UserService userService;
 
     public UserInfoEndpoint(UserService userService) {
@@ -63,27 +64,21 @@ public class UserInfoEndpoint implements Handler<RoutingContext> {
         String subject = accessToken.getSubject();
         userService.findById(subject)
                 .map(user -> {
-                    Map<String, Object> userClaims = user.getAdditionalInformation() == null ? new HashMap<>() : new HashMap<>(user.getAdditionalInformation());
-                    if (userClaims.isEmpty() || !userClaims.containsKey(StandardClaims.SUB)) {
+                    Map<String, Object> userClaims = user.getAdditionalInformation();
+                    if (userClaims == null || userClaims.isEmpty() || !userClaims.containsKey(StandardClaims.SUB)) {
                         // The sub (subject) Claim MUST always be returned in the UserInfo Response.
                         // https://openid.net/specs/openid-connect-core-1_0.html#UserInfoResponse
                         throw new InvalidRequestException("UserInfo response is missing required claims");
                     }
 
-                    // Exchange the sub claim from the identity provider to its technical id
-                    userClaims.put(StandardClaims.SUB, subject);
-
                     // prepare requested claims
-                    Map<String, Object> requestedClaims = new HashMap<>();
-                    // SUB claim is required
-                    requestedClaims.put(StandardClaims.SUB, subject);
+                    Map<String, Object> requestedClaims = new LinkedHashMap<>();
 
                     boolean requestForSpecificClaims = false;
                     // processing claims list
                     // 1. process the request using scope values
                     if (accessToken.getScope() != null) {
-                        final Set<String> scopes = new HashSet<>(Arrays.asList(accessToken.getScope().split("\\s+")));
-                        requestForSpecificClaims = processScopesRequest(scopes, userClaims, requestedClaims);
+                        requestForSpecificClaims = processScopesRequest(accessToken.getScope(), userClaims, requestedClaims);
                     }
                     // 2. process the request using the claims values (If present, the listed Claims are being requested to be added to any Claims that are being requested using scope values.
                     // If not present, the Claims being requested from the UserInfo Endpoint are only those requested using scope values.)
@@ -92,14 +87,15 @@ public class UserInfoEndpoint implements Handler<RoutingContext> {
                         requestForSpecificClaims = processClaimsRequest((String) requestedParameters.get(Claims.claims), userClaims, requestedClaims);
                     }
 
-                    return (requestForSpecificClaims) ? requestedClaims : userClaims;
+                    // the sub claim from the identity provider is exchanged to its technical id while writing the response
+                    return encode(subject, (requestForSpecificClaims) ? requestedClaims : userClaims);
                  })
                 .subscribe(
-                        claims -> context.response()
+                        buffer -> context.response()
                                 .putHeader(HttpHeaders.CACHE_CONTROL, "no-store")
                                 .putHeader(HttpHeaders.PRAGMA, "no-cache")
                                 .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                                .end(Json.encodePrettily(claims)),
+                                .end(buffer),
                         error -> context.fail(error),
                         () -> context.fail(new InvalidTokenException("No user found for this token"))
                 );
@@ -109,32 +105,21 @@ public class UserInfoEndpoint implements Handler<RoutingContext> {
     /**
      * For OpenID Connect, scopes can be used to request that specific sets of information be made available as Claim Values.
      *
-     * @param scopes scopes request parameter
+     * @param scopes scopes of the access token
      * @param userClaims user full claims list
      * @param requestedClaims requested claims
      * @return true if OpenID Connect scopes have been found
      */
-    private boolean processScopesRequest(Set<String> scopes, final Map<String, Object> userClaims, Map<String, Object> requestedClaims) {
-        // get requested scopes claims
-        final List<String> scopesClaims = scopes.stream()
-                .map(scope -> scope.toUpperCase())
-                .filter(scope -> Scope.exists(scope) && !Scope.valueOf(scope).getClaims().isEmpty())
-                .map(scope -> Scope.valueOf(scope))
-                .map(scope -> scope.getClaims())
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+    private boolean processScopesRequest(String scopes, final Map<String, Object> userClaims, Map<String, Object> requestedClaims) {
+        final ClaimsProjection claimsProjection = ClaimsProjection.of(scopes);
 
         // no OpenID Connect scopes requested continue
-        if (scopesClaims.isEmpty()) {
+        if (claimsProjection.isEmpty()) {
             return false;
         }
 
         // return specific available sets of information made by scope value request
-        scopesClaims.forEach(scopeClaim -> {
-            if (userClaims.containsKey(scopeClaim)) {
-                requestedClaims.putIfAbsent(scopeClaim, userClaims.get(scopeClaim));
-            }
-        });
+        claimsProjection.select(userClaims, requestedClaims);
 
         return true;
     }
@@ -162,4 +147,46 @@ public class UserInfoEndpoint implements Handler<RoutingContext> {
         }
         return false;
     }
+
+    /**
+     * Write the claims as a compact JSON object straight into the response buffer, sub claim first.
+     *
+     * @param subject technical id of the end-user
+     * @param claims claims to return
+     * @return the response body
+     */
+    private static Buffer encode(String subject, Map<String, Object> claims) throws IOException {
+        Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = Json.mapper.getFactory().createGenerator(new BufferOutputStream(buffer))) {
+            generator.writeStartObject();
+            generator.writeStringField(StandardClaims.SUB, subject);
+            for (Map.Entry<String, Object> claim : claims.entrySet()) {
+                if (!StandardClaims.SUB.equals(claim.getKey())) {
+                    generator.writeFieldName(claim.getKey());
+                    generator.writeObject(claim.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+        return buffer;
+    }
+
+    private static class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.getDelegate().appendBytes(b, off, len);
+        }
+    }
 }
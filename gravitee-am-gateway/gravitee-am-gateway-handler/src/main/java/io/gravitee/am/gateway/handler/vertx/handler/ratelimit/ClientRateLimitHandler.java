@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import io.gravitee.am.gateway.handler.vertx.auth.user.Client;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.time.Clock;
+
+/**
+ * Rate limit the requests per client once the client is authenticated, unauthenticated requests are only limited
+ * by {@link RemoteAddressRateLimitHandler}.
+ *
+ * The limits are the client rate limit settings, then the domain ones, then the gateway defaults. A client update
+ * changes its bucket so that new limits apply immediately.
+ *
+ * @author GraviteeSource Team
+ */
+public class ClientRateLimitHandler extends RateLimitHandler {
+
+    private final RateLimiter rateLimiter;
+    private final long defaultCapacity;
+    private final double defaultRefillRate;
+    private final Clock clock;
+
+    /**
+     * @param rateLimiter client buckets, its own bucket factory is only used for the overflow bucket
+     * @param defaultCapacity capacity of the clients without rate limit settings
+     * @param defaultRefillRate refill rate (per second) of the clients without rate limit settings
+     */
+    public ClientRateLimitHandler(RateLimiter rateLimiter, long defaultCapacity, double defaultRefillRate, Clock clock) {
+        this.rateLimiter = rateLimiter;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillRate = defaultRefillRate;
+        this.clock = clock;
+    }
+
+    @Override
+    protected ConsumptionProbe tryConsume(RoutingContext context) {
+        if (context.user() == null || !(context.user().getDelegate() instanceof Client)) {
+            return null;
+        }
+
+        final io.gravitee.am.model.Client client = ((Client) context.user().getDelegate()).getClient();
+        final String key = client.getUpdatedAt() == null ? client.getClientId() : client.getClientId() + ':' + client.getUpdatedAt().getTime();
+        return rateLimiter.tryConsume(key, k -> {
+            RateLimitSettings settings = client.getRateLimit();
+            long capacity = settings != null && settings.getCapacity() != null ? settings.getCapacity() : defaultCapacity;
+            double refillRate = settings != null && settings.getRefillRate() != null ? settings.getRefillRate() : defaultRefillRate;
+            return new TokenBucket(capacity, refillRate, clock);
+        });
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+/**
+ * Result of a token consumption attempt.
+ *
+ * @author GraviteeSource Team
+ */
+public class ConsumptionProbe {
+
+    private final boolean consumed;
+    private final long limit;
+    private final long remainingTokens;
+    private final long millisToNextToken;
+    private final long millisToFull;
+
+    public ConsumptionProbe(boolean consumed, long limit, long remainingTokens, long millisToNextToken, long millisToFull) {
+        this.consumed = consumed;
+        this.limit = limit;
+        this.remainingTokens = remainingTokens;
+        this.millisToNextToken = millisToNextToken;
+        this.millisToFull = millisToFull;
+    }
+
+    public boolean isConsumed() {
+        return consumed;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public long getRemainingTokens() {
+        return remainingTokens;
+    }
+
+    /**
+     * @return time to wait before a token is available, 0 if the token has been consumed
+     */
+    public long getMillisToNextToken() {
+        return millisToNextToken;
+    }
+
+    /**
+     * @return time to wait before the bucket is full again
+     */
+    public long getMillisToFull() {
+        return millisToFull;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base handler of the token endpoint rate limits. Rejected requests receive a <code>429 Too Many Requests</code>
+ * response with a <code>Retry-After</code> header, the <code>RateLimit-*</code> headers are set on all the responses.
+ *
+ * When several rate limits apply to a request, the headers describe the most restrictive one.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class RateLimitHandler implements Handler<RoutingContext> {
+
+    static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+    static final String RETRY_AFTER = "Retry-After";
+
+    @Override
+    public void handle(RoutingContext context) {
+        final ConsumptionProbe probe = tryConsume(context);
+        if (probe == null) {
+            context.next();
+            return;
+        }
+
+        final HttpServerResponse response = context.response();
+        final String remaining = response.headers().get(RATE_LIMIT_REMAINING);
+        if (!probe.isConsumed() || remaining == null || probe.getRemainingTokens() < Long.parseLong(remaining)) {
+            response.putHeader(RATE_LIMIT_LIMIT, String.valueOf(probe.getLimit()));
+            response.putHeader(RATE_LIMIT_REMAINING, String.valueOf(probe.getRemainingTokens()));
+            response.putHeader(RATE_LIMIT_RESET, String.valueOf(toSeconds(probe.getMillisToFull())));
+        }
+
+        if (!probe.isConsumed()) {
+            response
+                    .putHeader(RETRY_AFTER, String.valueOf(Math.max(1, toSeconds(probe.getMillisToNextToken()))))
+                    .setStatusCode(HttpStatusCode.TOO_MANY_REQUESTS_429)
+                    .end();
+            return;
+        }
+
+        context.next();
+    }
+
+    /**
+     * @return the result of the consumption, <code>null</code> if the request is not rate limited by this handler
+     */
+    protected abstract ConsumptionProbe tryConsume(RoutingContext context);
+
+    private static long toSeconds(long millis) {
+        return TimeUnit.MILLISECONDS.toSeconds(millis + 999);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Token buckets indexed by key (client_id, remote address, ...).
+ *
+ * Full buckets are removed when the maximum number of buckets is reached (at most once per second). If all the buckets
+ * are in use, new keys share an overflow bucket so that sending requests with random keys does not reset the limits.
+ *
+ * @author GraviteeSource Team
+ */
+public class RateLimiter {
+
+    private static final String OVERFLOW_KEY = "";
+    private static final long CLEANUP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Function<String, TokenBucket> bucketFactory;
+    private final int maxSize;
+    private volatile long lastCleanup = System.nanoTime() - CLEANUP_INTERVAL;
+
+    /**
+     * @param bucketFactory create the bucket of a key, the overflow bucket key is an empty string
+     * @param maxSize maximum number of buckets
+     */
+    public RateLimiter(Function<String, TokenBucket> bucketFactory, int maxSize) {
+        this.bucketFactory = bucketFactory;
+        this.maxSize = maxSize;
+    }
+
+    public ConsumptionProbe tryConsume(String key) {
+        return tryConsume(key, bucketFactory);
+    }
+
+    /**
+     * @param bucketFactory create the bucket of the key if it does not exist yet (not used for the overflow bucket)
+     */
+    public ConsumptionProbe tryConsume(String key, Function<String, TokenBucket> bucketFactory) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            final long now = System.nanoTime();
+            if (buckets.size() >= maxSize && now - lastCleanup >= CLEANUP_INTERVAL) {
+                lastCleanup = now;
+                buckets.values().removeIf(TokenBucket::isFull);
+            }
+            bucket = buckets.size() < maxSize ? buckets.computeIfAbsent(key, bucketFactory) : buckets.computeIfAbsent(OVERFLOW_KEY, this.bucketFactory);
+        }
+        return bucket.tryConsume();
+    }
+}
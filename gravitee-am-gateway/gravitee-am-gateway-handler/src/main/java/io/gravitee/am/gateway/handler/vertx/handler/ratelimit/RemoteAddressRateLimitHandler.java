@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+/**
+ * Rate limit the requests per remote address before the client is authenticated, so that a caller sending too many
+ * requests does not consume the resources (signature checks, token storage) of the other clients.
+ *
+ * @author GraviteeSource Team
+ */
+public class RemoteAddressRateLimitHandler extends RateLimitHandler {
+
+    private final RateLimiter rateLimiter;
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public RemoteAddressRateLimitHandler(RateLimiter rateLimiter, RemoteAddressResolver remoteAddressResolver) {
+        this.rateLimiter = rateLimiter;
+        this.remoteAddressResolver = remoteAddressResolver;
+    }
+
+    @Override
+    protected ConsumptionProbe tryConsume(RoutingContext context) {
+        return rateLimiter.tryConsume(remoteAddressResolver.resolve(context.request()));
+    }
+}
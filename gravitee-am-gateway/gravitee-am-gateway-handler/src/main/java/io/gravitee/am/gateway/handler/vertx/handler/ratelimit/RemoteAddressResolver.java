@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import io.vertx.reactivex.core.http.HttpServerRequest;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolve the address of the caller. The <code>X-Forwarded-For</code> header is only read when the request comes
+ * from a trusted proxy: the address is the right-most entry which is not a trusted proxy (the left-most entry if all
+ * of them are trusted), so that a caller cannot choose its rate limit bucket by sending a forged header.
+ *
+ * @author GraviteeSource Team
+ */
+public class RemoteAddressResolver {
+
+    static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Set<String> trustedProxies;
+
+    /**
+     * @param trustedProxies IP addresses of the trusted reverse proxies
+     */
+    public RemoteAddressResolver(Collection<String> trustedProxies) {
+        this.trustedProxies = new HashSet<>(trustedProxies);
+    }
+
+    public String resolve(HttpServerRequest request) {
+        return resolve(request.remoteAddress().host(), request.headers().getAll(X_FORWARDED_FOR));
+    }
+
+    String resolve(String peerAddress, List<String> forwardedFor) {
+        if (!trustedProxies.contains(peerAddress) || forwardedFor == null || forwardedFor.isEmpty()) {
+            return peerAddress;
+        }
+
+        String address = peerAddress;
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String[] hops = forwardedFor.get(i).split(",");
+            for (int j = hops.length - 1; j >= 0; j--) {
+                String hop = hops[j].trim();
+                if (hop.isEmpty()) {
+                    continue;
+                }
+                if (!trustedProxies.contains(hop)) {
+                    return hop;
+                }
+                address = hop;
+            }
+        }
+        return address;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: holds up to <code>capacity</code> tokens, refilled continuously at a fixed rate.
+ * Each admitted request consumes one token.
+ *
+ * @author GraviteeSource Team
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillisecond;
+    private final Clock clock;
+    private final AtomicReference<State> state;
+
+    /**
+     * @param capacity maximum number of tokens (burst size)
+     * @param refillPerSecond number of tokens added per second, must be positive
+     * @param clock clock used to refill the bucket
+     */
+    public TokenBucket(long capacity, double refillPerSecond, Clock clock) {
+        this.capacity = capacity;
+        this.refillPerMillisecond = refillPerSecond / 1000d;
+        this.clock = clock;
+        this.state = new AtomicReference<>(new State(capacity, clock.millis()));
+    }
+
+    public ConsumptionProbe tryConsume() {
+        while (true) {
+            final State current = state.get();
+            final long now = clock.millis();
+            final double tokens = refill(current, now);
+            if (tokens < 1) {
+                // nothing to update, the refill is computed again on the next attempt
+                return new ConsumptionProbe(false, capacity, 0, millisToRefill(1 - tokens), millisToRefill(capacity - tokens));
+            }
+
+            final State next = new State(tokens - 1, now);
+            if (state.compareAndSet(current, next)) {
+                return new ConsumptionProbe(true, capacity, (long) next.tokens, 0, millisToRefill(capacity - next.tokens));
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the bucket is full, it holds no more state than a new bucket
+     */
+    public boolean isFull() {
+        return refill(state.get(), clock.millis()) >= capacity;
+    }
+
+    private double refill(State state, long now) {
+        return Math.min(capacity, state.tokens + Math.max(0, now - state.timestamp) * refillPerMillisecond);
+    }
+
+    private long millisToRefill(double tokens) {
+        return (long) Math.ceil(tokens / refillPerMillisecond);
+    }
+
+    private static class State {
+        private final double tokens;
+        private final long timestamp;
+
+        State(double tokens, long timestamp) {
+            this.tokens = tokens;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -93,7 +93,7 @@ public class CreateGroupEndpointHandler implements Handler<RoutingContext> {
     @Override
     public void handle(RoutingContext context) {
         try {
-            final Group group = Json.decodeValue(context.getBodyAsString(), Group.class);
+            final Group group = Json.decodeValue(context.getBody().getDelegate(), Group.class);
 
             // displayName is required
             if (group.getDisplayName() == null || group.getDisplayName().isEmpty()) {
@@ -86,7 +86,7 @@ public class UpdateGroupEndpointHandler implements Handler<RoutingContext> {
     @Override
     public void handle(RoutingContext context) {
         try {
-            final Group group = Json.decodeValue(context.getBodyAsString(), Group.class);
+            final Group group = Json.decodeValue(context.getBody().getDelegate(), Group.class);
             final String groupId = context.request().getParam("id");
 
             // displayName is required
@@ -94,7 +94,7 @@ public class CreateUserEndpointHandler implements Handler<RoutingContext> {
     @Override
     public void handle(RoutingContext context) {
         try {
-            final User user = Json.decodeValue(context.getBodyAsString(), User.class);
+            final User user = Json.decodeValue(context.getBody().getDelegate(), User.class);
 
             // username is required
             if (user.getUserName() == null || user.getUserName().isEmpty()) {
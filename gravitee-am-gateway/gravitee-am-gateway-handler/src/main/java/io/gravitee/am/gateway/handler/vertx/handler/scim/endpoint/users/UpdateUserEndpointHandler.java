@@ -87,7 +87,7 @@ public class UpdateUserEndpointHandler implements Handler<RoutingContext>  {
     @Override
     public void handle(RoutingContext context) {
         try {
-            final User user = Json.decodeValue(context.getBodyAsString(), User.class);
+            final User user = Json.decodeValue(context.getBody().getDelegate(), User.class);
             final String userId = context.request().getParam("id");
 
             // username is required
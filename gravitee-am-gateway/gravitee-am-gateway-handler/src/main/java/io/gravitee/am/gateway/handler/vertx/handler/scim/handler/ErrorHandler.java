@@ -75,7 +75,10 @@ public class ErrorHandler implements Handler<RoutingContext> {
                 handleException(routingContext, scimException.getHttpStatusCode(), scimException.getMessage(), scimException.getScimType());
             }
             else {
-                logger.error(throwable.getMessage(), throwable);
+                // failure may only be an HTTP status code (e.g. 413 when the request body is too large)
+                if (throwable != null) {
+                    logger.error(throwable.getMessage(), throwable);
+                }
                 if (routingContext.statusCode() != -1) {
                     routingContext
                             .response()
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.utils;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.reactivex.core.http.HttpServerRequest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handlers called when the connection of a request closes before its response has ended, which neither the response
+ * end handler nor the routing context body end handlers are notified of.
+ *
+ * A connection has a single close handler shared by all its requests (HTTP/2 streams), it is registered once here and
+ * calls every handler added for the requests of the connection.
+ *
+ * @author GraviteeSource Team
+ */
+public final class ConnectionCloseHandlers {
+
+    private static final Map<HttpConnection, Set<Handler<Void>>> handlers = new ConcurrentHashMap<>();
+
+    private ConnectionCloseHandlers() {
+    }
+
+    /**
+     * Add a handler called if the connection of the request closes, it must be removed once the response has ended.
+     *
+     * @param request the request
+     * @param handler the handler
+     */
+    public static void add(HttpServerRequest request, Handler<Void> handler) {
+        io.vertx.reactivex.core.http.HttpConnection connection = request.connection();
+        if (connection != null) {
+            handlers.computeIfAbsent(connection.getDelegate(), ConnectionCloseHandlers::register).add(handler);
+        }
+    }
+
+    /**
+     * Remove a handler added by {@link #add(HttpServerRequest, Handler)}.
+     *
+     * @param request the request
+     * @param handler the handler
+     */
+    public static void remove(HttpServerRequest request, Handler<Void> handler) {
+        io.vertx.reactivex.core.http.HttpConnection connection = request.connection();
+        if (connection != null) {
+            Set<Handler<Void>> connectionHandlers = handlers.get(connection.getDelegate());
+            if (connectionHandlers != null) {
+                connectionHandlers.remove(handler);
+            }
+        }
+    }
+
+    private static Set<Handler<Void>> register(HttpConnection connection) {
+        connection.closeHandler(v -> {
+            Set<Handler<Void>> connectionHandlers = handlers.remove(connection);
+            if (connectionHandlers != null) {
+                connectionHandlers.forEach(handler -> handler.handle(null));
+            }
+        });
+        return ConcurrentHashMap.newKeySet();
+    }
+}
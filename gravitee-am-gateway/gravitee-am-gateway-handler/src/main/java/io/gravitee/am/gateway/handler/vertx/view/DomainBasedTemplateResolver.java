@@ -18,8 +18,10 @@ package io.gravitee.am.gateway.handler.vertx.view;
 import io.gravitee.am.model.Form;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.templateresolver.AbstractConfigurableTemplateResolver;
-import org.thymeleaf.templateresource.ITemplateResource;
+import org.thymeleaf.cache.ICacheEntryValidity;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
 import org.thymeleaf.templateresource.StringTemplateResource;
 
 import java.util.Map;
@@ -27,26 +29,60 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Resolve the templates of the security domain forms and fall back to the default templates.
+ *
+ * Each domain has its own template engine, so the parsed templates kept in the engine cache are those of the domain.
+ * A cached template remains valid as long as the form version it has been parsed from is the current one: an update
+ * of the form (or the override of a default template) invalidates the entry even if it has been cached concurrently
+ * with the {@link io.gravitee.am.gateway.core.event.FormEvent}.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class DomainBasedTemplateResolver extends AbstractConfigurableTemplateResolver {
+public class DomainBasedTemplateResolver implements ITemplateResolver {
+
+    private final ConcurrentMap<String, FormTemplate> templates = new ConcurrentHashMap<>();
 
-    private ConcurrentMap<String, String> templates = new ConcurrentHashMap<>();
+    private final ITemplateResolver defaultTemplateResolver;
 
     private TemplateEngine templateEngine;
 
+    public DomainBasedTemplateResolver(ITemplateResolver defaultTemplateResolver) {
+        this.defaultTemplateResolver = defaultTemplateResolver;
+    }
+
     @Override
-    protected ITemplateResource computeTemplateResource(IEngineConfiguration configuration, String ownerTemplate, String template, String resourceName, String characterEncoding, Map<String, Object> templateResolutionAttributes) {
-        if (templates.containsKey(resourceName)) {
-            return new StringTemplateResource(templates.get(resourceName));
-        }
+    public String getName() {
+        return getClass().getName();
+    }
+
+    @Override
+    public Integer getOrder() {
         return null;
     }
 
+    @Override
+    public TemplateResolution resolveTemplate(IEngineConfiguration configuration, String ownerTemplate, String template, Map<String, Object> templateResolutionAttributes) {
+        FormTemplate formTemplate = templates.get(template);
+        if (formTemplate != null) {
+            return new TemplateResolution(new StringTemplateResource(formTemplate.content), true, TemplateMode.HTML, false, formTemplate);
+        }
+
+        TemplateResolution defaultResolution = defaultTemplateResolver.resolveTemplate(configuration, ownerTemplate, template, templateResolutionAttributes);
+        if (defaultResolution == null) {
+            return null;
+        }
+        return new TemplateResolution(
+                defaultResolution.getTemplateResource(),
+                defaultResolution.isTemplateResourceExistenceVerified(),
+                defaultResolution.getTemplateMode(),
+                defaultResolution.getUseDecoupledLogic(),
+                new DefaultTemplateValidity(template, defaultResolution.getValidity()));
+    }
+
     public void addPage(Form page) {
-        templates.put(page.getTemplate(), page.getContent());
+        templates.put(page.getTemplate(), new FormTemplate(page.getTemplate(), page.getContent()));
         templateEngine.clearTemplateCacheFor(page.getTemplate());
     }
 
@@ -58,4 +94,52 @@ public class DomainBasedTemplateResolver extends AbstractConfigurableTemplateRes
     public void setTemplateEngine(TemplateEngine templateEngine) {
         this.templateEngine = templateEngine;
     }
+
+    /**
+     * Version of a form template, cached entries parsed from it are valid until the form is updated or removed.
+     */
+    private class FormTemplate implements ICacheEntryValidity {
+
+        private final String template;
+        private final String content;
+
+        FormTemplate(String template, String content) {
+            this.template = template;
+            this.content = content;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isCacheStillValid() {
+            return templates.get(template) == this;
+        }
+    }
+
+    /**
+     * Cached entries parsed from a default template are valid until the template is overridden by a domain form.
+     */
+    private class DefaultTemplateValidity implements ICacheEntryValidity {
+
+        private final String template;
+        private final ICacheEntryValidity validity;
+
+        DefaultTemplateValidity(String template, ICacheEntryValidity validity) {
+            this.template = template;
+            this.validity = validity;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return validity.isCacheable();
+        }
+
+        @Override
+        public boolean isCacheStillValid() {
+            return validity.isCacheStillValid() && !templates.containsKey(template);
+        }
+    }
 }
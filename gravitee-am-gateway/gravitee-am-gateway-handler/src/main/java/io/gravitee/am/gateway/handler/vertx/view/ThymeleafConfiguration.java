@@ -38,22 +38,24 @@ public class ThymeleafConfiguration {
         // set template resolvers
         DomainBasedTemplateResolver overrideTemplateResolver = (DomainBasedTemplateResolver) overrideTemplateResolver();
         overrideTemplateResolver.setTemplateEngine(templateEngine);
+        // the domain resolver falls back to the default templates itself, so that both are invalidated on form events
         templateEngine.setTemplateResolver(overrideTemplateResolver);
-        templateEngine.addTemplateResolver(defaultTemplateResolver());
 
         return thymeleafTemplateEngine;
     }
 
     @Bean
     public ITemplateResolver overrideTemplateResolver() {
-        return new DomainBasedTemplateResolver();
-
+        return new DomainBasedTemplateResolver(defaultTemplateResolver());
     }
+
     private ITemplateResolver defaultTemplateResolver() {
         ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
         templateResolver.setPrefix("/webroot/views/");
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode("HTML");
+        // default templates never change, keep them parsed until a domain form overrides them
+        templateResolver.setCacheable(true);
         return templateResolver;
     }
 
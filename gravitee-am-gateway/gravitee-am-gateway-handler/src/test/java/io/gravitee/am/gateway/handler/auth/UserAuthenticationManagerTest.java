@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.auth;
 
 import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.metrics.DomainMetrics;
 import io.gravitee.am.gateway.handler.auth.impl.UserAuthenticationManagerImpl;
 import io.gravitee.am.identityprovider.api.Authentication;
 import io.gravitee.am.identityprovider.api.AuthenticationProvider;
@@ -33,13 +34,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -63,6 +68,12 @@ public class UserAuthenticationManagerTest {
     @Mock
     private IdentityProviderManager identityProviderManager;
 
+    @Mock
+    private DomainMetrics domainMetrics;
+
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache();
+
     @Test
     public void shouldNotAuthenticateUser_noIdentityProvider() {
         Client client = new Client();
@@ -272,4 +283,62 @@ public class UserAuthenticationManagerTest {
 
         observer.assertError(AccountDisabledException.class);
     }
+
+    @Test
+    public void shouldLoadUserByUsername_fromProfileCache() {
+        final Date updatedAt = new Date();
+        final AtomicInteger idpCalls = mockPreAuthenticatedUser(updatedAt);
+
+        TestObserver<User> observer = userAuthenticationManager.loadUserByUsername("user-id").test();
+        observer.assertComplete();
+        observer.assertValue(user -> user.getUsername().equals("username"));
+
+        // the identity provider is not called again for a user not updated in the meantime
+        observer = userAuthenticationManager.loadUserByUsername("user-id").test();
+        observer.assertComplete();
+        observer.assertValue(user -> user.getUsername().equals("username"));
+        assertEquals(1, idpCalls.get());
+    }
+
+    @Test
+    public void shouldLoadUserByUsername_userUpdated() {
+        final AtomicInteger idpCalls = mockPreAuthenticatedUser(new Date(0));
+
+        userAuthenticationManager.loadUserByUsername("user-id").test().assertComplete();
+
+        // user has been updated (password reset, profile update, ...)
+        mockPreAuthenticatedUser(new Date(), idpCalls);
+        userAuthenticationManager.loadUserByUsername("user-id").test().assertComplete();
+
+        assertEquals(2, idpCalls.get());
+    }
+
+    private AtomicInteger mockPreAuthenticatedUser(Date updatedAt) {
+        return mockPreAuthenticatedUser(updatedAt, new AtomicInteger());
+    }
+
+    private AtomicInteger mockPreAuthenticatedUser(Date updatedAt, AtomicInteger idpCalls) {
+        User user = new User();
+        user.setId("user-id");
+        user.setUsername("username");
+        user.setSource("idp-1");
+        user.setUpdatedAt(updatedAt);
+
+        when(userService.findById("user-id")).thenReturn(Maybe.just(user));
+        when(userService.findOrCreate(any(), any())).thenReturn(Single.just(user));
+        when(identityProviderManager.getIdentityProvider("idp-1")).thenReturn(Maybe.empty());
+        when(identityProviderManager.get("idp-1")).thenReturn(Maybe.just(new AuthenticationProvider() {
+            @Override
+            public Maybe<io.gravitee.am.identityprovider.api.User> loadUserByUsername(Authentication authentication) {
+                return Maybe.empty();
+            }
+
+            @Override
+            public Maybe<io.gravitee.am.identityprovider.api.User> loadUserByUsername(String username) {
+                idpCalls.incrementAndGet();
+                return Maybe.just(new DefaultUser(username));
+            }
+        }));
+        return idpCalls;
+    }
 }
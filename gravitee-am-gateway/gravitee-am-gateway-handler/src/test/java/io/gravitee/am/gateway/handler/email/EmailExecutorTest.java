@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EmailExecutorTest {
+
+    private EmailExecutor emailExecutor = new EmailExecutor(1, 1);
+
+    @After
+    public void tearDown() {
+        emailExecutor.destroy();
+    }
+
+    @Test
+    public void shouldRejectEmails_queueFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        assertTrue(emailExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            done.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(emailExecutor.execute(done::countDown));
+        assertFalse(emailExecutor.execute(done::countDown));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, emailExecutor.getSubmittedCount());
+        assertEquals(1, emailExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void shouldCountFailedEmails() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+
+        emailExecutor.execute(() -> {
+            done.countDown();
+            throw new IllegalStateException("SMTP server unavailable");
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (emailExecutor.getFailedCount() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, emailExecutor.getFailedCount());
+        assertEquals(0, emailExecutor.getCompletedCount());
+    }
+
+    @Test
+    public void shouldRegisterMeters() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        emailExecutor.bindTo(meterRegistry);
+        CountDownLatch done = new CountDownLatch(1);
+
+        emailExecutor.execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (emailExecutor.getCompletedCount() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, meterRegistry.find("am.gateway.emails").tag("result", "submitted").functionCounter().count(), 0);
+        assertEquals(1.0, meterRegistry.find("am.gateway.emails").tag("result", "completed").functionCounter().count(), 0);
+        assertEquals(0.0, meterRegistry.find("am.gateway.emails").tag("result", "failed").functionCounter().count(), 0);
+        assertEquals(0.0, meterRegistry.find("am.gateway.emails").tag("result", "rejected").functionCounter().count(), 0);
+        assertEquals(0.0, meterRegistry.find("am.gateway.emails.pending").gauge().value(), 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email.impl;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.gravitee.am.common.email.Email;
+import io.gravitee.am.gateway.handler.email.EmailExecutor;
+import io.gravitee.am.service.exception.TechnicalManagementException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EmailServiceImplTest {
+
+    private EmailServiceImpl emailService = new EmailServiceImpl();
+    private EmailExecutor emailExecutor = new EmailExecutor(1, 10);
+    private JavaMailSender mailSender = mock(JavaMailSender.class);
+
+    @Before
+    public void setUp() throws Exception {
+        Configuration freemarkerConfiguration = mock(Configuration.class);
+        Template template = new Template("reset_password", new StringReader("<p>Hello ${user}</p>"), new Configuration(Configuration.VERSION_2_3_28));
+        when(freemarkerConfiguration.getTemplate("reset_password")).thenReturn(template);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+
+        setField("templatesPath", "templates");
+        setField("subject", "[Gravitee.io] %s");
+        setField("enabled", true);
+        setField("defaultFrom", "no-reply@gravitee.io");
+        setField("mailSender", mailSender);
+        setField("freemarkerConfiguration", freemarkerConfiguration);
+        setField("emailExecutor", emailExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        emailExecutor.destroy();
+    }
+
+    @Test
+    public void shouldSendEmail_async() throws Exception {
+        emailService.sendAsync(email());
+
+        verify(mailSender, timeout(5000)).send(any(MimeMessage.class));
+        awaitCount(emailExecutor::getCompletedCount);
+        assertEquals(1, emailExecutor.getCompletedCount());
+        assertEquals(0, emailExecutor.getFailedCount());
+    }
+
+    @Test
+    public void shouldCountFailedEmail_async() throws Exception {
+        doThrow(new MailSendException("SMTP server unavailable")).when(mailSender).send(any(MimeMessage.class));
+
+        emailService.sendAsync(email());
+
+        awaitCount(emailExecutor::getFailedCount);
+        assertEquals(1, emailExecutor.getFailedCount());
+        assertEquals(0, emailExecutor.getCompletedCount());
+    }
+
+    @Test(expected = TechnicalManagementException.class)
+    public void shouldThrowException_sendFailure() {
+        doThrow(new MailSendException("SMTP server unavailable")).when(mailSender).send(any(MimeMessage.class));
+
+        emailService.send(email());
+    }
+
+    private Email email() {
+        Email email = new Email();
+        email.setTo(new String[]{"user@gravitee.io"});
+        email.setSubject("Reset your password");
+        email.setTemplate("reset_password");
+        email.setParams(Collections.singletonMap("user", "John"));
+        return email;
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = EmailServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(emailService, value);
+    }
+
+    private static void awaitCount(LongSupplier count) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (count.getAsLong() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+    }
+}
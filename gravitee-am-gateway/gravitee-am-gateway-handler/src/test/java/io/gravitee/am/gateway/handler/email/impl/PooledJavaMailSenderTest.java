@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.email.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mail.MailSendException;
+
+import javax.mail.*;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PooledJavaMailSenderTest {
+
+    private Session session;
+    private PooledJavaMailSender mailSender;
+
+    @Before
+    public void setUp() throws Exception {
+        FakeTransport.reset();
+        session = Session.getInstance(new Properties());
+        session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp", FakeTransport.class.getName(), "Gravitee.io", null));
+    }
+
+    @After
+    public void tearDown() {
+        if (mailSender != null) {
+            mailSender.destroy();
+        }
+    }
+
+    @Test
+    public void shouldReuseConnection() throws Exception {
+        mailSender = mailSender(1, 60000);
+
+        mailSender.send(message());
+        mailSender.send(message());
+
+        assertEquals(1, FakeTransport.transports.size());
+        assertEquals(2, FakeTransport.transports.get(0).sentMessages);
+        assertTrue(FakeTransport.transports.get(0).isConnected());
+    }
+
+    @Test
+    public void shouldOpenNewConnection_keepAliveExpired() throws Exception {
+        mailSender = mailSender(1, 0);
+
+        mailSender.send(message());
+        Thread.sleep(5);
+        mailSender.send(message());
+
+        assertEquals(2, FakeTransport.transports.size());
+        assertFalse(FakeTransport.transports.get(0).isConnected());
+        assertEquals(1, FakeTransport.transports.get(1).sentMessages);
+    }
+
+    @Test
+    public void shouldRetry_connectionClosedByServer() throws Exception {
+        mailSender = mailSender(1, 60000);
+
+        mailSender.send(message());
+        FakeTransport.transports.get(0).failure = new MessagingException("connection closed by server");
+        mailSender.send(message());
+
+        assertEquals(2, FakeTransport.transports.size());
+        assertFalse(FakeTransport.transports.get(0).isConnected());
+        assertEquals(1, FakeTransport.transports.get(1).sentMessages);
+    }
+
+    @Test
+    public void shouldNotRetry_sendFailed() throws Exception {
+        mailSender = mailSender(1, 60000);
+
+        mailSender.send(message());
+        FakeTransport.transports.get(0).failure = new SendFailedException("invalid recipient");
+        try {
+            mailSender.send(message());
+            fail("MailSendException expected");
+        } catch (MailSendException ex) {
+            assertEquals(1, FakeTransport.transports.size());
+            assertFalse(FakeTransport.transports.get(0).isConnected());
+        }
+    }
+
+    @Test
+    public void shouldNotReuseConnection_retryFailed() throws Exception {
+        mailSender = mailSender(1, 60000);
+
+        mailSender.send(message());
+        FakeTransport.transports.get(0).failure = new MessagingException("connection closed by server");
+        FakeTransport.nextFailure = new MessagingException("service not available");
+        try {
+            mailSender.send(message());
+            fail("MailSendException expected");
+        } catch (MailSendException ex) {
+            assertEquals(2, FakeTransport.transports.size());
+            assertFalse(FakeTransport.transports.get(0).isConnected());
+            assertFalse(FakeTransport.transports.get(1).isConnected());
+        }
+
+        mailSender.send(message());
+
+        assertEquals(3, FakeTransport.transports.size());
+        assertEquals(1, FakeTransport.transports.get(2).sentMessages);
+    }
+
+    @Test
+    public void shouldSendBatchOverOneConnection() throws Exception {
+        mailSender = mailSender(1, 60000);
+
+        mailSender.send(message(), message(), message());
+
+        assertEquals(1, FakeTransport.transports.size());
+        assertEquals(3, FakeTransport.transports.get(0).sentMessages);
+        assertTrue(FakeTransport.transports.get(0).isConnected());
+    }
+
+    @Test
+    public void shouldCloseIdleConnections_destroy() throws Exception {
+        mailSender = mailSender(2, 60000);
+
+        mailSender.send(message());
+        mailSender.destroy();
+
+        assertEquals(1, FakeTransport.transports.size());
+        assertFalse(FakeTransport.transports.get(0).isConnected());
+    }
+
+    private PooledJavaMailSender mailSender(int maxIdle, long keepAlive) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxIdle, keepAlive);
+        mailSender.setSession(session);
+        mailSender.setHost("localhost");
+        return mailSender;
+    }
+
+    private MimeMessage message() throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("no-reply@gravitee.io"));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress("user@gravitee.io"));
+        message.setSubject("Reset your password");
+        message.setText("Hello");
+        return message;
+    }
+
+    public static class FakeTransport extends Transport {
+
+        static final List<FakeTransport> transports = new CopyOnWriteArrayList<>();
+        static volatile MessagingException nextFailure;
+
+        volatile int sentMessages;
+        volatile MessagingException failure;
+
+        public FakeTransport(Session session, URLName urlName) {
+            super(session, urlName);
+            failure = nextFailure;
+            nextFailure = null;
+            transports.add(this);
+        }
+
+        static void reset() {
+            transports.clear();
+            nextFailure = null;
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            if (failure != null) {
+                MessagingException ex = failure;
+                failure = null;
+                throw ex;
+            }
+            sentMessages++;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.event;
+
+import io.gravitee.am.gateway.core.event.ClientEvent;
+import io.gravitee.am.gateway.core.event.ScopeEvent;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DomainEventManagerTest {
+
+    @Mock
+    private EventManager eventManager;
+
+    @Test
+    public void shouldSubscribeOnlyOnceOnGatewayEventManager() {
+        DomainEventManager domainEventManager = new DomainEventManager(eventManager);
+
+        domainEventManager.subscribeForEvents(mock(EventListener.class), ClientEvent.class);
+        domainEventManager.subscribeForEvents(mock(EventListener.class), ClientEvent.class);
+        domainEventManager.reset();
+        domainEventManager.subscribeForEvents(mock(EventListener.class), ClientEvent.class);
+
+        verify(eventManager, times(1)).subscribeForEvents(any(EventListener.class), eq(ClientEvent.class));
+    }
+
+    @Test
+    public void shouldDispatchEvents_untilReset() {
+        DomainEventManager domainEventManager = new DomainEventManager(eventManager);
+        EventListener clientListener = mock(EventListener.class);
+        EventListener scopeListener = mock(EventListener.class);
+
+        domainEventManager.subscribeForEvents(clientListener, ClientEvent.class);
+        domainEventManager.subscribeForEvents(scopeListener, ScopeEvent.class);
+
+        ArgumentCaptor<EventListener> forwarder = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(forwarder.capture(), eq(ClientEvent.class));
+
+        Event event = new SimpleEvent(ClientEvent.DEPLOY, "client-id");
+        forwarder.getValue().onEvent(event);
+        verify(clientListener, times(1)).onEvent(event);
+        verify(scopeListener, never()).onEvent(any(Event.class));
+
+        domainEventManager.reset();
+        forwarder.getValue().onEvent(event);
+        verify(clientListener, times(1)).onEvent(event);
+    }
+
+    @Test
+    public void shouldPublishOnGatewayEventManager() {
+        DomainEventManager domainEventManager = new DomainEventManager(eventManager);
+
+        domainEventManager.publishEvent(ClientEvent.UPDATE, "client-id");
+
+        verify(eventManager).publishEvent(ClientEvent.UPDATE, "client-id");
+    }
+}
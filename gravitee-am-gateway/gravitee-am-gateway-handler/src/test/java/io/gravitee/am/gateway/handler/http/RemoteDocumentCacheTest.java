@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.http;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.ext.web.client.HttpRequest;
+import io.vertx.reactivex.ext.web.client.HttpResponse;
+import io.vertx.reactivex.ext.web.client.WebClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RemoteDocumentCacheTest {
+
+    private static final String URI = "https://client.gravitee.io/sector.json";
+    private static final String DOCUMENT = "[\"https://client.gravitee.io/callback\"]";
+
+    @InjectMocks
+    private RemoteDocumentCache remoteDocumentCache = new RemoteDocumentCache();
+
+    @Mock
+    private WebClient client;
+
+    @Mock
+    private HttpRequest<Buffer> request;
+
+    @Mock
+    private HttpResponse<Buffer> response;
+
+    @Before
+    public void setUp() {
+        when(client.getAbs(URI)).thenReturn(request);
+        when(response.statusCode()).thenReturn(200);
+        when(response.bodyAsString()).thenReturn(DOCUMENT);
+    }
+
+    @Test
+    public void shouldKeepDocument_maxAge() {
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.getHeader(HttpHeaders.CACHE_CONTROL)).thenReturn("public, max-age=60");
+
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+
+        verify(client, times(1)).getAbs(URI);
+    }
+
+    @Test
+    public void shouldNotKeepDocument_noStore() {
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.getHeader(HttpHeaders.CACHE_CONTROL)).thenReturn("no-store");
+
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+
+        verify(client, times(2)).getAbs(URI);
+    }
+
+    @Test
+    public void shouldRevalidateDocument_noCache() {
+        HttpResponse<Buffer> notModified = mock(HttpResponse.class);
+        when(notModified.statusCode()).thenReturn(304);
+        when(request.rxSend()).thenReturn(Single.just(response), Single.just(notModified));
+        when(response.getHeader(HttpHeaders.CACHE_CONTROL)).thenReturn("no-cache");
+        when(response.getHeader(HttpHeaders.ETAG)).thenReturn("\"v1\"");
+
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+        remoteDocumentCache.get(URI).test().assertValue(DOCUMENT);
+
+        verify(request, times(1)).putHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        verify(client, times(2)).getAbs(URI);
+    }
+
+    @Test
+    public void shouldShareInflightRequest() {
+        SingleSubject<HttpResponse<Buffer>> pendingResponse = SingleSubject.create();
+        when(request.rxSend()).thenReturn(pendingResponse);
+
+        TestObserver<String> first = remoteDocumentCache.get(URI).test();
+        TestObserver<String> second = remoteDocumentCache.get(URI).test();
+        first.assertNotComplete();
+
+        pendingResponse.onSuccess(response);
+
+        first.assertValue(DOCUMENT);
+        second.assertValue(DOCUMENT);
+        verify(client, times(1)).getAbs(URI);
+    }
+
+    @Test
+    public void shouldFail_unexpectedStatus() {
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.statusCode()).thenReturn(404);
+
+        remoteDocumentCache.get(URI).test().assertError(IllegalStateException.class);
+        remoteDocumentCache.get(URI).test().assertError(IllegalStateException.class);
+
+        verify(client, times(2)).getAbs(URI);
+    }
+}
@@ -16,16 +16,13 @@
 package io.gravitee.am.gateway.handler.jwk;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.am.gateway.handler.http.RemoteDocumentCache;
 import io.gravitee.am.gateway.handler.jwk.impl.JwkServiceImpl;
 import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
-import io.vertx.reactivex.core.buffer.Buffer;
-import io.vertx.reactivex.ext.web.client.HttpRequest;
-import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.client.WebClient;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -51,7 +48,7 @@ public class JwkServiceTest {
     private JwkService jwkService = new JwkServiceImpl();
 
     @Mock
-    public WebClient client;
+    private RemoteDocumentCache remoteDocumentCache;
 
     @Test
     public void testGetKeys_UriException() {
@@ -64,13 +61,7 @@ public class JwkServiceTest {
     @Test
     public void testGetKeys_errorResponse() {
 
-        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
-        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
-
-
-        when(client.getAbs(any())).thenReturn(request);
-        when(request.rxSend()).thenReturn(Single.just(response));
-        when(response.statusCode()).thenReturn(400);
+        when(remoteDocumentCache.get(any())).thenReturn(Single.error(new IllegalStateException("Unexpected response status 400")));
 
         TestObserver testObserver = jwkService.getKeys(JWKS_URI).test();
 
@@ -81,14 +72,7 @@ public class JwkServiceTest {
     @Test
     public void testGetKeys_paseException() {
 
-        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
-        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
-
-
-        when(client.getAbs(any())).thenReturn(request);
-        when(request.rxSend()).thenReturn(Single.just(response));
-        when(response.statusCode()).thenReturn(200);
-        when(response.bodyAsString()).thenReturn("{\"unknown\":[]}");
+        when(remoteDocumentCache.get(any())).thenReturn(Single.just("{\"unknown\":[]}"));
 
         TestObserver testObserver = jwkService.getKeys(JWKS_URI).test();
 
@@ -99,15 +83,9 @@ public class JwkServiceTest {
     @Test
     public void testGetKeys() throws JsonProcessingException {
 
-        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
-        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
-
         String bodyAsString = "{\"keys\":[{\"kty\": \"RSA\",\"use\": \"enc\",\"kid\": \"KID\",\"n\": \"modulus\",\"e\": \"exponent\"}]}";
 
-        when(client.getAbs(any())).thenReturn(request);
-        when(request.rxSend()).thenReturn(Single.just(response));
-        when(response.statusCode()).thenReturn(200);
-        when(response.bodyAsString()).thenReturn(bodyAsString);
+        when(remoteDocumentCache.get(any())).thenReturn(Single.just(bodyAsString));
 
         TestObserver testObserver = jwkService.getKeys(JWKS_URI).test();
 
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.metrics;
+
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.service.exception.authentication.BadCredentialsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.env.Environment;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DomainMetricsTest {
+
+    @InjectMocks
+    private DomainMetrics domainMetrics = new DomainMetrics();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private Environment environment;
+
+    @Test
+    public void shouldTagAllowedDomain() {
+        when(domain.getPath()).thenReturn("my-domain");
+        when(environment.getProperty("metrics.tags.domains", "")).thenReturn("other-domain, my-domain");
+
+        domainMetrics.afterPropertiesSet();
+
+        assertEquals("my-domain", domainMetrics.getDomainTag());
+    }
+
+    @Test
+    public void shouldNotTagOtherDomains() {
+        when(domain.getPath()).thenReturn("my-domain");
+        when(environment.getProperty("metrics.tags.domains", "")).thenReturn("");
+
+        domainMetrics.afterPropertiesSet();
+
+        assertEquals(DomainMetrics.OTHER_DOMAINS, domainMetrics.getDomainTag());
+    }
+
+    @Test
+    public void shouldCountAuthentications() {
+        when(domain.getPath()).thenReturn("my-domain");
+        when(environment.getProperty("metrics.tags.domains", "")).thenReturn("my-domain");
+        domainMetrics.afterPropertiesSet();
+
+        domainMetrics.authenticationSucceeded();
+        domainMetrics.authenticationFailed(new BadCredentialsException("invalid"));
+        domainMetrics.authenticationFailed(new BadCredentialsException("invalid"));
+
+        assertEquals(1.0, meterRegistry.find("am.gateway.authentications").tag("result", "success").counter().count(), 0);
+        assertEquals(2.0, meterRegistry.find("am.gateway.authentications").tag("result", "invalid_credentials").counter().count(), 0);
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.oauth2.approval;
 
 import io.gravitee.am.gateway.handler.oauth2.approval.impl.ApprovalServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
 import io.gravitee.am.gateway.handler.oauth2.exception.AccessDeniedException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
 import io.gravitee.am.gateway.handler.oauth2.utils.OAuth2Constants;
@@ -27,6 +28,8 @@ import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -37,6 +40,8 @@ import java.util.*;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -58,6 +63,11 @@ public class ApprovalServiceTest {
     @Mock
     private Domain domain;
 
+    @Before
+    public void setUp() {
+        when(clientSyncService.getCompiledClient(any())).thenAnswer(invocation -> new CompiledClient((Client) invocation.getArguments()[0]));
+    }
+
     @Test
     public void shouldApproveRequest_clientAutoApproval() {
         final String clientId = "client_id";
@@ -182,7 +192,7 @@ public class ApprovalServiceTest {
         approvalParameters.put(OAuth2Constants.SCOPE_PREFIX + writeScope, "false");
         authorizationRequest.setApprovalParameters(approvalParameters);
 
-        when(scopeApprovalRepository.upsert(any())).thenReturn(Single.just(new ScopeApproval()));
+        when(scopeApprovalRepository.bulkUpsert(any())).thenReturn(Single.just(Collections.emptyList()));
 
         TestObserver<AuthorizationRequest> testObserver = approvalService.saveApproval(authorizationRequest, userId).test();
         testObserver.awaitTerminalEvent();
@@ -213,7 +223,7 @@ public class ApprovalServiceTest {
         approvalParameters.put(OAuth2Constants.SCOPE_PREFIX + writeScope, "false");
         authorizationRequest.setApprovalParameters(approvalParameters);
 
-        when(scopeApprovalRepository.upsert(any())).thenReturn(Single.just(new ScopeApproval()));
+        when(scopeApprovalRepository.bulkUpsert(any())).thenReturn(Single.just(Collections.emptyList()));
 
         TestObserver<AuthorizationRequest> testObserver = approvalService.saveApproval(authorizationRequest, userId).test();
         testObserver.awaitTerminalEvent();
@@ -223,4 +233,85 @@ public class ApprovalServiceTest {
         testObserver.assertValue(request -> !request.isApproved());
         testObserver.assertValue(request -> request.getScopes().isEmpty());
     }
+
+    @Test
+    public void shouldCacheUserApprovals_untilSaveApproval() {
+        final String clientId = "client_id";
+        final String userId = "user_id";
+        final String scope = "read";
+        final String domainId = "domain_id";
+        Client client = new Client();
+        client.setClientId(clientId);
+
+        ScopeApproval userScopeApproval = new ScopeApproval();
+        userScopeApproval.setScope(scope);
+        userScopeApproval.setExpiresAt(new Date(System.currentTimeMillis() + (60 * 60 * 1000)));
+        userScopeApproval.setStatus(ScopeApproval.ApprovalStatus.APPROVED);
+
+        when(domain.getId()).thenReturn(domainId);
+        when(scopeApprovalRepository.findByDomainAndUserAndClient(domainId, userId, clientId)).thenReturn(Single.just(Collections.singleton(userScopeApproval)));
+        when(scopeApprovalRepository.bulkUpsert(any())).thenReturn(Single.just(Collections.emptyList()));
+
+        approvalService.checkApproval(authorizationRequest(clientId, scope), client, userId).test().assertValue(request -> request.isApproved());
+        approvalService.checkApproval(authorizationRequest(clientId, scope), client, userId).test().assertValue(request -> request.isApproved());
+        verify(scopeApprovalRepository, times(1)).findByDomainAndUserAndClient(domainId, userId, clientId);
+
+        AuthorizationRequest approvalRequest = authorizationRequest(clientId, scope);
+        approvalRequest.setApprovalParameters(Collections.singletonMap(OAuth2Constants.SCOPE_PREFIX + scope, "true"));
+        approvalService.saveApproval(approvalRequest, userId).test().assertComplete();
+
+        approvalService.checkApproval(authorizationRequest(clientId, scope), client, userId).test().assertValue(request -> request.isApproved());
+        verify(scopeApprovalRepository, times(2)).findByDomainAndUserAndClient(domainId, userId, clientId);
+    }
+
+    @Test
+    public void shouldNotCacheUserApprovals_loadedBeforeSaveApproval() {
+        final String domainId = "domain_id";
+        final String clientId = "client_id";
+        final String userId = "user_id";
+        final String scope = "read";
+        Client client = new Client();
+        client.setClientId(clientId);
+
+        ScopeApproval userScopeApproval = new ScopeApproval();
+        userScopeApproval.setScope(scope);
+        userScopeApproval.setExpiresAt(new Date(System.currentTimeMillis() + (60 * 60 * 1000)));
+        userScopeApproval.setStatus(ScopeApproval.ApprovalStatus.APPROVED);
+
+        SingleSubject<Set<ScopeApproval>> staleLoad = SingleSubject.create();
+        when(domain.getId()).thenReturn(domainId);
+        when(scopeApprovalRepository.findByDomainAndUserAndClient(domainId, userId, clientId))
+                .thenReturn(staleLoad, Single.just(Collections.singleton(userScopeApproval)));
+        when(scopeApprovalRepository.bulkUpsert(any())).thenReturn(Single.just(Collections.emptyList()));
+
+        // approvals loaded before the user approves the scope, but received once the approval has been saved
+        TestObserver<AuthorizationRequest> testObserver = approvalService.checkApproval(authorizationRequest(clientId, scope), client, userId).test();
+
+        AuthorizationRequest approvalRequest = authorizationRequest(clientId, scope);
+        approvalRequest.setApprovalParameters(Collections.singletonMap(OAuth2Constants.SCOPE_PREFIX + scope, "true"));
+        approvalService.saveApproval(approvalRequest, userId).test().assertComplete();
+
+        staleLoad.onSuccess(Collections.emptySet());
+        testObserver.assertError(AccessDeniedException.class);
+
+        approvalService.checkApproval(authorizationRequest(clientId, scope), client, userId).test().assertValue(request -> request.isApproved());
+        verify(scopeApprovalRepository, times(2)).findByDomainAndUserAndClient(domainId, userId, clientId);
+    }
+
+    @Test
+    public void shouldApproveRequest_clientAutoApprovalPattern() {
+        Client client = new Client();
+        client.setClientId("client_id");
+        client.setAutoApproveScopes(Collections.singletonList("read.*"));
+
+        approvalService.checkApproval(authorizationRequest("client_id", "read:users"), client, "user_id").test()
+                .assertValue(request -> request.isApproved());
+    }
+
+    private AuthorizationRequest authorizationRequest(String clientId, String scope) {
+        AuthorizationRequest authorizationRequest = new AuthorizationRequest();
+        authorizationRequest.setClientId(clientId);
+        authorizationRequest.setScopes(new HashSet<>(Collections.singleton(scope)));
+        return authorizationRequest;
+    }
 }
@@ -15,9 +15,100 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.client;
 
+import io.gravitee.am.gateway.handler.oauth2.client.impl.ClientSyncServiceImpl;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
+@RunWith(MockitoJUnitRunner.class)
 public class ClientSyncServiceTest {
+
+    @InjectMocks
+    private ClientSyncService clientSyncService = new ClientSyncServiceImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Test
+    public void shouldFindClient_compiledOnce() {
+        Client client = client("id", "client-id");
+        clientSyncService.addDynamicClientRegistred(client);
+
+        clientSyncService.findByDomainAndClientId("domain", "client-id").test().assertValue(client);
+        clientSyncService.findByDomainAndClientId("domain", "unknown").test().assertNoValues().assertComplete();
+        clientSyncService.findByDomainAndClientId("unknown", "client-id").test().assertNoValues().assertComplete();
+        assertSame(clientSyncService.getCompiledClient(client), clientSyncService.getCompiledClient(client));
+    }
+
+    @Test
+    public void shouldRecompileClient_whenUpdated() {
+        Client client = client("id", "client-id");
+        clientSyncService.addDynamicClientRegistred(client);
+        CompiledClient compiledClient = clientSyncService.getCompiledClient(client);
+
+        Client updatedClient = client("id", "client-id");
+        updatedClient.setAutoApproveScopes(Collections.singletonList("true"));
+        clientSyncService.addDynamicClientRegistred(updatedClient);
+
+        assertNotSame(compiledClient, clientSyncService.getCompiledClient(updatedClient));
+        assertTrue(clientSyncService.getCompiledClient(updatedClient).isAutoApprove("read"));
+        clientSyncService.findByDomainAndClientId("domain", "client-id").test().assertValue(c -> c == updatedClient);
+    }
+
+    @Test
+    public void shouldRemoveClient() {
+        Client client = client("id", "client-id");
+        clientSyncService.addDynamicClientRegistred(client);
+        clientSyncService.removeDynamicClientRegistred(client);
+
+        clientSyncService.findByDomainAndClientId("domain", "client-id").test().assertNoValues().assertComplete();
+    }
+
+    @Test
+    public void shouldMatchRedirectUri() {
+        Client client = client("id", "client-id");
+        client.setRedirectUris(Arrays.asList("https://app.com/callback", "custom:callback"));
+        CompiledClient compiledClient = new CompiledClient(client);
+
+        assertTrue(compiledClient.matchesRedirectUri("https://app.com/callback"));
+        assertTrue(compiledClient.matchesRedirectUri("https://app.com:443/callback/sub"));
+        assertTrue(compiledClient.matchesRedirectUri("custom:callback"));
+        assertFalse(compiledClient.matchesRedirectUri("https://app.com/other"));
+        assertFalse(compiledClient.matchesRedirectUri("http://app.com/callback"));
+    }
+
+    @Test
+    public void shouldCheckResponseTypesAndAutoApproveScopes() {
+        Client client = client("id", "client-id");
+        client.setResponseTypes(Arrays.asList("code", "id_token"));
+        client.setAutoApproveScopes(Arrays.asList("openid", "read:.*"));
+        CompiledClient compiledClient = new CompiledClient(client);
+
+        assertTrue(compiledClient.isAuthorizedResponseType("code id_token"));
+        assertFalse(compiledClient.isAuthorizedResponseType("code token"));
+        assertTrue(compiledClient.isAutoApprove("openid"));
+        assertTrue(compiledClient.isAutoApprove("read:users"));
+        assertFalse(compiledClient.isAutoApprove("write:users"));
+    }
+
+    private Client client(String id, String clientId) {
+        Client client = new Client();
+        client.setId(id);
+        client.setClientId(clientId);
+        client.setDomain("domain");
+        return client;
+    }
 }
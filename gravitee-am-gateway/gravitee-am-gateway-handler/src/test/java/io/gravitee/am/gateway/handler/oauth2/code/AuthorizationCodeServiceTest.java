@@ -37,6 +37,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Matchers.any;
@@ -130,15 +131,18 @@ public class AuthorizationCodeServiceTest {
 
         when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.empty());
         when(accessTokenRepository.findByAuthorizationCode(anyString())).thenReturn(Observable.fromIterable(tokens));
-        when(accessTokenRepository.delete(anyString())).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByAuthorizationCode(anyString())).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByTokens(any())).thenReturn(Completable.complete());
 
         TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
         testObserver.assertError(InvalidGrantException.class);
 
         verify(authorizationCodeRepository, times(1)).findByCode(any());
         verify(accessTokenRepository, times(1)).findByAuthorizationCode(anyString());
-        verify(accessTokenRepository, times(2)).delete(anyString());
+        verify(accessTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+        verify(accessTokenRepository, never()).delete(anyString());
         verify(authorizationCodeRepository, never()).delete(any());
+        verify(refreshTokenRepository, times(1)).deleteByTokens(Collections.emptyList());
         verify(refreshTokenRepository, never()).delete(anyString());
     }
 
@@ -168,16 +172,18 @@ public class AuthorizationCodeServiceTest {
 
         when(authorizationCodeRepository.findByCode(any())).thenReturn(Maybe.empty());
         when(accessTokenRepository.findByAuthorizationCode(anyString())).thenReturn(Observable.fromIterable(tokens));
-        when(accessTokenRepository.delete(anyString())).thenReturn(Completable.complete());
-        when(refreshTokenRepository.delete(anyString())).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByAuthorizationCode(anyString())).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByTokens(any())).thenReturn(Completable.complete());
 
         TestObserver<AuthorizationCode> testObserver = authorizationCodeService.remove(authorizationCode.getCode(), client).test();
         testObserver.assertError(InvalidGrantException.class);
 
         verify(authorizationCodeRepository, times(1)).findByCode(any());
         verify(accessTokenRepository, times(1)).findByAuthorizationCode(anyString());
-        verify(accessTokenRepository, times(2)).delete(anyString());
-        verify(refreshTokenRepository, times(2)).delete(anyString());
+        verify(accessTokenRepository, times(1)).deleteByAuthorizationCode("my-code");
+        verify(accessTokenRepository, never()).delete(anyString());
+        verify(refreshTokenRepository, times(1)).deleteByTokens(Arrays.asList("my-refresh-token-1", "my-refresh-token-2"));
+        verify(refreshTokenRepository, never()).delete(anyString());
         verify(authorizationCodeRepository, never()).delete(any());
     }
 }
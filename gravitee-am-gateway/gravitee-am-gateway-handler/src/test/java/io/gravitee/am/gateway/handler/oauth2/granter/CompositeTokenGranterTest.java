@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.granter;
+
+import io.gravitee.am.gateway.handler.oauth2.exception.UnsupportedGrantTypeException;
+import io.gravitee.am.gateway.handler.oauth2.request.TokenRequest;
+import io.gravitee.am.gateway.handler.oauth2.token.Token;
+import io.gravitee.am.gateway.handler.oauth2.token.impl.AccessToken;
+import io.gravitee.am.model.Client;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CompositeTokenGranterTest {
+
+    private static final String EXTENSION_GRANT_TYPE = "urn:ietf:params:oauth:grant-type:jwt-bearer";
+
+    @Mock
+    private TokenGranter extensionGrantGranter;
+
+    @Mock
+    private TokenRequest tokenRequest;
+
+    private CompositeTokenGranter tokenGranter = new CompositeTokenGranter();
+
+    @Test
+    public void shouldGrant_resolvedOnce() {
+        when(extensionGrantGranter.handle(anyString())).thenAnswer(invocation -> EXTENSION_GRANT_TYPE.equals(invocation.getArguments()[0]));
+        when(extensionGrantGranter.grant(any(TokenRequest.class), any(Client.class))).thenReturn(Single.just(new AccessToken("token")));
+        when(tokenRequest.getGrantType()).thenReturn(EXTENSION_GRANT_TYPE);
+        tokenGranter.addTokenGranter("extension-grant-id", extensionGrantGranter);
+
+        tokenGranter.grant(tokenRequest, new Client()).test().assertValue(token -> "token".equals(token.getValue()));
+        tokenGranter.grant(tokenRequest, new Client()).test().assertComplete();
+
+        verify(extensionGrantGranter, times(1)).handle(EXTENSION_GRANT_TYPE);
+        verify(extensionGrantGranter, times(2)).grant(any(TokenRequest.class), any(Client.class));
+    }
+
+    @Test
+    public void shouldNotGrant_unsupportedGrantType() {
+        when(extensionGrantGranter.handle(anyString())).thenReturn(false);
+        when(tokenRequest.getGrantType()).thenReturn("unknown");
+        tokenGranter.addTokenGranter("extension-grant-id", extensionGrantGranter);
+
+        TestObserver<Token> testObserver = tokenGranter.grant(tokenRequest, new Client()).test();
+
+        testObserver.assertError(UnsupportedGrantTypeException.class);
+        verify(extensionGrantGranter, never()).grant(any(TokenRequest.class), any(Client.class));
+    }
+
+    @Test
+    public void shouldNotGrant_tokenGranterRemoved() {
+        when(extensionGrantGranter.handle(anyString())).thenAnswer(invocation -> EXTENSION_GRANT_TYPE.equals(invocation.getArguments()[0]));
+        when(extensionGrantGranter.grant(any(TokenRequest.class), any(Client.class))).thenReturn(Single.just(new AccessToken("token")));
+        when(tokenRequest.getGrantType()).thenReturn(EXTENSION_GRANT_TYPE);
+        tokenGranter.addTokenGranter("extension-grant-id", extensionGrantGranter);
+        tokenGranter.grant(tokenRequest, new Client()).test().assertComplete();
+
+        tokenGranter.removeTokenGranter("extension-grant-id");
+
+        tokenGranter.grant(tokenRequest, new Client()).test().assertError(UnsupportedGrantTypeException.class);
+    }
+}
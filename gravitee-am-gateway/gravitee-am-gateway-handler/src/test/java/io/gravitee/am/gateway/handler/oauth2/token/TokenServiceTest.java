@@ -33,6 +33,7 @@ import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.MaybeSubject;
 import org.junit.Assert;
 import io.vertx.reactivex.core.http.HttpServerRequest;
 import io.vertx.reactivex.ext.web.RoutingContext;
@@ -229,4 +230,33 @@ public class TokenServiceTest {
         verify(refreshTokenRepository, never()).delete(anyString());
         verify(accessTokenRepository, never()).create(any());
     }
+
+    @Test
+    public void shouldGetAccessToken_concurrentLookupsShareOneQuery() {
+        Client client = new Client();
+        client.setClientId("client-id");
+
+        JWT jwt = new JWT();
+        jwt.setJti("token-id");
+        jwt.setAud("client-id");
+
+        MaybeSubject<io.gravitee.am.repository.oauth2.model.AccessToken> pendingLookup = MaybeSubject.create();
+        when(jwtService.decodeAndVerify("encoded-token", client)).thenReturn(Single.just(jwt));
+        when(accessTokenRepository.findByToken("token-id")).thenReturn(pendingLookup);
+
+        TestObserver<Token> first = tokenService.getAccessToken("encoded-token", client).test();
+        TestObserver<Token> second = tokenService.getAccessToken("encoded-token", client).test();
+        verify(accessTokenRepository, times(1)).findByToken("token-id");
+
+        pendingLookup.onSuccess(new io.gravitee.am.repository.oauth2.model.AccessToken());
+        first.assertComplete();
+        first.assertValue(token -> "token-id".equals(token.getValue()));
+        second.assertComplete();
+        second.assertValue(token -> "token-id".equals(token.getValue()));
+
+        // once completed, the next lookup queries the repository again
+        when(accessTokenRepository.findByToken("token-id")).thenReturn(Maybe.empty());
+        tokenService.getAccessToken("encoded-token", client).test().assertComplete().assertNoValues();
+        verify(accessTokenRepository, times(2)).findByToken("token-id");
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oidc.claims;
+
+import io.gravitee.am.common.oidc.StandardClaims;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ClaimsProjectionTest {
+
+    @Test
+    public void shouldBeEmpty_noOpenIDConnectScopes() {
+        assertTrue(ClaimsProjection.of("openid read write").isEmpty());
+        assertTrue(ClaimsProjection.of(new HashSet<>(Arrays.asList("openid", "offline_access"))).isEmpty());
+        assertTrue(ClaimsProjection.of((String) null).isEmpty());
+    }
+
+    @Test
+    public void shouldProjectScopeClaims() {
+        ClaimsProjection claimsProjection = ClaimsProjection.of(" openid\temail  ADDRESS ");
+
+        assertFalse(claimsProjection.isEmpty());
+        assertEquals(Arrays.asList(StandardClaims.EMAIL, StandardClaims.EMAIL_VERIFIED, StandardClaims.ADDRESS), claimsProjection.getClaims());
+        assertSame(claimsProjection, ClaimsProjection.of(Arrays.asList("address", "email")));
+    }
+
+    @Test
+    public void shouldSelectAvailableClaims() {
+        Map<String, Object> userClaims = new HashMap<>();
+        userClaims.put(StandardClaims.SUB, "user");
+        userClaims.put(StandardClaims.EMAIL, "user@acme.com");
+        userClaims.put(StandardClaims.NAME, "User");
+        userClaims.put(StandardClaims.PHONE_NUMBER, null);
+
+        Map<String, Object> requestedClaims = new HashMap<>();
+        requestedClaims.put(StandardClaims.EMAIL, "already@acme.com");
+        ClaimsProjection.of("email phone").select(userClaims, requestedClaims);
+
+        assertEquals(2, requestedClaims.size());
+        assertEquals("already@acme.com", requestedClaims.get(StandardClaims.EMAIL));
+        assertTrue(requestedClaims.containsKey(StandardClaims.PHONE_NUMBER));
+        assertFalse(requestedClaims.containsKey(StandardClaims.NAME));
+    }
+}
@@ -15,6 +15,9 @@
  */
 package io.gravitee.am.gateway.handler.oidc.clientregistration;
 
+import io.gravitee.am.gateway.handler.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.http.RemoteDocumentCache;
 import io.gravitee.am.gateway.handler.jwk.JwkService;
 import io.gravitee.am.gateway.handler.jwt.JwtService;
 import io.gravitee.am.gateway.handler.oidc.clientregistration.impl.DynamicClientRegistrationServiceImpl;
@@ -25,17 +28,11 @@ import io.gravitee.am.model.Certificate;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.am.model.oidc.JWKSet;
-import io.gravitee.am.service.CertificateService;
-import io.gravitee.am.service.IdentityProviderService;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
 import io.gravitee.am.service.exception.InvalidRedirectUriException;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
-import io.vertx.reactivex.core.buffer.Buffer;
-import io.vertx.reactivex.ext.web.client.HttpRequest;
-import io.vertx.reactivex.ext.web.client.HttpResponse;
-import io.vertx.reactivex.ext.web.client.WebClient;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -65,10 +62,10 @@ public class DynamicClientRegistrationServiceTest {
     private OpenIDDiscoveryService openIDDiscoveryService;
 
     @Mock
-    private IdentityProviderService identityProviderService;
+    private IdentityProviderManager identityProviderManager;
 
     @Mock
-    private CertificateService certificateService;
+    private CertificateManager certificateManager;
 
     @Mock
     private JwkService jwkService;
@@ -77,7 +74,7 @@ public class DynamicClientRegistrationServiceTest {
     private JwtService jwtService;
 
     @Mock
-    public WebClient webClient;
+    private RemoteDocumentCache remoteDocumentCache;
 
     @Test
     public void create() {
@@ -94,7 +91,7 @@ public class DynamicClientRegistrationServiceTest {
 
     @Test
     public void applyDefaultIdentiyProvider_noIdentityProvider() {
-        when(identityProviderService.findByDomain(any())).thenReturn(Single.just(Collections.emptyList()));
+        when(identityProviderManager.getIdentityProviders()).thenReturn(Collections.emptyList());
 
         TestObserver testObserver = dcrService.applyDefaultIdentityProvider(new Client()).test();
         testObserver.assertNoErrors();
@@ -107,7 +104,7 @@ public class DynamicClientRegistrationServiceTest {
         IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
         when(identityProvider.getId()).thenReturn("identity-provider-id-123");
 
-        when(identityProviderService.findByDomain(any())).thenReturn(Single.just(Arrays.asList(identityProvider)));
+        when(identityProviderManager.getIdentityProviders()).thenReturn(Arrays.asList(identityProvider));
 
         TestObserver testObserver = dcrService.applyDefaultIdentityProvider(new Client()).test();
         testObserver.assertNoErrors();
@@ -117,7 +114,7 @@ public class DynamicClientRegistrationServiceTest {
 
     @Test
     public void applyDefaultCertificateProvider_noCertificateProvider() {
-        when(certificateService.findByDomain(any())).thenReturn(Single.just(Collections.emptyList()));
+        when(certificateManager.certificates()).thenReturn(Collections.emptyList());
 
         TestObserver testObserver = dcrService.applyDefaultCertificateProvider(new Client()).test();
         testObserver.assertNoErrors();
@@ -130,7 +127,7 @@ public class DynamicClientRegistrationServiceTest {
         Certificate certificate = Mockito.mock(Certificate.class);
         when(certificate.getId()).thenReturn("certificate-id-123");
 
-        when(certificateService.findByDomain(any())).thenReturn(Single.just(Arrays.asList(certificate)));
+        when(certificateManager.certificates()).thenReturn(Arrays.asList(certificate));
 
         TestObserver testObserver = dcrService.applyDefaultCertificateProvider(new Client()).test();
         testObserver.assertNoErrors();
@@ -260,12 +257,8 @@ public class DynamicClientRegistrationServiceTest {
         DynamicClientRegistrationRequest request = new DynamicClientRegistrationRequest();
         request.setRedirectUris(Optional.of(Arrays.asList("https://graviee.io/callback")));
         request.setSectorIdentifierUri(Optional.of(sectorUri));//fail due to invalid url
-        HttpRequest<Buffer> httpRequest = Mockito.mock(HttpRequest.class);
-        HttpResponse httpResponse = Mockito.mock(HttpResponse.class);
 
-        when(webClient.getAbs(sectorUri)).thenReturn(httpRequest);
-        when(httpRequest.rxSend()).thenReturn(Single.just(httpResponse));
-        when(httpResponse.statusCode()).thenReturn(400);
+        when(remoteDocumentCache.get(sectorUri)).thenReturn(Single.error(new IllegalStateException("Unexpected response status 400")));
 
         TestObserver<DynamicClientRegistrationRequest> testObserver = dcrService.validateClientRegistrationRequest(request).test();
         testObserver.assertError(InvalidClientMetadataException.class);
@@ -278,13 +271,8 @@ public class DynamicClientRegistrationServiceTest {
         DynamicClientRegistrationRequest request = new DynamicClientRegistrationRequest();
         request.setRedirectUris(Optional.of(Arrays.asList("https://graviee.io/callback")));
         request.setSectorIdentifierUri(Optional.of(sectorUri));//fail due to invalid url
-        HttpRequest<Buffer> httpRequest = Mockito.mock(HttpRequest.class);
-        HttpResponse httpResponse = Mockito.mock(HttpResponse.class);
 
-        when(webClient.getAbs(sectorUri)).thenReturn(httpRequest);
-        when(httpRequest.rxSend()).thenReturn(Single.just(httpResponse));
-        when(httpResponse.statusCode()).thenReturn(200);
-        when(httpResponse.bodyAsString()).thenReturn("[\"https://not/same/redirect/uri\"]");
+        when(remoteDocumentCache.get(sectorUri)).thenReturn(Single.just("[\"https://not/same/redirect/uri\"]"));
 
         TestObserver<DynamicClientRegistrationRequest> testObserver = dcrService.validateClientRegistrationRequest(request).test();
         testObserver.assertError(InvalidRedirectUriException.class);
@@ -298,13 +286,8 @@ public class DynamicClientRegistrationServiceTest {
         DynamicClientRegistrationRequest request = new DynamicClientRegistrationRequest();
         request.setRedirectUris(Optional.of(Arrays.asList(redirectUri)));
         request.setSectorIdentifierUri(Optional.of(sectorUri));//fail due to invalid url
-        HttpRequest<Buffer> httpRequest = Mockito.mock(HttpRequest.class);
-        HttpResponse httpResponse = Mockito.mock(HttpResponse.class);
 
-        when(webClient.getAbs(sectorUri)).thenReturn(httpRequest);
-        when(httpRequest.rxSend()).thenReturn(Single.just(httpResponse));
-        when(httpResponse.statusCode()).thenReturn(200);
-        when(httpResponse.bodyAsString()).thenReturn("[\""+redirectUri+"\"]");
+        when(remoteDocumentCache.get(sectorUri)).thenReturn(Single.just("[\""+redirectUri+"\"]"));
 
         TestObserver<DynamicClientRegistrationRequest> testObserver = dcrService.validateClientRegistrationRequest(request).test();
         testObserver.assertNoErrors();
@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.vertx.endpoint;
 import io.gravitee.am.common.oauth2.GrantType;
 import io.gravitee.am.common.oauth2.ResponseType;
 import io.gravitee.am.gateway.handler.oauth2.client.ClientSyncService;
+import io.gravitee.am.gateway.handler.oauth2.client.CompiledClient;
 import io.gravitee.am.gateway.handler.oauth2.exception.AccessDeniedException;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidScopeException;
 import io.gravitee.am.gateway.handler.oauth2.request.AuthorizationRequest;
@@ -101,6 +102,9 @@ public class AuthorizationEndpointHandlerTest  extends RxWebTestBase {
         // set domain
         when(domain.getPath()).thenReturn("test");
 
+        // compile clients
+        when(clientSyncService.getCompiledClient(any())).thenAnswer(invocation -> new CompiledClient((Client) invocation.getArguments()[0]));
+
         // set Authorization endpoint routes
         SessionHandler sessionHandler = SessionHandler.create(LocalSessionStore.create(vertx));
         router.route("/oauth/authorize")
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler;
+
+import io.gravitee.am.gateway.handler.vertx.RxWebTestBase;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class StaticAssetHandlerTest extends RxWebTestBase {
+
+    private static final StaticAssetHandler staticAssetHandler = new StaticAssetHandler(3600);
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        router.route().handler(staticAssetHandler);
+        router.route("/oauth/*").handler(staticAssetHandler);
+    }
+
+    @Test
+    public void shouldServeAsset() throws Exception {
+        testRequest(HttpMethod.GET, "/assets/css/login.css",
+                null,
+                resp -> {
+                    assertTrue(resp.getHeader(HttpHeaders.CONTENT_TYPE).startsWith("text/css"));
+                    assertNotNull(resp.getHeader(HttpHeaders.ETAG));
+                    assertEquals("public, max-age=3600, immutable", resp.getHeader(HttpHeaders.CACHE_CONTROL));
+                    assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+                },
+                HttpStatusCode.OK_200, "OK", null);
+    }
+
+    @Test
+    public void shouldServeGzipAsset() throws Exception {
+        testRequest(HttpMethod.GET, "/assets/font-awesome/css/font-awesome.css",
+                req -> req.putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"),
+                resp -> {
+                    assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+                    assertEquals(HttpHeaders.ACCEPT_ENCODING, resp.getHeader(HttpHeaders.VARY));
+                },
+                HttpStatusCode.OK_200, "OK", null);
+    }
+
+    @Test
+    public void shouldServeAsset_oauthPath() throws Exception {
+        testRequest(HttpMethod.GET, "/oauth/assets/css/access_confirmation.css", HttpStatusCode.OK_200, "OK");
+    }
+
+    @Test
+    public void shouldNotModified() throws Exception {
+        AtomicReference<String> etag = new AtomicReference<>();
+        testRequest(HttpMethod.GET, "/assets/css/login.css",
+                null, resp -> etag.set(resp.getHeader(HttpHeaders.ETAG)),
+                HttpStatusCode.OK_200, "OK", null);
+
+        testRequest(HttpMethod.GET, "/assets/css/login.css",
+                req -> req.putHeader(HttpHeaders.IF_NONE_MATCH, etag.get()),
+                HttpStatusCode.NOT_MODIFIED_304, "Not Modified", null);
+    }
+
+    @Test
+    public void shouldNotServeViews() throws Exception {
+        testRequest(HttpMethod.GET, "/views/login.html", HttpStatusCode.NOT_FOUND_404, "Not Found");
+    }
+
+    @Test
+    public void shouldNotServeUnknownAsset() throws Exception {
+        testRequest(HttpMethod.GET, "/assets/css/unknown.css", HttpStatusCode.NOT_FOUND_404, "Not Found");
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.admission;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    public void shouldRejectBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 1000);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.isSaturated());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInflight());
+    }
+
+    @Test
+    public void shouldIncreaseLimit_fastRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 3, 0.5, 1000);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        assertTrue(limiter.release(FAST, false));
+        assertEquals(3, limiter.getLimit());
+
+        // never above the max limit
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        assertFalse(limiter.release(FAST, false));
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldNotIncreaseLimit_limitNotUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 20, 0.5, 1000);
+
+        limiter.tryAcquire();
+        assertFalse(limiter.release(FAST, false));
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldDecreaseLimit_slowOrFailedRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 0.5, 1000);
+
+        limiter.tryAcquire();
+        assertTrue(limiter.release(SLOW, false));
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        assertTrue(limiter.release(FAST, true));
+        assertEquals(2, limiter.getLimit());
+
+        // never below the min limit
+        limiter.tryAcquire();
+        assertFalse(limiter.release(SLOW, false));
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.admission;
+
+import io.gravitee.am.gateway.handler.vertx.RxWebTestBase;
+import io.gravitee.common.http.HttpStatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.core.http.HttpClientRequest;
+import io.vertx.reactivex.core.http.HttpServerRequest;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AdmissionControlHandlerTest extends RxWebTestBase {
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Counter rejections = meterRegistry.counter("rejections");
+    private DistributionSummary limits = meterRegistry.summary("limits");
+
+    @Test
+    public void shouldAdmitRequest_releasePermit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 2, 0.5, 1000);
+        route(new AdmissionControlHandler(limiter, null, 1, rejections, limits), HttpStatusCode.OK_200);
+
+        testRequest(HttpMethod.GET, "/token", HttpStatusCode.OK_200, "OK");
+        awaitReleased(limiter);
+        testRequest(HttpMethod.GET, "/token", HttpStatusCode.OK_200, "OK");
+        awaitReleased(limiter);
+
+        assertEquals(0, limiter.getInflight());
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0.0, rejections.count(), 0);
+        assertEquals(1, limits.count());
+    }
+
+    @Test
+    public void shouldDecreaseLimit_serverError() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, 0.5, 1000);
+        route(new AdmissionControlHandler(limiter, null, 1, rejections, limits), HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+
+        testRequest(HttpMethod.GET, "/token", HttpStatusCode.INTERNAL_SERVER_ERROR_500, "Internal Server Error");
+        awaitReleased(limiter);
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldRejectRequest_limitReached() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 1000);
+        route(new AdmissionControlHandler(limiter, null, 5, rejections, limits), HttpStatusCode.OK_200);
+        limiter.tryAcquire();
+
+        testRequest(HttpMethod.GET, "/token", null,
+                resp -> assertEquals("5", resp.getHeader("Retry-After")),
+                HttpStatusCode.SERVICE_UNAVAILABLE_503, "Service Unavailable", null);
+
+        assertEquals(1.0, rejections.count(), 0);
+        assertEquals(1, limiter.getInflight());
+    }
+
+    @Test
+    public void shouldRejectRequest_priorityLimiterSaturated() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, 0.5, 1000);
+        AdaptiveConcurrencyLimiter priorityLimiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 1000);
+        route(new AdmissionControlHandler(limiter, priorityLimiter, 1, rejections, limits), HttpStatusCode.OK_200);
+        priorityLimiter.tryAcquire();
+
+        testRequest(HttpMethod.GET, "/token", HttpStatusCode.SERVICE_UNAVAILABLE_503, "Service Unavailable");
+
+        assertEquals(1.0, rejections.count(), 0);
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    public void shouldReleasePermit_clientDisconnected() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 1000);
+        // the response is never ended, the client disconnects once it has received the first chunk
+        router.route("/token")
+                .handler(new AdmissionControlHandler(limiter, null, 1, rejections, limits))
+                .handler(context -> context.response().setChunked(true).write("partial response"));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpClientRequest request = client.get(server.actualPort(), "localhost", "/token");
+        request.handler(resp -> {
+            assertEquals(1, limiter.getInflight());
+            request.connection().close();
+            latch.countDown();
+        });
+        request.end();
+        awaitLatch(latch);
+        awaitReleased(limiter);
+
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotReplaceResponseCloseHandler() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 1000);
+        RoutingContext context = mock(RoutingContext.class);
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        HttpServerResponse response = mock(HttpServerResponse.class);
+        when(context.request()).thenReturn(request);
+        when(context.response()).thenReturn(response);
+
+        new AdmissionControlHandler(limiter, null, 1, rejections, limits).handle(context);
+
+        verify(context).addBodyEndHandler(any(Handler.class));
+        verify(context).next();
+        verify(response, never()).closeHandler(any(Handler.class));
+        verify(response, never()).endHandler(any(Handler.class));
+    }
+
+    private void route(AdmissionControlHandler admissionControlHandler, int statusCode) {
+        router.route("/token")
+                .handler(admissionControlHandler)
+                .handler(context -> context.response().setStatusCode(statusCode).end());
+    }
+
+    private static void awaitReleased(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        // the permit is released once the response has been written, which may be after the client got it
+        long timeout = System.currentTimeMillis() + 5000;
+        while (limiter.getInflight() > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import io.gravitee.am.gateway.handler.vertx.RxWebTestBase;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.core.http.HttpClientResponse;
+import io.vertx.reactivex.ext.auth.User;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RateLimitHandlerTest extends RxWebTestBase {
+
+    private final TokenBucketTest.MutableClock clock = new TokenBucketTest.MutableClock();
+
+    @Test
+    public void shouldRejectRemoteAddress_limitReached() throws Exception {
+        router.route("/token")
+                .handler(remoteAddressRateLimitHandler(1, Collections.emptyList()))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", null, remaining(0), HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", null,
+                resp -> assertEquals("1", resp.getHeader(RateLimitHandler.RETRY_AFTER)),
+                HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests", null);
+    }
+
+    @Test
+    public void shouldIgnoreForwardedFor_untrustedPeer() throws Exception {
+        router.route("/token")
+                .handler(remoteAddressRateLimitHandler(1, Collections.emptyList()))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", req -> req.putHeader(RemoteAddressResolver.X_FORWARDED_FOR, "1.2.3.4"), null, HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", req -> req.putHeader(RemoteAddressResolver.X_FORWARDED_FOR, "5.6.7.8"), null, HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests", null);
+    }
+
+    @Test
+    public void shouldUseForwardedFor_trustedPeer() throws Exception {
+        router.route("/token")
+                .handler(remoteAddressRateLimitHandler(1, Collections.singletonList("127.0.0.1")))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", req -> req.putHeader(RemoteAddressResolver.X_FORWARDED_FOR, "1.2.3.4"), null, HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", req -> req.putHeader(RemoteAddressResolver.X_FORWARDED_FOR, "5.6.7.8"), null, HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", req -> req.putHeader(RemoteAddressResolver.X_FORWARDED_FOR, "1.2.3.4"), null, HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests", null);
+    }
+
+    @Test
+    public void shouldNotLimitClient_notAuthenticated() throws Exception {
+        router.route("/token")
+                .handler(clientRateLimitHandler(1))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", null, resp -> assertNull(resp.getHeader(RateLimitHandler.RATE_LIMIT_REMAINING)), HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", HttpStatusCode.OK_200, "OK");
+    }
+
+    @Test
+    public void shouldLimitClient_defaultSettings() throws Exception {
+        router.route("/token")
+                .handler(authenticate(client("client-id", null)))
+                .handler(clientRateLimitHandler(1))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", null, remaining(0), HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests");
+    }
+
+    @Test
+    public void shouldLimitClient_clientSettings() throws Exception {
+        router.route("/token")
+                .handler(authenticate(client("client-id", 2L)))
+                .handler(clientRateLimitHandler(1))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", null, remaining(1), HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", null, remaining(0), HttpStatusCode.OK_200, "OK", null);
+        testRequest(HttpMethod.POST, "/token", HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests");
+    }
+
+    @Test
+    public void shouldApplyNewClientSettings_clientUpdated() throws Exception {
+        Client client = client("client-id", 1L);
+        router.route("/token")
+                .handler(authenticate(client))
+                .handler(clientRateLimitHandler(10))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", HttpStatusCode.OK_200, "OK");
+        testRequest(HttpMethod.POST, "/token", HttpStatusCode.TOO_MANY_REQUESTS_429, "Too Many Requests");
+
+        client.getRateLimit().setCapacity(5L);
+        client.setUpdatedAt(new Date(client.getUpdatedAt().getTime() + 1000));
+        testRequest(HttpMethod.POST, "/token", null, remaining(4), HttpStatusCode.OK_200, "OK", null);
+    }
+
+    @Test
+    public void shouldKeepMostRestrictiveHeaders() throws Exception {
+        router.route("/token")
+                .handler(remoteAddressRateLimitHandler(5, Collections.emptyList()))
+                .handler(authenticate(client("client-id", 2L)))
+                .handler(clientRateLimitHandler(10))
+                .handler(context -> context.response().end());
+
+        testRequest(HttpMethod.POST, "/token", null, resp -> {
+            assertEquals("2", resp.getHeader(RateLimitHandler.RATE_LIMIT_LIMIT));
+            assertEquals("1", resp.getHeader(RateLimitHandler.RATE_LIMIT_REMAINING));
+        }, HttpStatusCode.OK_200, "OK", null);
+    }
+
+    private RemoteAddressRateLimitHandler remoteAddressRateLimitHandler(long capacity, List<String> trustedProxies) {
+        return new RemoteAddressRateLimitHandler(
+                new RateLimiter(key -> new TokenBucket(capacity, 1, clock), 100),
+                new RemoteAddressResolver(trustedProxies));
+    }
+
+    private ClientRateLimitHandler clientRateLimitHandler(long defaultCapacity) {
+        return new ClientRateLimitHandler(
+                new RateLimiter(key -> new TokenBucket(defaultCapacity, 1, clock), 100), defaultCapacity, 1, clock);
+    }
+
+    private static Handler<RoutingContext> authenticate(Client client) {
+        return context -> {
+            context.setUser(new User(new io.gravitee.am.gateway.handler.vertx.auth.user.Client(client)));
+            context.next();
+        };
+    }
+
+    private static Client client(String clientId, Long capacity) {
+        Client client = new Client();
+        client.setClientId(clientId);
+        client.setUpdatedAt(new Date());
+        if (capacity != null) {
+            RateLimitSettings rateLimit = new RateLimitSettings();
+            rateLimit.setCapacity(capacity);
+            client.setRateLimit(rateLimit);
+        }
+        return client;
+    }
+
+    private Consumer<HttpClientResponse> remaining(long remaining) {
+        return resp -> assertEquals(String.valueOf(remaining), resp.getHeader(RateLimitHandler.RATE_LIMIT_REMAINING));
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RateLimiterTest {
+
+    private final TokenBucketTest.MutableClock clock = new TokenBucketTest.MutableClock();
+
+    @Test
+    public void shouldLimitEachKeySeparately() {
+        RateLimiter rateLimiter = new RateLimiter(key -> new TokenBucket("client-a".equals(key) ? 1 : 2, 1, clock), 10);
+
+        assertTrue(rateLimiter.tryConsume("client-a").isConsumed());
+        assertFalse(rateLimiter.tryConsume("client-a").isConsumed());
+
+        assertTrue(rateLimiter.tryConsume("client-b").isConsumed());
+        assertTrue(rateLimiter.tryConsume("client-b").isConsumed());
+        assertFalse(rateLimiter.tryConsume("client-b").isConsumed());
+    }
+
+    @Test
+    public void shouldShareOverflowBucket_whenMaxSizeIsReached() {
+        RateLimiter rateLimiter = new RateLimiter(key -> new TokenBucket(1, 1, clock), 2);
+
+        assertTrue(rateLimiter.tryConsume("client-a").isConsumed());
+        assertTrue(rateLimiter.tryConsume("client-b").isConsumed());
+
+        // no full bucket to remove, new keys go to the overflow bucket
+        assertTrue(rateLimiter.tryConsume("client-c").isConsumed());
+        assertFalse(rateLimiter.tryConsume("client-d").isConsumed());
+        assertFalse(rateLimiter.tryConsume("client-a").isConsumed());
+    }
+
+    @Test
+    public void shouldUseGivenBucketFactory_exceptForOverflowBucket() {
+        RateLimiter rateLimiter = new RateLimiter(key -> new TokenBucket(1, 1, clock), 1);
+
+        assertEquals(3, rateLimiter.tryConsume("client-a", key -> new TokenBucket(3, 1, clock)).getLimit());
+        // the overflow bucket is created by the rate limiter factory
+        assertEquals(1, rateLimiter.tryConsume("client-b", key -> new TokenBucket(3, 1, clock)).getLimit());
+    }
+}
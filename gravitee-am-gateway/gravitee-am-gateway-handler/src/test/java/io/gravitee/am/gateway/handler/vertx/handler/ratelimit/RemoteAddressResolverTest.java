@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RemoteAddressResolverTest {
+
+    private final RemoteAddressResolver resolver = new RemoteAddressResolver(Arrays.asList("10.0.0.1", "10.0.0.2"));
+
+    @Test
+    public void shouldUsePeerAddress_noForwardedFor() {
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", Collections.emptyList()));
+    }
+
+    @Test
+    public void shouldIgnoreForwardedFor_untrustedPeer() {
+        assertEquals("192.168.0.1", resolver.resolve("192.168.0.1", Collections.singletonList("1.2.3.4")));
+    }
+
+    @Test
+    public void shouldUseForwardedFor_trustedPeer() {
+        assertEquals("1.2.3.4", resolver.resolve("10.0.0.1", Collections.singletonList("1.2.3.4")));
+    }
+
+    @Test
+    public void shouldUseRightMostUntrustedAddress() {
+        // the left-most entries are set by the caller and cannot be trusted
+        assertEquals("1.2.3.4", resolver.resolve("10.0.0.1", Collections.singletonList("5.6.7.8, 1.2.3.4, 10.0.0.2")));
+    }
+
+    @Test
+    public void shouldUseRightMostUntrustedAddress_multipleHeaders() {
+        assertEquals("1.2.3.4", resolver.resolve("10.0.0.1", Arrays.asList("5.6.7.8", "1.2.3.4,10.0.0.2")));
+    }
+
+    @Test
+    public void shouldUseLeftMostAddress_allTrusted() {
+        assertEquals("10.0.0.2", resolver.resolve("10.0.0.1", Collections.singletonList("10.0.0.2, 10.0.0.1")));
+    }
+}
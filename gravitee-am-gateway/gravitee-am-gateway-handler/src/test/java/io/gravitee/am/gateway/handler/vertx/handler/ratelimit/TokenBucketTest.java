@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.handler.ratelimit;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TokenBucketTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    public void shouldConsumeUntilEmpty() {
+        TokenBucket bucket = new TokenBucket(3, 1, clock);
+
+        ConsumptionProbe probe = bucket.tryConsume();
+        assertTrue(probe.isConsumed());
+        assertEquals(3, probe.getLimit());
+        assertEquals(2, probe.getRemainingTokens());
+        assertTrue(bucket.tryConsume().isConsumed());
+        assertTrue(bucket.tryConsume().isConsumed());
+
+        probe = bucket.tryConsume();
+        assertFalse(probe.isConsumed());
+        assertEquals(0, probe.getRemainingTokens());
+        assertEquals(1000, probe.getMillisToNextToken());
+        assertEquals(3000, probe.getMillisToFull());
+    }
+
+    @Test
+    public void shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 2, clock);
+        bucket.tryConsume();
+        bucket.tryConsume();
+        assertFalse(bucket.tryConsume().isConsumed());
+
+        clock.advance(500);
+        assertTrue(bucket.tryConsume().isConsumed());
+        assertFalse(bucket.tryConsume().isConsumed());
+        assertFalse(bucket.isFull());
+
+        clock.advance(10000);
+        assertTrue(bucket.isFull());
+        ConsumptionProbe probe = bucket.tryConsume();
+        assertTrue(probe.isConsumed());
+        // refill does not exceed the capacity
+        assertEquals(1, probe.getRemainingTokens());
+    }
+
+    static class MutableClock extends Clock {
+
+        private long millis = 1_000_000;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.vertx.view;
+
+import io.gravitee.am.model.Form;
+import org.junit.Before;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DomainBasedTemplateResolverTest {
+
+    private static final String TEMPLATE = "<p>default</p>";
+
+    private TemplateEngine templateEngine;
+    private DomainBasedTemplateResolver templateResolver;
+
+    @Before
+    public void setUp() {
+        // the string resolver uses the template name as content, it stands for the classpath templates
+        StringTemplateResolver defaultTemplateResolver = new StringTemplateResolver();
+        defaultTemplateResolver.setCacheable(true);
+
+        templateEngine = new TemplateEngine();
+        templateResolver = new DomainBasedTemplateResolver(defaultTemplateResolver);
+        templateResolver.setTemplateEngine(templateEngine);
+        templateEngine.setTemplateResolver(templateResolver);
+    }
+
+    @Test
+    public void shouldRenderDefaultTemplate() {
+        assertEquals(TEMPLATE, render());
+        assertEquals(TEMPLATE, render());
+    }
+
+    @Test
+    public void shouldRenderForm_untilRemoved() {
+        assertEquals(TEMPLATE, render());
+
+        Form form = form("<p>custom</p>");
+        templateResolver.addPage(form);
+        assertEquals("<p>custom</p>", render());
+
+        templateResolver.addPage(form("<p>updated</p>"));
+        assertEquals("<p>updated</p>", render());
+
+        templateResolver.removePage(form);
+        assertEquals(TEMPLATE, render());
+    }
+
+    @Test
+    public void shouldInvalidateCachedForm_withoutCacheClear() {
+        templateResolver.addPage(form("<p>custom</p>"));
+        assertEquals("<p>custom</p>", render());
+
+        // the template engine is not notified, the form version is enough to invalidate the cached template
+        TemplateEngine otherTemplateEngine = new TemplateEngine();
+        otherTemplateEngine.setTemplateResolver(new StringTemplateResolver());
+        templateResolver.setTemplateEngine(otherTemplateEngine);
+        templateResolver.addPage(form("<p>updated</p>"));
+        assertEquals("<p>updated</p>", render());
+    }
+
+    private String render() {
+        return templateEngine.process(TEMPLATE, new Context());
+    }
+
+    private Form form(String content) {
+        Form form = new Form();
+        form.setTemplate(TEMPLATE);
+        form.setContent(content);
+        return form;
+    }
+}
@@ -16,7 +16,9 @@
 package io.gravitee.am.gateway.reactor;
 
 import io.gravitee.common.service.Service;
+import io.vertx.core.Handler;
 import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -28,5 +30,7 @@ public interface Reactor extends Service {
 
     Router mountSubRouter(String contextPath, Router child);
 
+    Router mountHandler(String contextPath, Handler<RoutingContext> handler, Handler<RoutingContext> failureHandler);
+
     Router unMountSubRouter(String contextPath);
 }
@@ -26,10 +26,12 @@ import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpHeadersValues;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.service.AbstractService;
+import io.vertx.core.Handler;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.core.http.HttpServerResponse;
 import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -90,14 +92,22 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
     }
 
     @Override
-    public Router mountSubRouter(String contextPath, Router child) {
+    public synchronized Router mountSubRouter(String contextPath, Router child) {
         router.mountSubRouter(contextPath, child);
 
         return router;
     }
 
     @Override
-    public Router unMountSubRouter(String contextPath) {
+    public synchronized Router mountHandler(String contextPath, Handler<RoutingContext> handler, Handler<RoutingContext> failureHandler) {
+        // same route definition as a sub router mount
+        router.route(contextPath + "*").handler(handler).failureHandler(failureHandler);
+
+        return router;
+    }
+
+    @Override
+    public synchronized Router unMountSubRouter(String contextPath) {
         router.getRoutes().stream()
                 .filter(route -> route.getPath() != null && route.getPath().startsWith(contextPath))
                 .forEach(route -> route.remove());
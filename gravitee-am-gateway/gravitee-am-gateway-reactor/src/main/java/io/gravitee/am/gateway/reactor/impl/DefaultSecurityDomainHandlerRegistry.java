@@ -20,9 +20,12 @@ import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
 import io.gravitee.am.model.Domain;
+import io.vertx.reactivex.core.Vertx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,11 +35,20 @@ import java.util.concurrent.ConcurrentMap;
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandlerRegistry {
+public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandlerRegistry, InitializingBean {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultSecurityDomainHandlerRegistry.class);
+    private static final long MAX_PASSIVATION_CHECK_INTERVAL = 60 * 1000; // 1 minute
     private final ConcurrentMap<String, VertxSecurityDomainHandler> handlers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LazySecurityDomainHandler> lazyHandlers = new ConcurrentHashMap<>();
     private final ConcurrentMap<Object, String> contextPaths = new ConcurrentHashMap<>();
+    private long passivationTimerId = -1;
+
+    @Value("${domains.lazy.enabled:false}")
+    private boolean lazy;
+
+    @Value("${domains.lazy.passivation.idleTimeout:0}")
+    private long idleTimeout;
 
     @Autowired
     private SecurityDomainRouterFactory securityDomainRouterFactory;
@@ -44,8 +56,25 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     @Autowired
     private Reactor reactor;
 
+    @Autowired
+    private Vertx vertx;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (lazy && idleTimeout > 0) {
+            logger.info("Idle security domains will be passivated after {} ms", idleTimeout);
+            passivationTimerId = vertx.setPeriodic(Math.min(idleTimeout, MAX_PASSIVATION_CHECK_INTERVAL),
+                    timerId -> lazyHandlers.values().forEach(lazyHandler -> lazyHandler.passivate(idleTimeout)));
+        }
+    }
+
     @Override
     public void create(Domain domain) {
+        if (lazy) {
+            createLazy(domain);
+            return;
+        }
+
         logger.info("Register a new domain for {} on path {}", domain.getId(), domain.getPath());
 
         VertxSecurityDomainHandler handler = create0(domain);
@@ -66,7 +95,7 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
         String contextPath = contextPaths.get(domain);
         if (contextPath != null) {
             VertxSecurityDomainHandler handler = handlers.get(contextPath);
-            if (handler != null) {
+            if (handler != null || lazyHandlers.containsKey(contextPath)) {
                 remove(domain);
                 create(domain);
             }
@@ -79,6 +108,14 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     public void remove(Domain domain) {
         String contextPath = contextPaths.remove(domain);
         if (contextPath != null) {
+            if (lazyHandlers.remove(contextPath) != null) {
+                handlers.remove(contextPath);
+                reactor.unMountSubRouter(contextPath);
+                securityDomainRouterFactory.destroy(domain);
+                logger.info("Security Domain has been unregistered");
+                return;
+            }
+
             VertxSecurityDomainHandler handler = handlers.remove(contextPath);
 
             if (handler != null) {
@@ -86,6 +123,7 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
                     //handler.stop();
                     handlers.remove(handler.contextPath());
                     reactor.unMountSubRouter(handler.contextPath());
+                    securityDomainRouterFactory.destroy(domain);
                     logger.info("Security Domain has been unregistered");
                 } catch (Exception e) {
                     logger.error("Unable to un-register handler", e);
@@ -104,7 +142,13 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
                 logger.error("Unable to un-register handler", e);
             }
         });
+        lazyHandlers.clear();
         contextPaths.clear();
+
+        if (passivationTimerId != -1) {
+            vertx.cancelTimer(passivationTimerId);
+            passivationTimerId = -1;
+        }
     }
 
     @Override
@@ -112,6 +156,30 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
         return handlers.values();
     }
 
+    private void createLazy(Domain domain) {
+        logger.info("Register a new lazy domain for {} on path {}", domain.getId(), domain.getPath());
+
+        final String contextPath = '/' + domain.getPath();
+        LazySecurityDomainHandler lazyHandler = new LazySecurityDomainHandler(domain, vertx,
+                () -> {
+                    VertxSecurityDomainHandler handler = create0(domain);
+                    if (handler == null) {
+                        throw new IllegalStateException("No handler created for domain " + domain.getId());
+                    }
+                    handlers.put(contextPath, handler);
+                    return handler.create();
+                },
+                () -> {
+                    handlers.remove(contextPath);
+                    securityDomainRouterFactory.destroy(domain);
+                });
+
+        if (lazyHandlers.putIfAbsent(contextPath, lazyHandler) == null) {
+            contextPaths.putIfAbsent(domain, contextPath);
+            reactor.mountHandler(contextPath, lazyHandler, lazyHandler::handleFailure);
+        }
+    }
+
     private VertxSecurityDomainHandler create0(Domain domain) {
         return securityDomainRouterFactory.create(domain);
     }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl;
+
+import io.gravitee.am.gateway.handler.vertx.utils.ConnectionCloseHandlers;
+import io.gravitee.am.model.Domain;
+import io.gravitee.common.http.HttpStatusCode;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.core.Context;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Security domain entry point which creates the domain router on the first incoming request.
+ *
+ * Requests received while the domain is being activated are paused and resumed once the router is ready.
+ * An idle domain can be passivated to release its context, it will be activated again on the next request.
+ * A domain is never passivated while requests are being handled by its router.
+ *
+ * @author GraviteeSource Team
+ */
+public class LazySecurityDomainHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazySecurityDomainHandler.class);
+
+    private final Domain domain;
+    private final Vertx vertx;
+    private final Callable<Router> activator;
+    private final Runnable passivator;
+    private final Queue<ParkedRequest> parkedRequests = new ConcurrentLinkedQueue<>();
+    // guard activation and passivation, only one of them can run at a time
+    private final AtomicBoolean busy = new AtomicBoolean(false);
+    // requests dispatched to the router whose response has not ended yet
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private volatile Router router;
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    public LazySecurityDomainHandler(Domain domain, Vertx vertx, Callable<Router> activator, Runnable passivator) {
+        this.domain = domain;
+        this.vertx = vertx;
+        this.activator = activator;
+        this.passivator = passivator;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        lastAccessTime = System.currentTimeMillis();
+
+        // the request is counted before the router is read, passivation does the opposite (see passivate)
+        activeRequests.incrementAndGet();
+        Router current = router;
+        if (current != null) {
+            trackActiveRequest(context);
+            current.handleContext(context);
+            return;
+        }
+        activeRequests.decrementAndGet();
+
+        // park the request until the domain is ready
+        context.request().pause();
+        parkedRequests.add(new ParkedRequest(context, context.vertx().getOrCreateContext()));
+
+        if (router != null) {
+            // domain has been activated in the meantime
+            resumeParkedRequests();
+        } else {
+            activate();
+        }
+    }
+
+    public void handleFailure(RoutingContext context) {
+        Router current = router;
+        if (current != null) {
+            current.handleFailure(context);
+        } else {
+            context.next();
+        }
+    }
+
+    /**
+     * Release the domain context if no request has been received since the given idle timeout.
+     *
+     * @param idleTimeout idle timeout in milliseconds
+     */
+    public void passivate(long idleTimeout) {
+        if (router == null || System.currentTimeMillis() - lastAccessTime < idleTimeout || activeRequests.get() > 0
+                || !busy.compareAndSet(false, true)) {
+            return;
+        }
+
+        // the router is released before the active requests are checked: a request either sees no router and is
+        // parked, or it is counted here and the passivation is cancelled
+        final Router current = router;
+        router = null;
+        if (current == null || activeRequests.get() > 0) {
+            router = current;
+            busy.set(false);
+            resumeParkedRequests();
+            return;
+        }
+
+        logger.info("Security domain {} has been idle for more than {} ms, passivating it", domain.getName(), idleTimeout);
+        vertx.<Void>executeBlocking(future -> {
+            passivator.run();
+            future.complete();
+        }, false, result -> {
+            if (result.failed()) {
+                logger.error("An error occurs while passivating security domain {}", domain.getName(), result.cause());
+            }
+            busy.set(false);
+
+            // requests may have been received during passivation
+            if (!parkedRequests.isEmpty()) {
+                activate();
+            }
+        });
+    }
+
+    public boolean isActive() {
+        return router != null;
+    }
+
+    private void activate() {
+        if (!busy.compareAndSet(false, true)) {
+            return;
+        }
+
+        logger.info("Activating security domain {}", domain.getName());
+        vertx.<Router>executeBlocking(future -> {
+            try {
+                future.complete(activator.call());
+            } catch (Exception ex) {
+                future.fail(ex);
+            }
+        }, false, result -> {
+            if (result.succeeded()) {
+                router = result.result();
+                busy.set(false);
+                resumeParkedRequests();
+            } else {
+                logger.error("Unable to activate security domain {}", domain.getName(), result.cause());
+                busy.set(false);
+                rejectParkedRequests();
+            }
+        });
+    }
+
+    private void resumeParkedRequests() {
+        final Router current = router;
+        if (current == null) {
+            return;
+        }
+
+        ParkedRequest parkedRequest;
+        while ((parkedRequest = parkedRequests.poll()) != null) {
+            final RoutingContext context = parkedRequest.routingContext;
+            activeRequests.incrementAndGet();
+            trackActiveRequest(context);
+            parkedRequest.context.runOnContext(v -> {
+                context.request().resume();
+                current.handleContext(context);
+            });
+        }
+    }
+
+    /**
+     * Stop counting the active request once its response has ended, or once its connection has closed as body end
+     * handlers are not called when the client disconnects before the response has ended.
+     */
+    private void trackActiveRequest(RoutingContext context) {
+        final AtomicBoolean ended = new AtomicBoolean(false);
+        final Handler<Void> end = v -> {
+            if (ended.compareAndSet(false, true)) {
+                activeRequests.decrementAndGet();
+            }
+        };
+        ConnectionCloseHandlers.add(context.request(), end);
+        context.addBodyEndHandler(v -> {
+            ConnectionCloseHandlers.remove(context.request(), end);
+            end.handle(null);
+        });
+    }
+
+    private void rejectParkedRequests() {
+        ParkedRequest parkedRequest;
+        while ((parkedRequest = parkedRequests.poll()) != null) {
+            final RoutingContext context = parkedRequest.routingContext;
+            parkedRequest.context.runOnContext(v -> {
+                context.request().resume();
+                context.response().setStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503).end();
+            });
+        }
+    }
+
+    private static class ParkedRequest {
+        private final RoutingContext routingContext;
+        private final Context context;
+
+        ParkedRequest(RoutingContext routingContext, Context context) {
+            this.routingContext = routingContext;
+            this.context = context;
+        }
+    }
+}
@@ -16,10 +16,14 @@
 package io.gravitee.am.gateway.reactor.spring;
 
 import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.email.EmailExecutor;
+import io.gravitee.am.gateway.handler.vertx.handler.StaticAssetHandler;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
 import io.gravitee.am.gateway.reactor.impl.DefaultReactor;
 import io.gravitee.am.gateway.reactor.impl.DefaultSecurityDomainHandlerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -44,4 +48,20 @@ public class ReactorConfiguration {
     public SecurityDomainRouterFactory securityDomainRouterFactory() {
         return new SecurityDomainRouterFactory();
     }
+
+    @Bean
+    public EmailExecutor emailExecutor(@Value("${email.executor.threads:2}") int threads,
+                                       @Value("${email.executor.queueCapacity:500}") int queueCapacity,
+                                       MeterRegistry meterRegistry) {
+        // shared by all the security domains to bound the resources used to send emails
+        EmailExecutor emailExecutor = new EmailExecutor(threads, queueCapacity);
+        emailExecutor.bindTo(meterRegistry);
+        return emailExecutor;
+    }
+
+    @Bean
+    public StaticAssetHandler staticAssetHandler(@Value("${http.static.maxAge:31536000}") long maxAge) {
+        // shared by all the security domains so that the assets are loaded and compressed only once
+        return new StaticAssetHandler(maxAge);
+    }
 }
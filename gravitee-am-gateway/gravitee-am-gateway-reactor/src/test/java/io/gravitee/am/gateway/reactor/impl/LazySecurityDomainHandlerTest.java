@@ -0,0 +1,198 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl;
+
+import io.gravitee.am.model.Domain;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.http.HttpServerRequest;
+import io.vertx.reactivex.core.http.HttpServerResponse;
+import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LazySecurityDomainHandlerTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private Vertx vertx;
+    private Router router;
+    private Callable<Router> activator;
+    private Runnable passivator;
+    private LazySecurityDomainHandler lazyHandler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        router = mock(Router.class);
+        activator = mock(Callable.class);
+        passivator = mock(Runnable.class);
+        when(activator.call()).thenReturn(router);
+
+        Domain domain = new Domain();
+        domain.setId("domain-id");
+        domain.setName("domain-name");
+        lazyHandler = new LazySecurityDomainHandler(domain, vertx, activator, passivator);
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldActivateOnFirstRequest() throws Exception {
+        assertFalse(lazyHandler.isActive());
+        verify(activator, never()).call();
+
+        RoutingContext firstContext = routingContext();
+        lazyHandler.handle(firstContext);
+
+        verify(router, timeout(TIMEOUT)).handleContext(firstContext);
+        verify(firstContext.request()).pause();
+        verify(firstContext.request(), timeout(TIMEOUT)).resume();
+        assertTrue(lazyHandler.isActive());
+
+        RoutingContext secondContext = routingContext();
+        lazyHandler.handle(secondContext);
+
+        verify(router).handleContext(secondContext);
+        verify(secondContext.request(), never()).pause();
+        verify(activator, times(1)).call();
+    }
+
+    @Test
+    public void shouldRejectRequests_activationFailure() throws Exception {
+        when(activator.call()).thenThrow(new IllegalStateException("activation failure"));
+
+        RoutingContext context = routingContext();
+        lazyHandler.handle(context);
+
+        verify(context.response(), timeout(TIMEOUT)).setStatusCode(503);
+        verify(router, never()).handleContext(context);
+        assertFalse(lazyHandler.isActive());
+    }
+
+    @Test
+    public void shouldPassivateIdleDomain() throws Exception {
+        RoutingContext firstContext = routingContext();
+        lazyHandler.handle(firstContext);
+        verify(router, timeout(TIMEOUT)).handleContext(firstContext);
+        endResponse(firstContext);
+
+        // not idle yet
+        lazyHandler.passivate(60000);
+        assertTrue(lazyHandler.isActive());
+
+        lazyHandler.passivate(0);
+        verify(passivator, timeout(TIMEOUT)).run();
+        assertFalse(lazyHandler.isActive());
+
+        // next request activates the domain again
+        RoutingContext secondContext = routingContext();
+        lazyHandler.handle(secondContext);
+
+        verify(router, timeout(TIMEOUT)).handleContext(secondContext);
+        verify(activator, times(2)).call();
+    }
+
+    @Test
+    public void shouldNotPassivateWithRequestInFlight() throws Exception {
+        RoutingContext firstContext = routingContext();
+        lazyHandler.handle(firstContext);
+        verify(router, timeout(TIMEOUT)).handleContext(firstContext);
+
+        RoutingContext secondContext = routingContext();
+        lazyHandler.handle(secondContext);
+        verify(router).handleContext(secondContext);
+        endResponse(firstContext);
+
+        lazyHandler.passivate(0);
+        assertTrue(lazyHandler.isActive());
+        verify(passivator, never()).run();
+
+        endResponse(secondContext);
+
+        lazyHandler.passivate(0);
+        verify(passivator, timeout(TIMEOUT)).run();
+        assertFalse(lazyHandler.isActive());
+    }
+
+    @Test
+    public void shouldPassivate_clientDisconnected() throws Exception {
+        RoutingContext firstContext = routingContext();
+        lazyHandler.handle(firstContext);
+        verify(router, timeout(TIMEOUT)).handleContext(firstContext);
+
+        RoutingContext secondContext = routingContext();
+        lazyHandler.handle(secondContext);
+        verify(router).handleContext(secondContext);
+        endResponse(firstContext);
+
+        lazyHandler.passivate(0);
+        assertTrue(lazyHandler.isActive());
+
+        // the response of the second request never ends, its connection is closed by the client
+        closeConnection(secondContext);
+        // a late body end must not be counted twice
+        endResponse(secondContext);
+
+        lazyHandler.passivate(0);
+        verify(passivator, timeout(TIMEOUT)).run();
+        assertFalse(lazyHandler.isActive());
+    }
+
+    private RoutingContext routingContext() {
+        RoutingContext context = mock(RoutingContext.class);
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        HttpConnection connection = mock(HttpConnection.class);
+        when(request.connection()).thenReturn(new io.vertx.reactivex.core.http.HttpConnection(connection));
+        when(context.request()).thenReturn(request);
+        when(context.vertx()).thenReturn(vertx);
+        HttpServerResponse response = mock(HttpServerResponse.class);
+        when(response.setStatusCode(anyInt())).thenReturn(response);
+        when(context.response()).thenReturn(response);
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void endResponse(RoutingContext context) {
+        ArgumentCaptor<Handler> bodyEndHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(context).addBodyEndHandler(bodyEndHandler.capture());
+        bodyEndHandler.getValue().handle(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void closeConnection(RoutingContext context) {
+        ArgumentCaptor<Handler> closeHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(context.request().connection().getDelegate()).closeHandler(closeHandler.capture());
+        closeHandler.getValue().handle(null);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.repository.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record the duration of each method of a repository, from the subscription to the termination of the returned
+ * reactive type (or the duration of the call for the other return types).
+ *
+ * Timers are registered once per method when the repository is wrapped.
+ *
+ * @author GraviteeSource Team
+ */
+public class MeteredRepository implements InvocationHandler {
+
+    private static final String REPOSITORY_CALLS = "am.gateway.repository.calls";
+
+    private final Object target;
+    private final Map<Method, Timer> timers = new HashMap<>();
+
+    private MeteredRepository(Class<?> repositoryInterface, Object target, MeterRegistry meterRegistry) {
+        this.target = target;
+        for (Method method : repositoryInterface.getMethods()) {
+            timers.put(method, Timer.builder(REPOSITORY_CALLS)
+                    .description("Duration of the repository calls")
+                    .tag("repository", repositoryInterface.getSimpleName())
+                    .tag("method", method.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param repositoryInterface repository interface to instrument
+     * @param target the repository
+     * @param meterRegistry registry of the timers
+     * @return a proxy of the repository recording the duration of each method
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T wrap(Class<T> repositoryInterface, Object target, MeterRegistry meterRegistry) {
+        return (T) Proxy.newProxyInstance(repositoryInterface.getClassLoader(), new Class<?>[]{repositoryInterface},
+                new MeteredRepository(repositoryInterface, target, meterRegistry));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        final Timer timer = timers.get(method);
+        if (timer == null) {
+            // Object methods
+            return invokeTarget(method, args);
+        }
+
+        final long start = System.nanoTime();
+        final Object result = invokeTarget(method, args);
+
+        if (result instanceof Single) {
+            return Single.defer(() -> {
+                long subscribed = System.nanoTime();
+                return ((Single<?>) result).doFinally(() -> record(timer, subscribed));
+            });
+        } else if (result instanceof Maybe) {
+            return Maybe.defer(() -> {
+                long subscribed = System.nanoTime();
+                return ((Maybe<?>) result).doFinally(() -> record(timer, subscribed));
+            });
+        } else if (result instanceof Completable) {
+            return Completable.defer(() -> {
+                long subscribed = System.nanoTime();
+                return ((Completable) result).doFinally(() -> record(timer, subscribed));
+            });
+        } else if (result instanceof Flowable) {
+            return Flowable.defer(() -> {
+                long subscribed = System.nanoTime();
+                return ((Flowable<?>) result).doFinally(() -> record(timer, subscribed));
+            });
+        } else if (result instanceof Observable) {
+            return Observable.defer(() -> {
+                long subscribed = System.nanoTime();
+                return ((Observable<?>) result).doFinally(() -> record(timer, subscribed));
+            });
+        }
+
+        record(timer, start);
+        return result;
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
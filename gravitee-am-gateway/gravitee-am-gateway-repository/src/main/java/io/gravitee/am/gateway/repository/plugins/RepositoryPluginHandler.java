@@ -15,10 +15,14 @@
  */
 package io.gravitee.am.gateway.repository.plugins;
 
+import io.gravitee.am.gateway.repository.metrics.MeteredRepository;
 import io.gravitee.am.repository.Repository;
 import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.management.api.UserRepository;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.plugin.core.api.*;
 import io.gravitee.plugin.core.internal.AnnotationBasedPluginContextConfigurer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -29,10 +33,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.Environment;
 import org.springframework.util.Assert;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author David BRASSELY (brasseld at gmail.com)
@@ -54,6 +55,12 @@ public class RepositoryPluginHandler implements PluginHandler, InitializingBean
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // repositories for which the duration of each method is recorded
+    private static final Set<Class<?>> METERED_REPOSITORIES = new HashSet<>(Arrays.asList(AccessTokenRepository.class, UserRepository.class));
+
     private final Map<Scope, Repository> repositories = new HashMap<>();
     private final Map<Scope, String> repositoryTypeByScope = new HashMap<>();
 
@@ -132,6 +139,9 @@ public class RepositoryPluginHandler implements PluginHandler, InitializingBean
                 if (repositoryObjectClass.getInterfaces().length > 0) {
                     Class<?> repositoryItfClass = repositoryObjectClass.getInterfaces()[0];
                     LOGGER.debug("Register {} [{}] in gateway context", beanName, repositoryItfClass);
+                    if (environment.getProperty("metrics.enabled", Boolean.class, false) && METERED_REPOSITORIES.contains(repositoryItfClass)) {
+                        repositoryClassInstance = MeteredRepository.wrap(repositoryItfClass, repositoryClassInstance, meterRegistry);
+                    }
                     beanFactory.registerSingleton(repositoryItfClass.getName(),
                             repositoryClassInstance);
                 }
@@ -21,11 +21,16 @@ import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.common.event.EventManager;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +40,7 @@ import java.util.stream.Collectors;
 public class SyncManager {
 
     private final Logger logger = LoggerFactory.getLogger(SyncManager.class);
+    private static final String PARALLEL_DEPLOYMENT_MODE = "parallel";
 
     @Autowired
     private DomainRepository domainRepository;
@@ -42,7 +48,13 @@ public class SyncManager {
     @Autowired
     private EventManager eventManager;
 
-    private Map<String, Domain> deployedDomains = new HashMap<>();
+    @Value("${services.sync.deployment.mode:sequential}")
+    private String deploymentMode;
+
+    @Value("${services.sync.deployment.concurrency:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int deploymentConcurrency;
+
+    private Map<String, Domain> deployedDomains = new ConcurrentHashMap<>();
 
     public void refresh() {
         logger.debug("Refreshing sync state...");
@@ -87,15 +99,17 @@ public class SyncManager {
                     }
                 });
 
-        // Deploy domains
+        // Deploy new domains
+        deploy(domains.stream()
+                .filter(domain -> domain.isEnabled() && !deployedDomains.containsKey(domain.getId()))
+                .collect(Collectors.toList()));
+
+        // Update domains
         domains.stream()
                 .filter(domain -> domain.isEnabled())
                 .forEach(domain -> {
                     Domain deployedDomain = deployedDomains.get(domain.getId());
-                    if (deployedDomain == null) {
-                        eventManager.publishEvent(DomainEvent.DEPLOY, domain);
-                        deployedDomains.put(domain.getId(), domain);
-                    } else {
+                    if (deployedDomain != null) {
                         // Check last update date
                         if (domain.getUpdatedAt().after(deployedDomain.getUpdatedAt())) {
                             // get event type and publish corresponding event
@@ -110,4 +124,23 @@ public class SyncManager {
                     }
                 });
     }
+
+    private void deploy(List<Domain> domains) {
+        if (PARALLEL_DEPLOYMENT_MODE.equalsIgnoreCase(deploymentMode) && domains.size() > 1) {
+            logger.info("Deploying {} domains with a concurrency of {}", domains.size(), deploymentConcurrency);
+            Flowable.fromIterable(domains)
+                    .flatMapCompletable(domain -> Completable.fromAction(() -> deploy(domain))
+                            .subscribeOn(Schedulers.io())
+                            .doOnError(error -> logger.error("Unable to deploy domain {}", domain.getName(), error))
+                            .onErrorComplete(), false, Math.max(1, deploymentConcurrency))
+                    .blockingAwait();
+        } else {
+            domains.forEach(this::deploy);
+        }
+    }
+
+    private void deploy(Domain domain) {
+        eventManager.publishEvent(DomainEvent.DEPLOY, domain);
+        deployedDomains.put(domain.getId(), domain);
+    }
 }
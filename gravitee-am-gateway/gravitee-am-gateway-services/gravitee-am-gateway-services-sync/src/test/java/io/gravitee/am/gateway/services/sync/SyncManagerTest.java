@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.services.sync;
+
+import io.gravitee.am.gateway.core.event.DomainEvent;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.repository.management.api.DomainRepository;
+import io.gravitee.common.event.EventManager;
+import io.reactivex.Single;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    @InjectMocks
+    private SyncManager syncManager = new SyncManager();
+
+    @Mock
+    private DomainRepository domainRepository;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Test
+    public void shouldDeployDomains_sequential() throws Exception {
+        setField("deploymentMode", "sequential");
+        Set<Domain> domains = domains(3);
+        when(domainRepository.findAll()).thenReturn(Single.just(domains));
+
+        syncManager.refresh();
+
+        domains.forEach(domain -> verify(eventManager, times(1)).publishEvent(DomainEvent.DEPLOY, domain));
+    }
+
+    @Test
+    public void shouldDeployDomains_parallel() throws Exception {
+        setField("deploymentMode", "parallel");
+        setField("deploymentConcurrency", 4);
+        Set<Domain> domains = domains(20);
+        when(domainRepository.findAll()).thenReturn(Single.just(domains));
+
+        syncManager.refresh();
+
+        domains.forEach(domain -> verify(eventManager, times(1)).publishEvent(DomainEvent.DEPLOY, domain));
+    }
+
+    @Test
+    public void shouldDeployOtherDomains_parallel_oneFails() throws Exception {
+        setField("deploymentMode", "parallel");
+        setField("deploymentConcurrency", 2);
+        Set<Domain> domains = domains(5);
+        Domain failingDomain = domains.iterator().next();
+        doThrow(new IllegalStateException("deployment failure")).when(eventManager).publishEvent(DomainEvent.DEPLOY, failingDomain);
+        when(domainRepository.findAll()).thenReturn(Single.just(domains));
+
+        syncManager.refresh();
+
+        domains.forEach(domain -> verify(eventManager, times(1)).publishEvent(DomainEvent.DEPLOY, domain));
+
+        // the failing domain is not marked as deployed and is deployed again on the next refresh
+        syncManager.refresh();
+
+        verify(eventManager, times(2)).publishEvent(DomainEvent.DEPLOY, failingDomain);
+        domains.stream()
+                .filter(domain -> domain != failingDomain)
+                .forEach(domain -> verify(eventManager, times(1)).publishEvent(DomainEvent.DEPLOY, domain));
+    }
+
+    @Test
+    public void shouldNotDeployMasterAndDisabledDomains() throws Exception {
+        setField("deploymentMode", "parallel");
+        setField("deploymentConcurrency", 2);
+        Set<Domain> domains = domains(2);
+        Domain masterDomain = domain("master");
+        masterDomain.setMaster(true);
+        Domain disabledDomain = domain("disabled");
+        disabledDomain.setEnabled(false);
+        domains.add(masterDomain);
+        domains.add(disabledDomain);
+        when(domainRepository.findAll()).thenReturn(Single.just(domains));
+
+        syncManager.refresh();
+
+        verify(eventManager, never()).publishEvent(DomainEvent.DEPLOY, masterDomain);
+        verify(eventManager, never()).publishEvent(DomainEvent.DEPLOY, disabledDomain);
+        verify(eventManager, times(2)).publishEvent(eq(DomainEvent.DEPLOY), any(Domain.class));
+    }
+
+    private Set<Domain> domains(int count) {
+        Set<Domain> domains = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            domains.add(domain("domain-" + i));
+        }
+        return domains;
+    }
+
+    private Domain domain(String id) {
+        Domain domain = new Domain();
+        domain.setId(id);
+        domain.setName(id);
+        domain.setEnabled(true);
+        domain.setUpdatedAt(new Date());
+        return domain;
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = SyncManager.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(syncManager, value);
+    }
+}
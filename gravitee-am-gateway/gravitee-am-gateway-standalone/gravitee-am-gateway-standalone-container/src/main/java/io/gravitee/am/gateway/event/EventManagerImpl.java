@@ -15,7 +15,6 @@
  */
 package io.gravitee.am.gateway.event;
 
-import com.google.common.collect.Lists;
 import io.gravitee.common.event.Event;
 import io.gravitee.common.event.EventListener;
 import io.gravitee.common.event.EventManager;
@@ -24,6 +23,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Override default event manager to enable concurrent access
@@ -35,7 +36,7 @@ public class EventManagerImpl implements EventManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(io.gravitee.common.event.impl.EventManagerImpl.class);
 
-    private Map<ComparableEventType, List<EventListenerWrapper>> listenersMap = new TreeMap<>();
+    private Map<ComparableEventType, List<EventListenerWrapper>> listenersMap = new ConcurrentSkipListMap<>();
 
     public void publishEvent(Enum type, Object content) {
         this.publishEvent(new SimpleEvent(type, content));
@@ -45,9 +46,8 @@ public class EventManagerImpl implements EventManager {
         LOGGER.debug("Publish event {} - {}", event.type(), event.content());
 
         List<EventListenerWrapper> listeners = getEventListeners(event.type().getClass());
-        List<EventListenerWrapper> safeConcurrentListeners = Lists.newArrayList(listeners.iterator());
 
-        for(EventListenerWrapper listener : safeConcurrentListeners) {
+        for(EventListenerWrapper listener : listeners) {
             listener.eventListener().onEvent(event);
         }
     }
@@ -70,14 +70,8 @@ public class EventManagerImpl implements EventManager {
     }
 
     private <T extends Enum> List<EventListenerWrapper> getEventListeners(Class<T> eventType) {
-        List<EventListenerWrapper> listeners = this.listenersMap.get(new ComparableEventType(eventType));
-
-        if (listeners == null) {
-            listeners = new ArrayList<>();
-            this.listenersMap.put(new ComparableEventType(eventType), listeners);
-        }
-
-        return listeners;
+        // domains can be deployed concurrently, listeners may be registered while events are published
+        return this.listenersMap.computeIfAbsent(new ComparableEventType(eventType), k -> new CopyOnWriteArrayList<>());
     }
 
     private class EventListenerWrapper<T extends Enum> {
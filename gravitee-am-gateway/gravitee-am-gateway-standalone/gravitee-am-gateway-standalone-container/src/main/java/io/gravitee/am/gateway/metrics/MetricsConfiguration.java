@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.ext.web.sstore.LocalSessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics of the gateway, exposed in the Prometheus text format on a dedicated HTTP port.
+ *
+ * When metrics are disabled, meters are registered into a registry without any backend so that they do nothing.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Value("${metrics.enabled:false}")
+    private boolean enabled;
+
+    @Bean
+    public MeterRegistry meterRegistry(Vertx vertx) {
+        if (!enabled) {
+            return new CompositeMeterRegistry();
+        }
+
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // sessions of all the security domains are stored in the same local map
+        LocalMap<Object, Object> sessions = vertx.sharedData().getLocalMap(LocalSessionStore.DEFAULT_SESSION_MAP_NAME);
+        Gauge.builder("am.gateway.sessions.active", sessions, LocalMap::size)
+                .description("Number of end-user sessions")
+                .register(meterRegistry);
+        return meterRegistry;
+    }
+
+    @Bean
+    public MetricsServer metricsServer() {
+        return new MetricsServer();
+    }
+}
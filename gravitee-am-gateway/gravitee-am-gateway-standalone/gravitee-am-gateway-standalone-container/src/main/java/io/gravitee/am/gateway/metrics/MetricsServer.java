@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.metrics;
+
+import io.gravitee.common.component.AbstractLifecycleComponent;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.http.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * HTTP server exposing the gateway metrics in the Prometheus text format.
+ *
+ * The server listens on its own port so that metrics are not reachable from the security domain entry points.
+ *
+ * @author GraviteeSource Team
+ */
+public class MetricsServer extends AbstractLifecycleComponent<MetricsServer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+    private static final String METRICS_PATH = "/metrics";
+
+    @Value("${metrics.enabled:false}")
+    private boolean enabled;
+
+    @Value("${metrics.port:18092}")
+    private int port;
+
+    @Value("${metrics.host:localhost}")
+    private String host;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Vertx vertx;
+
+    private HttpServer httpServer;
+
+    @Override
+    protected void doStart() {
+        if (!enabled || !(meterRegistry instanceof PrometheusMeterRegistry)) {
+            return;
+        }
+
+        final PrometheusMeterRegistry prometheusMeterRegistry = (PrometheusMeterRegistry) meterRegistry;
+        httpServer = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    if (request.method() == HttpMethod.GET && METRICS_PATH.equals(request.path())) {
+                        request.response()
+                                .putHeader(HttpHeaders.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004)
+                                .end(prometheusMeterRegistry.scrape());
+                    } else {
+                        request.response().setStatusCode(HttpStatusCode.NOT_FOUND_404).end();
+                    }
+                });
+
+        httpServer.rxListen(port, host)
+                .subscribe(
+                        server -> logger.info("Metrics are exposed on http://{}:{}{}", host, server.actualPort(), METRICS_PATH),
+                        error -> logger.error("Unable to start the metrics HTTP server on port {}", port, error));
+    }
+
+    @Override
+    protected void doStop() {
+        if (httpServer != null) {
+            httpServer.close();
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.node;
 
+import io.gravitee.am.gateway.metrics.MetricsServer;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.vertx.VertxEmbeddedContainer;
 import io.gravitee.common.component.LifecycleComponent;
@@ -45,6 +46,7 @@ public class GatewayNode extends AbstractNode {
 
         components.add(Reactor.class);
         components.add(VertxEmbeddedContainer.class);
+        components.add(MetricsServer.class);
 
         return components;
     }
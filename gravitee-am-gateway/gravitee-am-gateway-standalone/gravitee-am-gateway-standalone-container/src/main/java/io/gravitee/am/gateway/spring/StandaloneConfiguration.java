@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.spring;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.gravitee.am.gateway.event.EventManagerImpl;
+import io.gravitee.am.gateway.metrics.MetricsConfiguration;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.gravitee.am.gateway.node.GatewayNode;
 import io.gravitee.am.gateway.reactor.spring.ReactorConfiguration;
@@ -48,7 +49,8 @@ import org.springframework.context.annotation.Import;
         PluginConfiguration.class,
         IdentityProviderConfiguration.class,
         CertificateConfiguration.class,
-        ExtensionGrantConfiguration.class
+        ExtensionGrantConfiguration.class,
+        MetricsConfiguration.class
 })
 public class StandaloneConfiguration {
 
@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.reactivex.Completable;
+
+/**
+ * A scenario repeatedly run by each virtual user, only {@link #execute(VirtualUser)} is measured.
+ *
+ * @author GraviteeSource Team
+ */
+public interface Flow {
+
+    String name();
+
+    /**
+     * Obtain the state the measured iterations rely on, for example the token to introspect.
+     */
+    default Completable prepare(VirtualUser user) {
+        return Completable.complete();
+    }
+
+    Completable execute(VirtualUser user);
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.core.MultiMap;
+import io.vertx.reactivex.core.buffer.Buffer;
+import io.vertx.reactivex.ext.web.client.HttpRequest;
+import io.vertx.reactivex.ext.web.client.HttpResponse;
+import io.vertx.reactivex.ext.web.client.WebClient;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static io.vertx.core.http.HttpHeaders.COOKIE;
+import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
+
+/**
+ * HTTP calls of the load test flows, on behalf of a {@link VirtualUser}.
+ *
+ * Redirections are not followed by the web client: the flows follow them explicitly so that the cookies set on
+ * each hop are kept in the virtual user cookie jar.
+ *
+ * @author GraviteeSource Team
+ */
+public class GatewayClient {
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final String clientAuthorization;
+
+    public GatewayClient(WebClient webClient, String baseUrl, String clientId, String clientSecret) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.clientAuthorization = "Basic " + Base64.getEncoder().encodeToString((clientId + ':' + clientSecret).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String url(String path) {
+        return baseUrl + path;
+    }
+
+    public Single<HttpResponse<Buffer>> get(VirtualUser user, String url) {
+        return send(user, webClient.getAbs(absolute(url)), null);
+    }
+
+    public Single<HttpResponse<Buffer>> postForm(VirtualUser user, String url, MultiMap form) {
+        return send(user, webClient.postAbs(absolute(url)), form);
+    }
+
+    /**
+     * Call the token endpoint with the client credentials and return the token response.
+     */
+    public Single<JsonObject> token(MultiMap form) {
+        return webClient.postAbs(url("/oauth/token"))
+                .putHeader(HttpHeaders.AUTHORIZATION, clientAuthorization)
+                .rxSendForm(form)
+                .map(response -> expectJson(response, "token"));
+    }
+
+    /**
+     * Call the introspection endpoint with the client credentials and return the introspection response.
+     */
+    public Single<JsonObject> introspect(String token) {
+        return webClient.postAbs(url("/oauth/introspect"))
+                .putHeader(HttpHeaders.AUTHORIZATION, clientAuthorization)
+                .rxSendForm(MultiMap.caseInsensitiveMultiMap().set("token", token))
+                .map(response -> expectJson(response, "introspection"));
+    }
+
+    public static String location(HttpResponse<Buffer> response, String step) {
+        String location = response.getHeader(HttpHeaders.LOCATION);
+        if (response.statusCode() != HttpStatusCode.FOUND_302 || location == null) {
+            throw new IllegalStateException("Expected a redirection on " + step + " but got " + response.statusCode());
+        }
+        return location;
+    }
+
+    private Single<HttpResponse<Buffer>> send(VirtualUser user, HttpRequest<Buffer> request, MultiMap form) {
+        if (user.hasCookies()) {
+            request.putHeader(COOKIE.toString(), user.cookieHeader());
+        }
+        Single<HttpResponse<Buffer>> response = form == null ? request.rxSend() : request.rxSendForm(form);
+        return response.doOnSuccess(httpResponse -> user.storeCookies(httpResponse.headers().getAll(SET_COOKIE.toString())));
+    }
+
+    private String absolute(String url) {
+        if (url.startsWith("http://") || url.startsWith("https://")) {
+            return url;
+        }
+        URI base = URI.create(baseUrl);
+        return base.getScheme() + "://" + base.getAuthority() + url;
+    }
+
+    private static JsonObject expectJson(HttpResponse<Buffer> response, String endpoint) {
+        if (response.statusCode() != HttpStatusCode.OK_200) {
+            throw new IllegalStateException("Unexpected " + endpoint + " response " + response.statusCode() + ": " + response.bodyAsString());
+        }
+        return response.bodyAsJsonObject();
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Single;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.client.WebClient;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Run the OAuth 2.0 flows against a standalone gateway backed by the in-memory repositories, no database nor network
+ * access is required.
+ *
+ * The test is skipped by default, run it with:
+ * <pre>mvn test -DskipLoadTests=false [-Dloadtest.users=50] [-Dloadtest.warmup=5] [-Dloadtest.duration=20]</pre>
+ * where warmup and duration are in seconds.
+ *
+ * @author GraviteeSource Team
+ */
+public class GatewayLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayLoadTest.class);
+
+    private static final String JWT_SECRET = "s3cR3t4grAv1t3310AMS1g1ingDftK3y";
+    private static final long STARTUP_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+    private static final List<LoadReport> reports = new ArrayList<>();
+
+    private static LoadTestGatewayContainer container;
+    private static Vertx vertx;
+    private static GatewayClient client;
+    private static LoadGenerator loadGenerator;
+
+    @BeforeClass
+    public static void startGateway() throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 20));
+
+        Path home = Paths.get(System.getProperty("gravitee.home", "target/gravitee-home")).toAbsolutePath();
+        System.setProperty("gravitee.home", home.toString());
+        int port = freePort();
+        Path configuration = writeConfiguration(home, port, users);
+        System.setProperty("gravitee.conf", configuration.toString());
+
+        container = new LoadTestGatewayContainer();
+        container.start();
+
+        vertx = Vertx.vertx();
+        WebClient webClient = WebClient.create(vertx, new WebClientOptions()
+                .setFollowRedirects(false)
+                .setKeepAlive(true)
+                .setMaxPoolSize(users));
+        client = new GatewayClient(webClient, "http://127.0.0.1:" + port + '/' + LoadTestData.DOMAIN, LoadTestData.CLIENT_ID, LoadTestData.CLIENT_SECRET);
+        loadGenerator = new LoadGenerator(users, warmup, duration);
+
+        waitForDomain(webClient);
+    }
+
+    @AfterClass
+    public static void stopGateway() throws Exception {
+        reports.forEach(report -> logger.info("{}", report));
+        if (vertx != null) {
+            vertx.close();
+        }
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Test
+    public void clientCredentials() {
+        run(OAuth2Flows.clientCredentials(client));
+    }
+
+    @Test
+    public void authorizationCode() {
+        run(OAuth2Flows.authorizationCode(client));
+    }
+
+    @Test
+    public void refreshToken() {
+        run(OAuth2Flows.refreshToken(client));
+    }
+
+    @Test
+    public void introspection() {
+        run(OAuth2Flows.introspection(client));
+    }
+
+    private static void run(Flow flow) {
+        LoadReport report = loadGenerator.run(flow);
+        reports.add(report);
+        logger.info("{}", report);
+
+        assertTrue("No iteration completed for " + flow.name(), report.getCount() > 0);
+        assertEquals("Failed iterations for " + flow.name(), 0, report.getErrors());
+    }
+
+    private static Path writeConfiguration(Path home, int port, int users) throws IOException {
+        Path configuration = home.resolve("config").resolve("gravitee.yml");
+        Files.createDirectories(configuration.getParent());
+        String yaml = "http:\n" +
+                "  host: 127.0.0.1\n" +
+                "  port: " + port + "\n" +
+                "plugins:\n" +
+                "  path: " + home.resolve("plugins") + "\n" +
+                // repositories are provided by the load test context, no repository plugin is loaded
+                "management:\n" +
+                "  type: memory\n" +
+                "oauth2:\n" +
+                "  type: memory\n" +
+                "services:\n" +
+                "  core:\n" +
+                "    http:\n" +
+                "      enabled: false\n" +
+                "  sync:\n" +
+                "    cron: \"*/1 * * * * *\"\n" +
+                "jwt:\n" +
+                "  secret: " + JWT_SECRET + "\n" +
+                "gateway:\n" +
+                "  url: http://127.0.0.1:" + port + "\n" +
+                "loadtest:\n" +
+                "  users: " + users + "\n";
+        Files.write(configuration, yaml.getBytes(StandardCharsets.UTF_8));
+        return configuration;
+    }
+
+    private static void waitForDomain(WebClient webClient) throws InterruptedException {
+        // the domain is deployed by the next sync and activated by its first request
+        String discovery = client.url("/oidc/.well-known/openid-configuration");
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT;
+        while (System.currentTimeMillis() < deadline) {
+            int status = webClient.getAbs(discovery).rxSend()
+                    .map(response -> response.statusCode())
+                    .onErrorResumeNext(error -> Single.just(-1))
+                    .blockingGet();
+            if (status == HttpStatusCode.OK_200) {
+                logger.info("Security domain {} is ready", LoadTestData.DOMAIN);
+                return;
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Security domain " + LoadTestData.DOMAIN + " has not been deployed within " + STARTUP_TIMEOUT + " ms");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
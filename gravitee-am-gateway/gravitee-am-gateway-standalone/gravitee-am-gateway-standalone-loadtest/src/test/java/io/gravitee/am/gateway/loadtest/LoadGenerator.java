@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Closed-loop load generator: each virtual user sends its next iteration as soon as the previous one is over,
+ * so the offered load adapts to the gateway latency and the throughput measures what the gateway sustains.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public LoadGenerator(int users, Duration warmup, Duration duration) {
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public LoadReport run(Flow flow) {
+        List<VirtualUser> virtualUsers = IntStream.range(0, users)
+                .mapToObj(i -> new VirtualUser(LoadTestData.username(i)))
+                .collect(Collectors.toList());
+
+        Observable.fromIterable(virtualUsers)
+                .flatMapCompletable(flow::prepare)
+                .blockingAwait();
+
+        logger.info("Warming up {} with {} virtual users for {} ms", flow.name(), users, warmup.toMillis());
+        run(flow, virtualUsers, warmup.toNanos(), new Recorder());
+
+        logger.info("Measuring {} with {} virtual users for {} ms", flow.name(), users, duration.toMillis());
+        Recorder recorder = new Recorder();
+        long start = System.nanoTime();
+        run(flow, virtualUsers, duration.toNanos(), recorder);
+        long elapsed = System.nanoTime() - start;
+
+        return new LoadReport(flow.name(), users, elapsed, recorder.latencies(), recorder.errors.get());
+    }
+
+    private void run(Flow flow, List<VirtualUser> virtualUsers, long durationNanos, Recorder recorder) {
+        long deadline = System.nanoTime() + durationNanos;
+        Observable.fromIterable(virtualUsers)
+                .flatMapCompletable(user -> iteration(flow, user, recorder)
+                        .repeatUntil(() -> System.nanoTime() - deadline >= 0))
+                .blockingAwait();
+    }
+
+    private Completable iteration(Flow flow, VirtualUser user, Recorder recorder) {
+        return Completable.defer(() -> {
+            long start = System.nanoTime();
+            return flow.execute(user)
+                    .doOnComplete(() -> recorder.record(System.nanoTime() - start))
+                    .doOnError(error -> recorder.error(flow, error))
+                    .onErrorComplete();
+        });
+    }
+
+    private static class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+        void error(Flow flow, Throwable error) {
+            // only the first errors are logged, the others are counted
+            if (errors.incrementAndGet() <= 10) {
+                logger.warn("{} iteration failed", flow.name(), error);
+            }
+        }
+
+        synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
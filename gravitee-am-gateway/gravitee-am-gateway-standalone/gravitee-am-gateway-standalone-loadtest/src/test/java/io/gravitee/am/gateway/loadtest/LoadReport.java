@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency distribution of a measured run.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoadReport {
+
+    private final String flow;
+    private final int users;
+    private final long durationNanos;
+    private final long[] latencies;
+    private final long errors;
+
+    LoadReport(String flow, int users, long durationNanos, long[] latencies, long errors) {
+        this.flow = flow;
+        this.users = users;
+        this.durationNanos = durationNanos;
+        this.latencies = latencies;
+        this.errors = errors;
+        Arrays.sort(this.latencies);
+    }
+
+    public String getFlow() {
+        return flow;
+    }
+
+    public long getCount() {
+        return latencies.length;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return successful iterations per second
+     */
+    public double getThroughput() {
+        return durationNanos == 0 ? 0 : latencies.length * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return latency in milliseconds, nearest-rank method
+     */
+    public double getLatency(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+        return toMillis(latencies[Math.max(0, Math.min(latencies.length, rank) - 1)]);
+    }
+
+    public double getMaxLatency() {
+        return latencies.length == 0 ? 0 : toMillis(latencies[latencies.length - 1]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-20s users=%-4d iterations=%-8d errors=%-6d throughput=%9.1f/s p50=%8.2fms p99=%8.2fms max=%8.2fms",
+                flow, users, getCount(), errors, getThroughput(), getLatency(50), getLatency(99), getMaxLatency());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
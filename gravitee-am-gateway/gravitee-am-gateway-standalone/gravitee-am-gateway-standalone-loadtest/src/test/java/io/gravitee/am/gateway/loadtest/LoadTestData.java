@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.gravitee.am.common.oauth2.GrantType;
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.IdentityProvider;
+import io.gravitee.am.model.oauth2.Scope;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.management.api.DomainRepository;
+import io.gravitee.am.repository.management.api.IdentityProviderRepository;
+import io.gravitee.am.repository.management.api.ScopeRepository;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.util.*;
+
+/**
+ * Security domain, client, identity provider and users the load test runs against.
+ *
+ * The data is written to the repositories when the gateway context starts, the domain is then deployed by the
+ * sync service as it would be with any other repository.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoadTestData implements InitializingBean {
+
+    public static final String DOMAIN = "loadtest";
+    public static final String CLIENT_ID = "loadtest-client";
+    public static final String CLIENT_SECRET = "loadtest-secret";
+    public static final String REDIRECT_URI = "http://localhost/callback";
+    public static final String SCOPE = "read";
+    public static final String USER_PASSWORD = "password";
+    private static final String IDENTITY_PROVIDER = "loadtest-inline-idp";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private DomainRepository domainRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private IdentityProviderRepository identityProviderRepository;
+
+    @Autowired
+    private ScopeRepository scopeRepository;
+
+    public static String username(int index) {
+        return "user" + index;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int users = environment.getProperty("loadtest.users", Integer.class, 50);
+        Date now = new Date();
+
+        Scope scope = new Scope();
+        scope.setKey(SCOPE);
+        scope.setName(SCOPE);
+        scope.setDomain(DOMAIN);
+        scope.setCreatedAt(now);
+        scope.setUpdatedAt(now);
+        scopeRepository.create(scope).blockingGet();
+
+        JsonArray inlineUsers = new JsonArray();
+        for (int i = 0; i < users; i++) {
+            inlineUsers.add(new JsonObject()
+                    .put("firstname", "Load")
+                    .put("lastname", "Test " + i)
+                    .put("username", username(i))
+                    .put("email", username(i) + "@loadtest.local")
+                    .put("password", USER_PASSWORD));
+        }
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setId(IDENTITY_PROVIDER);
+        identityProvider.setName("Load test users");
+        identityProvider.setType("inline-am-idp");
+        identityProvider.setConfiguration(new JsonObject().put("users", inlineUsers).encode());
+        identityProvider.setMappers(new HashMap<>());
+        identityProvider.setRoleMapper(new HashMap<>());
+        identityProvider.setDomain(DOMAIN);
+        identityProvider.setCreatedAt(now);
+        identityProvider.setUpdatedAt(now);
+        identityProviderRepository.create(identityProvider).blockingGet();
+
+        Client client = new Client();
+        client.setClientId(CLIENT_ID);
+        client.setClientSecret(CLIENT_SECRET);
+        client.setClientName("Load test client");
+        client.setRedirectUris(Collections.singletonList(REDIRECT_URI));
+        client.setAuthorizedGrantTypes(Arrays.asList(GrantType.AUTHORIZATION_CODE, GrantType.CLIENT_CREDENTIALS, GrantType.REFRESH_TOKEN));
+        client.setScopes(new ArrayList<>(Collections.singletonList(SCOPE)));
+        client.setAutoApproveScopes(Collections.singletonList("true"));
+        client.setIdentities(Collections.singleton(IDENTITY_PROVIDER));
+        client.setDomain(DOMAIN);
+        client.setEnabled(true);
+        client.setCreatedAt(now);
+        client.setUpdatedAt(now);
+        clientRepository.create(client).blockingGet();
+
+        Domain domain = new Domain();
+        domain.setId(DOMAIN);
+        domain.setName(DOMAIN);
+        domain.setPath(DOMAIN);
+        domain.setEnabled(true);
+        domain.setCreatedAt(now);
+        domain.setUpdatedAt(now);
+        domainRepository.create(domain).blockingGet();
+    }
+}
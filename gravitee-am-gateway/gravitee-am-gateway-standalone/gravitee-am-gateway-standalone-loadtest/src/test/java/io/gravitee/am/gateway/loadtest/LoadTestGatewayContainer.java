@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.gravitee.am.gateway.container.GatewayContainer;
+import io.gravitee.am.repository.memory.management.ManagementRepositoryConfiguration;
+import io.gravitee.am.repository.memory.oauth2.OAuth2RepositoryConfiguration;
+
+import java.util.List;
+
+/**
+ * Standalone gateway backed by the in-memory repositories and seeded with the load test security domain.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoadTestGatewayContainer extends GatewayContainer {
+
+    @Override
+    protected List<Class<?>> annotatedClasses() {
+        List<Class<?>> classes = super.annotatedClasses();
+        // register the in-memory repositories in the gateway context, in place of the beans a repository plugin would register
+        classes.add(ManagementRepositoryConfiguration.class);
+        classes.add(OAuth2RepositoryConfiguration.class);
+        classes.add(LoadTestData.class);
+        return classes;
+    }
+
+    @Override
+    protected String name() {
+        return "Gravitee.io - AM Gateway - Load test";
+    }
+}
@@ -0,0 +1,225 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import io.gravitee.am.common.oauth2.GrantType;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.core.MultiMap;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The OAuth 2.0 flows driven by the load test.
+ *
+ * @author GraviteeSource Team
+ */
+public final class OAuth2Flows {
+
+    private static final String CSRF_PARAMETER = "X-XSRF-TOKEN";
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"" + CSRF_PARAMETER + "\"\\s+value=\"([^\"]*)\"");
+
+    private OAuth2Flows() {
+    }
+
+    /**
+     * Client credentials grant, a single call to the token endpoint.
+     */
+    public static Flow clientCredentials(GatewayClient client) {
+        return new Flow() {
+            @Override
+            public String name() {
+                return "client_credentials";
+            }
+
+            @Override
+            public Completable execute(VirtualUser user) {
+                return clientCredentialsToken(client).toCompletable();
+            }
+        };
+    }
+
+    /**
+     * Authorization code grant, the way a browser runs it: authorization request, login page, login form submission,
+     * authorization response and code exchange at the token endpoint.
+     */
+    public static Flow authorizationCode(GatewayClient client) {
+        return new Flow() {
+            @Override
+            public String name() {
+                return "authorization_code";
+            }
+
+            @Override
+            public Completable execute(VirtualUser user) {
+                return authorizationCodeToken(client, user).toCompletable();
+            }
+        };
+    }
+
+    /**
+     * Refresh token grant, each iteration uses the refresh token returned by the previous one.
+     */
+    public static Flow refreshToken(GatewayClient client) {
+        return new Flow() {
+            @Override
+            public String name() {
+                return "refresh_token";
+            }
+
+            @Override
+            public Completable prepare(VirtualUser user) {
+                return authorizationCodeToken(client, user).toCompletable();
+            }
+
+            @Override
+            public Completable execute(VirtualUser user) {
+                MultiMap form = MultiMap.caseInsensitiveMultiMap()
+                        .set("grant_type", GrantType.REFRESH_TOKEN)
+                        .set("refresh_token", user.getRefreshToken());
+                return client.token(form)
+                        .doOnSuccess(token -> storeTokens(user, token))
+                        .toCompletable();
+            }
+        };
+    }
+
+    /**
+     * Token introspection of an access token obtained with the client credentials grant.
+     */
+    public static Flow introspection(GatewayClient client) {
+        return new Flow() {
+            @Override
+            public String name() {
+                return "introspection";
+            }
+
+            @Override
+            public Completable prepare(VirtualUser user) {
+                return clientCredentialsToken(client)
+                        .doOnSuccess(token -> storeTokens(user, token))
+                        .toCompletable();
+            }
+
+            @Override
+            public Completable execute(VirtualUser user) {
+                return client.introspect(user.getAccessToken())
+                        .doOnSuccess(introspection -> {
+                            if (!introspection.getBoolean("active", false)) {
+                                throw new IllegalStateException("Access token is not active");
+                            }
+                        })
+                        .toCompletable();
+            }
+        };
+    }
+
+    private static Single<JsonObject> clientCredentialsToken(GatewayClient client) {
+        MultiMap form = MultiMap.caseInsensitiveMultiMap()
+                .set("grant_type", GrantType.CLIENT_CREDENTIALS)
+                .set("scope", LoadTestData.SCOPE);
+        return client.token(form);
+    }
+
+    private static Single<JsonObject> authorizationCodeToken(GatewayClient client, VirtualUser user) {
+        // every iteration starts a new browser session
+        user.clearCookies();
+        String authorizationRequest = client.url("/oauth/authorize?response_type=code"
+                + "&client_id=" + encode(LoadTestData.CLIENT_ID)
+                + "&redirect_uri=" + encode(LoadTestData.REDIRECT_URI)
+                + "&scope=" + encode(LoadTestData.SCOPE)
+                + "&state=" + encode(user.getUsername()));
+
+        return client.get(user, authorizationRequest)
+                .flatMap(response -> client.get(user, GatewayClient.location(response, "authorization request")))
+                .flatMap(loginPage -> {
+                    if (loginPage.statusCode() != HttpStatusCode.OK_200) {
+                        throw new IllegalStateException("Unexpected login page response " + loginPage.statusCode());
+                    }
+                    MultiMap form = MultiMap.caseInsensitiveMultiMap()
+                            .set("username", user.getUsername())
+                            .set("password", LoadTestData.USER_PASSWORD)
+                            .set("client_id", LoadTestData.CLIENT_ID)
+                            .set(CSRF_PARAMETER, csrfToken(user, loginPage.bodyAsString()));
+                    return client.postForm(user, client.url("/login"), form);
+                })
+                .flatMap(response -> client.get(user, GatewayClient.location(response, "login")))
+                .map(response -> authorizationCode(GatewayClient.location(response, "authorization response")))
+                .flatMap(code -> client.token(MultiMap.caseInsensitiveMultiMap()
+                        .set("grant_type", GrantType.AUTHORIZATION_CODE)
+                        .set("code", code)
+                        .set("redirect_uri", LoadTestData.REDIRECT_URI)))
+                .doOnSuccess(token -> storeTokens(user, token));
+    }
+
+    private static void storeTokens(VirtualUser user, JsonObject token) {
+        user.setAccessToken(token.getString("access_token"));
+        // keep the previous refresh token if it has not been rotated
+        String refreshToken = token.getString("refresh_token");
+        if (refreshToken != null) {
+            user.setRefreshToken(refreshToken);
+        }
+    }
+
+    private static String csrfToken(VirtualUser user, String loginPage) {
+        Matcher matcher = CSRF_INPUT.matcher(loginPage == null ? "" : loginPage);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        String csrfCookie = user.getCookie(CSRF_COOKIE);
+        if (csrfCookie == null) {
+            throw new IllegalStateException("No CSRF token found on the login page");
+        }
+        return csrfCookie;
+    }
+
+    private static String authorizationCode(String redirectUri) {
+        String query = URI.create(redirectUri).getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("code=")) {
+                    return decode(parameter.substring("code=".length()));
+                }
+            }
+        }
+        throw new IllegalStateException("No authorization code in " + redirectUri);
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A simulated end-user: it owns a cookie jar, like a browser would, and the tokens obtained by its previous iterations.
+ *
+ * Each virtual user runs its iterations sequentially, so its state is never accessed concurrently.
+ *
+ * @author GraviteeSource Team
+ */
+public class VirtualUser {
+
+    private final String username;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private String accessToken;
+    private String refreshToken;
+
+    public VirtualUser(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getCookie(String name) {
+        return cookies.get(name);
+    }
+
+    /**
+     * Store the cookies of a response, all the cookies of the gateway are scoped to the domain path so paths are ignored.
+     */
+    public void storeCookies(List<String> setCookieHeaders) {
+        for (String setCookieHeader : setCookieHeaders) {
+            String cookie = setCookieHeader.split(";", 2)[0];
+            int separator = cookie.indexOf('=');
+            if (separator > 0) {
+                cookies.put(cookie.substring(0, separator).trim(), cookie.substring(separator + 1).trim());
+            }
+        }
+    }
+
+    public String cookieHeader() {
+        return cookies.entrySet().stream().map(cookie -> cookie.getKey() + '=' + cookie.getValue()).collect(Collectors.joining("; "));
+    }
+
+    public boolean hasCookies() {
+        return !cookies.isEmpty();
+    }
+
+    public void clearCookies() {
+        cookies.clear();
+    }
+}
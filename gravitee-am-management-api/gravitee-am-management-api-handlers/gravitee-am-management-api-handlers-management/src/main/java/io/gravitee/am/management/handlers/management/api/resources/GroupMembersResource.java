@@ -57,11 +57,15 @@ public class GroupMembersResource {
             @PathParam("group") String group,
             @QueryParam("page") @DefaultValue("0") int page,
             @QueryParam("size") @DefaultValue(MAX_MEMBERS_SIZE_PER_PAGE_STRING) int size,
+            @QueryParam("after") String after,
             @Suspended final AsyncResponse response) {
 
         domainService.findById(domain)
                 .switchIfEmpty(Maybe.error(new DomainNotFoundException(domain)))
-                .flatMapSingle(irrelevant -> groupService.findMembers(group, page, Integer.min(size, MAX_MEMBERS_SIZE_PER_PAGE)))
+                // members listed after a given member id do not need to skip the previous pages
+                .flatMapSingle(irrelevant -> after != null ?
+                        groupService.findMembers(group, after, Integer.min(size, MAX_MEMBERS_SIZE_PER_PAGE)) :
+                        groupService.findMembers(group, page, Integer.min(size, MAX_MEMBERS_SIZE_PER_PAGE)))
                 .map(members -> Response.ok(members).build())
                 .subscribe(
                         result -> response.resume(result),
@@ -65,4 +65,24 @@ public class AccessTokenRepositoryProxy extends AbstractProxy<AccessTokenReposit
         return target.countByClientId(clientId);
     }
 
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return target.deleteByAuthorizationCode(authorizationCode);
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return target.deleteByDomainAndClientId(domain, clientId);
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return target.deleteByDomainAndSubject(domain, subject);
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        return target.upgradeStorage();
+    }
+
 }
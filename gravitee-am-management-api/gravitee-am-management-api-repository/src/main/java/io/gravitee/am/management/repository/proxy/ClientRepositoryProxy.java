@@ -101,4 +101,9 @@ public class ClientRepositoryProxy extends AbstractProxy<ClientRepository> imple
     public Single<Long> count() {
         return target.count();
     }
+
+    @Override
+    public Single<Long> removeScope(String domain, String scope) {
+        return target.removeScope(domain, scope);
+    }
 }
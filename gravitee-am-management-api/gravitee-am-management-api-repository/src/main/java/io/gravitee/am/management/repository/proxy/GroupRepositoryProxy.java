@@ -24,6 +24,7 @@ import io.reactivex.Single;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -42,6 +43,11 @@ public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> impleme
         return target.findByMember(memberId);
     }
 
+    @Override
+    public Single<Map<String, List<Group>>> findByMembers(List<String> memberIds) {
+        return target.findByMembers(memberIds);
+    }
+
     @Override
     public Single<List<Group>> findByDomain(String domain) {
         return target.findByDomain(domain);
@@ -57,6 +63,36 @@ public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> impleme
         return target.findByDomainAndName(domain, groupName);
     }
 
+    @Override
+    public Single<Page<String>> findMembers(String groupId, int page, int size) {
+        return target.findMembers(groupId, page, size);
+    }
+
+    @Override
+    public Single<List<String>> findMembers(String groupId, String after, int size) {
+        return target.findMembers(groupId, after, size);
+    }
+
+    @Override
+    public Single<Long> countMembers(String groupId) {
+        return target.countMembers(groupId);
+    }
+
+    @Override
+    public Completable addMembers(String groupId, List<String> memberIds) {
+        return target.addMembers(groupId, memberIds);
+    }
+
+    @Override
+    public Completable removeMembers(String groupId, List<String> memberIds) {
+        return target.removeMembers(groupId, memberIds);
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        return target.upgradeStorage();
+    }
+
     @Override
     public Maybe<Group> findById(String id) {
         return target.findById(id);
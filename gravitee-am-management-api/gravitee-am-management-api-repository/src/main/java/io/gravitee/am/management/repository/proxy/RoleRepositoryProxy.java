@@ -42,6 +42,11 @@ public class RoleRepositoryProxy extends AbstractProxy<RoleRepository> implement
         return target.findByIdIn(ids);
     }
 
+    @Override
+    public Single<Long> removePermission(String domain, String permission) {
+        return target.removePermission(domain, permission);
+    }
+
     @Override
     public Maybe<Role> findById(String id) {
         return target.findById(id);
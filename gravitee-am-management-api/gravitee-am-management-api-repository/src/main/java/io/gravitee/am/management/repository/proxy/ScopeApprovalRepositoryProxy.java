@@ -22,6 +22,8 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -55,6 +57,10 @@ public class ScopeApprovalRepositoryProxy extends AbstractProxy<ScopeApprovalRep
         return target.upsert(scopeApproval);
     }
 
+    public Single<List<ScopeApproval>> bulkUpsert(Collection<ScopeApproval> scopeApprovals) {
+        return target.bulkUpsert(scopeApprovals);
+    }
+
     public Completable delete(String domain, String scope) {
         return target.delete(domain, scope);
     }
@@ -26,6 +26,8 @@ import io.gravitee.am.management.service.UserService;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserInvalidException;
 import io.gravitee.am.service.exception.UserNotFoundException;
@@ -68,6 +70,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Autowired
     private IdentityProviderManager identityProviderManager;
 
@@ -170,7 +178,8 @@ public class UserServiceImpl implements UserService {
                                 return userRepository.delete(userId);
                             }
                             return Completable.error(ex);
-                        }));
+                        })
+                        .andThen(revokeTokens(user)));
     }
 
     @Override
@@ -195,7 +204,8 @@ public class UserServiceImpl implements UserService {
                                 user.setRegistrationCompleted(true);
                             }
                             return userRepository.update(user);
-                        })).toCompletable();
+                        }))
+                .flatMapCompletable(this::revokeTokens);
     }
 
     @Override
@@ -216,6 +226,11 @@ public class UserServiceImpl implements UserService {
                 .toCompletable();
     }
 
+    private Completable revokeTokens(User user) {
+        return accessTokenRepository.deleteByDomainAndSubject(user.getDomain(), user.getId())
+                .andThen(refreshTokenRepository.deleteByDomainAndSubject(user.getDomain(), user.getId()));
+    }
+
     private void completeUserRegistration(User user) {
         Map<String, Object> params = prepareUserRegistration(user);
 
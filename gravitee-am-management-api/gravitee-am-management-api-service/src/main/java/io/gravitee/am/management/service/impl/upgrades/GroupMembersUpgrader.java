@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service.impl.upgrades;
+
+import io.gravitee.am.service.GroupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Move the group members stored in the group documents to the dedicated group members storage.
+ * Groups already converted are left untouched.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class GroupMembersUpgrader implements Upgrader, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupMembersUpgrader.class);
+
+    @Autowired
+    private GroupService groupService;
+
+    @Override
+    public boolean upgrade() {
+        logger.info("Applying group members upgrade");
+        groupService.upgradeStorage()
+                .subscribe(
+                        groups -> logger.info("{} group(s) converted to the current storage schema", groups),
+                        error -> logger.error("An error occurs during group members upgrade", error));
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return 166;
+    }
+}
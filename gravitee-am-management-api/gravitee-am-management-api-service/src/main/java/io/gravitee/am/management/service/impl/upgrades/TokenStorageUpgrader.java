@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service.impl.upgrades;
+
+import io.gravitee.am.service.TokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Convert the access and refresh tokens to the compact storage schema when it is enabled
+ * (see <code>oauth2.mongodb.tokens.compact</code>). Nothing is done otherwise.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class TokenStorageUpgrader implements Upgrader, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenStorageUpgrader.class);
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Override
+    public boolean upgrade() {
+        logger.info("Applying token storage upgrade");
+        tokenService.upgradeStorage()
+                .subscribe(
+                        tokens -> logger.info("{} token(s) converted to the current storage schema", tokens),
+                        error -> logger.error("An error occurs during token storage upgrade", error));
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return 165;
+    }
+}
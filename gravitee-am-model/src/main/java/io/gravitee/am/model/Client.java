@@ -19,6 +19,7 @@ import io.gravitee.am.common.oauth2.GrantType;
 import io.gravitee.am.common.oauth2.ResponseType;
 import io.gravitee.am.common.oidc.ApplicationType;
 import io.gravitee.am.common.oidc.ClientAuthenticationMethod;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.oidc.JWKSet;
 
 import java.time.ZoneId;
@@ -163,6 +164,11 @@ public class Client {
 
     private boolean useDefaultIdentityProvider;
 
+    /**
+     * Token endpoint rate limit of the client, the domain settings apply if not set
+     */
+    private RateLimitSettings rateLimit;
+
     public String getId() {
         return id;
     }
@@ -606,6 +612,14 @@ public class Client {
         this.useDefaultIdentityProvider = useDefaultIdentityProvider;
     }
 
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettings rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -19,6 +19,7 @@ import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.model.login.LoginForm;
 import io.gravitee.am.model.oidc.OIDCSettings;
 import io.gravitee.am.model.login.LoginSettings;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.scim.SCIMSettings;
 
 import java.util.Date;
@@ -84,6 +85,11 @@ public class Domain {
 
     private SCIMSettings scim;
 
+    /**
+     * Token endpoint rate limit of the clients of the domain
+     */
+    private RateLimitSettings rateLimit;
+
     public String getId() {
         return id;
     }
@@ -196,6 +202,14 @@ public class Domain {
         this.scim = scim;
     }
 
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettings rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     public LoginSettings getLoginSettings() {
         return loginSettings;
     }
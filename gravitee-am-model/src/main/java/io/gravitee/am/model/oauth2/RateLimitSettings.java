@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.model.oauth2;
+
+/**
+ * Token endpoint rate limit of a client.
+ *
+ * Set on a domain, it applies to all the clients of the domain which do not define their own limits. Unset values
+ * fall back to the domain settings, then to the gateway configuration.
+ *
+ * @author GraviteeSource Team
+ */
+public class RateLimitSettings {
+
+    /**
+     * Maximum number of requests in a burst
+     */
+    private Long capacity;
+
+    /**
+     * Number of requests allowed per second once the burst capacity is consumed
+     */
+    private Double refillRate;
+
+    public Long getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Long capacity) {
+        this.capacity = capacity;
+    }
+
+    public Double getRefillRate() {
+        return refillRate;
+    }
+
+    public void setRefillRate(Double refillRate) {
+        this.refillRate = refillRate;
+    }
+}
@@ -22,6 +22,8 @@ import io.gravitee.am.certificate.api.CertificateProvider;
 import io.gravitee.am.plugins.certificate.core.CertificateConfigurationFactory;
 import io.gravitee.am.plugins.certificate.core.CertificateDefinition;
 import io.gravitee.am.plugins.certificate.core.CertificatePluginManager;
+import io.gravitee.am.plugins.core.PluginFactory;
+import io.gravitee.am.plugins.core.impl.InjectorPluginFactory;
 import io.gravitee.plugin.core.api.Plugin;
 import io.gravitee.plugin.core.api.PluginContextFactory;
 import io.gravitee.plugin.core.internal.AnnotationBasedPluginContextConfigurer;
@@ -56,6 +58,9 @@ public class CertificatePluginManagerImpl implements CertificatePluginManager {
     @Autowired
     private CertificateConfigurationFactory certificateConfigurationFactory;
 
+    @Autowired(required = false)
+    private PluginFactory pluginFactory = new InjectorPluginFactory();
+
     @Override
     public void register(CertificateDefinition certificatePluginDefinition) {
         certificates.putIfAbsent(certificatePluginDefinition.getPlugin().id(),
@@ -124,6 +129,15 @@ public class CertificatePluginManagerImpl implements CertificatePluginManager {
         }
 
         try {
+            Map<String, Object> beans = new LinkedHashMap<>();
+            beans.put("configuration", certificateConfiguration);
+            beans.put("metadata", metadata);
+
+            if (pluginFactory.supports(certificateClass, beans)) {
+                logger.debug("Loading certificate {} without plugin context", certificateClass.getName());
+                return pluginFactory.create(certificateClass, beans);
+            }
+
             T certificateObj = createInstance(certificateClass);
             final Import annImport = certificateClass.getAnnotation(Import.class);
             Set<Class<?>> configurations = (annImport != null) ?
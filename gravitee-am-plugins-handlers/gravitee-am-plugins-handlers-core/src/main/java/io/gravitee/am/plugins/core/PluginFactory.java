@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.core;
+
+import java.util.Map;
+
+/**
+ * Factory used by the plugin managers to build identity provider, certificate and extension grant instances.
+ *
+ * The beans map contains the objects which are available for injection (configuration, mapper, ...) keyed by their
+ * bean name, the same names are used when the plugin is loaded through a Spring plugin context.
+ *
+ * @author GraviteeSource Team
+ */
+public interface PluginFactory {
+
+    /**
+     * Check if the plugin class can be built by this factory with the given beans.
+     *
+     * @param pluginClass the plugin class to instantiate
+     * @param beans the beans available for injection, by name
+     * @return <code>true</code> if the plugin can be built by this factory
+     */
+    boolean supports(Class<?> pluginClass, Map<String, Object> beans);
+
+    /**
+     * Create and initialize a new instance of the plugin class.
+     *
+     * @param pluginClass the plugin class to instantiate
+     * @param beans the beans available for injection, by name
+     * @param <T> the plugin type
+     * @return the plugin instance, ready to use
+     * @throws Exception if the plugin can not be instantiated
+     */
+    <T> T create(Class<T> pluginClass, Map<String, Object> beans) throws Exception;
+}
@@ -0,0 +1,439 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.core.impl;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.Aware;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Minimal dependency injector used to build a plugin and the beans of its imported configuration classes.
+ *
+ * Unlike Spring, configuration classes are not proxied: a <code>@Bean</code> method calling another
+ * <code>@Bean</code> method of the same class would create a new instance on each call, such configuration classes
+ * are detected by looking at their bytecode and rejected.
+ *
+ * @author GraviteeSource Team
+ */
+class Injector {
+
+    private static final String[] CONTAINER_PACKAGES = {"org.springframework.", "javax.annotation.", "javax.inject."};
+
+    private static final Set<String> INJECTION_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.beans.factory.annotation.Autowired", "org.springframework.beans.factory.annotation.Value",
+            "javax.annotation.PostConstruct", "javax.annotation.Resource", "javax.inject.Inject"));
+
+    private final Class<?> pluginClass;
+    private final List<Class<?>> configurationClasses;
+    private final Map<Class<?>, Boolean> interBeanMethodCalls;
+    private final Map<String, Object> singletons = new LinkedHashMap<>();
+    private final Map<String, Method> beanMethods = new LinkedHashMap<>();
+    private final Map<Class<?>, Object> configurations = new LinkedHashMap<>();
+    private final Set<String> beansInCreation = new HashSet<>();
+    private final List<Object> createdBeans = new ArrayList<>();
+
+    Injector(Class<?> pluginClass, Map<String, Object> beans, Map<Class<?>, Boolean> interBeanMethodCalls) {
+        this.pluginClass = pluginClass;
+        this.interBeanMethodCalls = interBeanMethodCalls;
+        Import imports = pluginClass.getAnnotation(Import.class);
+        this.configurationClasses = imports != null ? Arrays.asList(imports.value()) : Collections.emptyList();
+        beans.forEach((name, bean) -> {
+            if (bean != null) {
+                singletons.put(name, bean);
+            }
+        });
+    }
+
+    /**
+     * Check that the plugin and its configuration classes only rely on supported injection points and that
+     * every required dependency can be resolved.
+     *
+     * @throws UnsupportedInjectionException if the plugin must be loaded through Spring
+     */
+    void validate() {
+        checkType(pluginClass, Import.class, false);
+        checkConstructor(pluginClass);
+
+        for (Class<?> configurationClass : configurationClasses) {
+            registerConfiguration(configurationClass);
+        }
+
+        for (Class<?> configurationClass : configurationClasses) {
+            checkInjectionPoints(configurationClass);
+        }
+        for (Method beanMethod : beanMethods.values()) {
+            for (int i = 0; i < beanMethod.getParameterCount(); i++) {
+                resolveParameter(beanMethod, i);
+            }
+            checkInjectionPoints(beanMethod.getReturnType());
+        }
+        checkInjectionPoints(pluginClass);
+    }
+
+    /**
+     * Instantiate the configuration classes, their beans and then the plugin itself.
+     *
+     * @return the initialized plugin instance
+     */
+    Object create() throws Exception {
+        try {
+            for (Class<?> configurationClass : configurationClasses) {
+                getConfiguration(configurationClass);
+            }
+            for (String beanName : new ArrayList<>(beanMethods.keySet())) {
+                getBean(beanName);
+            }
+
+            Object plugin = BeanUtils.instantiateClass(pluginClass);
+            initialize(plugin);
+            return plugin;
+        } catch (Exception ex) {
+            destroyCreatedBeans();
+            throw ex;
+        }
+    }
+
+    private void registerConfiguration(Class<?> configurationClass) {
+        checkType(configurationClass, Configuration.class, true);
+        checkConstructor(configurationClass);
+
+        if (configurationClass.getSuperclass() != Object.class) {
+            throw new UnsupportedInjectionException("configuration class " + configurationClass.getName() + " extends another class");
+        }
+
+        Set<String> methodNames = new HashSet<>();
+        for (Method method : configurationClass.getDeclaredMethods()) {
+            Bean bean = method.getAnnotation(Bean.class);
+            if (bean == null) {
+                continue;
+            }
+            if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class
+                    || !bean.initMethod().isEmpty() || bean.name().length + bean.value().length > 1) {
+                throw new UnsupportedInjectionException("unsupported @Bean method " + method);
+            }
+
+            String beanName = bean.value().length == 1 ? bean.value()[0] :
+                    (bean.name().length == 1 ? bean.name()[0] : method.getName());
+            if (singletons.containsKey(beanName) || beanMethods.containsKey(beanName)) {
+                throw new UnsupportedInjectionException("bean " + beanName + " is defined more than once");
+            }
+
+            checkSpecialType(method.getReturnType());
+            beanMethods.put(beanName, method);
+            methodNames.add(method.getName());
+        }
+
+        if (!methodNames.isEmpty() &&
+                interBeanMethodCalls.computeIfAbsent(configurationClass, clazz -> hasInterBeanMethodCalls(clazz, methodNames))) {
+            throw new UnsupportedInjectionException("configuration class " + configurationClass.getName() + " calls its own @Bean methods");
+        }
+    }
+
+    private void checkType(Class<?> clazz, Class<? extends Annotation> allowedTypeAnnotation, boolean beanMethodsAllowed) {
+        checkSpecialType(clazz);
+
+        for (Annotation annotation : clazz.getAnnotations()) {
+            if (isContainerAnnotation(annotation) && annotation.annotationType() != allowedTypeAnnotation) {
+                throw new UnsupportedInjectionException("type annotation @" + annotation.annotationType().getSimpleName() + " on " + clazz.getName());
+            }
+        }
+
+        checkMembers(clazz, beanMethodsAllowed);
+    }
+
+    private void checkSpecialType(Class<?> clazz) {
+        if (Aware.class.isAssignableFrom(clazz) || BeanPostProcessor.class.isAssignableFrom(clazz)
+                || BeanFactoryPostProcessor.class.isAssignableFrom(clazz)) {
+            throw new UnsupportedInjectionException(clazz.getName() + " is a container callback");
+        }
+    }
+
+    private void checkConstructor(Class<?> clazz) {
+        try {
+            clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException ex) {
+            throw new UnsupportedInjectionException(clazz.getName() + " has no default constructor");
+        }
+
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            for (Annotation annotation : constructor.getAnnotations()) {
+                if (isContainerAnnotation(annotation)) {
+                    throw new UnsupportedInjectionException("constructor injection on " + clazz.getName());
+                }
+            }
+        }
+    }
+
+    private void checkMembers(Class<?> clazz, boolean beanMethodsAllowed) {
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    if (isContainerAnnotation(annotation) && !(beanMethodsAllowed && annotation instanceof Bean)) {
+                        throw new UnsupportedInjectionException("method annotation @" + annotation.annotationType().getSimpleName() + " on " + method);
+                    }
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (isContainerAnnotation(annotation) && !(annotation instanceof Autowired) && !(annotation instanceof Qualifier)) {
+                        throw new UnsupportedInjectionException("field annotation @" + annotation.annotationType().getSimpleName() + " on " + field);
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkRuntimeMembers(Class<?> clazz) {
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    if (INJECTION_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                        throw new UnsupportedInjectionException("method annotation @" + annotation.annotationType().getSimpleName() + " on " + method);
+                    }
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (INJECTION_ANNOTATIONS.contains(annotation.annotationType().getName()) && !(annotation instanceof Autowired)) {
+                        throw new UnsupportedInjectionException("field annotation @" + annotation.annotationType().getSimpleName() + " on " + field);
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkInjectionPoints(Class<?> clazz) {
+        for (Field field : injectableFields(clazz)) {
+            resolveField(field);
+        }
+    }
+
+    private List<Field> injectableFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Autowired.class) && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private String resolveField(Field field) {
+        Qualifier qualifier = field.getAnnotation(Qualifier.class);
+        return resolve(field.getType(), qualifier != null ? qualifier.value() : null,
+                field.getName(), field.getAnnotation(Autowired.class).required());
+    }
+
+    private String resolveParameter(Method method, int index) {
+        Parameter parameter = method.getParameters()[index];
+        Qualifier qualifier = parameter.getAnnotation(Qualifier.class);
+        for (Annotation annotation : parameter.getAnnotations()) {
+            if (isContainerAnnotation(annotation) && !(annotation instanceof Qualifier)) {
+                throw new UnsupportedInjectionException("parameter annotation @" + annotation.annotationType().getSimpleName() + " on " + method);
+            }
+        }
+        return resolve(parameter.getType(), qualifier != null ? qualifier.value() : null,
+                parameter.isNamePresent() ? parameter.getName() : null, true);
+    }
+
+    private String resolve(Class<?> type, String qualifier, String name, boolean required) {
+        if (type.isPrimitive() || type.isArray() || type == Map.class || type == Optional.class
+                || (Collection.class.isAssignableFrom(type) && type.isInterface())
+                || ObjectFactory.class.isAssignableFrom(type) || "javax.inject.Provider".equals(type.getName())) {
+            throw new UnsupportedInjectionException("unsupported injection type " + type.getName());
+        }
+
+        List<String> candidates = new ArrayList<>();
+        singletons.forEach((beanName, bean) -> {
+            if (type.isInstance(bean)) {
+                candidates.add(beanName);
+            }
+        });
+        beanMethods.forEach((beanName, method) -> {
+            if (!singletons.containsKey(beanName) && ClassUtils.isAssignable(type, method.getReturnType())) {
+                candidates.add(beanName);
+            }
+        });
+
+        if (qualifier != null) {
+            candidates.removeIf(beanName -> !beanName.equals(qualifier));
+        }
+
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (candidates.size() > 1) {
+            if (name != null && candidates.contains(name)) {
+                return name;
+            }
+            throw new UnsupportedInjectionException("more than one bean of type " + type.getName() + ": " + candidates);
+        }
+        if (required) {
+            throw new UnsupportedInjectionException("no bean of type " + type.getName() + (qualifier != null ? " qualified " + qualifier : ""));
+        }
+        return null;
+    }
+
+    private Object getConfiguration(Class<?> configurationClass) throws Exception {
+        Object configuration = configurations.get(configurationClass);
+        if (configuration == null) {
+            configuration = BeanUtils.instantiateClass(configurationClass);
+            // register the configuration first, its fields may refer to its own beans
+            configurations.put(configurationClass, configuration);
+            injectFields(configuration);
+            if (configuration instanceof InitializingBean) {
+                ((InitializingBean) configuration).afterPropertiesSet();
+            }
+        }
+        return configuration;
+    }
+
+    private Object getBean(String beanName) throws Exception {
+        Object bean = singletons.get(beanName);
+        Method beanMethod = beanMethods.get(beanName);
+        if (bean != null || beanMethod == null) {
+            return bean;
+        }
+
+        if (!beansInCreation.add(beanName)) {
+            throw new IllegalStateException("Circular reference on bean " + beanName);
+        }
+
+        Object configuration = getConfiguration(beanMethod.getDeclaringClass());
+        Object[] args = new Object[beanMethod.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = getBean(resolveParameter(beanMethod, i));
+        }
+
+        ReflectionUtils.makeAccessible(beanMethod);
+        try {
+            bean = beanMethod.invoke(configuration, args);
+        } catch (InvocationTargetException ex) {
+            Throwable cause = ex.getTargetException();
+            throw (cause instanceof Exception) ? (Exception) cause : ex;
+        }
+
+        if (bean == null) {
+            throw new IllegalStateException("Bean method " + beanMethod + " returned null");
+        }
+
+        createdBeans.add(bean);
+        initialize(bean);
+        singletons.put(beanName, bean);
+        beansInCreation.remove(beanName);
+        return bean;
+    }
+
+    private void initialize(Object bean) throws Exception {
+        // the runtime type of a @Bean may differ from the declared one
+        if (bean.getClass() != pluginClass) {
+            checkSpecialType(bean.getClass());
+            checkRuntimeMembers(bean.getClass());
+        }
+
+        injectFields(bean);
+
+        if (bean instanceof InitializingBean) {
+            ((InitializingBean) bean).afterPropertiesSet();
+        }
+    }
+
+    private void injectFields(Object bean) throws Exception {
+        for (Field field : injectableFields(bean.getClass())) {
+            String beanName = resolveField(field);
+            if (beanName != null) {
+                ReflectionUtils.makeAccessible(field);
+                field.set(bean, getBean(beanName));
+            }
+        }
+    }
+
+    private void destroyCreatedBeans() {
+        Collections.reverse(createdBeans);
+        for (Object bean : createdBeans) {
+            if (bean instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) bean).close();
+                } catch (Exception ignored) {
+                }
+            }
+        }
+        createdBeans.clear();
+    }
+
+    private static boolean isContainerAnnotation(Annotation annotation) {
+        String annotationType = annotation.annotationType().getName();
+        for (String containerPackage : CONTAINER_PACKAGES) {
+            if (annotationType.startsWith(containerPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasInterBeanMethodCalls(Class<?> configurationClass, Set<String> beanMethodNames) {
+        String internalName = configurationClass.getName().replace('.', '/');
+        ClassLoader classLoader = configurationClass.getClassLoader() != null ?
+                configurationClass.getClassLoader() : ClassUtils.getDefaultClassLoader();
+
+        try (InputStream classFile = classLoader.getResourceAsStream(internalName + ClassUtils.CLASS_FILE_SUFFIX)) {
+            if (classFile == null) {
+                return true;
+            }
+
+            AtomicBoolean found = new AtomicBoolean(false);
+            new ClassReader(classFile).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                    return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                        @Override
+                        public void visitMethodInsn(int opcode, String owner, String methodName, String methodDescriptor, boolean isInterface) {
+                            if (owner.equals(internalName) && beanMethodNames.contains(methodName)) {
+                                found.set(true);
+                            }
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return found.get();
+        } catch (Exception ex) {
+            // unable to read the bytecode, let Spring handle this configuration class
+            return true;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.core.impl;
+
+import io.gravitee.am.plugins.core.PluginFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plugin factory which builds plugins with plain constructors and a small reflection based injector instead of a
+ * dedicated Spring application context per instance.
+ *
+ * It only supports the subset of Spring annotations used by most of the plugins: <code>@Autowired</code> fields
+ * (with an optional <code>@Qualifier</code>), <code>@Import</code> of <code>@Configuration</code> classes declaring
+ * <code>@Bean</code> methods and {@link org.springframework.beans.factory.InitializingBean}. Any other container
+ * feature makes {@link #supports(Class, Map)} return <code>false</code> so that the plugin is loaded through Spring.
+ *
+ * @author GraviteeSource Team
+ */
+public class InjectorPluginFactory implements PluginFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(InjectorPluginFactory.class);
+
+    private final Map<Class<?>, Boolean> interBeanMethodCalls = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(Class<?> pluginClass, Map<String, Object> beans) {
+        try {
+            new Injector(pluginClass, beans, interBeanMethodCalls).validate();
+            return true;
+        } catch (UnsupportedInjectionException ex) {
+            logger.debug("Plugin {} can not be instantiated without a Spring context: {}", pluginClass.getName(), ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public <T> T create(Class<T> pluginClass, Map<String, Object> beans) throws Exception {
+        Injector injector = new Injector(pluginClass, beans, interBeanMethodCalls);
+        injector.validate();
+        return pluginClass.cast(injector.create());
+    }
+}
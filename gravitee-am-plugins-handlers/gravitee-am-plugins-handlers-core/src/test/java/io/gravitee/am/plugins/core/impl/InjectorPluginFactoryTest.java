@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.core.impl;
+
+import org.junit.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InjectorPluginFactoryTest {
+
+    private final InjectorPluginFactory pluginFactory = new InjectorPluginFactory();
+
+    @Test
+    public void shouldCreatePlugin_withFieldInjection() throws Exception {
+        Map<String, Object> beans = beans();
+
+        assertTrue(pluginFactory.supports(SimplePlugin.class, beans));
+        SimplePlugin plugin = pluginFactory.create(SimplePlugin.class, beans);
+
+        assertSame(beans.get("configuration"), plugin.config);
+        assertSame(beans.get("graviteeProperties"), plugin.properties);
+        assertNull(plugin.optional);
+        assertTrue(plugin.initialized);
+    }
+
+    @Test
+    public void shouldCreatePlugin_withImportedConfiguration() throws Exception {
+        Map<String, Object> beans = beans();
+
+        assertTrue(pluginFactory.supports(ImportingPlugin.class, beans));
+        ImportingPlugin plugin = pluginFactory.create(ImportingPlugin.class, beans);
+
+        assertEquals("value-user", plugin.userClient.name);
+        assertEquals("value-group", plugin.groupClient.name);
+        assertSame(plugin.userClient, plugin.service.client);
+        assertTrue(plugin.service.initialized);
+    }
+
+    @Test
+    public void shouldNotSupport_valueInjection() {
+        assertFalse(pluginFactory.supports(ValuePlugin.class, beans()));
+    }
+
+    @Test
+    public void shouldNotSupport_missingRequiredBean() {
+        assertFalse(pluginFactory.supports(SimplePlugin.class, new HashMap<>()));
+    }
+
+    @Test
+    public void shouldNotSupport_ambiguousBean() {
+        Map<String, Object> beans = beans();
+        beans.put("otherConfiguration", new Config("other"));
+
+        assertFalse(pluginFactory.supports(SimplePlugin.class, beans));
+    }
+
+    @Test
+    public void shouldNotSupport_interBeanMethodCalls() {
+        assertFalse(pluginFactory.supports(InterBeanCallPlugin.class, beans()));
+    }
+
+    private static Map<String, Object> beans() {
+        Map<String, Object> beans = new HashMap<>();
+        beans.put("configuration", new Config("value"));
+        beans.put("graviteeProperties", new Properties());
+        return beans;
+    }
+
+    public static class Config {
+        private final String value;
+
+        Config(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Client {
+        private final String name;
+
+        Client(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Service implements InitializingBean {
+        @Autowired
+        @Qualifier("userClient")
+        private Client client;
+
+        private boolean initialized;
+
+        @Override
+        public void afterPropertiesSet() {
+            initialized = client != null;
+        }
+    }
+
+    public static class SimplePlugin implements InitializingBean {
+        @Autowired
+        private Config config;
+
+        @Autowired
+        @Qualifier("graviteeProperties")
+        private Properties properties;
+
+        @Autowired(required = false)
+        private Service optional;
+
+        private boolean initialized;
+
+        @Override
+        public void afterPropertiesSet() {
+            initialized = true;
+        }
+    }
+
+    @Configuration
+    public static class ClientConfiguration {
+        @Autowired
+        private Config configuration;
+
+        @Bean
+        public Client userClient() {
+            return new Client(configuration.value + "-user");
+        }
+
+        @Bean("groupClient")
+        public Client groupClient() {
+            return new Client(configuration.value + "-group");
+        }
+
+        @Bean
+        public Service service() {
+            return new Service();
+        }
+    }
+
+    @Import(ClientConfiguration.class)
+    public static class ImportingPlugin {
+        @Autowired
+        private Client userClient;
+
+        @Autowired
+        private Client groupClient;
+
+        @Autowired
+        private Service service;
+    }
+
+    public static class ValuePlugin {
+        @Value("${identities.timeout:10}")
+        private int timeout;
+    }
+
+    @Configuration
+    public static class InterBeanCallConfiguration {
+        @Bean
+        public Client client() {
+            return new Client("client");
+        }
+
+        @Bean
+        public Service service() {
+            client();
+            return new Service();
+        }
+    }
+
+    @Import(InterBeanCallConfiguration.class)
+    public static class InterBeanCallPlugin {
+        @Autowired
+        private Service service;
+    }
+}
@@ -20,6 +20,8 @@ import io.gravitee.am.extensiongrant.api.ExtensionGrantConfiguration;
 import io.gravitee.am.extensiongrant.api.ExtensionGrantProvider;
 import io.gravitee.am.identityprovider.api.AuthenticationProvider;
 import io.gravitee.am.identityprovider.api.NoAuthenticationProvider;
+import io.gravitee.am.plugins.core.PluginFactory;
+import io.gravitee.am.plugins.core.impl.InjectorPluginFactory;
 import io.gravitee.am.plugins.extensiongrant.core.ExtensionGrantConfigurationFactory;
 import io.gravitee.am.plugins.extensiongrant.core.ExtensionGrantDefinition;
 import io.gravitee.am.plugins.extensiongrant.core.ExtensionGrantPluginManager;
@@ -59,6 +61,9 @@ public class ExtensionGrantPluginManagerImpl implements ExtensionGrantPluginMana
     @Autowired
     private ExtensionGrantConfigurationFactory extensionGrantConfigurationFactory;
 
+    @Autowired(required = false)
+    private PluginFactory pluginFactory = new InjectorPluginFactory();
+
     @Override
     public void register(ExtensionGrantDefinition extensionGrantDefinition) {
         extensionGrants.putIfAbsent(extensionGrantDefinition.getPlugin().id(),
@@ -122,6 +127,15 @@ public class ExtensionGrantPluginManagerImpl implements ExtensionGrantPluginMana
         }
 
         try {
+            Map<String, Object> beans = new LinkedHashMap<>();
+            beans.put("configuration", extensionGrantConfiguration);
+            beans.put("authenticationProvider", authenticationProvider != null ? authenticationProvider : new NoAuthenticationProvider());
+
+            if (pluginFactory.supports(extensionGrantClass, beans)) {
+                logger.debug("Loading extension grant {} without plugin context", extensionGrantClass.getName());
+                return pluginFactory.create(extensionGrantClass, beans);
+            }
+
             T extensionGrantObj = createInstance(extensionGrantClass);
             final Import annImport = extensionGrantClass.getAnnotation(Import.class);
             Set<Class<?>> configurations = (annImport != null) ?
@@ -17,6 +17,8 @@ package io.gravitee.am.plugins.idp.core.impl;
 
 import io.gravitee.am.identityprovider.api.*;
 import io.gravitee.am.identityprovider.api.oauth2.OAuth2IdentityProvider;
+import io.gravitee.am.plugins.core.PluginFactory;
+import io.gravitee.am.plugins.core.impl.InjectorPluginFactory;
 import io.gravitee.am.plugins.idp.core.*;
 import io.gravitee.plugin.core.api.Plugin;
 import io.gravitee.plugin.core.api.PluginContextFactory;
@@ -71,6 +73,9 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
     @Autowired
     private Vertx vertx;
 
+    @Autowired(required = false)
+    private PluginFactory pluginFactory = new InjectorPluginFactory();
+
     @Override
     public void register(IdentityProviderDefinition identityProviderPluginDefinition, boolean oauth2Provider) {
         identityProviders.putIfAbsent(identityProviderPluginDefinition.getPlugin().id(),
@@ -181,6 +186,18 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
         }
 
         try {
+            Map<String, Object> beans = new LinkedHashMap<>();
+            beans.put("graviteeProperties", properties);
+            beans.put("vertx", vertx);
+            beans.put("configuration", identityProviderConfiguration);
+            beans.put("mapper", identityProviderMapper != null ? identityProviderMapper : new NoIdentityProviderMapper());
+            beans.put("roleMapper", identityProviderRoleMapper != null ? identityProviderRoleMapper : new NoIdentityProviderRoleMapper());
+
+            if (pluginFactory.supports(identityClass, beans)) {
+                logger.debug("Loading identity provider {} without plugin context", identityClass.getName());
+                return pluginFactory.create(identityClass, beans);
+            }
+
             T identityObj = createInstance(identityClass);
             final Import annImport = identityClass.getAnnotation(Import.class);
             Set<Class<?>> configurations = (annImport != null) ?
@@ -235,6 +252,16 @@ public class IdentityProviderPluginManagerImpl implements IdentityProviderPlugin
 
     private <T> T create0(Plugin plugin, Class<T> userProvider, IdentityProviderConfiguration identityProviderConfiguration) {
         try {
+            Map<String, Object> beans = new LinkedHashMap<>();
+            beans.put("graviteeProperties", properties);
+            beans.put("vertx", vertx);
+            beans.put("configuration", identityProviderConfiguration);
+
+            if (pluginFactory.supports(userProvider, beans)) {
+                logger.debug("Loading user provider {} without plugin context", userProvider.getName());
+                return pluginFactory.create(userProvider, beans);
+            }
+
             T identityObj = createInstance(userProvider);
             final Import annImport = userProvider.getAnnotation(Import.class);
             Set<Class<?>> configurations = (annImport != null) ?
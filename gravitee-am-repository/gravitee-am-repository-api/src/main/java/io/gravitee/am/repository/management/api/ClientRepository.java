@@ -48,4 +48,13 @@ public interface ClientRepository extends CrudRepository<Client, String> {
     Single<Long> countByDomain(String domain);
 
     Single<Long> count();
+
+    /**
+     * Remove a scope from all the clients of a domain in a single bulk update.
+     *
+     * @param domain the security domain
+     * @param scope the scope key
+     * @return the number of updated clients
+     */
+    Single<Long> removeScope(String domain, String scope);
 }
@@ -18,10 +18,12 @@ package io.gravitee.am.repository.management.api;
 import io.gravitee.am.model.Group;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -29,13 +31,75 @@ import java.util.List;
  */
 public interface GroupRepository extends CrudRepository<Group, String> {
 
+    /**
+     * Find the groups of a member. Members of the returned groups are not loaded.
+     *
+     * @param memberId the member id
+     * @return the groups of the member
+     */
     Single<List<Group>> findByMember(String memberId);
 
+    /**
+     * Find the groups of several members at once. Members of the returned groups are not loaded.
+     *
+     * @param memberIds the member ids
+     * @return the groups of each member, members without group are not in the map
+     */
+    Single<Map<String, List<Group>>> findByMembers(List<String> memberIds);
+
+    /**
+     * Find the groups of a domain. Members of the returned groups are not loaded, see {@link #findMembers(String, int, int)}.
+     */
     Single<List<Group>> findByDomain(String domain);
 
+    /**
+     * Find a page of the groups of a domain. Members of the returned groups are not loaded.
+     */
     Single<Page<Group>> findByDomain(String domain, int page, int size);
 
+    /**
+     * Find groups by id. Members of the returned groups are not loaded.
+     */
     Single<List<Group>> findByIdIn(List<String> ids);
 
     Maybe<Group> findByDomainAndName(String domain, String groupName);
+
+    /**
+     * List the members of a group, sorted by member id.
+     *
+     * @param groupId the group id
+     * @param page the page number, starting at 0
+     * @param size the page size
+     * @return the page of member ids
+     */
+    Single<Page<String>> findMembers(String groupId, int page, int size);
+
+    /**
+     * List the members of a group, sorted by member id, starting after the given member (keyset pagination).
+     *
+     * @param groupId the group id
+     * @param after the last member id of the previous page, <code>null</code> for the first page
+     * @param size the page size
+     * @return the member ids
+     */
+    Single<List<String>> findMembers(String groupId, String after, int size);
+
+    Single<Long> countMembers(String groupId);
+
+    /**
+     * Add members to a group, members already in the group are ignored.
+     */
+    Completable addMembers(String groupId, List<String> memberIds);
+
+    /**
+     * Remove members from a group.
+     */
+    Completable removeMembers(String groupId, List<String> memberIds);
+
+    /**
+     * Convert the groups stored with a previous storage schema to the current one.
+     *
+     * @return the number of converted groups
+     */
+    Single<Long> upgradeStorage();
 }
@@ -32,4 +32,13 @@ public interface RoleRepository extends CrudRepository<Role, String> {
     Single<Set<Role>> findByDomain(String domain);
 
     Single<Set<Role>> findByIdIn(List<String> ids);
+
+    /**
+     * Remove a permission from all the roles of a domain in a single bulk update.
+     *
+     * @param domain the security domain
+     * @param permission the permission
+     * @return the number of updated roles
+     */
+    Single<Long> removePermission(String domain, String permission);
 }
@@ -65,4 +65,37 @@ public interface AccessTokenRepository {
      * @return the number of access tokens
      */
     Single<Long> countByClientId(String clientId);
+
+    /**
+     * Delete the access tokens issued with the provided authorization code.
+     *
+     * @param authorizationCode the authorization code
+     * @return acknowledge of the operation
+     */
+    Completable deleteByAuthorizationCode(String authorizationCode);
+
+    /**
+     * Delete the access tokens issued to the provided client.
+     *
+     * @param domain the security domain of the client
+     * @param clientId the client id
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndClientId(String domain, String clientId);
+
+    /**
+     * Delete the access tokens issued for the provided end-user.
+     *
+     * @param domain the security domain of the end-user
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndSubject(String domain, String subject);
+
+    /**
+     * Convert the access tokens stored with a previous storage schema to the current one.
+     *
+     * @return the number of converted access tokens
+     */
+    Single<Long> upgradeStorage();
 }
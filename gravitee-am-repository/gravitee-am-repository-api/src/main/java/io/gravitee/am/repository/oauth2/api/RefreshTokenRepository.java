@@ -20,6 +20,8 @@ import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
+import java.util.Collection;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -31,4 +33,37 @@ public interface RefreshTokenRepository {
     Single<RefreshToken> create(RefreshToken refreshToken);
 
     Completable delete(String token);
+
+    /**
+     * Delete the provided refresh tokens.
+     *
+     * @param tokens the refresh token values
+     * @return acknowledge of the operation
+     */
+    Completable deleteByTokens(Collection<String> tokens);
+
+    /**
+     * Delete the refresh tokens issued to the provided client.
+     *
+     * @param domain the security domain of the client
+     * @param clientId the client id
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndClientId(String domain, String clientId);
+
+    /**
+     * Delete the refresh tokens issued for the provided end-user.
+     *
+     * @param domain the security domain of the end-user
+     * @param subject the end-user technical identifier
+     * @return acknowledge of the operation
+     */
+    Completable deleteByDomainAndSubject(String domain, String subject);
+
+    /**
+     * Convert the refresh tokens stored with a previous storage schema to the current one.
+     *
+     * @return the number of converted refresh tokens
+     */
+    Single<Long> upgradeStorage();
 }
@@ -20,6 +20,8 @@ import io.gravitee.am.repository.common.CrudRepository;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -32,5 +34,13 @@ public interface ScopeApprovalRepository extends CrudRepository<ScopeApproval, S
 
     Single<ScopeApproval> upsert(ScopeApproval scopeApproval);
 
+    /**
+     * Create or update the given scope approvals in a single operation.
+     *
+     * @param scopeApprovals the scope approvals to create or update
+     * @return the saved scope approvals
+     */
+    Single<List<ScopeApproval>> bulkUpsert(Collection<ScopeApproval> scopeApprovals);
+
     Completable delete(String domain, String scope);
 }
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc;
+
+import io.gravitee.am.repository.Repository;
+import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.jdbc.oauth2.OAuth2RepositoryConfiguration;
+
+/**
+ * Repository storing the OAuth2 tokens, authorization codes and scope approvals in a relational database.
+ *
+ * @author GraviteeSource Team
+ */
+public class JdbcRepository implements Repository {
+
+    @Override
+    public String type() {
+        return "jdbc";
+    }
+
+    @Override
+    public Scope[] scopes() {
+        return new Scope [] {Scope.OAUTH2};
+    }
+
+    @Override
+    public Class<?> configuration(Scope scope) {
+        switch (scope) {
+            case OAUTH2:
+                return OAuth2RepositoryConfiguration.class;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group the inserts of a table into JDBC batches.
+ *
+ * Writes are queued and a single flush runs at a time on the JDBC thread pool: it sends all the queued writes, up to the
+ * maximum batch size, in one round trip and one transaction, then loops while writes are pending. A write that arrives
+ * on an idle writer is sent immediately, writes only wait for each other under load, while a batch is in flight.
+ *
+ * If a batch fails, its writes are retried one by one so that a faulty row (a duplicate key for instance) only fails
+ * its own write.
+ *
+ * @author GraviteeSource Team
+ */
+public class BatchWriter<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+
+    private final JdbcClient jdbcClient;
+    private final String sql;
+    private final JdbcClient.ParameterSetter<T> setter;
+    private final int maxBatchSize;
+    private final Queue<PendingWrite<T>> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    public BatchWriter(JdbcClient jdbcClient, String sql, JdbcClient.ParameterSetter<T> setter, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be greater than 0");
+        }
+        this.jdbcClient = jdbcClient;
+        this.sql = sql;
+        this.setter = setter;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @param item the item to insert
+     * @return a completable which completes once the batch of the item has been committed
+     */
+    public Completable write(T item) {
+        return Completable.create(emitter -> {
+            pendingWrites.add(new PendingWrite<>(item, emitter));
+            scheduleFlush();
+        });
+    }
+
+    private void scheduleFlush() {
+        if (flushing.compareAndSet(false, true)) {
+            try {
+                jdbcClient.executor().execute(this::flush);
+            } catch (RuntimeException ex) {
+                flushing.set(false);
+                fail(drain(Integer.MAX_VALUE), ex);
+            }
+        }
+    }
+
+    private void flush() {
+        try {
+            List<PendingWrite<T>> batch;
+            while (!(batch = drain(maxBatchSize)).isEmpty()) {
+                execute(batch);
+            }
+        } finally {
+            flushing.set(false);
+        }
+
+        // a write may have been queued after the last drain, before the flag was released
+        if (!pendingWrites.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private void execute(List<PendingWrite<T>> batch) {
+        try {
+            insert(batch);
+            batch.forEach(pendingWrite -> pendingWrite.emitter.onComplete());
+        } catch (Exception ex) {
+            if (batch.size() == 1) {
+                fail(batch, ex);
+                return;
+            }
+
+            LOGGER.debug("Batch of {} inserts failed, retrying them one by one", batch.size(), ex);
+            for (PendingWrite<T> pendingWrite : batch) {
+                execute(Collections.singletonList(pendingWrite));
+            }
+        }
+    }
+
+    private void insert(List<PendingWrite<T>> batch) throws SQLException {
+        jdbcClient.executeInTransaction(connection -> JdbcClient.batchUpdate(connection, sql, batch,
+                (statement, pendingWrite) -> setter.setValues(statement, pendingWrite.item)));
+    }
+
+    private List<PendingWrite<T>> drain(int max) {
+        List<PendingWrite<T>> batch = new ArrayList<>(Math.min(max, 64));
+        PendingWrite<T> pendingWrite;
+        while (batch.size() < max && (pendingWrite = pendingWrites.poll()) != null) {
+            batch.add(pendingWrite);
+        }
+        return batch;
+    }
+
+    private static <T> void fail(List<PendingWrite<T>> writes, Throwable throwable) {
+        writes.stream()
+                .filter(pendingWrite -> !pendingWrite.emitter.isDisposed())
+                .forEach(pendingWrite -> pendingWrite.emitter.onError(throwable));
+    }
+
+    private static class PendingWrite<T> {
+        private final T item;
+        private final CompletableEmitter emitter;
+
+        PendingWrite(T item, CompletableEmitter emitter) {
+            this.item = item;
+            this.emitter = emitter;
+        }
+    }
+}
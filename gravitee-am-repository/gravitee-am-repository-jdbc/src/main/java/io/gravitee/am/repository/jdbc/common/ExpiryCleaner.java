@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically delete the expired rows of the tables having an <code>expire_at</code> column.
+ *
+ * Expired rows are deleted by time partitions: each statement only deletes the rows expired within one partition,
+ * starting from the oldest one, using the <code>expire_at</code> index. This keeps the transactions and the locks
+ * short even when a large backlog of expired rows has to be removed.
+ *
+ * @author GraviteeSource Team
+ */
+public class ExpiryCleaner implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpiryCleaner.class);
+
+    private final JdbcClient jdbcClient;
+    private final List<String> tables;
+    private final long interval;
+    private final long partitionDuration;
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param jdbcClient the JDBC client
+     * @param tables the tables to clean
+     * @param interval seconds between two cleanups, 0 to disable the cleanup
+     * @param partitionDuration milliseconds of expiration dates deleted by each statement
+     */
+    public ExpiryCleaner(JdbcClient jdbcClient, List<String> tables, long interval, long partitionDuration) {
+        if (partitionDuration <= 0) {
+            throw new IllegalArgumentException("Partition duration must be greater than 0");
+        }
+        this.jdbcClient = jdbcClient;
+        this.tables = tables;
+        this.interval = interval;
+        this.partitionDuration = partitionDuration;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (interval <= 0) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-repository-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                cleanup(System.currentTimeMillis());
+            } catch (Exception ex) {
+                LOGGER.error("An error occurs while deleting the expired rows", ex);
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Delete the rows expired at the given time.
+     *
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    public long cleanup(long now) throws SQLException {
+        long deleted = 0;
+        for (String table : tables) {
+            deleted += cleanup(table, now);
+        }
+        return deleted;
+    }
+
+    private long cleanup(String table, long now) throws SQLException {
+        String selectOldest = "SELECT MIN(expire_at) FROM " + table + " WHERE expire_at <= ?";
+        String deletePartition = "DELETE FROM " + table + " WHERE expire_at <= ?";
+
+        long deleted = 0;
+        Long oldest;
+        // each iteration at least deletes the oldest row, jumping over the partitions without expired rows
+        while ((oldest = jdbcClient.execute(connection -> JdbcClient.queryForObject(connection, selectOldest,
+                statement -> statement.setLong(1, now), resultSet -> {
+                    long expireAt = resultSet.getLong(1);
+                    return resultSet.wasNull() ? null : expireAt;
+                }))) != null) {
+            long upperBound = Math.min(oldest + partitionDuration, now);
+            deleted += jdbcClient.execute(connection -> JdbcClient.update(connection, deletePartition,
+                    statement -> statement.setLong(1, upperBound)));
+        }
+
+        if (deleted > 0) {
+            LOGGER.debug("{} expired rows have been deleted from {}", deleted, table);
+        }
+        return deleted;
+    }
+}
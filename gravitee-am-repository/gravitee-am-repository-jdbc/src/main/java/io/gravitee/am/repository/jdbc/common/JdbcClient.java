@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run the blocking JDBC calls on a dedicated thread pool, sized as the connection pool, and expose them as reactive types.
+ *
+ * @author GraviteeSource Team
+ */
+public class JdbcClient {
+
+    private final DataSource dataSource;
+    private final ExecutorService executor;
+    private final Scheduler scheduler;
+
+    public JdbcClient(DataSource dataSource, int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dataSource = dataSource;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-repository-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Schedulers.from(executor);
+    }
+
+    public <T> Maybe<T> queryForObject(String sql, StatementSetter setter, RowMapper<T> rowMapper) {
+        return executeAsync(connection -> queryForObject(connection, sql, setter, rowMapper));
+    }
+
+    public <T> Observable<T> query(String sql, StatementSetter setter, RowMapper<T> rowMapper) {
+        return executeAsync(connection -> query(connection, sql, setter, rowMapper)).flattenAsObservable(items -> items);
+    }
+
+    public Single<Long> queryForLong(String sql, StatementSetter setter) {
+        return executeAsync(connection -> queryForObject(connection, sql, setter, resultSet -> resultSet.getLong(1))).toSingle(0L);
+    }
+
+    public Single<Integer> update(String sql, StatementSetter setter) {
+        return executeAsync(connection -> update(connection, sql, setter)).toSingle(0);
+    }
+
+    /**
+     * Run the same statement for each item, in a single transaction and round trip.
+     */
+    public <T> Completable batchUpdate(String sql, Collection<T> items, ParameterSetter<T> setter) {
+        if (items.isEmpty()) {
+            return Completable.complete();
+        }
+        return Completable.fromAction(() -> executeInTransaction(connection -> batchUpdate(connection, sql, items, setter)))
+                .subscribeOn(scheduler);
+    }
+
+    public <T> Maybe<T> executeAsync(ConnectionCallback<T> callback) {
+        return Maybe.fromCallable(() -> execute(callback)).subscribeOn(scheduler);
+    }
+
+    public <T> Maybe<T> executeInTransactionAsync(ConnectionCallback<T> callback) {
+        return Maybe.fromCallable(() -> executeInTransaction(callback)).subscribeOn(scheduler);
+    }
+
+    /**
+     * Run the callback on the calling thread, with a connection in auto-commit mode.
+     */
+    public <T> T execute(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return callback.doInConnection(connection);
+        }
+    }
+
+    /**
+     * Run the callback on the calling thread, within a transaction which is rolled back if the callback fails.
+     */
+    public <T> T executeInTransaction(ConnectionCallback<T> callback) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                T result = callback.doInConnection(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    public void close() {
+        executor.shutdown();
+    }
+
+    public static <T> T queryForObject(Connection connection, String sql, StatementSetter setter, RowMapper<T> rowMapper) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            setter.setValues(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? rowMapper.mapRow(resultSet) : null;
+            }
+        }
+    }
+
+    public static <T> List<T> query(Connection connection, String sql, StatementSetter setter, RowMapper<T> rowMapper) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            setter.setValues(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<T> items = new ArrayList<>();
+                while (resultSet.next()) {
+                    items.add(rowMapper.mapRow(resultSet));
+                }
+                return items;
+            }
+        }
+    }
+
+    public static int update(Connection connection, String sql, StatementSetter setter) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            setter.setValues(statement);
+            return statement.executeUpdate();
+        }
+    }
+
+    public static <T> int[] batchUpdate(Connection connection, String sql, Collection<T> items, ParameterSetter<T> setter) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (T item : items) {
+                setter.setValues(statement, item);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    @FunctionalInterface
+    public interface StatementSetter {
+        void setValues(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface ParameterSetter<T> {
+        void setValues(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T mapRow(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+        T doInConnection(Connection connection) throws SQLException;
+    }
+}
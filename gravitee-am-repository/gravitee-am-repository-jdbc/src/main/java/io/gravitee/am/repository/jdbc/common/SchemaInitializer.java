@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Create the tables and indexes of the repository if they do not exist yet.
+ *
+ * The statements are read from <code>scripts/schema.sql</code>, which can also be run manually by a DBA when the
+ * repository is not allowed to alter the schema.
+ *
+ * @author GraviteeSource Team
+ */
+public final class SchemaInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaInitializer.class);
+    private static final String SCHEMA_SCRIPT = "/scripts/schema.sql";
+
+    private SchemaInitializer() {
+    }
+
+    public static void createSchema(DataSource dataSource) throws IOException, SQLException {
+        List<String> statements = readStatements();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+        LOGGER.info("JDBC repository schema is up to date");
+    }
+
+    private static List<String> readStatements() throws IOException {
+        List<String> statements = new ArrayList<>();
+        try (InputStream inputStream = SchemaInitializer.class.getResourceAsStream(SCHEMA_SCRIPT);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            StringBuilder current = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("--")) {
+                    continue;
+                }
+                current.append(line).append(' ');
+                if (line.endsWith(";")) {
+                    current.setLength(current.length() - 2);
+                    statements.add(current.toString());
+                    current.setLength(0);
+                }
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+
+/**
+ * Base class of the OAuth2 repositories.
+ *
+ * Dates are stored as epoch milliseconds. Expired rows are deleted in the background by the expiry cleaner, lookups
+ * ignore them so that an item is never returned after its expiration date.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractOAuth2JdbcRepository {
+
+    protected static final String NOT_EXPIRED = "(expire_at IS NULL OR expire_at > ?)";
+
+    @Autowired
+    protected JdbcClient jdbcClient;
+
+    @Autowired
+    private Environment environment;
+
+    /**
+     * @return the maximum number of inserts sent in a single batch
+     */
+    protected int getMaxBatchSize() {
+        return environment.getProperty(OAuth2RepositoryConfiguration.PROPERTY_PREFIX + "batch.maxSize", Integer.class, 100);
+    }
+
+    protected static void setDate(PreparedStatement statement, int index, Date date) throws SQLException {
+        if (date == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, date.getTime());
+        }
+    }
+
+    protected static Date getDate(ResultSet resultSet, String column) throws SQLException {
+        long time = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : new Date(time);
+    }
+}
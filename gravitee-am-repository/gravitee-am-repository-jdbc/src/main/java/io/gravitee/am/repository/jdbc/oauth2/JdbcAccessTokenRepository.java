@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import io.gravitee.am.repository.jdbc.common.BatchWriter;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class JdbcAccessTokenRepository extends AbstractOAuth2JdbcRepository implements AccessTokenRepository {
+
+    private static final String COLUMNS = "token, id, domain, client, subject, created_at, expire_at, refresh_token, authorization_code";
+    private static final String INSERT = "INSERT INTO access_tokens (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM access_tokens WHERE ";
+    private static final String SELECT_BY_TOKEN = SELECT + "token = ? AND " + NOT_EXPIRED;
+    private static final String SELECT_BY_CLIENT_AND_SUBJECT = SELECT + "client = ? AND subject = ? AND " + NOT_EXPIRED;
+    private static final String SELECT_BY_CLIENT = SELECT + "client = ? AND " + NOT_EXPIRED;
+    private static final String SELECT_BY_AUTHORIZATION_CODE = SELECT + "authorization_code = ? AND " + NOT_EXPIRED;
+    private static final String COUNT_BY_CLIENT = "SELECT COUNT(*) FROM access_tokens WHERE client = ? AND " + NOT_EXPIRED;
+    private static final String DELETE_BY_TOKEN = "DELETE FROM access_tokens WHERE token = ?";
+    private static final String DELETE_BY_AUTHORIZATION_CODE = "DELETE FROM access_tokens WHERE authorization_code = ?";
+    private static final String DELETE_BY_DOMAIN_AND_CLIENT = "DELETE FROM access_tokens WHERE client = ? AND domain = ?";
+    private static final String DELETE_BY_DOMAIN_AND_SUBJECT = "DELETE FROM access_tokens WHERE domain = ? AND subject = ?";
+
+    private BatchWriter<AccessToken> batchWriter;
+
+    @PostConstruct
+    public void init() {
+        batchWriter = new BatchWriter<>(jdbcClient, INSERT, JdbcAccessTokenRepository::setValues, getMaxBatchSize());
+    }
+
+    @Override
+    public Maybe<AccessToken> findByToken(String token) {
+        return jdbcClient.queryForObject(SELECT_BY_TOKEN, statement -> {
+            statement.setString(1, token);
+            statement.setLong(2, System.currentTimeMillis());
+        }, JdbcAccessTokenRepository::map);
+    }
+
+    @Override
+    public Single<AccessToken> create(AccessToken accessToken) {
+        return batchWriter.write(accessToken).toSingleDefault(accessToken);
+    }
+
+    @Override
+    public Completable delete(String token) {
+        return jdbcClient.update(DELETE_BY_TOKEN, statement -> statement.setString(1, token)).toCompletable();
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientIdAndSubject(String clientId, String subject) {
+        return jdbcClient.query(SELECT_BY_CLIENT_AND_SUBJECT, statement -> {
+            statement.setString(1, clientId);
+            statement.setString(2, subject);
+            statement.setLong(3, System.currentTimeMillis());
+        }, JdbcAccessTokenRepository::map);
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientId(String clientId) {
+        return jdbcClient.query(SELECT_BY_CLIENT, statement -> {
+            statement.setString(1, clientId);
+            statement.setLong(2, System.currentTimeMillis());
+        }, JdbcAccessTokenRepository::map);
+    }
+
+    @Override
+    public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
+        return jdbcClient.query(SELECT_BY_AUTHORIZATION_CODE, statement -> {
+            statement.setString(1, authorizationCode);
+            statement.setLong(2, System.currentTimeMillis());
+        }, JdbcAccessTokenRepository::map);
+    }
+
+    @Override
+    public Single<Long> countByClientId(String clientId) {
+        return jdbcClient.queryForLong(COUNT_BY_CLIENT, statement -> {
+            statement.setString(1, clientId);
+            statement.setLong(2, System.currentTimeMillis());
+        });
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return jdbcClient.update(DELETE_BY_AUTHORIZATION_CODE, statement -> statement.setString(1, authorizationCode)).toCompletable();
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return jdbcClient.update(DELETE_BY_DOMAIN_AND_CLIENT, statement -> {
+            statement.setString(1, clientId);
+            statement.setString(2, domain);
+        }).toCompletable();
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return jdbcClient.update(DELETE_BY_DOMAIN_AND_SUBJECT, statement -> {
+            statement.setString(1, domain);
+            statement.setString(2, subject);
+        }).toCompletable();
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        // single storage schema
+        return Single.just(0L);
+    }
+
+    private static void setValues(PreparedStatement statement, AccessToken accessToken) throws SQLException {
+        statement.setString(1, accessToken.getToken());
+        statement.setString(2, accessToken.getId());
+        statement.setString(3, accessToken.getDomain());
+        statement.setString(4, accessToken.getClient());
+        statement.setString(5, accessToken.getSubject());
+        setDate(statement, 6, accessToken.getCreatedAt());
+        setDate(statement, 7, accessToken.getExpireAt());
+        statement.setString(8, accessToken.getRefreshToken());
+        statement.setString(9, accessToken.getAuthorizationCode());
+    }
+
+    private static AccessToken map(ResultSet resultSet) throws SQLException {
+        AccessToken accessToken = new AccessToken();
+        accessToken.setToken(resultSet.getString("token"));
+        accessToken.setId(resultSet.getString("id"));
+        accessToken.setDomain(resultSet.getString("domain"));
+        accessToken.setClient(resultSet.getString("client"));
+        accessToken.setSubject(resultSet.getString("subject"));
+        accessToken.setCreatedAt(getDate(resultSet, "created_at"));
+        accessToken.setExpireAt(getDate(resultSet, "expire_at"));
+        accessToken.setRefreshToken(resultSet.getString("refresh_token"));
+        accessToken.setAuthorizationCode(resultSet.getString("authorization_code"));
+        return accessToken;
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.repository.jdbc.common.BatchWriter;
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import io.gravitee.common.utils.UUID;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class JdbcAuthorizationCodeRepository extends AbstractOAuth2JdbcRepository implements AuthorizationCodeRepository {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, List<String>>> REQUEST_PARAMETERS_TYPE = new TypeReference<LinkedHashMap<String, List<String>>>() {};
+
+    private static final String COLUMNS = "id, code, client_id, subject, scopes, request_parameters, created_at, expire_at";
+    private static final String INSERT = "INSERT INTO authorization_codes (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM authorization_codes WHERE id = ?";
+    private static final String SELECT_BY_CODE = "SELECT " + COLUMNS + " FROM authorization_codes WHERE code = ? AND " + NOT_EXPIRED;
+    private static final String DELETE_BY_ID = "DELETE FROM authorization_codes WHERE id = ?";
+
+    private BatchWriter<AuthorizationCode> batchWriter;
+
+    @PostConstruct
+    public void init() {
+        batchWriter = new BatchWriter<>(jdbcClient, INSERT, JdbcAuthorizationCodeRepository::setValues, getMaxBatchSize());
+    }
+
+    @Override
+    public Single<AuthorizationCode> create(AuthorizationCode authorizationCode) {
+        if (authorizationCode.getId() == null) {
+            authorizationCode.setId(UUID.random().toString());
+        }
+        return batchWriter.write(authorizationCode).toSingleDefault(authorizationCode);
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> delete(String id) {
+        return jdbcClient.executeInTransactionAsync(connection -> {
+            AuthorizationCode authorizationCode = JdbcClient.queryForObject(connection, SELECT_BY_ID,
+                    statement -> statement.setString(1, id), JdbcAuthorizationCodeRepository::map);
+            if (authorizationCode == null) {
+                return null;
+            }
+            // only the request which actually deleted the code gets it, a code can not be consumed twice
+            int deleted = JdbcClient.update(connection, DELETE_BY_ID, statement -> statement.setString(1, id));
+            return deleted == 1 ? authorizationCode : null;
+        });
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> findByCode(String code) {
+        return jdbcClient.queryForObject(SELECT_BY_CODE, statement -> {
+            statement.setString(1, code);
+            statement.setLong(2, System.currentTimeMillis());
+        }, JdbcAuthorizationCodeRepository::map);
+    }
+
+    private static void setValues(PreparedStatement statement, AuthorizationCode authorizationCode) throws SQLException {
+        statement.setString(1, authorizationCode.getId());
+        statement.setString(2, authorizationCode.getCode());
+        statement.setString(3, authorizationCode.getClientId());
+        statement.setString(4, authorizationCode.getSubject());
+        // scope values can not contain spaces (RFC 6749 section 3.3)
+        statement.setString(5, authorizationCode.getScopes() == null ? null : String.join(" ", authorizationCode.getScopes()));
+        statement.setString(6, writeRequestParameters(authorizationCode.getRequestParameters()));
+        setDate(statement, 7, authorizationCode.getCreatedAt());
+        setDate(statement, 8, authorizationCode.getExpireAt());
+    }
+
+    private static AuthorizationCode map(ResultSet resultSet) throws SQLException {
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setId(resultSet.getString("id"));
+        authorizationCode.setCode(resultSet.getString("code"));
+        authorizationCode.setClientId(resultSet.getString("client_id"));
+        authorizationCode.setSubject(resultSet.getString("subject"));
+        authorizationCode.setScopes(readScopes(resultSet.getString("scopes")));
+        authorizationCode.setRequestParameters(readRequestParameters(resultSet.getString("request_parameters")));
+        authorizationCode.setCreatedAt(getDate(resultSet, "created_at"));
+        authorizationCode.setExpireAt(getDate(resultSet, "expire_at"));
+        return authorizationCode;
+    }
+
+    private static Set<String> readScopes(String scopes) {
+        if (scopes == null) {
+            return null;
+        }
+        return scopes.isEmpty() ? new HashSet<>() : new HashSet<>(Arrays.asList(scopes.split(" ")));
+    }
+
+    private static String writeRequestParameters(MultiValueMap<String, String> requestParameters) throws SQLException {
+        if (requestParameters == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(requestParameters);
+        } catch (IOException ex) {
+            throw new SQLException("Unable to write the authorization code request parameters", ex);
+        }
+    }
+
+    private static MultiValueMap<String, String> readRequestParameters(String requestParameters) throws SQLException {
+        if (requestParameters == null) {
+            return null;
+        }
+        try {
+            Map<String, List<String>> parameters = OBJECT_MAPPER.readValue(requestParameters, REQUEST_PARAMETERS_TYPE);
+            MultiValueMap<String, String> multiValueMap = new LinkedMultiValueMap<>();
+            parameters.forEach(multiValueMap::put);
+            return multiValueMap;
+        } catch (IOException ex) {
+            throw new SQLException("Unable to read the authorization code request parameters", ex);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import io.gravitee.am.repository.jdbc.common.BatchWriter;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class JdbcRefreshTokenRepository extends AbstractOAuth2JdbcRepository implements RefreshTokenRepository {
+
+    private static final String COLUMNS = "token, id, domain, client, subject, created_at, expire_at";
+    private static final String INSERT = "INSERT INTO refresh_tokens (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_TOKEN = "SELECT " + COLUMNS + " FROM refresh_tokens WHERE token = ? AND " + NOT_EXPIRED;
+    private static final String DELETE_BY_TOKEN = "DELETE FROM refresh_tokens WHERE token = ?";
+    private static final String DELETE_BY_DOMAIN_AND_CLIENT = "DELETE FROM refresh_tokens WHERE client = ? AND domain = ?";
+    private static final String DELETE_BY_DOMAIN_AND_SUBJECT = "DELETE FROM refresh_tokens WHERE domain = ? AND subject = ?";
+
+    private BatchWriter<RefreshToken> batchWriter;
+
+    @PostConstruct
+    public void init() {
+        batchWriter = new BatchWriter<>(jdbcClient, INSERT, JdbcRefreshTokenRepository::setValues, getMaxBatchSize());
+    }
+
+    @Override
+    public Maybe<RefreshToken> findByToken(String token) {
+        return jdbcClient.queryForObject(SELECT_BY_TOKEN, statement -> {
+            statement.setString(1, token);
+            statement.setLong(2, System.currentTimeMillis());
+        }, JdbcRefreshTokenRepository::map);
+    }
+
+    @Override
+    public Single<RefreshToken> create(RefreshToken refreshToken) {
+        return batchWriter.write(refreshToken).toSingleDefault(refreshToken);
+    }
+
+    @Override
+    public Completable delete(String token) {
+        return jdbcClient.update(DELETE_BY_TOKEN, statement -> statement.setString(1, token)).toCompletable();
+    }
+
+    @Override
+    public Completable deleteByTokens(Collection<String> tokens) {
+        return jdbcClient.batchUpdate(DELETE_BY_TOKEN, tokens, (statement, token) -> statement.setString(1, token));
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return jdbcClient.update(DELETE_BY_DOMAIN_AND_CLIENT, statement -> {
+            statement.setString(1, clientId);
+            statement.setString(2, domain);
+        }).toCompletable();
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return jdbcClient.update(DELETE_BY_DOMAIN_AND_SUBJECT, statement -> {
+            statement.setString(1, domain);
+            statement.setString(2, subject);
+        }).toCompletable();
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        // single storage schema
+        return Single.just(0L);
+    }
+
+    private static void setValues(PreparedStatement statement, RefreshToken refreshToken) throws SQLException {
+        statement.setString(1, refreshToken.getToken());
+        statement.setString(2, refreshToken.getId());
+        statement.setString(3, refreshToken.getDomain());
+        statement.setString(4, refreshToken.getClient());
+        statement.setString(5, refreshToken.getSubject());
+        setDate(statement, 6, refreshToken.getCreatedAt());
+        setDate(statement, 7, refreshToken.getExpireAt());
+    }
+
+    private static RefreshToken map(ResultSet resultSet) throws SQLException {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setToken(resultSet.getString("token"));
+        refreshToken.setId(resultSet.getString("id"));
+        refreshToken.setDomain(resultSet.getString("domain"));
+        refreshToken.setClient(resultSet.getString("client"));
+        refreshToken.setSubject(resultSet.getString("subject"));
+        refreshToken.setCreatedAt(getDate(resultSet, "created_at"));
+        refreshToken.setExpireAt(getDate(resultSet, "expire_at"));
+        return refreshToken;
+    }
+}
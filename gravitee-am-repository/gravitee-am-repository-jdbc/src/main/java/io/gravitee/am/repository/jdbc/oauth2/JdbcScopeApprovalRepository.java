@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
+import io.gravitee.common.utils.UUID;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scope approvals are identified by their natural key: domain, user, client and scope.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class JdbcScopeApprovalRepository extends AbstractOAuth2JdbcRepository implements ScopeApprovalRepository {
+
+    private static final String INSERT = "INSERT INTO scope_approvals (status, expire_at, updated_at, domain, user_id, client_id, scope, id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE scope_approvals SET status = ?, expire_at = ?, updated_at = ? WHERE domain = ? AND user_id = ? AND client_id = ? AND scope = ?";
+    private static final String SELECT_BY_DOMAIN_USER_AND_CLIENT = "SELECT domain, user_id, client_id, scope, status, updated_at, expire_at FROM scope_approvals WHERE domain = ? AND user_id = ? AND client_id = ? AND " + NOT_EXPIRED;
+    private static final String DELETE_BY_ID = "DELETE FROM scope_approvals WHERE id = ?";
+    private static final String DELETE_BY_DOMAIN_AND_SCOPE = "DELETE FROM scope_approvals WHERE domain = ? AND scope = ?";
+
+    @Override
+    public Maybe<ScopeApproval> findById(String id) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public Single<ScopeApproval> create(ScopeApproval scopeApproval) {
+        return jdbcClient.update(INSERT, statement -> setInsertValues(statement, scopeApproval, new Date()))
+                .map(inserted -> scopeApproval);
+    }
+
+    @Override
+    public Single<ScopeApproval> update(ScopeApproval scopeApproval) {
+        return jdbcClient.update(UPDATE, statement -> setUpdateValues(statement, scopeApproval))
+                .map(updated -> scopeApproval);
+    }
+
+    @Override
+    public Single<ScopeApproval> upsert(ScopeApproval scopeApproval) {
+        return bulkUpsert(Collections.singletonList(scopeApproval)).map(savedApprovals -> savedApprovals.get(0));
+    }
+
+    @Override
+    public Single<List<ScopeApproval>> bulkUpsert(Collection<ScopeApproval> scopeApprovals) {
+        if (scopeApprovals.isEmpty()) {
+            return Single.just(Collections.emptyList());
+        }
+
+        Date now = new Date();
+        List<ScopeApproval> savedApprovals = new ArrayList<>(scopeApprovals);
+        savedApprovals.forEach(scopeApproval -> scopeApproval.setUpdatedAt(now));
+
+        // update the existing approvals then insert the missing ones, two round trips whatever the number of scopes
+        return jdbcClient.executeInTransactionAsync(connection -> {
+            int[] updated = JdbcClient.batchUpdate(connection, UPDATE, savedApprovals, JdbcScopeApprovalRepository::setUpdateValues);
+            List<ScopeApproval> missingApprovals = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    missingApprovals.add(savedApprovals.get(i));
+                }
+            }
+            insert(connection, missingApprovals, now);
+            return savedApprovals;
+        }).toSingle();
+    }
+
+    @Override
+    public Completable delete(String domain, String scope) {
+        return jdbcClient.update(DELETE_BY_DOMAIN_AND_SCOPE, statement -> {
+            statement.setString(1, domain);
+            statement.setString(2, scope);
+        }).toCompletable();
+    }
+
+    @Override
+    public Completable delete(String id) {
+        return jdbcClient.update(DELETE_BY_ID, statement -> statement.setString(1, id)).toCompletable();
+    }
+
+    @Override
+    public Single<Set<ScopeApproval>> findByDomainAndUserAndClient(String domain, String userId, String clientId) {
+        return jdbcClient.query(SELECT_BY_DOMAIN_USER_AND_CLIENT, statement -> {
+            statement.setString(1, domain);
+            statement.setString(2, userId);
+            statement.setString(3, clientId);
+            statement.setLong(4, System.currentTimeMillis());
+        }, JdbcScopeApprovalRepository::map).collect(HashSet::new, Set::add);
+    }
+
+    private static void insert(Connection connection, List<ScopeApproval> scopeApprovals, Date now) throws SQLException {
+        if (scopeApprovals.isEmpty()) {
+            return;
+        }
+        int[] inserted = JdbcClient.batchUpdate(connection, INSERT, scopeApprovals,
+                (statement, scopeApproval) -> setInsertValues(statement, scopeApproval, now));
+        for (int count : inserted) {
+            if (count == Statement.EXECUTE_FAILED) {
+                throw new SQLException("Unable to insert the scope approvals");
+            }
+        }
+    }
+
+    private static void setUpdateValues(PreparedStatement statement, ScopeApproval scopeApproval) throws SQLException {
+        statement.setString(1, scopeApproval.getStatus().name());
+        setDate(statement, 2, scopeApproval.getExpiresAt());
+        setDate(statement, 3, scopeApproval.getUpdatedAt());
+        statement.setString(4, scopeApproval.getDomain());
+        statement.setString(5, scopeApproval.getUserId());
+        statement.setString(6, scopeApproval.getClientId());
+        statement.setString(7, scopeApproval.getScope());
+    }
+
+    private static void setInsertValues(PreparedStatement statement, ScopeApproval scopeApproval, Date now) throws SQLException {
+        setUpdateValues(statement, scopeApproval);
+        statement.setString(8, UUID.random().toString());
+        setDate(statement, 9, now);
+    }
+
+    private static ScopeApproval map(ResultSet resultSet) throws SQLException {
+        ScopeApproval scopeApproval = new ScopeApproval();
+        scopeApproval.setDomain(resultSet.getString("domain"));
+        scopeApproval.setUserId(resultSet.getString("user_id"));
+        scopeApproval.setClientId(resultSet.getString("client_id"));
+        scopeApproval.setScope(resultSet.getString("scope"));
+        scopeApproval.setStatus(ScopeApproval.ApprovalStatus.valueOf(resultSet.getString("status")));
+        scopeApproval.setUpdatedAt(getDate(resultSet, "updated_at"));
+        scopeApproval.setExpiresAt(getDate(resultSet, "expire_at"));
+        return scopeApproval;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.jdbc.common.ExpiryCleaner;
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+import io.gravitee.am.repository.jdbc.common.SchemaInitializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Configuration
+@ComponentScan("io.gravitee.am.repository.jdbc.oauth2")
+public class OAuth2RepositoryConfiguration {
+
+    static final String PROPERTY_PREFIX = Scope.OAUTH2.getName() + ".jdbc.";
+
+    @Autowired
+    private Environment environment;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource oauth2DataSource() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("oauth2-jdbc");
+        config.setJdbcUrl(environment.getRequiredProperty(PROPERTY_PREFIX + "url"));
+        config.setUsername(environment.getProperty(PROPERTY_PREFIX + "username"));
+        config.setPassword(environment.getProperty(PROPERTY_PREFIX + "password"));
+        String driverClassName = environment.getProperty(PROPERTY_PREFIX + "driverClassName");
+        if (driverClassName != null && !driverClassName.isEmpty()) {
+            // the driver is loaded from the plugin class loader, the DriverManager can not see it
+            config.setDriverClassName(driverClassName);
+        }
+        config.setMaximumPoolSize(maxPoolSize());
+        config.setMinimumIdle(environment.getProperty(PROPERTY_PREFIX + "pool.minIdle", Integer.class, maxPoolSize()));
+        config.setConnectionTimeout(environment.getProperty(PROPERTY_PREFIX + "pool.connectionTimeout", Long.class, 30000L));
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        try {
+            if (environment.getProperty(PROPERTY_PREFIX + "schema.create", Boolean.class, true)) {
+                SchemaInitializer.createSchema(dataSource);
+            }
+        } catch (Exception ex) {
+            dataSource.close();
+            throw ex;
+        }
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public JdbcClient jdbcClient() throws Exception {
+        // one thread per connection, the JDBC calls are blocking
+        return new JdbcClient(oauth2DataSource(), maxPoolSize());
+    }
+
+    @Bean
+    public ExpiryCleaner expiryCleaner() throws Exception {
+        return new ExpiryCleaner(jdbcClient(),
+                Arrays.asList("access_tokens", "refresh_tokens", "authorization_codes", "scope_approvals"),
+                environment.getProperty(PROPERTY_PREFIX + "cleanup.interval", Long.class, 60L),
+                TimeUnit.SECONDS.toMillis(environment.getProperty(PROPERTY_PREFIX + "cleanup.partition", Long.class, 300L)));
+    }
+
+    private int maxPoolSize() {
+        return environment.getProperty(PROPERTY_PREFIX + "pool.maxSize", Integer.class, 10);
+    }
+}
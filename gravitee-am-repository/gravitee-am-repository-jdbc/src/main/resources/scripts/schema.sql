@@ -0,0 +1,83 @@
+--
+-- Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--         http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+-- Dates are stored as epoch milliseconds, expired rows are deleted by the expiry cleaner using the expire_at indexes.
+
+CREATE TABLE IF NOT EXISTS access_tokens (
+    token VARCHAR(255) NOT NULL,
+    id VARCHAR(64),
+    domain VARCHAR(64),
+    client VARCHAR(255),
+    subject VARCHAR(255),
+    created_at BIGINT,
+    expire_at BIGINT,
+    refresh_token VARCHAR(255),
+    authorization_code VARCHAR(255),
+    PRIMARY KEY (token)
+);
+
+-- findByClientIdAndSubject, findByClientId, countByClientId and deleteByDomainAndClientId
+CREATE INDEX IF NOT EXISTS idx_access_tokens_client_subject ON access_tokens (client, subject);
+-- deleteByDomainAndSubject
+CREATE INDEX IF NOT EXISTS idx_access_tokens_domain_subject ON access_tokens (domain, subject);
+CREATE INDEX IF NOT EXISTS idx_access_tokens_authorization_code ON access_tokens (authorization_code);
+CREATE INDEX IF NOT EXISTS idx_access_tokens_expire_at ON access_tokens (expire_at);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token VARCHAR(255) NOT NULL,
+    id VARCHAR(64),
+    domain VARCHAR(64),
+    client VARCHAR(255),
+    subject VARCHAR(255),
+    created_at BIGINT,
+    expire_at BIGINT,
+    PRIMARY KEY (token)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_client ON refresh_tokens (client);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_domain_subject ON refresh_tokens (domain, subject);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expire_at ON refresh_tokens (expire_at);
+
+CREATE TABLE IF NOT EXISTS authorization_codes (
+    id VARCHAR(64) NOT NULL,
+    code VARCHAR(255),
+    client_id VARCHAR(255),
+    subject VARCHAR(255),
+    scopes TEXT,
+    request_parameters TEXT,
+    created_at BIGINT,
+    expire_at BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_authorization_codes_code ON authorization_codes (code);
+CREATE INDEX IF NOT EXISTS idx_authorization_codes_expire_at ON authorization_codes (expire_at);
+
+CREATE TABLE IF NOT EXISTS scope_approvals (
+    domain VARCHAR(64) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    client_id VARCHAR(255) NOT NULL,
+    scope VARCHAR(255) NOT NULL,
+    id VARCHAR(64),
+    status VARCHAR(16),
+    created_at BIGINT,
+    updated_at BIGINT,
+    expire_at BIGINT,
+    PRIMARY KEY (domain, user_id, client_id, scope)
+);
+
+CREATE INDEX IF NOT EXISTS idx_scope_approvals_domain_scope ON scope_approvals (domain, scope);
+CREATE INDEX IF NOT EXISTS idx_scope_approvals_expire_at ON scope_approvals (expire_at);
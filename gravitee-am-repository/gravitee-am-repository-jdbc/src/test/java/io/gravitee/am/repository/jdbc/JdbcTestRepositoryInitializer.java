@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc;
+
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Empty all the tables after each test.
+ *
+ * @author GraviteeSource Team
+ */
+public class JdbcTestRepositoryInitializer implements TestRepositoryInitializer {
+
+    private static final String[] TABLES = {"access_tokens", "refresh_tokens", "authorization_codes", "scope_approvals"};
+
+    private final JdbcClient jdbcClient;
+
+    public JdbcTestRepositoryInitializer(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void tearDown() {
+        try {
+            jdbcClient.execute(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    for (String table : TABLES) {
+                        statement.executeUpdate("DELETE FROM " + table);
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
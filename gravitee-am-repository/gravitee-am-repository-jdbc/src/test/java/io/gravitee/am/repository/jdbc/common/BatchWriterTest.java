@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import io.reactivex.Completable;
+import io.reactivex.observers.TestObserver;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class BatchWriterTest {
+
+    private static final String INSERT = "INSERT INTO items (id) VALUES (?)";
+
+    private JdbcConnectionPool dataSource;
+    private JdbcClient jdbcClient;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = JdbcConnectionPool.create("jdbc:h2:mem:batch-writer;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcClient = new JdbcClient(dataSource, 2);
+        jdbcClient.execute(connection -> JdbcClient.update(connection, "CREATE TABLE items (id VARCHAR(64) PRIMARY KEY)", statement -> {}));
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        jdbcClient.execute(connection -> JdbcClient.update(connection, "DROP TABLE items", statement -> {}));
+        jdbcClient.close();
+        dataSource.dispose();
+    }
+
+    @Test
+    public void shouldInsertAllItems() throws SQLException {
+        BatchWriter<String> batchWriter = new BatchWriter<>(jdbcClient, INSERT, (statement, id) -> statement.setString(1, id), 10);
+
+        List<Completable> writes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            writes.add(batchWriter.write("item-" + i));
+        }
+        TestObserver<Void> observer = Completable.merge(writes).test();
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        assertEquals(250L, count().longValue());
+    }
+
+    @Test
+    public void shouldOnlyFailFaultyItem() throws SQLException {
+        BatchWriter<String> batchWriter = new BatchWriter<>(jdbcClient, INSERT, (statement, id) -> statement.setString(1, id), 10);
+        batchWriter.write("duplicate").blockingAwait();
+
+        TestObserver<Void> firstObserver = batchWriter.write("item-1").test();
+        TestObserver<Void> duplicateObserver = batchWriter.write("duplicate").test();
+        TestObserver<Void> lastObserver = batchWriter.write("item-2").test();
+        firstObserver.awaitTerminalEvent();
+        duplicateObserver.awaitTerminalEvent();
+        lastObserver.awaitTerminalEvent();
+
+        firstObserver.assertComplete();
+        duplicateObserver.assertError(SQLException.class);
+        lastObserver.assertComplete();
+        assertEquals(3L, count().longValue());
+    }
+
+    private Long count() throws SQLException {
+        return jdbcClient.execute(connection -> JdbcClient.queryForObject(connection, "SELECT COUNT(*) FROM items",
+                statement -> {}, resultSet -> resultSet.getLong(1)));
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ExpiryCleanerTest {
+
+    private static final long PARTITION = TimeUnit.MINUTES.toMillis(5);
+
+    private JdbcConnectionPool dataSource;
+    private JdbcClient jdbcClient;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = JdbcConnectionPool.create("jdbc:h2:mem:expiry-cleaner;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcClient = new JdbcClient(dataSource, 1);
+        jdbcClient.execute(connection -> JdbcClient.update(connection, "CREATE TABLE items (id VARCHAR(64) PRIMARY KEY, expire_at BIGINT)", statement -> {}));
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        jdbcClient.execute(connection -> JdbcClient.update(connection, "DROP TABLE items", statement -> {}));
+        jdbcClient.close();
+        dataSource.dispose();
+    }
+
+    @Test
+    public void shouldDeleteExpiredItems() throws SQLException {
+        long now = System.currentTimeMillis();
+        // expired items spread over several partitions, with a gap of a few days
+        insert("expired-1", now - TimeUnit.DAYS.toMillis(3));
+        insert("expired-2", now - TimeUnit.DAYS.toMillis(3) + PARTITION / 2);
+        insert("expired-3", now - TimeUnit.HOURS.toMillis(1));
+        insert("expired-4", now);
+        insert("valid", now + 1);
+        insert("no-expiration", null);
+
+        ExpiryCleaner expiryCleaner = new ExpiryCleaner(jdbcClient, Collections.singletonList("items"), 0, PARTITION);
+
+        assertEquals(4L, expiryCleaner.cleanup(now));
+        assertEquals(Arrays.asList("no-expiration", "valid"), remainingItems());
+        assertEquals(0L, expiryCleaner.cleanup(now));
+    }
+
+    private void insert(String id, Long expireAt) throws SQLException {
+        jdbcClient.execute(connection -> JdbcClient.update(connection, "INSERT INTO items (id, expire_at) VALUES (?, ?)", statement -> {
+            statement.setString(1, id);
+            if (expireAt == null) {
+                statement.setNull(2, Types.BIGINT);
+            } else {
+                statement.setLong(2, expireAt);
+            }
+        }));
+    }
+
+    private List<String> remainingItems() throws SQLException {
+        return jdbcClient.execute(connection -> JdbcClient.query(connection, "SELECT id FROM items ORDER BY id",
+                statement -> {}, resultSet -> resultSet.getString(1)));
+    }
+}
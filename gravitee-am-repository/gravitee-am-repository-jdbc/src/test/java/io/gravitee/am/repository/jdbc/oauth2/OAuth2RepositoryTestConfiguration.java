@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.oauth2;
+
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
+import io.gravitee.am.repository.jdbc.JdbcTestRepositoryInitializer;
+import io.gravitee.am.repository.jdbc.common.JdbcClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Run the repositories against an embedded H2 database.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+@Import(OAuth2RepositoryConfiguration.class)
+@PropertySource("classpath:oauth2-jdbc.properties")
+public class OAuth2RepositoryTestConfiguration {
+
+    @Bean
+    public TestRepositoryInitializer testRepositoryInitializer(JdbcClient jdbcClient) {
+        return new JdbcTestRepositoryInitializer(jdbcClient);
+    }
+}
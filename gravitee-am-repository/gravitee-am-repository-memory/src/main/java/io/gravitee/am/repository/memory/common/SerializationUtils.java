@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.gravitee.am.model.jose.JWK;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+
+import java.io.IOException;
+
+/**
+ * Copy the items stored in memory so that the callers never share an instance with the repository, and write them
+ * to the snapshot files.
+ *
+ * Items are mapped field by field: computed getters and setters with side effects are ignored, the type of the
+ * values declared as {@link Object} (custom claims, additional information, metadata) is kept along with the value.
+ *
+ * @author GraviteeSource Team
+ */
+public final class SerializationUtils {
+
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    private SerializationUtils() {
+    }
+
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Deep copy an item.
+     *
+     * @param item the item to copy, may be <code>null</code>
+     * @param type the type of the item
+     * @return a copy of the item, <code>null</code> if the item is <code>null</code>
+     */
+    public static <T> T copy(T item, Class<T> type) {
+        if (item == null) {
+            return null;
+        }
+        try {
+            TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false);
+            OBJECT_MAPPER.writerFor(type).writeValue(buffer, item);
+            return OBJECT_MAPPER.readerFor(type).readValue(buffer.asParser());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to copy " + type.getSimpleName(), e);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        objectMapper.enableDefaultTyping(ObjectMapper.DefaultTyping.JAVA_LANG_OBJECT);
+        objectMapper.addMixIn(JWK.class, JWKMixIn.class);
+        objectMapper.registerModule(new SimpleModule().addAbstractTypeMapping(MultiValueMap.class, LinkedMultiValueMap.class));
+        return objectMapper;
+    }
+
+    /**
+     * Client keys are declared with their abstract type, keep their concrete type.
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    private abstract static class JWKMixIn {
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write the items of the repositories of a scope to a local JSON file, and restore them on startup.
+ *
+ * Snapshots are disabled unless the <code>[scope].memory.snapshot.path</code> property is set. The snapshot is
+ * written every <code>[scope].memory.snapshot.interval</code> seconds (60 by default, 0 to only write it on shutdown)
+ * and when the repository stops. The file is written aside then moved, a crash never leaves a partial snapshot.
+ *
+ * The snapshot file keeps the java type of the values declared as {@link Object}: it must only be writable by the node.
+ *
+ * @author GraviteeSource Team
+ */
+public class SnapshotStore implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotStore.class);
+    private static final long DEFAULT_INTERVAL = 60L;
+
+    private final Path path;
+    private final long interval;
+    private final List<Snapshotable<?>> repositories;
+    private ScheduledExecutorService executor;
+
+    public SnapshotStore(String scope, Environment environment, List<Snapshotable<?>> repositories) {
+        String snapshotPath = environment.getProperty(scope + ".memory.snapshot.path");
+        this.path = snapshotPath == null || snapshotPath.isEmpty() ? null : Paths.get(snapshotPath);
+        this.interval = environment.getProperty(scope + ".memory.snapshot.interval", Long.class, DEFAULT_INTERVAL);
+        this.repositories = repositories;
+    }
+
+    SnapshotStore(Path path, long interval, List<Snapshotable<?>> repositories) {
+        this.path = path;
+        this.interval = interval;
+        this.repositories = repositories;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (path == null) {
+            return;
+        }
+
+        restore();
+
+        if (interval > 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "memory-repository-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(() -> {
+                try {
+                    write();
+                } catch (Exception ex) {
+                    LOGGER.error("An error occurs while writing the snapshot {}", path, ex);
+                }
+            }, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (path == null) {
+            return;
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(interval, TimeUnit.SECONDS);
+        }
+        write();
+    }
+
+    /**
+     * Restore the items of the snapshot file, if it exists.
+     */
+    public void restore() throws IOException {
+        if (!Files.exists(path)) {
+            LOGGER.info("No snapshot to restore from {}", path);
+            return;
+        }
+
+        ObjectMapper objectMapper = SerializationUtils.objectMapper();
+        JsonNode snapshot = objectMapper.readTree(path.toFile());
+        for (Snapshotable<?> repository : repositories) {
+            JsonNode items = snapshot.get(repository.snapshotName());
+            if (items != null) {
+                restore(repository, objectMapper, items);
+            }
+        }
+        LOGGER.info("Repositories have been restored from the snapshot {}", path);
+    }
+
+    /**
+     * Write the items of all the repositories to the snapshot file.
+     */
+    public synchronized void write() throws IOException {
+        ObjectMapper objectMapper = SerializationUtils.objectMapper();
+        Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream outputStream = Files.newOutputStream(tmpPath);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            for (Snapshotable<?> repository : repositories) {
+                generator.writeFieldName(repository.snapshotName());
+                objectMapper.writerFor(listType(objectMapper, repository)).writeValue(generator, repository.snapshot());
+            }
+            generator.writeEndObject();
+        }
+        Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.debug("Snapshot has been written to {}", path);
+    }
+
+    private static <T> void restore(Snapshotable<T> repository, ObjectMapper objectMapper, JsonNode items) throws IOException {
+        List<T> restoredItems = objectMapper.readerFor(listType(objectMapper, repository)).readValue(items);
+        repository.restore(restoredItems);
+    }
+
+    private static JavaType listType(ObjectMapper objectMapper, Snapshotable<?> repository) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, repository.snapshotType());
+    }
+}
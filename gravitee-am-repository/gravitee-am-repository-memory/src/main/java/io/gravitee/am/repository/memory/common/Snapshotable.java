@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import java.util.Collection;
+
+/**
+ * A repository whose items can be written to and restored from a snapshot.
+ *
+ * @author GraviteeSource Team
+ */
+public interface Snapshotable<T> {
+
+    /**
+     * @return the name of the items in the snapshot, unique per scope
+     */
+    String snapshotName();
+
+    /**
+     * @return the type of the items
+     */
+    Class<T> snapshotType();
+
+    /**
+     * @return a copy of the stored items
+     */
+    Collection<T> snapshot();
+
+    /**
+     * Store the items of a snapshot, items with the same identifier are replaced.
+     *
+     * @param items the items of the snapshot
+     */
+    void restore(Collection<T> items);
+
+    /**
+     * Remove all the stored items.
+     */
+    void clear();
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timer wheel running tasks once their deadline is over, with a precision of one tick.
+ *
+ * Tasks are hashed into the buckets of the wheel by deadline and each tick only visits the bucket of the tick which is
+ * over, so scheduling and expiring a task are constant time whatever the number of pending tasks. A task whose deadline
+ * is more than one revolution ahead stays in its bucket, it is checked once per revolution until its deadline is over.
+ *
+ * Tasks can not be cancelled, they must check that they are still relevant when they run.
+ *
+ * @author GraviteeSource Team
+ */
+public class TimerWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerWheel.class);
+
+    private final long tickDuration;
+    private final Queue<Timeout>[] buckets;
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private ScheduledExecutorService executor;
+    // last tick which has been expired, only accessed by the timer thread
+    private long lastTick;
+
+    /**
+     * @param tickDuration duration of a tick
+     * @param unit unit of the tick duration
+     * @param ticksPerWheel number of buckets of the wheel
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Tick duration and ticks per wheel must be greater than 0");
+        }
+        this.tickDuration = unit.toMillis(tickDuration);
+        this.buckets = new Queue[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = tick(System.currentTimeMillis()) - 1;
+    }
+
+    public synchronized void start() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "memory-repository-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(() -> expire(System.currentTimeMillis()), tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Run a task once the deadline is over. A task whose deadline is already over runs at the end of the current tick.
+     *
+     * @param deadline the deadline of the task
+     * @param task the task
+     */
+    public void schedule(Date deadline, Runnable task) {
+        long deadlineTick = Math.max(tick(deadline.getTime()), tick(System.currentTimeMillis()));
+        buckets[bucket(deadlineTick)].add(new Timeout(deadline.getTime(), task));
+        pendingTasks.incrementAndGet();
+    }
+
+    /**
+     * @return the number of tasks which have not run yet
+     */
+    public int size() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * Run the tasks of the ticks which are over.
+     *
+     * @param now the current time
+     */
+    void expire(long now) {
+        long currentTick = tick(now);
+        // visit each bucket at most once, even if the timer is late of more than one revolution
+        long firstTick = Math.max(lastTick + 1, currentTick - buckets.length);
+        for (long tick = firstTick; tick < currentTick; tick++) {
+            Iterator<Timeout> timeouts = buckets[bucket(tick)].iterator();
+            while (timeouts.hasNext()) {
+                Timeout timeout = timeouts.next();
+                if (timeout.deadline <= now) {
+                    timeouts.remove();
+                    pendingTasks.decrementAndGet();
+                    run(timeout.task);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, currentTick - 1);
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception ex) {
+            LOGGER.error("An error occurs while running an expiration task", ex);
+        }
+    }
+
+    private long tick(long time) {
+        return time / tickDuration;
+    }
+
+    private int bucket(long tick) {
+        return (int) (tick % buckets.length);
+    }
+
+    private static class Timeout {
+        private final long deadline;
+        private final Runnable task;
+
+        Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+    }
+}
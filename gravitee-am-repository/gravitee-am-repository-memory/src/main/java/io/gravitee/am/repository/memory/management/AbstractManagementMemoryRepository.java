@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.repository.memory.common.SerializationUtils;
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.common.utils.UUID;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Base class of the management repositories: items are kept in a concurrent map indexed by id, secondary lookups
+ * scan the map.
+ *
+ * Stored items are never shared with the callers: they are copied when written and when read, and they are updated
+ * by replacing them.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractManagementMemoryRepository<T> implements Snapshotable<T> {
+
+    protected final ConcurrentMap<String, T> items = new ConcurrentHashMap<>();
+    private final String name;
+    private final Class<T> type;
+    private final Function<T, String> idGetter;
+    private final BiConsumer<T, String> idSetter;
+
+    protected AbstractManagementMemoryRepository(String name, Class<T> type, Function<T, String> idGetter, BiConsumer<T, String> idSetter) {
+        this.name = name;
+        this.type = type;
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+
+    public Maybe<T> findById(String id) {
+        return Maybe.fromCallable(() -> copy(items.get(id)));
+    }
+
+    public Single<T> create(T item) {
+        return Single.fromCallable(() -> {
+            T newItem = copy(item);
+            if (idGetter.apply(newItem) == null) {
+                idSetter.accept(newItem, UUID.random().toString());
+            }
+            if (items.putIfAbsent(idGetter.apply(newItem), newItem) != null) {
+                throw new IllegalStateException("An item of " + name + " already exists with id " + idGetter.apply(newItem));
+            }
+            return copy(newItem);
+        });
+    }
+
+    public Single<T> update(T item) {
+        return Single.fromCallable(() -> {
+            T newItem = copy(item);
+            if (items.replace(idGetter.apply(newItem), newItem) == null) {
+                throw new NoSuchElementException("No item of " + name + " with id " + idGetter.apply(newItem));
+            }
+            return copy(newItem);
+        });
+    }
+
+    public Completable delete(String id) {
+        return Completable.fromAction(() -> items.remove(id));
+    }
+
+    @Override
+    public String snapshotName() {
+        return name;
+    }
+
+    @Override
+    public Class<T> snapshotType() {
+        return type;
+    }
+
+    @Override
+    public Collection<T> snapshot() {
+        return items.values().stream().map(this::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public void restore(Collection<T> restoredItems) {
+        restoredItems.forEach(item -> items.put(idGetter.apply(item), item));
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+    }
+
+    protected Stream<T> find(Predicate<T> filter) {
+        return items.values().stream().filter(filter).map(this::copy);
+    }
+
+    protected Set<T> findAsSet(Predicate<T> filter) {
+        return find(filter).collect(Collectors.toSet());
+    }
+
+    protected List<T> findAsList(Predicate<T> filter) {
+        return find(filter).collect(Collectors.toList());
+    }
+
+    protected Maybe<T> findFirst(Predicate<T> filter) {
+        return Maybe.fromCallable(() -> items.values().stream().filter(filter).findFirst().map(this::copy).orElse(null));
+    }
+
+    /**
+     * Update the items matching the filter, each item is updated on a copy which replaces the stored item.
+     *
+     * @param filter the items to update
+     * @param updater update the copy of an item, returns <code>true</code> if the item has been modified
+     * @return the number of modified items
+     */
+    protected long updateAll(Predicate<T> filter, Predicate<T> updater) {
+        long updated = 0;
+        for (String id : items.keySet()) {
+            boolean[] modified = new boolean[1];
+            items.computeIfPresent(id, (key, item) -> {
+                if (!filter.test(item)) {
+                    return item;
+                }
+                T newItem = copy(item);
+                modified[0] = updater.test(newItem);
+                return modified[0] ? newItem : item;
+            });
+            if (modified[0]) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    protected T copy(T item) {
+        return SerializationUtils.copy(item, type);
+    }
+}
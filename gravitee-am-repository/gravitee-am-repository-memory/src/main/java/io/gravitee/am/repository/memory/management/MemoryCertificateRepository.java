@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.Certificate;
+import io.gravitee.am.repository.management.api.CertificateRepository;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryCertificateRepository extends AbstractManagementMemoryRepository<Certificate> implements CertificateRepository {
+
+    public MemoryCertificateRepository() {
+        super("certificates", Certificate.class, Certificate::getId, Certificate::setId);
+    }
+
+    @Override
+    public Single<Set<Certificate>> findAll() {
+        return Single.fromCallable(() -> findAsSet(certificate -> true));
+    }
+
+    @Override
+    public Single<Set<Certificate>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(certificate -> domain.equals(certificate.getDomain())));
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryClientRepository extends AbstractManagementMemoryRepository<Client> implements ClientRepository {
+
+    public MemoryClientRepository() {
+        super("clients", Client.class, Client::getId, Client::setId);
+    }
+
+    @Override
+    public Single<Set<Client>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(client -> domain.equals(client.getDomain())));
+    }
+
+    @Override
+    public Single<Page<Client>> findByDomain(String domain, int page, int size) {
+        return Single.fromCallable(() -> page(client -> domain.equals(client.getDomain()), page, size));
+    }
+
+    @Override
+    public Maybe<Client> findByClientIdAndDomain(String clientId, String domain) {
+        return findFirst(client -> domain.equals(client.getDomain()) && clientId.equals(client.getClientId()));
+    }
+
+    @Override
+    public Single<Set<Client>> findByIdentityProvider(String identityProvider) {
+        return Single.fromCallable(() -> findAsSet(client ->
+                (client.getIdentities() != null && client.getIdentities().contains(identityProvider))
+                        || (client.getOauth2Identities() != null && client.getOauth2Identities().contains(identityProvider))));
+    }
+
+    @Override
+    public Single<Set<Client>> findByCertificate(String certificate) {
+        return Single.fromCallable(() -> findAsSet(client -> certificate.equals(client.getCertificate())));
+    }
+
+    @Override
+    public Single<Set<Client>> findByDomainAndExtensionGrant(String domain, String tokenGranter) {
+        return Single.fromCallable(() -> findAsSet(client -> domain.equals(client.getDomain())
+                && client.getAuthorizedGrantTypes() != null && client.getAuthorizedGrantTypes().contains(tokenGranter)));
+    }
+
+    @Override
+    public Single<Set<Client>> findAll() {
+        return Single.fromCallable(() -> findAsSet(client -> true));
+    }
+
+    @Override
+    public Single<Page<Client>> findAll(int page, int size) {
+        return Single.fromCallable(() -> page(client -> true, page, size));
+    }
+
+    @Override
+    public Single<Long> countByDomain(String domain) {
+        return Single.fromCallable(() -> items.values().stream().filter(client -> domain.equals(client.getDomain())).count());
+    }
+
+    @Override
+    public Single<Long> count() {
+        return Single.fromCallable(() -> (long) items.size());
+    }
+
+    @Override
+    public Single<Long> removeScope(String domain, String scope) {
+        return Single.fromCallable(() -> updateAll(
+                client -> domain.equals(client.getDomain()) && client.getScopes() != null && client.getScopes().contains(scope),
+                client -> {
+                    client.getScopes().removeIf(scope::equals);
+                    client.setUpdatedAt(new Date());
+                    return true;
+                }));
+    }
+
+    private Page<Client> page(Predicate<Client> filter, int page, int size) {
+        List<Client> clients = items.values().stream().filter(filter).collect(Collectors.toList());
+        // client pages start at 1, as for the mongodb repository
+        Set<Client> data = clients.stream().skip((long) size * (page - 1)).limit(size).map(this::copy).collect(Collectors.toSet());
+        return new Page<>(data, page, clients.size());
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.ExtensionGrant;
+import io.gravitee.am.repository.management.api.ExtensionGrantRepository;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryExtensionGrantRepository extends AbstractManagementMemoryRepository<ExtensionGrant> implements ExtensionGrantRepository {
+
+    public MemoryExtensionGrantRepository() {
+        super("extension_grants", ExtensionGrant.class, ExtensionGrant::getId, ExtensionGrant::setId);
+    }
+
+    @Override
+    public Single<Set<ExtensionGrant>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(extensionGrant -> domain.equals(extensionGrant.getDomain())));
+    }
+
+    @Override
+    public Maybe<ExtensionGrant> findByDomainAndGrantType(String domain, String grantType) {
+        return findFirst(extensionGrant -> domain.equals(extensionGrant.getDomain()) && grantType.equals(extensionGrant.getGrantType()));
+    }
+}
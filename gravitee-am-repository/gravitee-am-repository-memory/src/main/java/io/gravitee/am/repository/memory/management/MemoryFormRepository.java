@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.Form;
+import io.gravitee.am.repository.management.api.FormRepository;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryFormRepository extends AbstractManagementMemoryRepository<Form> implements FormRepository {
+
+    public MemoryFormRepository() {
+        super("forms", Form.class, Form::getId, Form::setId);
+    }
+
+    @Override
+    public Single<List<Form>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsList(form -> domain.equals(form.getDomain())));
+    }
+
+    @Override
+    public Maybe<Form> findByDomainAndTemplate(String domain, String template) {
+        // domain forms are the ones which are not bound to a client
+        return findFirst(form -> domain.equals(form.getDomain()) && form.getClient() == null && template.equals(form.getTemplate()));
+    }
+
+    @Override
+    public Maybe<Form> findByDomainAndClientAndTemplate(String domain, String client, String template) {
+        return findFirst(form -> domain.equals(form.getDomain()) && client.equals(form.getClient()) && template.equals(form.getTemplate()));
+    }
+}
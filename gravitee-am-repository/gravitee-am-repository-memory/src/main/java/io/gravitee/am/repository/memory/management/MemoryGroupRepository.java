@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.repository.management.api.GroupRepository;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Group memberships are kept apart from the groups, sorted by member, the way the mongodb repository stores them
+ * in their own collection.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryGroupRepository extends AbstractManagementMemoryRepository<Group> implements GroupRepository {
+
+    private final ConcurrentMap<String, NavigableSet<String>> members = new ConcurrentHashMap<>();
+
+    public MemoryGroupRepository() {
+        super("groups", Group.class, Group::getId, Group::setId);
+    }
+
+    @Override
+    public Single<List<Group>> findByMember(String memberId) {
+        return findByMembers(Collections.singletonList(memberId))
+                .map(groups -> groups.getOrDefault(memberId, Collections.emptyList()));
+    }
+
+    @Override
+    public Single<Map<String, List<Group>>> findByMembers(List<String> memberIds) {
+        return Single.fromCallable(() -> {
+            Map<String, List<Group>> groupsByMember = new HashMap<>();
+            if (memberIds == null || memberIds.isEmpty()) {
+                return groupsByMember;
+            }
+            Set<String> distinctMemberIds = new LinkedHashSet<>(memberIds);
+            items.values().forEach(group -> {
+                NavigableSet<String> groupMembers = members.getOrDefault(group.getId(), Collections.emptyNavigableSet());
+                distinctMemberIds.stream()
+                        .filter(groupMembers::contains)
+                        // members of the returned groups are not loaded
+                        .forEach(memberId -> groupsByMember.computeIfAbsent(memberId, k -> new ArrayList<>()).add(copy(group)));
+            });
+            return groupsByMember;
+        });
+    }
+
+    @Override
+    public Single<List<Group>> findByDomain(String domain) {
+        return Single.fromCallable(() -> find(group -> domain.equals(group.getDomain())).collect(Collectors.toList()));
+    }
+
+    @Override
+    public Single<Page<Group>> findByDomain(String domain, int page, int size) {
+        return Single.fromCallable(() -> {
+            List<Group> groups = items.values().stream().filter(group -> domain.equals(group.getDomain())).collect(Collectors.toList());
+            List<Group> data = groups.stream()
+                    .sorted(Comparator.comparing(Group::getName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .skip((long) size * page)
+                    .limit(size)
+                    .map(this::copy)
+                    .collect(Collectors.toList());
+            return new Page<>(data, page, groups.size());
+        });
+    }
+
+    @Override
+    public Single<List<Group>> findByIdIn(List<String> ids) {
+        return Single.fromCallable(() -> find(group -> ids.contains(group.getId())).collect(Collectors.toList()));
+    }
+
+    @Override
+    public Maybe<Group> findByDomainAndName(String domain, String groupName) {
+        return findFirst(group -> domain.equals(group.getDomain()) && groupName.equals(group.getName())).map(this::withMembers);
+    }
+
+    @Override
+    public Maybe<Group> findById(String id) {
+        return super.findById(id).map(this::withMembers);
+    }
+
+    @Override
+    public Single<Page<String>> findMembers(String groupId, int page, int size) {
+        return Single.fromCallable(() -> {
+            NavigableSet<String> groupMembers = members.getOrDefault(groupId, Collections.emptyNavigableSet());
+            List<String> data = groupMembers.stream().skip((long) size * page).limit(size).collect(Collectors.toList());
+            return new Page<>(data, page, groupMembers.size());
+        });
+    }
+
+    @Override
+    public Single<List<String>> findMembers(String groupId, String after, int size) {
+        return Single.fromCallable(() -> {
+            NavigableSet<String> groupMembers = members.getOrDefault(groupId, Collections.emptyNavigableSet());
+            return (after == null ? groupMembers : groupMembers.tailSet(after, false)).stream().limit(size).collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public Single<Long> countMembers(String groupId) {
+        return Single.fromCallable(() -> (long) members.getOrDefault(groupId, Collections.emptyNavigableSet()).size());
+    }
+
+    @Override
+    public Completable addMembers(String groupId, List<String> memberIds) {
+        return Completable.fromAction(() -> {
+            if (memberIds != null && !memberIds.isEmpty()) {
+                members.computeIfAbsent(groupId, k -> new ConcurrentSkipListSet<>()).addAll(memberIds);
+            }
+        });
+    }
+
+    @Override
+    public Completable removeMembers(String groupId, List<String> memberIds) {
+        return Completable.fromAction(() -> {
+            NavigableSet<String> groupMembers = members.get(groupId);
+            if (groupMembers != null && memberIds != null) {
+                groupMembers.removeAll(memberIds);
+            }
+        });
+    }
+
+    @Override
+    public Single<Group> create(Group item) {
+        return super.create(withoutMembers(item))
+                .flatMap(group -> replaceMembers(group.getId(), item.getMembers()).andThen(findById(group.getId()).toSingle()));
+    }
+
+    @Override
+    public Single<Group> update(Group item) {
+        return super.update(withoutMembers(item))
+                .flatMap(group -> replaceMembers(group.getId(), item.getMembers()).andThen(findById(group.getId()).toSingle()));
+    }
+
+    @Override
+    public Completable delete(String id) {
+        return super.delete(id).doOnComplete(() -> members.remove(id));
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        // members have always been stored apart from the groups
+        return Single.just(0L);
+    }
+
+    @Override
+    public Collection<Group> snapshot() {
+        return find(group -> true).map(this::withMembers).collect(Collectors.toList());
+    }
+
+    @Override
+    public void restore(Collection<Group> restoredItems) {
+        restoredItems.forEach(group -> {
+            List<String> groupMembers = group.getMembers();
+            items.put(group.getId(), withoutMembers(group));
+            members.put(group.getId(), groupMembers == null ? new ConcurrentSkipListSet<>() : new ConcurrentSkipListSet<>(groupMembers));
+        });
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        members.clear();
+    }
+
+    private Completable replaceMembers(String groupId, List<String> memberIds) {
+        return Completable.fromAction(() -> members.put(groupId, memberIds == null ? new ConcurrentSkipListSet<>() : new ConcurrentSkipListSet<>(memberIds)));
+    }
+
+    private Group withMembers(Group group) {
+        NavigableSet<String> groupMembers = members.get(group.getId());
+        group.setMembers(groupMembers == null || groupMembers.isEmpty() ? null : new ArrayList<>(groupMembers));
+        return group;
+    }
+
+    private Group withoutMembers(Group group) {
+        Group copy = copy(group);
+        copy.setMembers(null);
+        return copy;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.IdentityProvider;
+import io.gravitee.am.repository.management.api.IdentityProviderRepository;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryIdentityProviderRepository extends AbstractManagementMemoryRepository<IdentityProvider> implements IdentityProviderRepository {
+
+    public MemoryIdentityProviderRepository() {
+        super("identities", IdentityProvider.class, IdentityProvider::getId, IdentityProvider::setId);
+    }
+
+    @Override
+    public Single<Set<IdentityProvider>> findAll() {
+        return Single.fromCallable(() -> findAsSet(identityProvider -> true));
+    }
+
+    @Override
+    public Single<Set<IdentityProvider>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(identityProvider -> domain.equals(identityProvider.getDomain())));
+    }
+}
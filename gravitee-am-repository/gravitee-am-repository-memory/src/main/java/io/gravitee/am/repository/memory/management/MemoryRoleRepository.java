@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.Role;
+import io.gravitee.am.repository.management.api.RoleRepository;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryRoleRepository extends AbstractManagementMemoryRepository<Role> implements RoleRepository {
+
+    public MemoryRoleRepository() {
+        super("roles", Role.class, Role::getId, Role::setId);
+    }
+
+    @Override
+    public Single<Set<Role>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(role -> domain.equals(role.getDomain())));
+    }
+
+    @Override
+    public Single<Set<Role>> findByIdIn(List<String> ids) {
+        return Single.fromCallable(() -> findAsSet(role -> ids.contains(role.getId())));
+    }
+
+    @Override
+    public Single<Long> removePermission(String domain, String permission) {
+        return Single.fromCallable(() -> updateAll(
+                role -> domain.equals(role.getDomain()) && role.getPermissions() != null && role.getPermissions().contains(permission),
+                role -> {
+                    role.getPermissions().removeIf(permission::equals);
+                    role.setUpdatedAt(new Date());
+                    return true;
+                }));
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.management;
+
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.repository.management.api.UserRepository;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryUserRepository extends AbstractManagementMemoryRepository<User> implements UserRepository {
+
+    public MemoryUserRepository() {
+        super("users", User.class, User::getId, User::setId);
+    }
+
+    @Override
+    public Single<Set<User>> findByDomain(String domain) {
+        return Single.fromCallable(() -> findAsSet(user -> domain.equals(user.getDomain())));
+    }
+
+    @Override
+    public Single<Page<User>> findByDomain(String domain, int page, int size) {
+        return Single.fromCallable(() -> {
+            List<User> users = items.values().stream().filter(user -> domain.equals(user.getDomain())).collect(Collectors.toList());
+            Set<User> data = users.stream()
+                    .sorted(Comparator.comparing(User::getUsername, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .skip((long) size * page)
+                    .limit(size)
+                    .map(this::copy)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return new Page<>(data, page, users.size());
+        });
+    }
+
+    @Override
+    public Single<Page<User>> search(String domain, String query, int limit) {
+        // currently search on username field
+        return Single.fromCallable(() -> {
+            String prefix = query.toLowerCase();
+            List<User> users = items.values().stream()
+                    .filter(user -> domain.equals(user.getDomain()) && user.getUsername() != null && user.getUsername().toLowerCase().startsWith(prefix))
+                    .collect(Collectors.toList());
+            Set<User> data = users.stream().limit(limit).map(this::copy).collect(Collectors.toCollection(LinkedHashSet::new));
+            return new Page<>(data, 0, users.size());
+        });
+    }
+
+    @Override
+    public Single<List<User>> findByDomainAndEmail(String domain, String email) {
+        return Single.fromCallable(() -> findAsList(user -> domain.equals(user.getDomain()) && email.equals(user.getEmail())));
+    }
+
+    @Override
+    public Maybe<User> findByUsernameAndDomain(String domain, String username) {
+        return findFirst(user -> domain.equals(user.getDomain()) && username.equals(user.getUsername()));
+    }
+
+    @Override
+    public Maybe<User> findByDomainAndUsernameAndSource(String domain, String username, String source) {
+        return findFirst(user -> domain.equals(user.getDomain()) && username.equals(user.getUsername()) && source.equals(user.getSource()));
+    }
+
+    @Override
+    public Single<List<User>> findByIdIn(List<String> ids) {
+        return Single.fromCallable(() -> findAsList(user -> ids.contains(user.getId())));
+    }
+}
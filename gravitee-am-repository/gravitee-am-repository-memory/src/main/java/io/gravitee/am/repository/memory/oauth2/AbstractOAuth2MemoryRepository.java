@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.memory.common.TimerWheel;
+import io.gravitee.am.repository.oauth2.model.Token;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Date;
+
+/**
+ * Base class of the OAuth2 repositories, whose items expire.
+ *
+ * Expired items are removed by the timer wheel once their expiration date is over. Lookups also ignore expired items
+ * so that an item is never returned after its expiration date, whatever the precision of the timer wheel.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractOAuth2MemoryRepository {
+
+    @Autowired
+    private TimerWheel timerWheel;
+
+    /**
+     * Run the expiration task of an item once its expiration date is over.
+     *
+     * @param expireAt the expiration date, nothing is scheduled if <code>null</code>
+     * @param task the expiration task, it must only remove the item if it has not been replaced in the meantime
+     */
+    protected void expireAt(Date expireAt, Runnable task) {
+        if (expireAt != null) {
+            timerWheel.schedule(expireAt, task);
+        }
+    }
+
+    protected static boolean isExpired(Date expireAt) {
+        return expireAt != null && expireAt.getTime() <= System.currentTimeMillis();
+    }
+
+    protected static <T extends Token> T copy(Token source, T target) {
+        target.setId(source.getId());
+        target.setToken(source.getToken());
+        target.setDomain(source.getDomain());
+        target.setClient(source.getClient());
+        target.setSubject(source.getSubject());
+        target.setCreatedAt(copy(source.getCreatedAt()));
+        target.setExpireAt(copy(source.getExpireAt()));
+        return target;
+    }
+
+    protected static Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
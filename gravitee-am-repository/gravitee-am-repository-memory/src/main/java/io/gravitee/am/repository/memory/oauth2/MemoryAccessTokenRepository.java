@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Access tokens indexed by token value, the other lookups scan the tokens.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryAccessTokenRepository extends AbstractOAuth2MemoryRepository implements AccessTokenRepository, Snapshotable<AccessToken> {
+
+    private final ConcurrentMap<String, AccessToken> accessTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<AccessToken> findByToken(String token) {
+        return Maybe.fromCallable(() -> {
+            AccessToken accessToken = accessTokens.get(token);
+            if (accessToken == null) {
+                return null;
+            }
+            if (isExpired(accessToken.getExpireAt())) {
+                accessTokens.remove(token, accessToken);
+                return null;
+            }
+            return copy(accessToken);
+        });
+    }
+
+    @Override
+    public Single<AccessToken> create(AccessToken accessToken) {
+        return Single.fromCallable(() -> {
+            AccessToken storedAccessToken = copy(accessToken);
+            store(storedAccessToken);
+            return copy(storedAccessToken);
+        });
+    }
+
+    @Override
+    public Completable delete(String token) {
+        return Completable.fromAction(() -> accessTokens.remove(token));
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientIdAndSubject(String clientId, String subject) {
+        return Observable.defer(() -> Observable.fromIterable(find(accessToken -> Objects.equals(clientId, accessToken.getClient()) && Objects.equals(subject, accessToken.getSubject()))));
+    }
+
+    @Override
+    public Observable<AccessToken> findByClientId(String clientId) {
+        return Observable.defer(() -> Observable.fromIterable(find(accessToken -> Objects.equals(clientId, accessToken.getClient()))));
+    }
+
+    @Override
+    public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
+        return Observable.defer(() -> Observable.fromIterable(find(accessToken -> Objects.equals(authorizationCode, accessToken.getAuthorizationCode()))));
+    }
+
+    @Override
+    public Single<Long> countByClientId(String clientId) {
+        return Single.fromCallable(() -> accessTokens.values().stream()
+                .filter(accessToken -> Objects.equals(clientId, accessToken.getClient()) && !isExpired(accessToken.getExpireAt()))
+                .count());
+    }
+
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return Completable.fromAction(() -> accessTokens.values().removeIf(accessToken -> Objects.equals(authorizationCode, accessToken.getAuthorizationCode())));
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return Completable.fromAction(() -> accessTokens.values().removeIf(accessToken -> Objects.equals(domain, accessToken.getDomain()) && Objects.equals(clientId, accessToken.getClient())));
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromAction(() -> accessTokens.values().removeIf(accessToken -> Objects.equals(domain, accessToken.getDomain()) && Objects.equals(subject, accessToken.getSubject())));
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        return Single.just(0L);
+    }
+
+    @Override
+    public String snapshotName() {
+        return "access_tokens";
+    }
+
+    @Override
+    public Class<AccessToken> snapshotType() {
+        return AccessToken.class;
+    }
+
+    @Override
+    public Collection<AccessToken> snapshot() {
+        return find(accessToken -> true);
+    }
+
+    @Override
+    public void restore(Collection<AccessToken> restoredAccessTokens) {
+        restoredAccessTokens.stream()
+                .filter(accessToken -> !isExpired(accessToken.getExpireAt()))
+                .forEach(this::store);
+    }
+
+    @Override
+    public void clear() {
+        accessTokens.clear();
+    }
+
+    private void store(AccessToken accessToken) {
+        accessTokens.put(accessToken.getToken(), accessToken);
+        expireAt(accessToken.getExpireAt(), () -> accessTokens.remove(accessToken.getToken(), accessToken));
+    }
+
+    private List<AccessToken> find(Predicate<AccessToken> filter) {
+        return accessTokens.values().stream()
+                .filter(accessToken -> filter.test(accessToken) && !isExpired(accessToken.getExpireAt()))
+                .map(MemoryAccessTokenRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    private static AccessToken copy(AccessToken accessToken) {
+        AccessToken copy = copy(accessToken, new AccessToken());
+        copy.setRefreshToken(accessToken.getRefreshToken());
+        copy.setAuthorizationCode(accessToken.getAuthorizationCode());
+        return copy;
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import io.gravitee.common.utils.UUID;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Authorization codes indexed by id, with a secondary index on the code value.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryAuthorizationCodeRepository extends AbstractOAuth2MemoryRepository implements AuthorizationCodeRepository, Snapshotable<AuthorizationCode> {
+
+    private final ConcurrentMap<String, AuthorizationCode> authorizationCodes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> idsByCode = new ConcurrentHashMap<>();
+
+    @Override
+    public Single<AuthorizationCode> create(AuthorizationCode authorizationCode) {
+        return Single.fromCallable(() -> {
+            AuthorizationCode storedAuthorizationCode = copy(authorizationCode);
+            if (storedAuthorizationCode.getId() == null) {
+                storedAuthorizationCode.setId(UUID.random().toString());
+            }
+            store(storedAuthorizationCode);
+            return copy(storedAuthorizationCode);
+        });
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> delete(String id) {
+        return Maybe.fromCallable(() -> {
+            AuthorizationCode authorizationCode = authorizationCodes.remove(id);
+            if (authorizationCode == null) {
+                return null;
+            }
+            idsByCode.remove(authorizationCode.getCode(), id);
+            return copy(authorizationCode);
+        });
+    }
+
+    @Override
+    public Maybe<AuthorizationCode> findByCode(String code) {
+        return Maybe.fromCallable(() -> {
+            String id = idsByCode.get(code);
+            AuthorizationCode authorizationCode = id == null ? null : authorizationCodes.get(id);
+            if (authorizationCode == null || isExpired(authorizationCode.getExpireAt())) {
+                return null;
+            }
+            return copy(authorizationCode);
+        });
+    }
+
+    @Override
+    public String snapshotName() {
+        return "authorization_codes";
+    }
+
+    @Override
+    public Class<AuthorizationCode> snapshotType() {
+        return AuthorizationCode.class;
+    }
+
+    @Override
+    public Collection<AuthorizationCode> snapshot() {
+        return authorizationCodes.values().stream()
+                .filter(authorizationCode -> !isExpired(authorizationCode.getExpireAt()))
+                .map(MemoryAuthorizationCodeRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void restore(Collection<AuthorizationCode> restoredAuthorizationCodes) {
+        restoredAuthorizationCodes.stream()
+                .filter(authorizationCode -> !isExpired(authorizationCode.getExpireAt()))
+                .forEach(this::store);
+    }
+
+    @Override
+    public void clear() {
+        authorizationCodes.clear();
+        idsByCode.clear();
+    }
+
+    private void store(AuthorizationCode authorizationCode) {
+        final String id = authorizationCode.getId();
+        authorizationCodes.put(id, authorizationCode);
+        if (authorizationCode.getCode() != null) {
+            idsByCode.put(authorizationCode.getCode(), id);
+        }
+        expireAt(authorizationCode.getExpireAt(), () -> {
+            if (authorizationCodes.remove(id, authorizationCode) && authorizationCode.getCode() != null) {
+                idsByCode.remove(authorizationCode.getCode(), id);
+            }
+        });
+    }
+
+    private static AuthorizationCode copy(AuthorizationCode authorizationCode) {
+        AuthorizationCode copy = new AuthorizationCode();
+        copy.setId(authorizationCode.getId());
+        copy.setCode(authorizationCode.getCode());
+        copy.setCreatedAt(copy(authorizationCode.getCreatedAt()));
+        copy.setExpireAt(copy(authorizationCode.getExpireAt()));
+        copy.setClientId(authorizationCode.getClientId());
+        copy.setSubject(authorizationCode.getSubject());
+        copy.setScopes(authorizationCode.getScopes() == null ? null : new HashSet<>(authorizationCode.getScopes()));
+        if (authorizationCode.getRequestParameters() != null) {
+            MultiValueMap<String, String> requestParameters = new LinkedMultiValueMap<>();
+            authorizationCode.getRequestParameters().forEach((name, values) -> requestParameters.put(name, values == null ? null : new ArrayList<>(values)));
+            copy.setRequestParameters(requestParameters);
+        }
+        return copy;
+    }
+}
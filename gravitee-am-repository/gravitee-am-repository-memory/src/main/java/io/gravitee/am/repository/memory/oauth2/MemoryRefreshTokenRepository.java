@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Refresh tokens indexed by token value.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryRefreshTokenRepository extends AbstractOAuth2MemoryRepository implements RefreshTokenRepository, Snapshotable<RefreshToken> {
+
+    private final ConcurrentMap<String, RefreshToken> refreshTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<RefreshToken> findByToken(String token) {
+        return Maybe.fromCallable(() -> {
+            RefreshToken refreshToken = refreshTokens.get(token);
+            if (refreshToken == null) {
+                return null;
+            }
+            if (isExpired(refreshToken.getExpireAt())) {
+                refreshTokens.remove(token, refreshToken);
+                return null;
+            }
+            return copy(refreshToken);
+        });
+    }
+
+    @Override
+    public Single<RefreshToken> create(RefreshToken refreshToken) {
+        return Single.fromCallable(() -> {
+            RefreshToken storedRefreshToken = copy(refreshToken);
+            store(storedRefreshToken);
+            return copy(storedRefreshToken);
+        });
+    }
+
+    @Override
+    public Completable delete(String token) {
+        return Completable.fromAction(() -> refreshTokens.remove(token));
+    }
+
+    @Override
+    public Completable deleteByTokens(Collection<String> tokens) {
+        return Completable.fromAction(() -> tokens.forEach(refreshTokens::remove));
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return Completable.fromAction(() -> refreshTokens.values().removeIf(refreshToken -> Objects.equals(domain, refreshToken.getDomain()) && Objects.equals(clientId, refreshToken.getClient())));
+    }
+
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromAction(() -> refreshTokens.values().removeIf(refreshToken -> Objects.equals(domain, refreshToken.getDomain()) && Objects.equals(subject, refreshToken.getSubject())));
+    }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        return Single.just(0L);
+    }
+
+    @Override
+    public String snapshotName() {
+        return "refresh_tokens";
+    }
+
+    @Override
+    public Class<RefreshToken> snapshotType() {
+        return RefreshToken.class;
+    }
+
+    @Override
+    public Collection<RefreshToken> snapshot() {
+        return refreshTokens.values().stream()
+                .filter(refreshToken -> !isExpired(refreshToken.getExpireAt()))
+                .map(MemoryRefreshTokenRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void restore(Collection<RefreshToken> restoredRefreshTokens) {
+        restoredRefreshTokens.stream()
+                .filter(refreshToken -> !isExpired(refreshToken.getExpireAt()))
+                .forEach(this::store);
+    }
+
+    @Override
+    public void clear() {
+        refreshTokens.clear();
+    }
+
+    private void store(RefreshToken refreshToken) {
+        refreshTokens.put(refreshToken.getToken(), refreshToken);
+        expireAt(refreshToken.getExpireAt(), () -> refreshTokens.remove(refreshToken.getToken(), refreshToken));
+    }
+
+    private static RefreshToken copy(RefreshToken refreshToken) {
+        return copy(refreshToken, new RefreshToken());
+    }
+}
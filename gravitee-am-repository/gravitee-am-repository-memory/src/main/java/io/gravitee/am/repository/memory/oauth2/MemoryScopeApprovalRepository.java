@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.model.oauth2.ScopeApproval;
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Scope approvals grouped by domain, user and client, then indexed by scope.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemoryScopeApprovalRepository extends AbstractOAuth2MemoryRepository implements ScopeApprovalRepository, Snapshotable<ScopeApproval> {
+
+    private final ConcurrentMap<String, ConcurrentMap<String, ScopeApproval>> scopeApprovals = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<ScopeApproval> findById(String id) {
+        // scope approvals are only looked up by their natural key
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public Single<ScopeApproval> create(ScopeApproval scopeApproval) {
+        return Single.fromCallable(() -> {
+            ScopeApproval storedScopeApproval = copy(scopeApproval);
+            store(storedScopeApproval);
+            return copy(storedScopeApproval);
+        });
+    }
+
+    @Override
+    public Single<ScopeApproval> update(ScopeApproval scopeApproval) {
+        return create(scopeApproval);
+    }
+
+    @Override
+    public Single<ScopeApproval> upsert(ScopeApproval scopeApproval) {
+        return Single.fromCallable(() -> {
+            scopeApproval.setUpdatedAt(new Date());
+            ScopeApproval storedScopeApproval = copy(scopeApproval);
+            store(storedScopeApproval);
+            return copy(storedScopeApproval);
+        });
+    }
+
+    @Override
+    public Single<List<ScopeApproval>> bulkUpsert(Collection<ScopeApproval> approvals) {
+        return Single.fromCallable(() -> {
+            Date now = new Date();
+            List<ScopeApproval> savedApprovals = new ArrayList<>(approvals);
+            for (ScopeApproval scopeApproval : savedApprovals) {
+                scopeApproval.setUpdatedAt(now);
+                store(copy(scopeApproval));
+            }
+            return savedApprovals;
+        });
+    }
+
+    @Override
+    public Completable delete(String domain, String scope) {
+        return Completable.fromAction(() -> scopeApprovals.forEach((key, approvals) -> approvals.values().removeIf(scopeApproval ->
+                Objects.equals(domain, scopeApproval.getDomain()) && Objects.equals(scope, scopeApproval.getScope()))));
+    }
+
+    @Override
+    public Completable delete(String id) {
+        // scope approvals are stored without technical identifier
+        return Completable.complete();
+    }
+
+    @Override
+    public Single<Set<ScopeApproval>> findByDomainAndUserAndClient(String domain, String userId, String clientId) {
+        return Single.fromCallable(() -> {
+            Map<String, ScopeApproval> approvals = scopeApprovals.get(key(domain, userId, clientId));
+            if (approvals == null) {
+                return Collections.emptySet();
+            }
+            return approvals.values().stream()
+                    .filter(scopeApproval -> !isExpired(scopeApproval.getExpiresAt()))
+                    .map(MemoryScopeApprovalRepository::copy)
+                    .collect(Collectors.toSet());
+        });
+    }
+
+    @Override
+    public String snapshotName() {
+        return "scope_approvals";
+    }
+
+    @Override
+    public Class<ScopeApproval> snapshotType() {
+        return ScopeApproval.class;
+    }
+
+    @Override
+    public Collection<ScopeApproval> snapshot() {
+        return scopeApprovals.values().stream()
+                .flatMap(approvals -> approvals.values().stream())
+                .filter(scopeApproval -> !isExpired(scopeApproval.getExpiresAt()))
+                .map(MemoryScopeApprovalRepository::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void restore(Collection<ScopeApproval> restoredScopeApprovals) {
+        restoredScopeApprovals.stream()
+                .filter(scopeApproval -> !isExpired(scopeApproval.getExpiresAt()))
+                .forEach(this::store);
+    }
+
+    @Override
+    public void clear() {
+        scopeApprovals.clear();
+    }
+
+    private void store(ScopeApproval scopeApproval) {
+        final String key = key(scopeApproval.getDomain(), scopeApproval.getUserId(), scopeApproval.getClientId());
+        scopeApprovals.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(scopeApproval.getScope(), scopeApproval);
+        expireAt(scopeApproval.getExpiresAt(), () -> scopeApprovals.computeIfPresent(key, (k, approvals) -> {
+            approvals.remove(scopeApproval.getScope(), scopeApproval);
+            return approvals.isEmpty() ? null : approvals;
+        }));
+    }
+
+    private static String key(String domain, String userId, String clientId) {
+        return domain + '\u0000' + userId + '\u0000' + clientId;
+    }
+
+    private static ScopeApproval copy(ScopeApproval scopeApproval) {
+        ScopeApproval copy = new ScopeApproval(scopeApproval.getUserId(), scopeApproval.getClientId(), scopeApproval.getScope(),
+                scopeApproval.getStatus(), copy(scopeApproval.getExpiresAt()), scopeApproval.getDomain());
+        copy.setUpdatedAt(copy(scopeApproval.getUpdatedAt()));
+        return copy;
+    }
+}
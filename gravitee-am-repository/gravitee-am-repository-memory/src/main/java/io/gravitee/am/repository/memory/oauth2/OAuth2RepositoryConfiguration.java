@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.Scope;
+import io.gravitee.am.repository.memory.common.SnapshotStore;
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import io.gravitee.am.repository.memory.common.TimerWheel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Configuration
+@ComponentScan("io.gravitee.am.repository.memory.oauth2")
+public class OAuth2RepositoryConfiguration {
+
+    @Autowired
+    private Environment environment;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TimerWheel timerWheel() {
+        // one second precision, one revolution every ~8.5 minutes
+        return new TimerWheel(1, TimeUnit.SECONDS, 512);
+    }
+
+    @Bean
+    public SnapshotStore oauth2SnapshotStore(List<Snapshotable<?>> repositories) {
+        return new SnapshotStore(Scope.OAUTH2.getName(), environment, repositories);
+    }
+}
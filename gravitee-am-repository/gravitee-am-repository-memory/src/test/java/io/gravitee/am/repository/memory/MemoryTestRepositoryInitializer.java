@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory;
+
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
+import io.gravitee.am.repository.memory.common.Snapshotable;
+
+import java.util.List;
+
+/**
+ * Empty all the repositories after each test.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryTestRepositoryInitializer implements TestRepositoryInitializer {
+
+    private final List<Snapshotable<?>> repositories;
+
+    public MemoryTestRepositoryInitializer(List<Snapshotable<?>> repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void tearDown() {
+        repositories.forEach(Snapshotable::clear);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import io.gravitee.am.model.Client;
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.jose.JWK;
+import io.gravitee.am.model.jose.RSAKey;
+import io.gravitee.am.model.oidc.JWKSet;
+import io.gravitee.am.repository.memory.management.MemoryClientRepository;
+import io.gravitee.am.repository.memory.management.MemoryGroupRepository;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SnapshotStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldRestoreSnapshot() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("snapshots").resolve("management.json");
+
+        MemoryClientRepository clientRepository = new MemoryClientRepository();
+        MemoryGroupRepository groupRepository = new MemoryGroupRepository();
+
+        RSAKey key = new RSAKey();
+        key.setKty("RSA");
+        key.setKid("my-key");
+        key.setN("modulus");
+        key.setE("AQAB");
+        JWKSet jwks = new JWKSet();
+        jwks.setKeys(Collections.singletonList(key));
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("created", new Date(1000L));
+        Client client = new Client();
+        client.setClientId("my-client");
+        client.setDomain("my-domain");
+        client.setJwks(jwks);
+        client.setIdTokenCustomClaims(claims);
+        Client createdClient = clientRepository.create(client).blockingGet();
+
+        Group group = new Group();
+        group.setName("my-group");
+        group.setDomain("my-domain");
+        group.setMembers(Arrays.asList("user-1", "user-2"));
+        Group createdGroup = groupRepository.create(group).blockingGet();
+
+        new SnapshotStore(path, 0, Arrays.asList(clientRepository, groupRepository)).write();
+        assertTrue(Files.exists(path));
+        assertFalse(Files.exists(path.resolveSibling("management.json.tmp")));
+
+        MemoryClientRepository restoredClientRepository = new MemoryClientRepository();
+        MemoryGroupRepository restoredGroupRepository = new MemoryGroupRepository();
+        new SnapshotStore(path, 0, Arrays.asList(restoredClientRepository, restoredGroupRepository)).restore();
+
+        Client restoredClient = restoredClientRepository.findById(createdClient.getId()).blockingGet();
+        assertEquals("my-client", restoredClient.getClientId());
+        JWK restoredKey = restoredClient.getJwks().getKeys().get(0);
+        assertTrue(restoredKey instanceof RSAKey);
+        assertEquals("modulus", ((RSAKey) restoredKey).getN());
+        assertEquals(new Date(1000L), restoredClient.getIdTokenCustomClaims().get("created"));
+
+        Group restoredGroup = restoredGroupRepository.findById(createdGroup.getId()).blockingGet();
+        assertEquals("my-group", restoredGroup.getName());
+        assertEquals(Arrays.asList("user-1", "user-2"), restoredGroup.getMembers());
+    }
+
+    @Test
+    public void shouldNotRestore_noSnapshot() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("management.json");
+        MemoryClientRepository clientRepository = new MemoryClientRepository();
+
+        new SnapshotStore(path, 0, Collections.singletonList(clientRepository)).restore();
+
+        assertTrue(clientRepository.snapshot().isEmpty());
+    }
+}
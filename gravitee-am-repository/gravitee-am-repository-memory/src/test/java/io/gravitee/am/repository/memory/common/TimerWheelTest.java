@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.common;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TimerWheelTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    public void shouldRunTask_onceDeadlineIsOver() {
+        TimerWheel timerWheel = new TimerWheel(1, TimeUnit.SECONDS, 8);
+        long now = System.currentTimeMillis();
+        timerWheel.schedule(new Date(now + 2000), runs::incrementAndGet);
+
+        timerWheel.expire(now);
+        assertEquals(0, runs.get());
+        assertEquals(1, timerWheel.size());
+
+        timerWheel.expire(now + 3100);
+        assertEquals(1, runs.get());
+        assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    public void shouldRunTask_deadlineAlreadyOver() {
+        TimerWheel timerWheel = new TimerWheel(1, TimeUnit.SECONDS, 8);
+        long now = System.currentTimeMillis();
+        timerWheel.schedule(new Date(now - 10000), runs::incrementAndGet);
+
+        timerWheel.expire(now + 1100);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void shouldKeepTask_deadlineInNextRevolution() {
+        TimerWheel timerWheel = new TimerWheel(1, TimeUnit.SECONDS, 4);
+        long now = System.currentTimeMillis();
+        timerWheel.schedule(new Date(now + 6000), runs::incrementAndGet);
+
+        // the bucket of the task is visited during the first revolution
+        timerWheel.expire(now + 3100);
+        assertEquals(0, runs.get());
+
+        timerWheel.expire(now + 7100);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void shouldRunAllTasks_timerLateOfMoreThanOneRevolution() {
+        TimerWheel timerWheel = new TimerWheel(1, TimeUnit.SECONDS, 4);
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 6; i++) {
+            timerWheel.schedule(new Date(now + i * 1000), runs::incrementAndGet);
+        }
+
+        timerWheel.expire(now + 60000);
+        assertEquals(6, runs.get());
+        assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    public void shouldRunOtherTasks_taskFails() {
+        TimerWheel timerWheel = new TimerWheel(1, TimeUnit.SECONDS, 8);
+        long now = System.currentTimeMillis();
+        timerWheel.schedule(new Date(now + 1000), () -> {
+            throw new IllegalStateException();
+        });
+        timerWheel.schedule(new Date(now + 1000), runs::incrementAndGet);
+
+        timerWheel.expire(now + 2100);
+        assertEquals(1, runs.get());
+        assertEquals(0, timerWheel.size());
+    }
+}
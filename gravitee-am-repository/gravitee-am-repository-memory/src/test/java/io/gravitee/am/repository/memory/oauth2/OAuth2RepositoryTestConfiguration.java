@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.memory.oauth2;
+
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
+import io.gravitee.am.repository.memory.MemoryTestRepositoryInitializer;
+import io.gravitee.am.repository.memory.common.Snapshotable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Configuration
+@Import(OAuth2RepositoryConfiguration.class)
+public class OAuth2RepositoryTestConfiguration {
+
+    @Bean
+    public TestRepositoryInitializer testRepositoryInitializer(List<Snapshotable<?>> repositories) {
+        return new MemoryTestRepositoryInitializer(repositories);
+    }
+}
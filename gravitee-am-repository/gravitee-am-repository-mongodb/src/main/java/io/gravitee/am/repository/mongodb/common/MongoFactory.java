@@ -19,6 +19,7 @@ import com.mongodb.*;
 import com.mongodb.connection.*;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.repository.mongodb.common.codec.RepositoryCodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PojoCodecProvider;
 import org.slf4j.Logger;
@@ -62,9 +63,9 @@ public class MongoFactory implements FactoryBean<MongoClient> {
         MongoClientSettings.Builder builder = MongoClientSettings.builder();
         builder.writeConcern(WriteConcern.ACKNOWLEDGED);
 
-        // codec configuration for pojo mapping
+        // codec configuration for pojo mapping, hot collections use explicit codecs
         CodecRegistry pojoCodecRegistry = fromRegistries(MongoClients.getDefaultCodecRegistry(),
-                fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+                fromProviders(new RepositoryCodecProvider(), PojoCodecProvider.builder().automatic(true).build()));
         builder.codecRegistry(pojoCodecRegistry);
 
         // Trying to get the MongoClientURI if uri property is defined
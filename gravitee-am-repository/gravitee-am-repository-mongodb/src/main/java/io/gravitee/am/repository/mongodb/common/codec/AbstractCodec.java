@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.common.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Base class for the codecs reading and writing the repository model objects directly from/to BSON, without an
+ * intermediate Mongo entity.
+ *
+ * Null values are not written and null or unknown fields are ignored when decoding, like the POJO codec does.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractCodec<T> implements Codec<T> {
+
+    protected static final String FIELD_ID = "_id";
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        T value = newInstance();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else if (!decodeField(reader, name, value, decoderContext)) {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return value;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        encodeFields(writer, value, encoderContext);
+        writer.writeEndDocument();
+    }
+
+    /**
+     * @return a new empty model object
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Read the current (non null) field value into the model object.
+     *
+     * @return <code>false</code> if the field is unknown and must be skipped
+     */
+    protected abstract boolean decodeField(BsonReader reader, String name, T value, DecoderContext decoderContext);
+
+    /**
+     * Write the fields of the model object, the enclosing document is already started.
+     */
+    protected abstract void encodeFields(BsonWriter writer, T value, EncoderContext encoderContext);
+
+    protected static String readId(BsonReader reader) {
+        // documents inserted without an _id have a server generated ObjectId
+        return reader.getCurrentBsonType() == BsonType.OBJECT_ID ? reader.readObjectId().toHexString() : reader.readString();
+    }
+
+    protected static Date readDate(BsonReader reader) {
+        return new Date(reader.readDateTime());
+    }
+
+    protected static long readLong(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case INT32:
+                return reader.readInt32();
+            case DOUBLE:
+                return (long) reader.readDouble();
+            default:
+                return reader.readInt64();
+        }
+    }
+
+    protected static <C extends Collection<String>> C readStrings(BsonReader reader, C values) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values.add(null);
+            } else {
+                values.add(reader.readString());
+            }
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    protected static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    protected static void writeDate(BsonWriter writer, String name, Date value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.getTime());
+        }
+    }
+
+    protected static void writeStrings(BsonWriter writer, String name, Collection<String> values) {
+        if (values != null) {
+            writer.writeStartArray(name);
+            for (String value : values) {
+                if (value != null) {
+                    writer.writeString(value);
+                } else {
+                    writer.writeNull();
+                }
+            }
+            writer.writeEndArray();
+        }
+    }
+}
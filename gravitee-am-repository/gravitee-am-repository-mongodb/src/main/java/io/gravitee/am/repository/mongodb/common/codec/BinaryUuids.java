@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.common.codec;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Store UUID string values as 16 bytes binaries (subtype 4) instead of 36 characters strings.
+ *
+ * Values which are not canonical UUID strings are kept as strings so that the conversion is always reversible.
+ *
+ * @author GraviteeSource Team
+ */
+public final class BinaryUuids {
+
+    private BinaryUuids() {
+    }
+
+    /**
+     * @return the BSON value to use to store or query the given value
+     */
+    public static BsonValue toBson(String value) {
+        UUID uuid = parse(value);
+        return uuid != null ? new BsonBinary(BsonBinarySubType.UUID_STANDARD, toBytes(uuid)) : new BsonString(value);
+    }
+
+    public static void write(BsonWriter writer, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        UUID uuid = parse(value);
+        if (uuid != null) {
+            writer.writeBinaryData(name, new BsonBinary(BsonBinarySubType.UUID_STANDARD, toBytes(uuid)));
+        } else {
+            writer.writeString(name, value);
+        }
+    }
+
+    public static String read(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            BsonBinary binary = reader.readBinaryData();
+            ByteBuffer buffer = ByteBuffer.wrap(binary.getData());
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return AbstractCodec.readId(reader);
+    }
+
+    private static UUID parse(String value) {
+        // UUID.fromString accepts non canonical representations (e.g. 1-1-1-1-1), which would not be restored as is
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
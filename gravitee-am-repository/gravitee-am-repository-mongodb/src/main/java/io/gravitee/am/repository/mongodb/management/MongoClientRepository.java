@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.model.Client;
 import io.gravitee.am.model.common.Page;
@@ -22,12 +23,14 @@ import io.gravitee.am.model.jose.ECKey;
 import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.jose.KeyType;
 import io.gravitee.am.model.jose.RSAKey;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.gravitee.am.repository.management.api.ClientRepository;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
 import io.gravitee.am.repository.mongodb.management.internal.model.ClientMongo;
 import io.gravitee.am.repository.mongodb.management.internal.model.JWKMongo;
+import io.gravitee.am.repository.mongodb.management.internal.model.RateLimitSettingsMongo;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -37,12 +40,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.*;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.pull;
+import static com.mongodb.client.model.Updates.set;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -59,6 +66,8 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
     private static final String FIELD_OAUTH2_IDENTITIES = "oauth2Identities";
     private static final String FIELD_CERTIFICATE = "certificate";
     private static final String FIELD_GRANT_TYPES= "authorizedGrantTypes";
+    private static final String FIELD_SCOPES = "scopes";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private MongoCollection<ClientMongo> clientsCollection;
 
     @Autowired
@@ -152,6 +161,14 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         return Observable.fromPublisher(clientsCollection.count()).first(0l);
     }
 
+    @Override
+    public Single<Long> removeScope(String domain, String scope) {
+        return Single.fromPublisher(clientsCollection.updateMany(
+                and(eq(FIELD_DOMAIN, domain), eq(FIELD_SCOPES, scope)),
+                combine(pull(FIELD_SCOPES, scope), set(FIELD_UPDATED_AT, new Date()))))
+                .map(UpdateResult::getModifiedCount);
+    }
+
     private Client convert(ClientMongo clientMongo) {
         if (clientMongo == null) {
             return null;
@@ -210,6 +227,7 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         client.setIdTokenCustomClaims(clientMongo.getIdTokenCustomClaims());
         client.setCertificate(clientMongo.getCertificate());
         client.setEnhanceScopesWithUserPermissions(clientMongo.isEnhanceScopesWithUserPermissions());
+        client.setRateLimit(convert(clientMongo.getRateLimit()));
         client.setCreatedAt(clientMongo.getCreatedAt());
         client.setUpdatedAt(clientMongo.getUpdatedAt());
         return client;
@@ -273,6 +291,7 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         clientMongo.setIdTokenCustomClaims(client.getIdTokenCustomClaims() != null ? new Document(client.getIdTokenCustomClaims()) : new Document());
         clientMongo.setCertificate(client.getCertificate());
         clientMongo.setEnhanceScopesWithUserPermissions(client.isEnhanceScopesWithUserPermissions());
+        clientMongo.setRateLimit(convert(client.getRateLimit()));
         clientMongo.setCreatedAt(client.getCreatedAt());
         clientMongo.setUpdatedAt(client.getUpdatedAt());
         return clientMongo;
@@ -389,4 +408,26 @@ public class MongoClientRepository extends AbstractManagementMongoRepository imp
         key.setY(ecKey.getY());
         return key;
     }
+
+    private RateLimitSettings convert(RateLimitSettingsMongo rateLimitMongo) {
+        if (rateLimitMongo == null) {
+            return null;
+        }
+
+        RateLimitSettings rateLimitSettings = new RateLimitSettings();
+        rateLimitSettings.setCapacity(rateLimitMongo.getCapacity());
+        rateLimitSettings.setRefillRate(rateLimitMongo.getRefillRate());
+        return rateLimitSettings;
+    }
+
+    private RateLimitSettingsMongo convert(RateLimitSettings rateLimit) {
+        if (rateLimit == null) {
+            return null;
+        }
+
+        RateLimitSettingsMongo rateLimitMongo = new RateLimitSettingsMongo();
+        rateLimitMongo.setCapacity(rateLimit.getCapacity());
+        rateLimitMongo.setRefillRate(rateLimit.getRefillRate());
+        return rateLimitMongo;
+    }
 }
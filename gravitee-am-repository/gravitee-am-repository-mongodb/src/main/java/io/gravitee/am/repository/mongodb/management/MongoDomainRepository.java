@@ -25,6 +25,7 @@ import io.gravitee.am.model.login.LoginForm;
 import io.gravitee.am.model.oidc.ClientRegistrationSettings;
 import io.gravitee.am.model.oidc.OIDCSettings;
 import io.gravitee.am.model.login.LoginSettings;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.scim.SCIMSettings;
 import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
@@ -33,6 +34,7 @@ import io.gravitee.am.repository.mongodb.management.internal.model.LoginFormMong
 import io.gravitee.am.repository.mongodb.management.internal.model.oidc.ClientRegistrationSettingsMongo;
 import io.gravitee.am.repository.mongodb.management.internal.model.oidc.OIDCSettingsMongo;
 import io.gravitee.am.repository.mongodb.management.internal.model.LoginSettingsMongo;
+import io.gravitee.am.repository.mongodb.management.internal.model.RateLimitSettingsMongo;
 import io.gravitee.am.repository.mongodb.management.internal.model.SCIMSettingsMongo;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
@@ -122,6 +124,7 @@ public class MongoDomainRepository extends AbstractManagementMongoRepository imp
         domain.setOauth2Identities(domainMongo.getOauth2Identities());
         domain.setOidc(convert(domainMongo.getOidc()));
         domain.setScim(convert(domainMongo.getScim()));
+        domain.setRateLimit(convert(domainMongo.getRateLimit()));
         domain.setLoginSettings(convert(domainMongo.getLoginSettings()));
 
         // set last event
@@ -152,6 +155,7 @@ public class MongoDomainRepository extends AbstractManagementMongoRepository imp
         domainMongo.setOauth2Identities(domain.getOauth2Identities());
         domainMongo.setOidc(convert(domain.getOidc()));
         domainMongo.setScim(convert(domain.getScim()));
+        domainMongo.setRateLimit(convert(domain.getRateLimit()));
         domainMongo.setLoginSettings(convert(domain.getLoginSettings()));
 
         // save last event
@@ -301,4 +305,26 @@ public class MongoDomainRepository extends AbstractManagementMongoRepository imp
         loginSettingsMongo.setRememberMeEnabled(loginSettings.isRememberMeEnabled());
         return loginSettingsMongo;
     }
+
+    private RateLimitSettings convert(RateLimitSettingsMongo rateLimitMongo) {
+        if (rateLimitMongo == null) {
+            return null;
+        }
+
+        RateLimitSettings rateLimitSettings = new RateLimitSettings();
+        rateLimitSettings.setCapacity(rateLimitMongo.getCapacity());
+        rateLimitSettings.setRefillRate(rateLimitMongo.getRefillRate());
+        return rateLimitSettings;
+    }
+
+    private RateLimitSettingsMongo convert(RateLimitSettings rateLimit) {
+        if (rateLimit == null) {
+            return null;
+        }
+
+        RateLimitSettingsMongo rateLimitMongo = new RateLimitSettingsMongo();
+        rateLimitMongo.setCapacity(rateLimit.getCapacity());
+        rateLimitMongo.setRefillRate(rateLimit.getRefillRate());
+        return rateLimitMongo;
+    }
 }
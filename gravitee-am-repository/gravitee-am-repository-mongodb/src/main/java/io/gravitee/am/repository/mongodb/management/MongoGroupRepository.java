@@ -16,31 +16,52 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.model.Group;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.management.api.GroupRepository;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
+import io.gravitee.am.repository.mongodb.management.internal.model.GroupMemberMongo;
 import io.gravitee.am.repository.mongodb.management.internal.model.GroupMongo;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.gt;
 import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.set;
+import static com.mongodb.client.model.Updates.setOnInsert;
+import static com.mongodb.client.model.Updates.unset;
 
 /**
+ * Groups are stored in the <code>groups</code> collection and their members in the <code>group_members</code>
+ * collection (one document per membership) so that group documents do not grow with the number of members.
+ *
+ * Groups stored with the previous schema keep their members in the group document until the storage is upgraded
+ * (see {@link #upgradeStorage()}), these members are merged with the memberships when the groups are read and moved
+ * to the <code>group_members</code> collection when the group is updated. The legacy members are looked up through a
+ * sparse index, and not at all once no group document has members left.
+ *
  * @author Titouan COMPIEGNE (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -51,7 +72,15 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
     private static final String FIELD_DOMAIN = "domain";
     private static final String FIELD_NAME = "name";
     private static final String FIELD_MEMBERS = "members";
+    private static final String FIELD_GROUP = "group";
+    private static final String FIELD_MEMBER = "member";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+    private static final int UPGRADE_CONCURRENCY = 8;
     private MongoCollection<GroupMongo> groupsCollection;
+    private MongoCollection<GroupMemberMongo> groupMembersCollection;
+
+    // groups stored with the previous schema may remain until the storage is upgraded
+    private volatile boolean legacyMembers = true;
 
     @Autowired
     private IdGenerator idGenerator;
@@ -61,28 +90,74 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
         groupsCollection = mongoOperations.getCollection("groups", GroupMongo.class);
         groupsCollection.createIndex(new Document(FIELD_DOMAIN, 1)).subscribe(new LoggableIndexSubscriber());
         groupsCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_NAME, 1)).subscribe(new LoggableIndexSubscriber());
+        // only the groups which have not been upgraded yet are indexed
+        groupsCollection.createIndex(new Document(FIELD_MEMBERS, 1), new IndexOptions().sparse(true)).subscribe(new LoggableIndexSubscriber());
+        checkLegacyMembers().onErrorComplete().subscribe();
+
+        groupMembersCollection = mongoOperations.getCollection("group_members", GroupMemberMongo.class);
+        groupMembersCollection.createIndex(new Document(FIELD_MEMBER, 1)).subscribe(new LoggableIndexSubscriber());
+        groupMembersCollection.createIndex(new Document(FIELD_GROUP, 1).append(FIELD_MEMBER, 1), new IndexOptions().unique(true)).subscribe(new LoggableIndexSubscriber());
     }
 
     @Override
     public Single<List<Group>> findByMember(String memberId) {
-        return Observable.fromPublisher(groupsCollection.find(eq(FIELD_MEMBERS, memberId))).map(this::convert).collect(ArrayList::new, List::add);
+        return findByMembers(Collections.singletonList(memberId))
+                .map(groups -> groups.getOrDefault(memberId, Collections.emptyList()));
+    }
+
+    @Override
+    public Single<Map<String, List<Group>>> findByMembers(List<String> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Single.just(Collections.emptyMap());
+        }
+        Single<HashMap<String, Set<String>>> memberships = Observable.fromPublisher(groupMembersCollection.find(in(FIELD_MEMBER, memberIds)))
+                .collect(HashMap<String, Set<String>>::new, (groupIdsByMember, membership) -> groupIdsByMember.computeIfAbsent(membership.getMember(), k -> new LinkedHashSet<>()).add(membership.getGroup()));
+        // groups stored with the previous schema which have not been upgraded yet
+        Single<List<GroupMongo>> legacyGroups = legacyMembers
+                ? Observable.fromPublisher(groupsCollection.find(in(FIELD_MEMBERS, memberIds))).toList()
+                : Single.just(Collections.emptyList());
+
+        return Single.zip(memberships, legacyGroups, (groupIdsByMember, groups) -> {
+            groups.forEach(groupMongo -> groupMongo.getMembers()
+                    .stream()
+                    .filter(memberIds::contains)
+                    .forEach(member -> groupIdsByMember.computeIfAbsent(member, k -> new LinkedHashSet<>()).add(groupMongo.getId())));
+            return groupIdsByMember;
+        }).flatMap(groupIdsByMember -> {
+            if (groupIdsByMember.isEmpty()) {
+                return Single.just(Collections.<String, List<Group>>emptyMap());
+            }
+            List<String> groupIds = groupIdsByMember.values().stream().flatMap(Set::stream).distinct().collect(Collectors.toList());
+            return Observable.fromPublisher(groupsCollection.find(in(FIELD_ID, groupIds)))
+                    .toMap(GroupMongo::getId, groupMongo -> convert(groupMongo, null))
+                    .map(groups -> {
+                        Map<String, List<Group>> groupsByMember = new HashMap<>();
+                        groupIdsByMember.forEach((member, memberGroupIds) -> memberGroupIds
+                                .stream()
+                                .filter(groups::containsKey)
+                                .forEach(groupId -> groupsByMember.computeIfAbsent(member, k -> new ArrayList<>()).add(groups.get(groupId))));
+                        return groupsByMember;
+                    });
+        });
     }
 
     @Override
     public Single<List<Group>> findByDomain(String domain) {
-        return Observable.fromPublisher(groupsCollection.find(eq(FIELD_DOMAIN, domain))).map(this::convert).collect(ArrayList::new, List::add);
+        return Observable.fromPublisher(groupsCollection.find(eq(FIELD_DOMAIN, domain))).map(groupMongo -> convert(groupMongo, null)).toList();
     }
 
     @Override
     public Single<Page<Group>> findByDomain(String domain, int page, int size) {
         Single<Long> countOperation = Observable.fromPublisher(groupsCollection.countDocuments(eq(FIELD_DOMAIN, domain))).first(0l);
-        Single<List<Group>> groupsOperation = Observable.fromPublisher(groupsCollection.find(eq(FIELD_DOMAIN, domain)).sort(new BasicDBObject(FIELD_NAME, 1)).skip(size * page).limit(size)).map(this::convert).collect(LinkedList::new, List::add);
+        Single<List<Group>> groupsOperation = Observable.fromPublisher(groupsCollection.find(eq(FIELD_DOMAIN, domain)).sort(new BasicDBObject(FIELD_NAME, 1)).skip(size * page).limit(size))
+                .map(groupMongo -> convert(groupMongo, null))
+                .toList();
         return Single.zip(countOperation, groupsOperation, (count, groups) -> new Page<>(groups, page, count));
     }
 
     @Override
     public Single<List<Group>> findByIdIn(List<String> ids) {
-        return Observable.fromPublisher(groupsCollection.find(in(FIELD_ID, ids))).map(this::convert).collect(ArrayList::new, List::add);
+        return Observable.fromPublisher(groupsCollection.find(in(FIELD_ID, ids))).map(groupMongo -> convert(groupMongo, null)).toList();
     }
 
     @Override
@@ -93,33 +168,138 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
                         .limit(1)
                         .first())
                 .firstElement()
-                .map(this::convert);
+                .flatMap(groupMongo -> convert(Collections.singletonList(groupMongo)).map(groups -> groups.get(0)).toMaybe());
     }
 
     @Override
     public Maybe<Group> findById(String group) {
-        return Observable.fromPublisher(groupsCollection.find(eq(FIELD_ID, group)).first()).firstElement().map(this::convert);
+        return Observable.fromPublisher(groupsCollection.find(eq(FIELD_ID, group)).first())
+                .firstElement()
+                .flatMap(groupMongo -> convert(Collections.singletonList(groupMongo)).map(groups -> groups.get(0)).toMaybe());
+    }
+
+    @Override
+    public Single<Page<String>> findMembers(String groupId, int page, int size) {
+        Single<Long> countOperation = countMembers(groupId);
+        Single<List<String>> membersOperation = Observable.fromPublisher(groupMembersCollection.find(eq(FIELD_GROUP, groupId)).sort(new BasicDBObject(FIELD_MEMBER, 1)).skip(size * page).limit(size))
+                .map(GroupMemberMongo::getMember)
+                .toList();
+        return Single.zip(countOperation, membersOperation, (count, members) -> new Page<>(members, page, count));
+    }
+
+    @Override
+    public Single<List<String>> findMembers(String groupId, String after, int size) {
+        Bson query = after == null ? eq(FIELD_GROUP, groupId) : and(eq(FIELD_GROUP, groupId), gt(FIELD_MEMBER, after));
+        return Observable.fromPublisher(groupMembersCollection.find(query).sort(new BasicDBObject(FIELD_MEMBER, 1)).limit(size))
+                .map(GroupMemberMongo::getMember)
+                .toList();
+    }
+
+    @Override
+    public Single<Long> countMembers(String groupId) {
+        return Observable.fromPublisher(groupMembersCollection.countDocuments(eq(FIELD_GROUP, groupId))).first(0l);
+    }
+
+    @Override
+    public Completable addMembers(String groupId, List<String> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Completable.complete();
+        }
+        // upsert on the (group, member) unique index, existing memberships are left untouched
+        List<WriteModel<GroupMemberMongo>> upserts = memberIds
+                .stream()
+                .distinct()
+                .map(memberId -> new UpdateOneModel<GroupMemberMongo>(
+                        and(eq(FIELD_GROUP, groupId), eq(FIELD_MEMBER, memberId)),
+                        setOnInsert(FIELD_ID, (String) idGenerator.generate()),
+                        new UpdateOptions().upsert(true)))
+                .collect(Collectors.toList());
+        return Completable.fromPublisher(groupMembersCollection.bulkWrite(upserts, new BulkWriteOptions().ordered(false)));
+    }
+
+    @Override
+    public Completable removeMembers(String groupId, List<String> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Completable.complete();
+        }
+        return Completable.fromPublisher(groupMembersCollection.deleteMany(and(eq(FIELD_GROUP, groupId), in(FIELD_MEMBER, memberIds))));
     }
 
     @Override
     public Single<Group> create(Group item) {
         GroupMongo group = convert(item);
         group.setId(group.getId() == null ? (String) idGenerator.generate() : group.getId());
-        return Single.fromPublisher(groupsCollection.insertOne(group)).flatMap(success -> findById(group.getId()).toSingle());
+        return Single.fromPublisher(groupsCollection.insertOne(group))
+                .flatMapCompletable(success -> addMembers(group.getId(), item.getMembers()))
+                .andThen(Maybe.defer(() -> findById(group.getId())))
+                .toSingle();
     }
 
     @Override
     public Single<Group> update(Group item) {
-        GroupMongo group = convert(item);
-        return Single.fromPublisher(groupsCollection.replaceOne(eq(FIELD_ID, group.getId()), group)).flatMap(success -> findById(group.getId()).toSingle());
+        final String groupId = item.getId();
+        return Observable.fromPublisher(groupMembersCollection.find(eq(FIELD_GROUP, groupId))).map(GroupMemberMongo::getMember).toList()
+                .flatMapCompletable(existingMembers -> {
+                    // only the membership changes are written
+                    Set<String> members = item.getMembers() != null ? new HashSet<>(item.getMembers()) : new HashSet<>();
+                    List<String> removedMembers = existingMembers.stream().filter(member -> !members.contains(member)).collect(Collectors.toList());
+                    existingMembers.forEach(members::remove);
+                    return removeMembers(groupId, removedMembers).andThen(addMembers(groupId, new ArrayList<>(members)));
+                })
+                // the group document is not replaced: only the updatable fields are set, the members stored in the
+                // document with the previous schema are now in the group_members collection and can be dropped
+                .andThen(Completable.fromPublisher(groupsCollection.updateOne(eq(FIELD_ID, groupId), combine(
+                        set(FIELD_DOMAIN, item.getDomain()),
+                        set(FIELD_NAME, item.getName()),
+                        set(FIELD_UPDATED_AT, item.getUpdatedAt()),
+                        unset(FIELD_MEMBERS)))))
+                .andThen(Maybe.defer(() -> findById(groupId)))
+                .toSingle();
     }
 
     @Override
     public Completable delete(String id) {
-        return Completable.fromPublisher(groupsCollection.deleteOne(eq(FIELD_ID, id)));
+        return Completable.fromPublisher(groupsCollection.deleteOne(eq(FIELD_ID, id)))
+                .andThen(Completable.fromPublisher(groupMembersCollection.deleteMany(eq(FIELD_GROUP, id))));
     }
 
-    private Group convert(GroupMongo groupMongo) {
+    @Override
+    public Single<Long> upgradeStorage() {
+        // move the members stored in the group documents to the group_members collection
+        return Flowable.fromPublisher(groupsCollection.find(exists(FIELD_MEMBERS)))
+                .flatMapSingle(groupMongo -> addMembers(groupMongo.getId(), groupMongo.getMembers())
+                        .andThen(Single.fromPublisher(groupsCollection.updateOne(eq(FIELD_ID, groupMongo.getId()), unset(FIELD_MEMBERS))))
+                        .map(result -> 1L), false, UPGRADE_CONCURRENCY)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(upgraded -> legacyMembers = false);
+    }
+
+    /**
+     * Look for groups stored with the previous schema, their members are only queried while some remain.
+     */
+    Completable checkLegacyMembers() {
+        return Observable.fromPublisher(groupsCollection.find(exists(FIELD_MEMBERS)).limit(1).first())
+                .isEmpty()
+                .doOnSuccess(upgraded -> legacyMembers = !upgraded)
+                .toCompletable();
+    }
+
+    private Single<List<Group>> convert(List<GroupMongo> groups) {
+        if (groups.isEmpty()) {
+            return Single.just(Collections.emptyList());
+        }
+        // load the members of all the groups with a single query
+        List<String> groupIds = groups.stream().map(GroupMongo::getId).collect(Collectors.toList());
+        return Observable.fromPublisher(groupMembersCollection.find(in(FIELD_GROUP, groupIds)))
+                .collect(HashMap<String, List<String>>::new, (members, membership) -> members.computeIfAbsent(membership.getGroup(), k -> new ArrayList<>()).add(membership.getMember()))
+                .map(members -> groups.stream().map(groupMongo -> convert(groupMongo, members.getOrDefault(groupMongo.getId(), Collections.emptyList()))).collect(Collectors.toList()));
+    }
+
+    /**
+     * @param members members of the group stored in the <code>group_members</code> collection, <code>null</code> if
+     *                the members have not been loaded
+     */
+    private Group convert(GroupMongo groupMongo, List<String> members) {
         if (groupMongo == null) {
             return null;
         }
@@ -127,7 +307,14 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
         group.setId(groupMongo.getId());
         group.setDomain(groupMongo.getDomain());
         group.setName(groupMongo.getName());
-        group.setMembers(groupMongo.getMembers());
+        if (members != null && groupMongo.getMembers() != null && !groupMongo.getMembers().isEmpty()) {
+            // the group has not been upgraded yet
+            Set<String> allMembers = new LinkedHashSet<>(members);
+            allMembers.addAll(groupMongo.getMembers());
+            group.setMembers(new ArrayList<>(allMembers));
+        } else {
+            group.setMembers(members);
+        }
         group.setCreatedAt(groupMongo.getCreatedAt());
         group.setUpdatedAt(groupMongo.getUpdatedAt());
         return group;
@@ -141,7 +328,6 @@ public class MongoGroupRepository extends AbstractManagementMongoRepository impl
         groupMongo.setId(group.getId());
         groupMongo.setDomain(group.getDomain());
         groupMongo.setName(group.getName());
-        groupMongo.setMembers(group.getMembers());
         groupMongo.setCreatedAt(group.getCreatedAt());
         groupMongo.setUpdatedAt(group.getUpdatedAt());
         return groupMongo;
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.model.Role;
 import io.gravitee.am.repository.management.api.RoleRepository;
@@ -30,12 +31,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.pull;
+import static com.mongodb.client.model.Updates.set;
 
 /**
  * @author Titouan COMPIEGNE (david.brassely at graviteesource.com)
@@ -46,6 +52,8 @@ public class MongoRoleRepository extends AbstractManagementMongoRepository imple
 
     private static final String FIELD_ID = "_id";
     private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_PERMISSIONS = "permissions";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private MongoCollection<RoleMongo> rolesCollection;
 
     @Autowired
@@ -67,6 +75,14 @@ public class MongoRoleRepository extends AbstractManagementMongoRepository imple
         return Observable.fromPublisher(rolesCollection.find(in(FIELD_ID, ids))).map(this::convert).collect(HashSet::new, Set::add);
     }
 
+    @Override
+    public Single<Long> removePermission(String domain, String permission) {
+        return Single.fromPublisher(rolesCollection.updateMany(
+                and(eq(FIELD_DOMAIN, domain), eq(FIELD_PERMISSIONS, permission)),
+                combine(pull(FIELD_PERMISSIONS, permission), set(FIELD_UPDATED_AT, new Date()))))
+                .map(UpdateResult::getModifiedCount);
+    }
+
     @Override
     public Maybe<Role> findById(String role) {
         return Observable.fromPublisher(rolesCollection.find(eq(FIELD_ID, role)).first()).firstElement().map(this::convert);
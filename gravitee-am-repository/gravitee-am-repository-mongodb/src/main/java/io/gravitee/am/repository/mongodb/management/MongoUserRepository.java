@@ -22,7 +22,6 @@ import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.management.api.UserRepository;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
-import io.gravitee.am.repository.mongodb.management.internal.model.UserMongo;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -51,14 +50,14 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
     private static final String FIELD_SOURCE = "source";
     private static final String FIELD_EMAIL = "email";
 
-    private MongoCollection<UserMongo> usersCollection;
+    private MongoCollection<User> usersCollection;
 
     @Autowired
     private IdGenerator idGenerator;
 
     @PostConstruct
     public void init() {
-        usersCollection = mongoOperations.getCollection("users", UserMongo.class);
+        usersCollection = mongoOperations.getCollection("users", User.class);
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1)).subscribe(new LoggableIndexSubscriber());
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_EMAIL, 1)).subscribe(new LoggableIndexSubscriber());
         usersCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_USERNAME, 1)).subscribe(new LoggableIndexSubscriber());
@@ -67,13 +66,13 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
 
     @Override
     public Single<Set<User>> findByDomain(String domain) {
-        return Observable.fromPublisher(usersCollection.find(eq(FIELD_DOMAIN, domain))).map(this::convert).collect(HashSet::new, Set::add);
+        return Observable.fromPublisher(usersCollection.find(eq(FIELD_DOMAIN, domain))).collect(HashSet::new, Set::add);
     }
 
     @Override
     public Single<Page<User>> findByDomain(String domain, int page, int size) {
         Single<Long> countOperation = Observable.fromPublisher(usersCollection.countDocuments(eq(FIELD_DOMAIN, domain))).first(0l);
-        Single<Set<User>> usersOperation = Observable.fromPublisher(usersCollection.find(eq(FIELD_DOMAIN, domain)).sort(new BasicDBObject(FIELD_USERNAME, 1)).skip(size * page).limit(size)).map(this::convert).collect(LinkedHashSet::new, Set::add);
+        Single<Set<User>> usersOperation = Observable.fromPublisher(usersCollection.find(eq(FIELD_DOMAIN, domain)).sort(new BasicDBObject(FIELD_USERNAME, 1)).skip(size * page).limit(size)).collect(LinkedHashSet::new, Set::add);
         return Single.zip(countOperation, usersOperation, (count, users) -> new Page<>(users, page, count));
     }
 
@@ -85,13 +84,13 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
                 regex(FIELD_USERNAME, "^(?)" + Pattern.quote(query), "i"));
 
         Single<Long> countOperation = Observable.fromPublisher(usersCollection.countDocuments(mongoQuery)).first(0l);
-        Single<Set<User>> usersOperation = Observable.fromPublisher(usersCollection.find(mongoQuery).limit(limit)).map(this::convert).collect(LinkedHashSet::new, Set::add);
+        Single<Set<User>> usersOperation = Observable.fromPublisher(usersCollection.find(mongoQuery).limit(limit)).collect(LinkedHashSet::new, Set::add);
         return Single.zip(countOperation, usersOperation, (count, users) -> new Page<>(users, 0, count));
     }
 
     @Override
     public Single<List<User>> findByDomainAndEmail(String domain, String email) {
-        return Observable.fromPublisher(usersCollection.find(and(eq(FIELD_DOMAIN, domain), eq(FIELD_EMAIL, email)))).map(this::convert).collect(ArrayList::new, List::add);
+        return Observable.fromPublisher(usersCollection.find(and(eq(FIELD_DOMAIN, domain), eq(FIELD_EMAIL, email)))).collect(ArrayList::new, List::add);
     }
 
     @Override
@@ -101,8 +100,7 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
                         .find(and(eq(FIELD_DOMAIN, domain), eq(FIELD_USERNAME, username)))
                         .limit(1)
                         .first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
@@ -112,97 +110,32 @@ public class MongoUserRepository extends AbstractManagementMongoRepository imple
                         .find(and(eq(FIELD_DOMAIN, domain), eq(FIELD_USERNAME, username), eq(FIELD_SOURCE, source)))
                         .limit(1)
                         .first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
     public Single<List<User>> findByIdIn(List<String> ids) {
-        return Observable.fromPublisher(usersCollection.find(in(FIELD_ID, ids))).map(this::convert).collect(ArrayList::new, List::add);
+        return Observable.fromPublisher(usersCollection.find(in(FIELD_ID, ids))).collect(ArrayList::new, List::add);
     }
 
     @Override
     public Maybe<User> findById(String userId) {
-        return Observable.fromPublisher(usersCollection.find(eq(FIELD_ID, userId)).first()).firstElement().map(this::convert);
+        return Observable.fromPublisher(usersCollection.find(eq(FIELD_ID, userId)).first()).firstElement();
     }
 
     @Override
     public Single<User> create(User item) {
-        UserMongo user = convert(item);
-        user.setId(user.getId() == null ? (String) idGenerator.generate() : user.getId());
-        return Single.fromPublisher(usersCollection.insertOne(user)).flatMap(success -> findById(user.getId()).toSingle());
+        item.setId(item.getId() == null ? (String) idGenerator.generate() : item.getId());
+        return Single.fromPublisher(usersCollection.insertOne(item)).flatMap(success -> findById(item.getId()).toSingle());
     }
 
     @Override
     public Single<User> update(User item) {
-        UserMongo user = convert(item);
-        return Single.fromPublisher(usersCollection.replaceOne(eq(FIELD_ID, user.getId()), user)).flatMap(updateResult -> findById(user.getId()).toSingle());
+        return Single.fromPublisher(usersCollection.replaceOne(eq(FIELD_ID, item.getId()), item)).flatMap(updateResult -> findById(item.getId()).toSingle());
     }
 
     @Override
     public Completable delete(String id) {
         return Completable.fromPublisher(usersCollection.deleteOne(eq(FIELD_ID, id)));
     }
-
-    private User convert(UserMongo userMongo) {
-        if (userMongo == null) {
-            return null;
-        }
-
-        User user = new User();
-        user.setId(userMongo.getId());
-        user.setExternalId(userMongo.getExternalId());
-        user.setUsername(userMongo.getUsername());
-        user.setEmail(userMongo.getEmail());
-        user.setFirstName(userMongo.getFirstName());
-        user.setLastName(userMongo.getLastName());
-        user.setAccountNonExpired(userMongo.isAccountNonExpired());
-        user.setAccountNonLocked(userMongo.isAccountNonLocked());
-        user.setCredentialsNonExpired(userMongo.isCredentialsNonExpired());
-        user.setEnabled(userMongo.isEnabled());
-        user.setInternal(userMongo.isInternal());
-        user.setPreRegistration(userMongo.isPreRegistration());
-        user.setRegistrationCompleted(userMongo.isRegistrationCompleted());
-        user.setDomain(userMongo.getDomain());
-        user.setSource(userMongo.getSource());
-        user.setClient(userMongo.getClient());
-        user.setLoginsCount(userMongo.getLoginsCount());
-        user.setLoggedAt(userMongo.getLoggedAt());
-        user.setRoles(userMongo.getRoles());
-        user.setAdditionalInformation(userMongo.getAdditionalInformation());
-        user.setCreatedAt(userMongo.getCreatedAt());
-        user.setUpdatedAt(userMongo.getUpdatedAt());
-        return user;
-    }
-
-    private UserMongo convert(User user) {
-        if (user == null) {
-            return null;
-        }
-
-        UserMongo userMongo = new UserMongo();
-        userMongo.setId(user.getId());
-        userMongo.setExternalId(user.getExternalId());
-        userMongo.setUsername(user.getUsername());
-        userMongo.setEmail(user.getEmail());
-        userMongo.setFirstName(user.getFirstName());
-        userMongo.setLastName(user.getLastName());
-        userMongo.setAccountNonExpired(user.isAccountNonExpired());
-        userMongo.setAccountNonLocked(user.isAccountNonLocked());
-        userMongo.setCredentialsNonExpired(user.isCredentialsNonExpired());
-        userMongo.setEnabled(user.isEnabled());
-        userMongo.setInternal(user.isInternal());
-        userMongo.setPreRegistration(user.isPreRegistration());
-        userMongo.setRegistrationCompleted(user.isRegistrationCompleted());
-        userMongo.setDomain(user.getDomain());
-        userMongo.setSource(user.getSource());
-        userMongo.setClient(user.getClient());
-        userMongo.setLoginsCount(user.getLoginsCount());
-        userMongo.setLoggedAt(user.getLoggedAt());
-        userMongo.setRoles(user.getRoles());
-        userMongo.setAdditionalInformation(user.getAdditionalInformation() != null ? new Document(user.getAdditionalInformation()) : new Document());
-        userMongo.setCreatedAt(user.getCreatedAt());
-        userMongo.setUpdatedAt(user.getUpdatedAt());
-        return userMongo;
-    }
 }
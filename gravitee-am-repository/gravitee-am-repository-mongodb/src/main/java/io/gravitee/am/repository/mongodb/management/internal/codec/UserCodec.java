@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management.internal.codec;
+
+import io.gravitee.am.model.User;
+import io.gravitee.am.repository.mongodb.common.codec.AbstractCodec;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Only the fields stored until now in the users collection are read and written,
+ * credentials and computed fields of the {@link User} model are not persisted.
+ *
+ * @author GraviteeSource Team
+ */
+public class UserCodec extends AbstractCodec<User> {
+
+    private static final String FIELD_EXTERNAL_ID = "externalId";
+    private static final String FIELD_USERNAME = "username";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_FIRST_NAME = "firstName";
+    private static final String FIELD_LAST_NAME = "lastName";
+    private static final String FIELD_ACCOUNT_NON_EXPIRED = "accountNonExpired";
+    private static final String FIELD_ACCOUNT_NON_LOCKED = "accountNonLocked";
+    private static final String FIELD_CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+    private static final String FIELD_ENABLED = "enabled";
+    private static final String FIELD_INTERNAL = "internal";
+    private static final String FIELD_PRE_REGISTRATION = "preRegistration";
+    private static final String FIELD_REGISTRATION_COMPLETED = "registrationCompleted";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_SOURCE = "source";
+    private static final String FIELD_CLIENT = "client";
+    private static final String FIELD_LOGINS_COUNT = "loginsCount";
+    private static final String FIELD_LOGGED_AT = "loggedAt";
+    private static final String FIELD_ROLES = "roles";
+    private static final String FIELD_ADDITIONAL_INFORMATION = "additionalInformation";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private final Codec<Document> documentCodec;
+
+    public UserCodec(CodecRegistry registry) {
+        this.documentCodec = registry.get(Document.class);
+    }
+
+    @Override
+    protected User newInstance() {
+        return new User();
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String name, User user, DecoderContext decoderContext) {
+        switch (name) {
+            case FIELD_ID:
+                user.setId(readId(reader));
+                return true;
+            case FIELD_EXTERNAL_ID:
+                user.setExternalId(reader.readString());
+                return true;
+            case FIELD_USERNAME:
+                user.setUsername(reader.readString());
+                return true;
+            case FIELD_EMAIL:
+                user.setEmail(reader.readString());
+                return true;
+            case FIELD_FIRST_NAME:
+                user.setFirstName(reader.readString());
+                return true;
+            case FIELD_LAST_NAME:
+                user.setLastName(reader.readString());
+                return true;
+            case FIELD_ACCOUNT_NON_EXPIRED:
+                user.setAccountNonExpired(reader.readBoolean());
+                return true;
+            case FIELD_ACCOUNT_NON_LOCKED:
+                user.setAccountNonLocked(reader.readBoolean());
+                return true;
+            case FIELD_CREDENTIALS_NON_EXPIRED:
+                user.setCredentialsNonExpired(reader.readBoolean());
+                return true;
+            case FIELD_ENABLED:
+                user.setEnabled(reader.readBoolean());
+                return true;
+            case FIELD_INTERNAL:
+                user.setInternal(reader.readBoolean());
+                return true;
+            case FIELD_PRE_REGISTRATION:
+                user.setPreRegistration(reader.readBoolean());
+                return true;
+            case FIELD_REGISTRATION_COMPLETED:
+                user.setRegistrationCompleted(reader.readBoolean());
+                return true;
+            case FIELD_DOMAIN:
+                user.setDomain(reader.readString());
+                return true;
+            case FIELD_SOURCE:
+                user.setSource(reader.readString());
+                return true;
+            case FIELD_CLIENT:
+                user.setClient(reader.readString());
+                return true;
+            case FIELD_LOGINS_COUNT:
+                user.setLoginsCount(readLong(reader));
+                return true;
+            case FIELD_LOGGED_AT:
+                user.setLoggedAt(readDate(reader));
+                return true;
+            case FIELD_ROLES:
+                user.setRoles(readStrings(reader, new ArrayList<>()));
+                return true;
+            case FIELD_ADDITIONAL_INFORMATION:
+                user.setAdditionalInformation(decoderContext.decodeWithChildContext(documentCodec, reader));
+                return true;
+            case FIELD_CREATED_AT:
+                user.setCreatedAt(readDate(reader));
+                return true;
+            case FIELD_UPDATED_AT:
+                user.setUpdatedAt(readDate(reader));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writeString(writer, FIELD_ID, user.getId());
+        writeString(writer, FIELD_EXTERNAL_ID, user.getExternalId());
+        writeString(writer, FIELD_USERNAME, user.getUsername());
+        writeString(writer, FIELD_EMAIL, user.getEmail());
+        writeString(writer, FIELD_FIRST_NAME, user.getFirstName());
+        writeString(writer, FIELD_LAST_NAME, user.getLastName());
+        writer.writeBoolean(FIELD_ACCOUNT_NON_EXPIRED, user.isAccountNonExpired());
+        writer.writeBoolean(FIELD_ACCOUNT_NON_LOCKED, user.isAccountNonLocked());
+        writer.writeBoolean(FIELD_CREDENTIALS_NON_EXPIRED, user.isCredentialsNonExpired());
+        writer.writeBoolean(FIELD_ENABLED, user.isEnabled());
+        writer.writeBoolean(FIELD_INTERNAL, user.isInternal());
+        writer.writeBoolean(FIELD_PRE_REGISTRATION, user.isPreRegistration());
+        writer.writeBoolean(FIELD_REGISTRATION_COMPLETED, user.isRegistrationCompleted());
+        writeString(writer, FIELD_DOMAIN, user.getDomain());
+        writeString(writer, FIELD_SOURCE, user.getSource());
+        writeString(writer, FIELD_CLIENT, user.getClient());
+        writer.writeInt64(FIELD_LOGINS_COUNT, user.getLoginsCount());
+        writeDate(writer, FIELD_LOGGED_AT, user.getLoggedAt());
+        writeStrings(writer, FIELD_ROLES, user.getRoles());
+
+        // additional information is always written, as an empty document if none
+        Map<String, Object> additionalInformation = user.getAdditionalInformation();
+        writer.writeName(FIELD_ADDITIONAL_INFORMATION);
+        encoderContext.encodeWithChildContext(documentCodec, writer, additionalInformation == null ? new Document() :
+                (additionalInformation instanceof Document ? (Document) additionalInformation : new Document(additionalInformation)));
+
+        writeDate(writer, FIELD_CREATED_AT, user.getCreatedAt());
+        writeDate(writer, FIELD_UPDATED_AT, user.getUpdatedAt());
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+}
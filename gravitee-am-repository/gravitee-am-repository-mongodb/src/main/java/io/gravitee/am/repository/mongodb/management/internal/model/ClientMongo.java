@@ -144,6 +144,8 @@ public class ClientMongo extends Auditable {
 
     private boolean enhanceScopesWithUserPermissions;
 
+    private RateLimitSettingsMongo rateLimit;
+
     public String getId() {
         return id;
     }
@@ -560,6 +562,14 @@ public class ClientMongo extends Auditable {
         this.enhanceScopesWithUserPermissions = enhanceScopesWithUserPermissions;
     }
 
+    public RateLimitSettingsMongo getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettingsMongo rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -54,6 +54,8 @@ public class DomainMongo extends Auditable {
 
     private SCIMSettingsMongo scim;
 
+    private RateLimitSettingsMongo rateLimit;
+
     private LoginSettingsMongo loginSettings;
 
     public String getId() {
@@ -152,6 +154,14 @@ public class DomainMongo extends Auditable {
         this.scim = scim;
     }
 
+    public RateLimitSettingsMongo getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettingsMongo rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     public LoginSettingsMongo getLoginSettings() {
         return loginSettings;
     }
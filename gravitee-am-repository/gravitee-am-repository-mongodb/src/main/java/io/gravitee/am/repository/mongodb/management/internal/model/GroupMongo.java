@@ -34,6 +34,10 @@ public class GroupMongo extends Auditable {
 
     private String domain;
 
+    /**
+     * Members are stored in the <code>group_members</code> collection, this field is only read to migrate
+     * the groups stored with the previous schema.
+     */
     private List<String> members;
 
     public String getId() {
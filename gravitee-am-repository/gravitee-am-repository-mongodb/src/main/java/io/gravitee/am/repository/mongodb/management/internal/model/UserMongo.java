@@ -1,230 +0,0 @@
-/**
- * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *         http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package io.gravitee.am.repository.mongodb.management.internal.model;
-
-import io.gravitee.am.repository.mongodb.common.model.Auditable;
-import org.bson.Document;
-import org.bson.codecs.pojo.annotations.BsonId;
-
-import java.util.Date;
-import java.util.List;
-
-/**
- * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
- * @author GraviteeSource Team
- */
-public class UserMongo extends Auditable {
-
-    @BsonId
-    private String id;
-    private String externalId;
-    private String username;
-    private String email;
-    private String firstName;
-    private String lastName;
-    private boolean accountNonExpired = true;
-    private boolean accountNonLocked = true;
-    private boolean credentialsNonExpired = true;
-    private boolean enabled = true;
-    private boolean internal;
-    private boolean preRegistration;
-    private boolean registrationCompleted;
-    private String domain;
-    private String source;
-    private String client;
-    private long loginsCount;
-    private Date loggedAt;
-    private List<String> roles;
-    /**
-     * Map codec support is planned for version 3.7 jira.mongodb.org issue: JAVA-2695
-     */
-    private Document additionalInformation;
-
-    public String getId() {
-        return id;
-    }
-
-    public void setId(String id) {
-        this.id = id;
-    }
-
-    public String getExternalId() {
-        return externalId;
-    }
-
-    public void setExternalId(String externalId) {
-        this.externalId = externalId;
-    }
-
-    public String getUsername() {
-        return username;
-    }
-
-    public void setUsername(String username) {
-        this.username = username;
-    }
-
-    public String getEmail() {
-        return email;
-    }
-
-    public void setEmail(String email) {
-        this.email = email;
-    }
-
-    public String getFirstName() {
-        return firstName;
-    }
-
-    public void setFirstName(String firstName) {
-        this.firstName = firstName;
-    }
-
-    public String getLastName() {
-        return lastName;
-    }
-
-    public void setLastName(String lastName) {
-        this.lastName = lastName;
-    }
-
-    public boolean isAccountNonExpired() {
-        return accountNonExpired;
-    }
-
-    public void setAccountNonExpired(boolean accountNonExpired) {
-        this.accountNonExpired = accountNonExpired;
-    }
-
-    public boolean isAccountNonLocked() {
-        return accountNonLocked;
-    }
-
-    public void setAccountNonLocked(boolean accountNonLocked) {
-        this.accountNonLocked = accountNonLocked;
-    }
-
-    public boolean isCredentialsNonExpired() {
-        return credentialsNonExpired;
-    }
-
-    public void setCredentialsNonExpired(boolean credentialsNonExpired) {
-        this.credentialsNonExpired = credentialsNonExpired;
-    }
-
-    public boolean isEnabled() {
-        return enabled;
-    }
-
-    public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
-    }
-
-    public boolean isInternal() {
-        return internal;
-    }
-
-    public void setInternal(boolean internal) {
-        this.internal = internal;
-    }
-
-    public boolean isPreRegistration() {
-        return preRegistration;
-    }
-
-    public void setPreRegistration(boolean preRegistration) {
-        this.preRegistration = preRegistration;
-    }
-
-    public boolean isRegistrationCompleted() {
-        return registrationCompleted;
-    }
-
-    public void setRegistrationCompleted(boolean registrationCompleted) {
-        this.registrationCompleted = registrationCompleted;
-    }
-
-    public String getDomain() {
-        return domain;
-    }
-
-    public void setDomain(String domain) {
-        this.domain = domain;
-    }
-
-    public String getSource() {
-        return source;
-    }
-
-    public void setSource(String source) {
-        this.source = source;
-    }
-
-    public String getClient() {
-        return client;
-    }
-
-    public void setClient(String client) {
-        this.client = client;
-    }
-
-    public long getLoginsCount() {
-        return loginsCount;
-    }
-
-    public void setLoginsCount(long loginsCount) {
-        this.loginsCount = loginsCount;
-    }
-
-    public Date getLoggedAt() {
-        return loggedAt;
-    }
-
-    public void setLoggedAt(Date loggedAt) {
-        this.loggedAt = loggedAt;
-    }
-
-    public List<String> getRoles() {
-        return roles;
-    }
-
-    public void setRoles(List<String> roles) {
-        this.roles = roles;
-    }
-
-    public Document getAdditionalInformation() {
-        return additionalInformation;
-    }
-
-    public void setAdditionalInformation(Document additionalInformation) {
-        this.additionalInformation = additionalInformation;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-
-        UserMongo userMongo = (UserMongo) o;
-
-        return id != null ? id.equals(userMongo.id) : userMongo.id == null;
-    }
-
-    @Override
-    public int hashCode() {
-        return id != null ? id.hashCode() : 0;
-    }
-}
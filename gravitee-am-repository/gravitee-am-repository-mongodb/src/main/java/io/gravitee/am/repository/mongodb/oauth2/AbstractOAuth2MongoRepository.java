@@ -15,9 +15,19 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import org.bson.BsonType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+
+import static com.mongodb.client.model.Filters.type;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -25,7 +35,55 @@ import org.springframework.beans.factory.annotation.Qualifier;
  */
 public abstract class AbstractOAuth2MongoRepository {
 
+    private static final Logger logger = LoggerFactory.getLogger(AbstractOAuth2MongoRepository.class);
+
     @Autowired
     @Qualifier("oauth2MongoTemplate")
     protected MongoDatabase mongoOperations;
+
+    @Autowired
+    private Environment environment;
+
+    /**
+     * @return <code>true</code> if the tokens must be stored using the compact schema (token value as binary <code>_id</code>)
+     */
+    protected boolean isCompactTokenStorage() {
+        return environment.getProperty("oauth2.mongodb.tokens.compact", Boolean.class, false);
+    }
+
+    protected <T> Single<Boolean> indexExists(MongoCollection<T> collection, String indexName) {
+        return Observable.fromPublisher(collection.listIndexes())
+                .any(index -> indexName.equals(index.getString("name")));
+    }
+
+    protected <T> Completable dropIndexIfExists(MongoCollection<T> collection, String indexName) {
+        return indexExists(collection, indexName)
+                .flatMapCompletable(exists -> exists ? Completable.fromPublisher(collection.dropIndex(indexName)) : Completable.complete());
+    }
+
+    /**
+     * Look for tokens stored with the previous schema (token value in its own indexed field).
+     *
+     * The legacy token index is dropped once no such token remains, otherwise it is kept so that the legacy tokens
+     * can still be looked up efficiently until the storage is upgraded.
+     *
+     * @return <code>true</code> if tokens stored with the previous schema remain in the collection
+     */
+    protected <T> Single<Boolean> hasLegacyTokens(MongoCollection<T> collection, String tokenField) {
+        final String indexName = tokenField + "_1";
+        return indexExists(collection, indexName)
+                .flatMap(indexExists -> {
+                    if (!indexExists) {
+                        return Single.just(false);
+                    }
+                    // compact tokens have no token field, a string range lookup only visits the legacy tokens
+                    return Observable.fromPublisher(collection.find(type(tokenField, BsonType.STRING)).limit(1).first())
+                            .isEmpty()
+                            .flatMap(empty -> empty
+                                    ? Completable.fromPublisher(collection.dropIndex(indexName)).toSingleDefault(false)
+                                    : Single.just(true));
+                })
+                .doOnError(error -> logger.error("Unable to look for legacy tokens in collection {}", collection.getNamespace(), error))
+                .onErrorReturnItem(true);
+    }
 }
@@ -16,16 +16,20 @@
 package io.gravitee.am.repository.mongodb.oauth2;
 
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
-import io.gravitee.am.repository.mongodb.oauth2.internal.model.AccessTokenMongo;
+import io.gravitee.am.repository.mongodb.common.codec.BinaryUuids;
+import io.gravitee.am.repository.mongodb.oauth2.internal.codec.AccessTokenCodec;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
@@ -33,6 +37,9 @@ import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -41,26 +48,52 @@ import static com.mongodb.client.model.Filters.eq;
 @Component
 public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository implements AccessTokenRepository {
 
-    private MongoCollection<AccessTokenMongo> accessTokenCollection;
+    private static final String COLLECTION_NAME = "access_tokens";
+    private static final int UPGRADE_CONCURRENCY = 8;
+
+    private MongoCollection<AccessToken> accessTokenCollection;
+    private boolean compact;
 
     private static final String FIELD_ID = "_id";
     private static final String FIELD_TOKEN = "token";
     private static final String FIELD_RESET_TIME = "expire_at";
+    private static final String FIELD_DOMAIN = "domain";
     private static final String FIELD_CLIENT_ID = "client";
     private static final String FIELD_SUBJECT = "subject";
     private static final String FIELD_AUTHORIZATION_CODE = "authorization_code";
+    private static final String INDEX_AUTHORIZATION_CODE_PARTIAL = "authorization_code_partial";
+
+    // tokens stored with the previous schema may remain until the storage is upgraded
+    private volatile boolean legacyTokens = true;
 
     @PostConstruct
     public void init() {
-        accessTokenCollection = mongoOperations.getCollection("access_tokens", AccessTokenMongo.class);
-
-        // one field index
-        accessTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+        compact = isCompactTokenStorage();
+        accessTokenCollection = mongoOperations.getCollection(COLLECTION_NAME, AccessToken.class);
+
+        if (compact) {
+            accessTokenCollection = accessTokenCollection.withCodecRegistry(
+                    fromRegistries(fromCodecs(new AccessTokenCodec(true)), accessTokenCollection.getCodecRegistry()));
+
+            // the token value is the document _id, the token index is only kept for the tokens stored with the previous schema
+            hasLegacyTokens(accessTokenCollection, FIELD_TOKEN).subscribe(legacy -> legacyTokens = legacy);
+
+            // the authorization code index only has to reference the tokens issued with the authorization code flow,
+            // it has its own name so that the full index is dropped once and the partial one is not rebuilt on each start
+            dropIndexIfExists(accessTokenCollection, FIELD_AUTHORIZATION_CODE + "_1").onErrorComplete()
+                    .andThen(Flowable.fromPublisher(accessTokenCollection.createIndex(new Document(FIELD_AUTHORIZATION_CODE, 1),
+                            new IndexOptions().name(INDEX_AUTHORIZATION_CODE_PARTIAL).partialFilterExpression(exists(FIELD_AUTHORIZATION_CODE)))))
+                    .subscribe(new LoggableIndexSubscriber());
+        } else {
+            // one field index
+            accessTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+            accessTokenCollection.createIndex(new Document(FIELD_AUTHORIZATION_CODE, 1)).subscribe(new LoggableIndexSubscriber());
+        }
         accessTokenCollection.createIndex(new Document(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
-        accessTokenCollection.createIndex(new Document(FIELD_AUTHORIZATION_CODE, 1)).subscribe(new LoggableIndexSubscriber());
 
         // two fields index
         accessTokenCollection.createIndex(new Document(FIELD_CLIENT_ID, 1).append(FIELD_SUBJECT, 1)).subscribe(new LoggableIndexSubscriber());
+        accessTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_SUBJECT, 1)).subscribe(new LoggableIndexSubscriber());
 
         // expire after index
         accessTokenCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
@@ -69,49 +102,59 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
     private Maybe<AccessToken> findById(String id) {
         return Observable
                 .fromPublisher(accessTokenCollection.find(eq(FIELD_ID, id)).limit(1).first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
     public Maybe<AccessToken> findByToken(String token) {
+        Maybe<AccessToken> accessToken = Observable
+                .fromPublisher(accessTokenCollection.find(tokenFilter(token)).limit(1).first())
+                .firstElement();
+        return compact ? accessToken.switchIfEmpty(Maybe.defer(() -> legacyTokens ? findByLegacyToken(token) : Maybe.empty())) : accessToken;
+    }
+
+    private Maybe<AccessToken> findByLegacyToken(String token) {
         return Observable
                 .fromPublisher(accessTokenCollection.find(eq(FIELD_TOKEN, token)).limit(1).first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
     public Single<AccessToken> create(AccessToken accessToken) {
         return Single
-                .fromPublisher(accessTokenCollection.insertOne(convert(accessToken)))
-                .flatMap(success -> findById(accessToken.getId()).toSingle());
+                .fromPublisher(accessTokenCollection.insertOne(accessToken))
+                .flatMap(success -> (compact ? findByToken(accessToken.getToken()) : findById(accessToken.getId())).toSingle());
     }
 
     @Override
     public Completable delete(String token) {
-        return Completable.fromPublisher(accessTokenCollection.findOneAndDelete(eq(FIELD_TOKEN, token)));
+        Maybe<AccessToken> deletedToken = Observable
+                .fromPublisher(accessTokenCollection.findOneAndDelete(tokenFilter(token)))
+                .firstElement();
+        if (compact) {
+            deletedToken = deletedToken.switchIfEmpty(Maybe.defer(() -> legacyTokens
+                    ? Observable.fromPublisher(accessTokenCollection.findOneAndDelete(eq(FIELD_TOKEN, token))).firstElement()
+                    : Maybe.empty()));
+        }
+        return deletedToken.ignoreElement();
     }
 
     @Override
     public Observable<AccessToken> findByClientIdAndSubject(String clientId, String subject) {
         return Observable
-                .fromPublisher(accessTokenCollection.find(and(eq(FIELD_CLIENT_ID, clientId), eq(FIELD_SUBJECT, subject))))
-                .map(this::convert);
+                .fromPublisher(accessTokenCollection.find(and(eq(FIELD_CLIENT_ID, clientId), eq(FIELD_SUBJECT, subject))));
     }
 
     @Override
     public Observable<AccessToken> findByClientId(String clientId) {
         return Observable
-                .fromPublisher(accessTokenCollection.find(eq(FIELD_CLIENT_ID, clientId)))
-                .map(this::convert);
+                .fromPublisher(accessTokenCollection.find(eq(FIELD_CLIENT_ID, clientId)));
     }
 
     @Override
     public Observable<AccessToken> findByAuthorizationCode(String authorizationCode) {
         return Observable
-                .fromPublisher(accessTokenCollection.find(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)))
-                .map(this::convert);
+                .fromPublisher(accessTokenCollection.find(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)));
     }
 
     @Override
@@ -119,41 +162,38 @@ public class MongoAccessTokenRepository extends AbstractOAuth2MongoRepository im
         return Single.fromPublisher(accessTokenCollection.count(eq(FIELD_CLIENT_ID, clientId)));
     }
 
-    private AccessTokenMongo convert(AccessToken accessToken) {
-        if (accessToken == null) {
-            return null;
-        }
+    @Override
+    public Completable deleteByAuthorizationCode(String authorizationCode) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(eq(FIELD_AUTHORIZATION_CODE, authorizationCode)));
+    }
+
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_CLIENT_ID, clientId))));
+    }
 
-        AccessTokenMongo accessTokenMongo = new AccessTokenMongo();
-        accessTokenMongo.setId(accessToken.getId());
-        accessTokenMongo.setToken(accessToken.getToken());
-        accessTokenMongo.setDomain(accessToken.getDomain());
-        accessTokenMongo.setClient(accessToken.getClient());
-        accessTokenMongo.setSubject(accessToken.getSubject());
-        accessTokenMongo.setAuthorizationCode(accessToken.getAuthorizationCode());
-        accessTokenMongo.setRefreshToken(accessToken.getRefreshToken());
-        accessTokenMongo.setCreatedAt(accessToken.getCreatedAt());
-        accessTokenMongo.setExpireAt(accessToken.getExpireAt());
-
-        return accessTokenMongo;
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromPublisher(accessTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject))));
     }
 
-    private AccessToken convert(AccessTokenMongo accessTokenMongo) {
-        if (accessTokenMongo == null) {
-            return null;
+    @Override
+    public Single<Long> upgradeStorage() {
+        if (!compact) {
+            return Single.just(0L);
         }
 
-        AccessToken accessToken = new AccessToken();
-        accessToken.setId(accessTokenMongo.getId());
-        accessToken.setToken(accessTokenMongo.getToken());
-        accessToken.setDomain(accessTokenMongo.getDomain());
-        accessToken.setClient(accessTokenMongo.getClient());
-        accessToken.setSubject(accessTokenMongo.getSubject());
-        accessToken.setAuthorizationCode(accessTokenMongo.getAuthorizationCode());
-        accessToken.setRefreshToken(accessTokenMongo.getRefreshToken());
-        accessToken.setCreatedAt(accessTokenMongo.getCreatedAt());
-        accessToken.setExpireAt(accessTokenMongo.getExpireAt());
-
-        return accessToken;
+        // documents stored with the previous schema are read with the default codec
+        MongoCollection<AccessToken> legacyCollection = mongoOperations.getCollection(COLLECTION_NAME, AccessToken.class);
+        return Flowable.fromPublisher(legacyCollection.find(exists(FIELD_TOKEN)))
+                .flatMapSingle(accessToken -> Single
+                        .fromPublisher(accessTokenCollection.replaceOne(tokenFilter(accessToken.getToken()), accessToken, new ReplaceOptions().upsert(true)))
+                        .flatMap(result -> Single.fromPublisher(legacyCollection.deleteOne(eq(FIELD_TOKEN, accessToken.getToken()))))
+                        .map(result -> 1L), false, UPGRADE_CONCURRENCY)
+                .reduce(0L, Long::sum);
+    }
+
+    private Bson tokenFilter(String token) {
+        return compact ? eq(FIELD_ID, BinaryUuids.toBson(token)) : eq(FIELD_TOKEN, token);
     }
 }
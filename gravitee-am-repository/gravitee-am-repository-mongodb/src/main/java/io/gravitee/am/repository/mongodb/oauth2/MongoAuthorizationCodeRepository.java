@@ -19,11 +19,8 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
-import io.gravitee.am.repository.mongodb.oauth2.internal.model.AuthorizationCodeMongo;
 import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
 import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
-import io.gravitee.common.util.LinkedMultiValueMap;
-import io.gravitee.common.util.MultiValueMap;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
@@ -32,7 +29,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.eq;
@@ -47,14 +43,14 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
     private static final String FIELD_ID = "_id";
     private static final String FIELD_CODE = "code";
     private static final String FIELD_RESET_TIME = "expire_at";
-    private MongoCollection<AuthorizationCodeMongo> authorizationCodeCollection;
+    private MongoCollection<AuthorizationCode> authorizationCodeCollection;
 
     @Autowired
     private IdGenerator idGenerator;
 
     @PostConstruct
     public void init() {
-        authorizationCodeCollection = mongoOperations.getCollection("authorization_codes", AuthorizationCodeMongo.class);
+        authorizationCodeCollection = mongoOperations.getCollection("authorization_codes", AuthorizationCode.class);
         authorizationCodeCollection.createIndex(new Document(FIELD_CODE, 1)).subscribe(new LoggableIndexSubscriber());
         authorizationCodeCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0l, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
     }
@@ -62,8 +58,7 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
     private Maybe<AuthorizationCode> findById(String id) {
         return Observable
                 .fromPublisher(authorizationCodeCollection.find(eq(FIELD_ID, id)).first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
@@ -73,63 +68,17 @@ public class MongoAuthorizationCodeRepository extends AbstractOAuth2MongoReposit
         }
 
         return Single
-                .fromPublisher(authorizationCodeCollection.insertOne(convert(authorizationCode)))
+                .fromPublisher(authorizationCodeCollection.insertOne(authorizationCode))
                 .flatMap(success -> findById(authorizationCode.getId()).toSingle());
     }
 
     @Override
     public Maybe<AuthorizationCode> delete(String code) {
-        return Observable.fromPublisher(authorizationCodeCollection.findOneAndDelete(eq(FIELD_ID, code))).firstElement().map(this::convert);
+        return Observable.fromPublisher(authorizationCodeCollection.findOneAndDelete(eq(FIELD_ID, code))).firstElement();
     }
 
     @Override
     public Maybe<AuthorizationCode> findByCode(String code) {
-        return Observable.fromPublisher(authorizationCodeCollection.find(eq(FIELD_CODE, code)).first()).firstElement().map(this::convert);
-    }
-
-    private AuthorizationCode convert(AuthorizationCodeMongo authorizationCodeMongo) {
-        if (authorizationCodeMongo == null) {
-            return null;
-        }
-
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setId(authorizationCodeMongo.getId());
-        authorizationCode.setCode(authorizationCodeMongo.getCode());
-        authorizationCode.setClientId(authorizationCodeMongo.getClientId());
-        authorizationCode.setCreatedAt(authorizationCodeMongo.getCreatedAt());
-        authorizationCode.setExpireAt(authorizationCodeMongo.getExpireAt());
-        authorizationCode.setSubject(authorizationCodeMongo.getSubject());
-        authorizationCode.setScopes(authorizationCodeMongo.getScopes());
-
-        if (authorizationCodeMongo.getRequestParameters() != null) {
-            MultiValueMap<String, String> requestParameters = new LinkedMultiValueMap<>();
-            authorizationCodeMongo.getRequestParameters().entrySet().forEach(entry -> requestParameters.put(entry.getKey(), (List<String>) entry.getValue()));
-            authorizationCode.setRequestParameters(requestParameters);
-        }
-        return authorizationCode;
-    }
-
-    private AuthorizationCodeMongo convert(AuthorizationCode authorizationCode) {
-        if (authorizationCode == null) {
-            return null;
-        }
-
-        AuthorizationCodeMongo authorizationCodeMongo = new AuthorizationCodeMongo();
-        authorizationCodeMongo.setId(authorizationCode.getId());
-        authorizationCodeMongo.setCode(authorizationCode.getCode());
-        authorizationCodeMongo.setClientId(authorizationCode.getClientId());
-        authorizationCodeMongo.setCreatedAt(authorizationCode.getCreatedAt());
-        authorizationCodeMongo.setExpireAt(authorizationCode.getExpireAt());
-        authorizationCodeMongo.setSubject(authorizationCode.getSubject());
-        authorizationCodeMongo.setScopes(authorizationCode.getScopes());
-
-        if (authorizationCode.getRequestParameters() != null) {
-            Document document = new Document();
-            authorizationCode.getRequestParameters().forEach((key, value) -> {
-                document.append(key, value);
-            });
-            authorizationCodeMongo.setRequestParameters(document);
-        }
-        return authorizationCodeMongo;
+        return Observable.fromPublisher(authorizationCodeCollection.find(eq(FIELD_CODE, code)).first()).firstElement();
     }
 }
@@ -16,24 +16,35 @@
 package io.gravitee.am.repository.mongodb.oauth2;
 
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
 import io.gravitee.am.repository.mongodb.common.LoggableIndexSubscriber;
-import io.gravitee.am.repository.mongodb.oauth2.internal.model.RefreshTokenMongo;
+import io.gravitee.am.repository.mongodb.common.codec.BinaryUuids;
+import io.gravitee.am.repository.mongodb.oauth2.internal.codec.RefreshTokenCodec;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.in;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -42,84 +53,133 @@ import static com.mongodb.client.model.Filters.eq;
 @Component
 public class MongoRefreshTokenRepository extends AbstractOAuth2MongoRepository implements RefreshTokenRepository {
 
-    private MongoCollection<RefreshTokenMongo> refreshTokenCollection;
+    private static final String COLLECTION_NAME = "refresh_tokens";
+    private static final int UPGRADE_CONCURRENCY = 8;
+
+    private MongoCollection<RefreshToken> refreshTokenCollection;
+    private boolean compact;
     private static final String FIELD_ID = "_id";
     private static final String FIELD_RESET_TIME = "expire_at";
     private static final String FIELD_TOKEN = "token";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_CLIENT_ID = "client";
+    private static final String FIELD_SUBJECT = "subject";
+
+    // tokens stored with the previous schema may remain until the storage is upgraded
+    private volatile boolean legacyTokens = true;
 
     @Autowired
     private IdGenerator idGenerator;
 
     @PostConstruct
     public void init() {
-        refreshTokenCollection = mongoOperations.getCollection("refresh_tokens", RefreshTokenMongo.class);
-        refreshTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+        compact = isCompactTokenStorage();
+        refreshTokenCollection = mongoOperations.getCollection(COLLECTION_NAME, RefreshToken.class);
+
+        if (compact) {
+            refreshTokenCollection = refreshTokenCollection.withCodecRegistry(
+                    fromRegistries(fromCodecs(new RefreshTokenCodec(true)), refreshTokenCollection.getCodecRegistry()));
+            // the token value is the document _id, the token index is only kept for the tokens stored with the previous schema
+            hasLegacyTokens(refreshTokenCollection, FIELD_TOKEN).subscribe(legacy -> legacyTokens = legacy);
+        } else {
+            refreshTokenCollection.createIndex(new Document(FIELD_TOKEN, 1)).subscribe(new LoggableIndexSubscriber());
+        }
+        refreshTokenCollection.createIndex(new Document(FIELD_CLIENT_ID, 1)).subscribe(new LoggableIndexSubscriber());
+        refreshTokenCollection.createIndex(new Document(FIELD_DOMAIN, 1).append(FIELD_SUBJECT, 1)).subscribe(new LoggableIndexSubscriber());
         refreshTokenCollection.createIndex(new Document(FIELD_RESET_TIME, 1), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS)).subscribe(new LoggableIndexSubscriber());
     }
 
     private Maybe<RefreshToken> findById(String id) {
         return Observable
                 .fromPublisher(refreshTokenCollection.find(eq(FIELD_ID, id)).first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
 
     @Override
     public Maybe<RefreshToken> findByToken(String token) {
+        Maybe<RefreshToken> refreshToken = Observable
+                .fromPublisher(refreshTokenCollection.find(tokenFilter(token)).first())
+                .firstElement();
+        return compact ? refreshToken.switchIfEmpty(Maybe.defer(() -> legacyTokens ? findByLegacyToken(token) : Maybe.empty())) : refreshToken;
+    }
+
+    private Maybe<RefreshToken> findByLegacyToken(String token) {
         return Observable
                 .fromPublisher(refreshTokenCollection.find(eq(FIELD_TOKEN, token)).first())
-                .firstElement()
-                .map(this::convert);
+                .firstElement();
     }
 
     @Override
     public Single<RefreshToken> create(RefreshToken refreshToken) {
+        if (compact) {
+            return Single
+                    .fromPublisher(refreshTokenCollection.insertOne(refreshToken))
+                    .flatMap(success -> findByToken(refreshToken.getToken()).toSingle());
+        }
+
         if (refreshToken.getId() == null) {
             refreshToken.setId((String) idGenerator.generate());
         }
 
         return Single
-                .fromPublisher(refreshTokenCollection.insertOne(convert(refreshToken)))
+                .fromPublisher(refreshTokenCollection.insertOne(refreshToken))
                 .flatMap(success -> findById(refreshToken.getId()).toSingle());
     }
 
     @Override
     public Completable delete(String token) {
-        return Completable.fromPublisher(refreshTokenCollection.deleteOne(eq(FIELD_TOKEN, token)));
+        if (compact) {
+            return Single.fromPublisher(refreshTokenCollection.deleteOne(tokenFilter(token)))
+                    .flatMapCompletable(result -> result.getDeletedCount() == 0 && legacyTokens
+                            ? Completable.fromPublisher(refreshTokenCollection.deleteOne(eq(FIELD_TOKEN, token)))
+                            : Completable.complete());
+        }
+        return Completable.fromPublisher(refreshTokenCollection.deleteOne(tokenFilter(token)));
     }
 
-    private RefreshTokenMongo convert(RefreshToken refreshToken) {
-        if (refreshToken == null) {
-            return null;
+    @Override
+    public Completable deleteByTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Completable.complete();
+        }
+        if (compact) {
+            Completable deleteTokens = Completable.fromPublisher(refreshTokenCollection.deleteMany(
+                    in(FIELD_ID, tokens.stream().map(BinaryUuids::toBson).collect(Collectors.toList()))));
+            return deleteTokens.andThen(Completable.defer(() -> legacyTokens
+                    ? Completable.fromPublisher(refreshTokenCollection.deleteMany(in(FIELD_TOKEN, tokens)))
+                    : Completable.complete()));
         }
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(in(FIELD_TOKEN, tokens)));
+    }
 
-        RefreshTokenMongo refreshTokenMongo = new RefreshTokenMongo();
-        refreshTokenMongo.setId(refreshToken.getId());
-        refreshTokenMongo.setToken(refreshToken.getToken());
-        refreshTokenMongo.setDomain(refreshToken.getDomain());
-        refreshTokenMongo.setClient(refreshToken.getClient());
-        refreshTokenMongo.setSubject(refreshToken.getSubject());
-        refreshTokenMongo.setCreatedAt(refreshToken.getCreatedAt());
-        refreshTokenMongo.setExpireAt(refreshToken.getExpireAt());
+    @Override
+    public Completable deleteByDomainAndClientId(String domain, String clientId) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_CLIENT_ID, clientId))));
+    }
 
-        return refreshTokenMongo;
+    @Override
+    public Completable deleteByDomainAndSubject(String domain, String subject) {
+        return Completable.fromPublisher(refreshTokenCollection.deleteMany(and(eq(FIELD_DOMAIN, domain), eq(FIELD_SUBJECT, subject))));
     }
 
-    private RefreshToken convert(RefreshTokenMongo refreshTokenMongo) {
-        if (refreshTokenMongo == null) {
-            return null;
+    @Override
+    public Single<Long> upgradeStorage() {
+        if (!compact) {
+            return Single.just(0L);
         }
 
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setId(refreshTokenMongo.getId());
-        refreshToken.setToken(refreshTokenMongo.getToken());
-        refreshToken.setDomain(refreshTokenMongo.getDomain());
-        refreshToken.setClient(refreshTokenMongo.getClient());
-        refreshToken.setSubject(refreshTokenMongo.getSubject());
-        refreshToken.setCreatedAt(refreshTokenMongo.getCreatedAt());
-        refreshToken.setExpireAt(refreshTokenMongo.getExpireAt());
+        // documents stored with the previous schema are read with the default codec
+        MongoCollection<RefreshToken> legacyCollection = mongoOperations.getCollection(COLLECTION_NAME, RefreshToken.class);
+        return Flowable.fromPublisher(legacyCollection.find(exists(FIELD_TOKEN)))
+                .flatMapSingle(refreshToken -> Single
+                        .fromPublisher(refreshTokenCollection.replaceOne(tokenFilter(refreshToken.getToken()), refreshToken, new ReplaceOptions().upsert(true)))
+                        .flatMap(result -> Single.fromPublisher(legacyCollection.deleteOne(eq(FIELD_TOKEN, refreshToken.getToken()))))
+                        .map(result -> 1L), false, UPGRADE_CONCURRENCY)
+                .reduce(0L, Long::sum);
+    }
 
-        return refreshToken;
+    private Bson tokenFilter(String token) {
+        return compact ? eq(FIELD_ID, BinaryUuids.toBson(token)) : eq(FIELD_TOKEN, token);
     }
 }
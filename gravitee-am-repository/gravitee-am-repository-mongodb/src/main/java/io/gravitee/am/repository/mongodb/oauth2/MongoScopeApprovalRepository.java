@@ -15,7 +15,11 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.model.oauth2.ScopeApproval;
 import io.gravitee.am.repository.mongodb.common.IdGenerator;
@@ -33,13 +37,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.set;
+import static com.mongodb.client.model.Updates.setOnInsert;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -56,6 +67,9 @@ public class MongoScopeApprovalRepository extends AbstractOAuth2MongoRepository
     private static final String FIELD_CLIENT_ID = "clientId";
     private static final String FIELD_EXPIRES_AT = "expiresAt";
     private static final String FIELD_SCOPE = "scope";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
     private MongoCollection<ScopeApprovalMongo> scopeApprovalsCollection;
 
     @Autowired
@@ -112,6 +126,38 @@ public class MongoScopeApprovalRepository extends AbstractOAuth2MongoRepository
                 });
     }
 
+    @Override
+    public Single<List<ScopeApproval>> bulkUpsert(Collection<ScopeApproval> scopeApprovals) {
+        if (scopeApprovals.isEmpty()) {
+            return Single.just(Collections.emptyList());
+        }
+
+        // one round trip whatever the number of scopes, the approvals are matched on their natural key
+        Date now = new Date();
+        List<WriteModel<ScopeApprovalMongo>> writes = new ArrayList<>(scopeApprovals.size());
+        for (ScopeApproval scopeApproval : scopeApprovals) {
+            writes.add(new UpdateOneModel<>(
+                    and(eq(FIELD_DOMAIN, scopeApproval.getDomain()),
+                            eq(FIELD_CLIENT_ID, scopeApproval.getClientId()),
+                            eq(FIELD_USER_ID, scopeApproval.getUserId()),
+                            eq(FIELD_SCOPE, scopeApproval.getScope())),
+                    combine(
+                            set(FIELD_STATUS, scopeApproval.getStatus().name().toUpperCase()),
+                            set(FIELD_EXPIRES_AT, scopeApproval.getExpiresAt()),
+                            set(FIELD_UPDATED_AT, now),
+                            setOnInsert(FIELD_ID, idGenerator.generate()),
+                            setOnInsert(FIELD_CREATED_AT, now)),
+                    new UpdateOptions().upsert(true)));
+        }
+
+        return Single.fromPublisher(scopeApprovalsCollection.bulkWrite(writes, new BulkWriteOptions().ordered(false)))
+                .map(bulkWriteResult -> {
+                    List<ScopeApproval> savedApprovals = new ArrayList<>(scopeApprovals);
+                    savedApprovals.forEach(scopeApproval -> scopeApproval.setUpdatedAt(now));
+                    return savedApprovals;
+                });
+    }
+
     @Override
     public Completable delete(String domain, String scope) {
         return Completable.fromPublisher(scopeApprovalsCollection.deleteMany(
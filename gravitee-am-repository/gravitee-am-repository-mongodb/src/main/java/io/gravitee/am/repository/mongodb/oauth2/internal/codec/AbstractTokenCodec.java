@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2.internal.codec;
+
+import io.gravitee.am.repository.mongodb.common.codec.AbstractCodec;
+import io.gravitee.am.repository.mongodb.common.codec.BinaryUuids;
+import io.gravitee.am.repository.oauth2.model.Token;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Read and write the fields shared by the access and refresh tokens.
+ *
+ * In compact mode the token value is stored as the document <code>_id</code> (as a binary UUID when possible) and
+ * the technical identifier is not stored anymore: the token value is returned as the token id.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractTokenCodec<T extends Token> extends AbstractCodec<T> {
+
+    private static final String FIELD_TOKEN = "token";
+    private static final String FIELD_DOMAIN = "domain";
+    private static final String FIELD_CLIENT = "client";
+    private static final String FIELD_SUBJECT = "subject";
+    private static final String FIELD_CREATED_AT = "created_at";
+    private static final String FIELD_EXPIRE_AT = "expire_at";
+
+    protected final boolean compact;
+
+    protected AbstractTokenCodec(boolean compact) {
+        this.compact = compact;
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String name, T token, DecoderContext decoderContext) {
+        switch (name) {
+            case FIELD_ID:
+                if (compact) {
+                    String value = BinaryUuids.read(reader);
+                    token.setId(value);
+                    token.setToken(value);
+                } else {
+                    token.setId(readId(reader));
+                }
+                return true;
+            case FIELD_TOKEN:
+                token.setToken(reader.readString());
+                return true;
+            case FIELD_DOMAIN:
+                token.setDomain(reader.readString());
+                return true;
+            case FIELD_CLIENT:
+                token.setClient(reader.readString());
+                return true;
+            case FIELD_SUBJECT:
+                token.setSubject(reader.readString());
+                return true;
+            case FIELD_CREATED_AT:
+                token.setCreatedAt(readDate(reader));
+                return true;
+            case FIELD_EXPIRE_AT:
+                token.setExpireAt(readDate(reader));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, T token, EncoderContext encoderContext) {
+        if (compact) {
+            BinaryUuids.write(writer, FIELD_ID, token.getToken());
+        } else {
+            writeString(writer, FIELD_ID, token.getId());
+            writeString(writer, FIELD_TOKEN, token.getToken());
+        }
+        writeString(writer, FIELD_DOMAIN, token.getDomain());
+        writeString(writer, FIELD_CLIENT, token.getClient());
+        writeString(writer, FIELD_SUBJECT, token.getSubject());
+        writeDate(writer, FIELD_CREATED_AT, token.getCreatedAt());
+        writeDate(writer, FIELD_EXPIRE_AT, token.getExpireAt());
+    }
+}
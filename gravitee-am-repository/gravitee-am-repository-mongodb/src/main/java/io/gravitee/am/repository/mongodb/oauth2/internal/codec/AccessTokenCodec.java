@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2.internal.codec;
+
+import io.gravitee.am.repository.mongodb.common.codec.BinaryUuids;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AccessTokenCodec extends AbstractTokenCodec<AccessToken> {
+
+    private static final String FIELD_AUTHORIZATION_CODE = "authorization_code";
+    private static final String FIELD_REFRESH_TOKEN = "refresh_token";
+
+    public AccessTokenCodec() {
+        this(false);
+    }
+
+    public AccessTokenCodec(boolean compact) {
+        super(compact);
+    }
+
+    @Override
+    protected AccessToken newInstance() {
+        return new AccessToken();
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String name, AccessToken accessToken, DecoderContext decoderContext) {
+        switch (name) {
+            case FIELD_AUTHORIZATION_CODE:
+                accessToken.setAuthorizationCode(reader.readString());
+                return true;
+            case FIELD_REFRESH_TOKEN:
+                accessToken.setRefreshToken(compact ? BinaryUuids.read(reader) : reader.readString());
+                return true;
+            default:
+                return super.decodeField(reader, name, accessToken, decoderContext);
+        }
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, AccessToken accessToken, EncoderContext encoderContext) {
+        super.encodeFields(writer, accessToken, encoderContext);
+        writeString(writer, FIELD_AUTHORIZATION_CODE, accessToken.getAuthorizationCode());
+        if (compact) {
+            BinaryUuids.write(writer, FIELD_REFRESH_TOKEN, accessToken.getRefreshToken());
+        } else {
+            writeString(writer, FIELD_REFRESH_TOKEN, accessToken.getRefreshToken());
+        }
+    }
+
+    @Override
+    public Class<AccessToken> getEncoderClass() {
+        return AccessToken.class;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2.internal.codec;
+
+import io.gravitee.am.repository.mongodb.common.codec.AbstractCodec;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AuthorizationCodeCodec extends AbstractCodec<AuthorizationCode> {
+
+    private static final String FIELD_CODE = "code";
+    private static final String FIELD_CLIENT_ID = "client_id";
+    private static final String FIELD_SUBJECT = "subject";
+    private static final String FIELD_SCOPES = "scopes";
+    private static final String FIELD_REQUEST_PARAMETERS = "request_parameters";
+    private static final String FIELD_CREATED_AT = "created_at";
+    private static final String FIELD_EXPIRE_AT = "expire_at";
+
+    @Override
+    protected AuthorizationCode newInstance() {
+        return new AuthorizationCode();
+    }
+
+    @Override
+    protected boolean decodeField(BsonReader reader, String name, AuthorizationCode authorizationCode, DecoderContext decoderContext) {
+        switch (name) {
+            case FIELD_ID:
+                authorizationCode.setId(readId(reader));
+                return true;
+            case FIELD_CODE:
+                authorizationCode.setCode(reader.readString());
+                return true;
+            case FIELD_CLIENT_ID:
+                authorizationCode.setClientId(reader.readString());
+                return true;
+            case FIELD_SUBJECT:
+                authorizationCode.setSubject(reader.readString());
+                return true;
+            case FIELD_SCOPES:
+                authorizationCode.setScopes(readStrings(reader, new HashSet<>()));
+                return true;
+            case FIELD_REQUEST_PARAMETERS:
+                authorizationCode.setRequestParameters(readRequestParameters(reader));
+                return true;
+            case FIELD_CREATED_AT:
+                authorizationCode.setCreatedAt(readDate(reader));
+                return true;
+            case FIELD_EXPIRE_AT:
+                authorizationCode.setExpireAt(readDate(reader));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void encodeFields(BsonWriter writer, AuthorizationCode authorizationCode, EncoderContext encoderContext) {
+        writeString(writer, FIELD_ID, authorizationCode.getId());
+        writeString(writer, FIELD_CODE, authorizationCode.getCode());
+        writeString(writer, FIELD_CLIENT_ID, authorizationCode.getClientId());
+        writeString(writer, FIELD_SUBJECT, authorizationCode.getSubject());
+        writeStrings(writer, FIELD_SCOPES, authorizationCode.getScopes());
+        writeRequestParameters(writer, authorizationCode.getRequestParameters());
+        writeDate(writer, FIELD_CREATED_AT, authorizationCode.getCreatedAt());
+        writeDate(writer, FIELD_EXPIRE_AT, authorizationCode.getExpireAt());
+    }
+
+    @Override
+    public Class<AuthorizationCode> getEncoderClass() {
+        return AuthorizationCode.class;
+    }
+
+    private static MultiValueMap<String, String> readRequestParameters(BsonReader reader) {
+        MultiValueMap<String, String> requestParameters = new LinkedMultiValueMap<>();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            switch (reader.getCurrentBsonType()) {
+                case ARRAY:
+                    requestParameters.put(name, readStrings(reader, new ArrayList<>()));
+                    break;
+                case STRING:
+                    requestParameters.put(name, new ArrayList<>(Collections.singletonList(reader.readString())));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return requestParameters;
+    }
+
+    private static void writeRequestParameters(BsonWriter writer, MultiValueMap<String, String> requestParameters) {
+        if (requestParameters != null) {
+            writer.writeStartDocument(FIELD_REQUEST_PARAMETERS);
+            for (String name : requestParameters.keySet()) {
+                List<String> values = requestParameters.get(name);
+                if (values != null) {
+                    writeStrings(writer, name, values);
+                } else {
+                    writer.writeNull(name);
+                }
+            }
+            writer.writeEndDocument();
+        }
+    }
+}
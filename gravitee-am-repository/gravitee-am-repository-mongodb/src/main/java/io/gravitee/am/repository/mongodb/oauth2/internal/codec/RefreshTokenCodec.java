@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.oauth2.internal.codec;
+
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RefreshTokenCodec extends AbstractTokenCodec<RefreshToken> {
+
+    public RefreshTokenCodec() {
+        this(false);
+    }
+
+    public RefreshTokenCodec(boolean compact) {
+        super(compact);
+    }
+
+    @Override
+    protected RefreshToken newInstance() {
+        return new RefreshToken();
+    }
+
+    @Override
+    public Class<RefreshToken> getEncoderClass() {
+        return RefreshToken.class;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import org.bson.Document;
+
+/**
+ * Empty all the collections of the test database after each test.
+ *
+ * @author GraviteeSource Team
+ */
+public class MongoTestRepositoryInitializer implements TestRepositoryInitializer {
+
+    private final MongoDatabase mongoDatabase;
+
+    public MongoTestRepositoryInitializer(MongoDatabase mongoDatabase) {
+        this.mongoDatabase = mongoDatabase;
+    }
+
+    @Override
+    public void setUp() {
+        // let the indexes be created before running the test
+        try {
+            Thread.sleep(1000l);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        Observable.fromPublisher(mongoDatabase.listCollectionNames())
+                .filter(collectionName -> !collectionName.startsWith("system."))
+                .flatMapCompletable(collectionName -> Completable.fromPublisher(mongoDatabase.getCollection(collectionName).deleteMany(new Document())))
+                .blockingAwait();
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.common.codec;
+
+import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.model.User;
+import io.gravitee.am.repository.mongodb.oauth2.internal.codec.AccessTokenCodec;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCodecProviderTest {
+
+    private final CodecRegistry codecRegistry = fromRegistries(MongoClients.getDefaultCodecRegistry(),
+            fromProviders(new RepositoryCodecProvider()));
+
+    @Test
+    public void shouldEncodeAndDecodeAccessToken() {
+        AccessToken accessToken = new AccessToken();
+        accessToken.setId("token-id");
+        accessToken.setToken("token");
+        accessToken.setClient("client-id");
+        accessToken.setAuthorizationCode("code");
+        accessToken.setCreatedAt(new Date(1000L));
+        accessToken.setExpireAt(new Date(2000L));
+
+        BsonDocument document = encode(AccessToken.class, accessToken);
+        assertEquals("token-id", document.getString("_id").getValue());
+        assertEquals(2000L, document.getDateTime("expire_at").getValue());
+        assertFalse(document.containsKey("subject"));
+
+        AccessToken decoded = decode(AccessToken.class, document);
+        assertEquals(accessToken, decoded);
+        assertEquals("client-id", decoded.getClient());
+        assertEquals("code", decoded.getAuthorizationCode());
+        assertNull(decoded.getRefreshToken());
+        assertEquals(new Date(1000L), decoded.getCreatedAt());
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeAccessToken_compact() {
+        String token = UUID.randomUUID().toString();
+        AccessToken accessToken = new AccessToken();
+        accessToken.setId("token-id");
+        accessToken.setToken(token);
+        accessToken.setRefreshToken("not-a-uuid");
+        AccessTokenCodec codec = new AccessTokenCodec(true);
+
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), accessToken, EncoderContext.builder().build());
+        assertEquals(BsonBinarySubType.UUID_STANDARD.getValue(), document.getBinary("_id").getType());
+        assertEquals(16, document.getBinary("_id").getData().length);
+        assertEquals(BinaryUuids.toBson(token), document.get("_id"));
+        assertEquals("not-a-uuid", document.getString("refresh_token").getValue());
+        assertFalse(document.containsKey("token"));
+
+        AccessToken decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(token, decoded.getToken());
+        assertEquals(token, decoded.getId());
+        assertEquals("not-a-uuid", decoded.getRefreshToken());
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeAuthorizationCode() {
+        MultiValueMap<String, String> requestParameters = new LinkedMultiValueMap<>();
+        requestParameters.put("redirect_uri", Collections.singletonList("https://callback"));
+        requestParameters.put("scope", Arrays.asList("openid", "profile"));
+
+        AuthorizationCode authorizationCode = new AuthorizationCode();
+        authorizationCode.setId("code-id");
+        authorizationCode.setCode("code");
+        authorizationCode.setScopes(new HashSet<>(Arrays.asList("openid", "profile")));
+        authorizationCode.setRequestParameters(requestParameters);
+
+        AuthorizationCode decoded = decode(AuthorizationCode.class, encode(AuthorizationCode.class, authorizationCode));
+
+        assertEquals("code-id", decoded.getId());
+        assertEquals("code", decoded.getCode());
+        assertEquals(authorizationCode.getScopes(), decoded.getScopes());
+        assertEquals(Arrays.asList("openid", "profile"), decoded.getRequestParameters().get("scope"));
+        assertEquals(Collections.singletonList("https://callback"), decoded.getRequestParameters().get("redirect_uri"));
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeUser() {
+        Map<String, Object> additionalInformation = new HashMap<>();
+        additionalInformation.put("sub", "user-id");
+        additionalInformation.put("picture", Collections.singletonMap("url", "https://picture"));
+
+        User user = new User();
+        user.setId("user-id");
+        user.setUsername("username");
+        user.setEnabled(false);
+        user.setLoginsCount(3L);
+        user.setRoles(Arrays.asList("role-1", "role-2"));
+        user.setAdditionalInformation(additionalInformation);
+        user.setPassword("password");
+
+        BsonDocument document = encode(User.class, user);
+        assertFalse(document.containsKey("password"));
+
+        User decoded = decode(User.class, document);
+        assertEquals("user-id", decoded.getId());
+        assertEquals("username", decoded.getUsername());
+        assertFalse(decoded.isEnabled());
+        assertTrue(decoded.isAccountNonLocked());
+        assertEquals(3L, decoded.getLoginsCount());
+        assertEquals(user.getRoles(), decoded.getRoles());
+        assertEquals("user-id", decoded.getAdditionalInformation().get("sub"));
+        assertEquals("https://picture", ((Map) decoded.getAdditionalInformation().get("picture")).get("url"));
+    }
+
+    @Test
+    public void shouldDecodeUser_withDefaultValues() {
+        BsonDocument document = BsonDocument.parse("{ \"_id\" : \"user-id\", \"email\" : null, \"unknown\" : { \"field\" : 1 } }");
+
+        User decoded = decode(User.class, document);
+
+        assertEquals("user-id", decoded.getId());
+        assertNull(decoded.getEmail());
+        assertTrue(decoded.isEnabled());
+        assertTrue(decoded.isAccountNonExpired());
+    }
+
+    private <T> BsonDocument encode(Class<T> clazz, T value) {
+        BsonDocument document = new BsonDocument();
+        Codec<T> codec = codecRegistry.get(clazz);
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private <T> T decode(Class<T> clazz, BsonDocument document) {
+        Codec<T> codec = codecRegistry.get(clazz);
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
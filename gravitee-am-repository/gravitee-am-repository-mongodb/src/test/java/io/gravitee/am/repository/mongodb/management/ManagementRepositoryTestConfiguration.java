@@ -16,7 +16,9 @@
 package io.gravitee.am.repository.mongodb.management;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
 import io.gravitee.am.repository.mongodb.EmbeddedClient;
+import io.gravitee.am.repository.mongodb.MongoTestRepositoryInitializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -39,4 +41,9 @@ public class ManagementRepositoryTestConfiguration {
         return embeddedClient().mongoDatabase();
     }
 
+    @Bean
+    public TestRepositoryInitializer testRepositoryInitializer() {
+        return new MongoTestRepositoryInitializer(mongoOperations());
+    }
+
 }
@@ -15,120 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
-import io.gravitee.am.model.Certificate;
-import io.gravitee.am.repository.exceptions.TechnicalException;
-import io.gravitee.am.repository.management.api.CertificateRepository;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.Set;
+import io.gravitee.am.repository.management.CertificateRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoCertificateRepositoryTest extends AbstractManagementRepositoryTest {
-
-    @Autowired
-    private CertificateRepository certificateRepository;
-
-    @Override
-    public String collectionName() {
-        return "certificates";
-    }
-
-    @Test
-    public void testFindByDomain() throws TechnicalException {
-        // create certificate
-        Certificate certificate = new Certificate();
-        certificate.setName("testName");
-        certificate.setDomain("testDomain");
-        certificateRepository.create(certificate).blockingGet();
-
-        // fetch certificates
-        TestObserver<Set<Certificate>> testObserver = certificateRepository.findByDomain("testDomain").test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(certificates -> certificates.size() == 1);
-    }
-
-    @Test
-    public void testFindById() throws TechnicalException {
-        // create certificate
-        Certificate certificate = new Certificate();
-        certificate.setName("testName");
-        Certificate certificateCreated = certificateRepository.create(certificate).blockingGet();
-
-        // fetch certificate
-        TestObserver<Certificate> testObserver = certificateRepository.findById(certificateCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(d -> d.getName().equals("testName"));
-    }
-
-    @Test
-    public void testNotFoundById() throws TechnicalException {
-        certificateRepository.findById("test").test().assertEmpty();
-    }
-
-    @Test
-    public void testCreate() throws TechnicalException {
-        Certificate certificate = new Certificate();
-        certificate.setName("testName");
-
-        TestObserver<Certificate> testObserver = certificateRepository.create(certificate).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(domainCreated -> domainCreated.getName().equals(certificate.getName()));
-    }
-
-    @Test
-    public void testUpdate() throws TechnicalException {
-        // create certificate
-        Certificate certificate = new Certificate();
-        certificate.setName("testName");
-        Certificate certificateCreated = certificateRepository.create(certificate).blockingGet();
-
-        // update certificate
-        Certificate updatedCertificate = new Certificate();
-        updatedCertificate.setId(certificateCreated.getId());
-        updatedCertificate.setName("testUpdatedName");
-
-        TestObserver<Certificate> testObserver = certificateRepository.update(updatedCertificate).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(d -> d.getName().equals(updatedCertificate.getName()));
-
-    }
-
-    @Test
-    public void testDelete() throws TechnicalException {
-        // create certificate
-        Certificate certificate = new Certificate();
-        certificate.setName("testName");
-        Certificate certificateCreated = certificateRepository.create(certificate).blockingGet();
-
-        // fetch certificate
-        TestObserver<Certificate> testObserver = certificateRepository.findById(certificateCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(d -> d.getName().equals(certificateCreated.getName()));
-
-        // delete domain
-        TestObserver testObserver1 = certificateRepository.delete(certificateCreated.getId()).test();
-        testObserver1.awaitTerminalEvent();
-
-        // fetch domain
-        certificateRepository.findById(certificateCreated.getId()).test().assertEmpty();
-    }
+@ContextConfiguration(classes = ManagementRepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoCertificateRepositoryTest extends CertificateRepositoryTest {
 }
@@ -15,145 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
-import io.gravitee.am.model.Client;
-import io.gravitee.am.model.common.Page;
-import io.gravitee.am.repository.exceptions.TechnicalException;
-import io.gravitee.am.repository.management.api.ClientRepository;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.Collections;
-import java.util.Set;
+import io.gravitee.am.repository.management.ClientRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoClientRepositoryTest extends AbstractManagementRepositoryTest {
-
-    @Autowired
-    private ClientRepository clientRepository;
-
-    @Override
-    public String collectionName() {
-        return "clients";
-    }
-
-    @Test
-    public void testFindByDomain() throws TechnicalException {
-        // create client
-        Client client = new Client();
-        client.setClientId("testClientId");
-        client.setDomain("testDomain");
-        clientRepository.create(client).blockingGet();
-
-        // fetch clients
-        TestObserver<Set<Client>> testObserver = clientRepository.findByDomain("testDomain").test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(clients -> clients.size() == 1);
-    }
-
-    @Test
-    public void testFindByDomainPagination() throws TechnicalException {
-        // create client 1
-        Client client = new Client();
-        client.setClientId("testClientId");
-        client.setDomain("testDomainPagination");
-        clientRepository.create(client).blockingGet();
-
-        // create client 2
-        Client client2 = new Client();
-        client2.setClientId("testClientId2");
-        client2.setDomain("testDomainPagination");
-        clientRepository.create(client).blockingGet();
-
-        TestObserver<Page<Client>> testObserver = clientRepository.findByDomain("testDomainPagination", 1, 1).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(pageClients -> pageClients.getTotalCount() == 2 && pageClients.getData().size() == 1);
-    }
-
-    @Test
-    public void testFindById() throws TechnicalException {
-        // create client
-        Client client = new Client();
-        client.setClientId("testClientId");
-        Client clientCreated = clientRepository.create(client).blockingGet();
-
-        // fetch client
-        TestObserver<Client> testObserver = clientRepository.findById(clientCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(c -> c.getClientId().equals("testClientId"));
-    }
-
-    @Test
-    public void testNotFoundById() throws TechnicalException {
-        clientRepository.findById("test").test().assertEmpty();
-    }
-
-    @Test
-    public void testCreate() throws TechnicalException {
-        Client client = new Client();
-        client.setClientId("testClientId");
-        client.setIdTokenCustomClaims(Collections.singletonMap("name", "johndoe"));
-
-        TestObserver<Client> testObserver = clientRepository.create(client).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(c -> c.getClientId().equals(client.getClientId()) && c.getIdTokenCustomClaims().containsKey("name"));
-    }
-
-    @Test
-    public void testUpdate() throws TechnicalException {
-        // create client
-        Client client = new Client();
-        client.setClientId("testClientId");
-        Client clientCreated = clientRepository.create(client).blockingGet();
-
-        // update client
-        Client updatedClient = new Client();
-        updatedClient.setId(clientCreated.getId());
-        updatedClient.setClientId("testUpdatedClientId");
-
-        TestObserver<Client> testObserver = clientRepository.update(updatedClient).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(c -> c.getClientId().equals(updatedClient.getClientId()));
-    }
-
-    @Test
-    public void testDelete() throws TechnicalException {
-        // create client
-        Client client = new Client();
-        client.setClientId("testClientId");
-        Client clientCreated = clientRepository.create(client).blockingGet();
-
-        // fetch client
-        TestObserver<Client> testObserver = clientRepository.findById(clientCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(c -> c.getClientId().equals(client.getClientId()));
-
-        // delete client
-        TestObserver testObserver1 = clientRepository.delete(clientCreated.getId()).test();
-        testObserver1.awaitTerminalEvent();
-
-        // fetch client
-        clientRepository.findById(clientCreated.getId()).test().assertEmpty();
-    }
-
+@ContextConfiguration(classes = ManagementRepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoClientRepositoryTest extends ClientRepositoryTest {
 }
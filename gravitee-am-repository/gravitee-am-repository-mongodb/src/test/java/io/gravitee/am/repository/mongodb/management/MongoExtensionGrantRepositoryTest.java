@@ -15,120 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
-import io.gravitee.am.model.ExtensionGrant;
-import io.gravitee.am.repository.exceptions.TechnicalException;
-import io.gravitee.am.repository.management.api.ExtensionGrantRepository;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.Set;
+import io.gravitee.am.repository.management.ExtensionGrantRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoExtensionGrantRepositoryTest extends AbstractManagementRepositoryTest {
-
-    @Autowired
-    private ExtensionGrantRepository extensionGrantRepository;
-
-    @Override
-    public String collectionName() {
-        return "extension_grants";
-    }
-
-    @Test
-    public void testFindByDomain() throws TechnicalException {
-        // create extension grant
-        ExtensionGrant extensionGrant = new ExtensionGrant();
-        extensionGrant.setName("testName");
-        extensionGrant.setDomain("testDomain");
-        extensionGrantRepository.create(extensionGrant).blockingGet();
-
-        // fetch extension grants
-        TestObserver<Set<ExtensionGrant>> testObserver = extensionGrantRepository.findByDomain("testDomain").test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(extensionGrants -> extensionGrants.size() == 1);
-    }
-
-    @Test
-    public void testFindById() throws TechnicalException {
-        // create extension grant
-        ExtensionGrant extensionGrant = new ExtensionGrant();
-        extensionGrant.setName("testName");
-        ExtensionGrant extensionGrantCreated = extensionGrantRepository.create(extensionGrant).blockingGet();
-
-        // fetch extension grant
-        TestObserver<ExtensionGrant> testObserver = extensionGrantRepository.findById(extensionGrantCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(e -> e.getName().equals("testName"));
-    }
-
-    @Test
-    public void testNotFoundById() throws TechnicalException {
-        extensionGrantRepository.findById("test").test().assertEmpty();
-    }
-
-    @Test
-    public void testCreate() throws TechnicalException {
-        ExtensionGrant extensionGrant = new ExtensionGrant();
-        extensionGrant.setName("testName");
-
-        TestObserver<ExtensionGrant> testObserver = extensionGrantRepository.create(extensionGrant).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(e -> e.getName().equals(extensionGrant.getName()));
-    }
-
-    @Test
-    public void testUpdate() throws TechnicalException {
-        // create extension grant
-        ExtensionGrant extensionGrant = new ExtensionGrant();
-        extensionGrant.setName("testName");
-        ExtensionGrant extensionGrantCreated = extensionGrantRepository.create(extensionGrant).blockingGet();
-
-        // update extension grant
-        ExtensionGrant updatedExtension = new ExtensionGrant();
-        updatedExtension.setId(extensionGrantCreated.getId());
-        updatedExtension.setName("testUpdatedName");
-
-        TestObserver<ExtensionGrant> testObserver = extensionGrantRepository.update(updatedExtension).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(e -> e.getName().equals(updatedExtension.getName()));
-    }
-
-    @Test
-    public void testDelete() throws TechnicalException {
-        // create extension grant
-        ExtensionGrant extensionGrant = new ExtensionGrant();
-        extensionGrant.setName("testName");
-        ExtensionGrant extensionGrantCreated = extensionGrantRepository.create(extensionGrant).blockingGet();
-
-        // fetch extension grant
-        TestObserver<ExtensionGrant> testObserver = extensionGrantRepository.findById(extensionGrantCreated.getId()).test();
-        testObserver.awaitTerminalEvent();
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(e -> e.getName().equals(extensionGrantCreated.getName()));
-
-        // delete extension grant
-        TestObserver testObserver1 = extensionGrantRepository.delete(extensionGrantCreated.getId()).test();
-        testObserver1.awaitTerminalEvent();
-
-        // fetch extension grant
-        extensionGrantRepository.findById(extensionGrantCreated.getId()).test().assertEmpty();
-    }
-
+@ContextConfiguration(classes = ManagementRepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoExtensionGrantRepositoryTest extends ExtensionGrantRepositoryTest {
 }
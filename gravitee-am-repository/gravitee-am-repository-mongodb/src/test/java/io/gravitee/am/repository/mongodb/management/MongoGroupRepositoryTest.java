@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.gravitee.am.model.Group;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.GroupRepositoryTest;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author GraviteeSource Team
+ */
+@ContextConfiguration(classes = ManagementRepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoGroupRepositoryTest extends GroupRepositoryTest {
+
+    @Autowired
+    private MongoDatabase mongoDatabase;
+
+    @Test
+    public void testUpgradeStorage() throws TechnicalException {
+        createLegacyGroup("user-1", "user-2");
+
+        TestObserver<Long> testObserver = groupRepository.upgradeStorage().test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(1L);
+
+        TestObserver<Group> testObserver2 = groupRepository.findById("legacy-group").test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(g -> g.getMembers().size() == 2);
+
+        TestObserver<Long> testObserver3 = groupRepository.upgradeStorage().test();
+        testObserver3.awaitTerminalEvent();
+        testObserver3.assertValue(0L);
+    }
+
+    @Test
+    public void testFindByMember_upgradedStorage() throws TechnicalException {
+        createLegacyGroup("user-1", "user-2");
+        groupRepository.upgradeStorage().blockingGet();
+
+        // the legacy members are no longer queried, the memberships have been moved
+        TestObserver<List<Group>> testObserver = groupRepository.findByMember("user-1").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(groups -> groups.size() == 1 && groups.get(0).getId().equals("legacy-group"));
+    }
+
+    @Test
+    public void testFindById_legacyMembers() throws TechnicalException {
+        createLegacyGroup("user-1", "user-2");
+        groupRepository.addMembers("legacy-group", Arrays.asList("user-2", "user-3")).blockingAwait();
+
+        TestObserver<Group> testObserver = groupRepository.findById("legacy-group").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(g -> g.getMembers().size() == 3 && g.getMembers().containsAll(Arrays.asList("user-1", "user-2", "user-3")));
+    }
+
+    @Test
+    public void testFindByMember_legacyMembers() throws TechnicalException {
+        createLegacyGroup("user-1", "user-2");
+
+        TestObserver<List<Group>> testObserver = groupRepository.findByMember("user-1").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(groups -> groups.size() == 1 && groups.get(0).getId().equals("legacy-group"));
+    }
+
+    @Test
+    public void testUpdate_legacyMembers() throws TechnicalException {
+        createLegacyGroup("user-1", "user-2");
+        Group group = groupRepository.findById("legacy-group").blockingGet();
+        group.setName("renamed");
+
+        TestObserver<Group> testObserver = groupRepository.update(group).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(g -> g.getName().equals("renamed") && g.getMembers().size() == 2 && g.getMembers().containsAll(Arrays.asList("user-1", "user-2")));
+
+        // the members have been moved to the membership collection
+        TestObserver<Long> testObserver2 = groupRepository.countMembers("legacy-group").test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(2L);
+
+        TestObserver<Long> testObserver3 = groupRepository.upgradeStorage().test();
+        testObserver3.awaitTerminalEvent();
+        testObserver3.assertValue(0L);
+    }
+
+    private void createLegacyGroup(String... members) {
+        Document legacyGroup = new Document("_id", "legacy-group")
+                .append("domain", "testDomain")
+                .append("name", "legacy")
+                .append("members", Arrays.asList(members));
+        Observable.fromPublisher(mongoDatabase.getCollection("groups").insertOne(legacyGroup)).blockingSubscribe();
+        ((MongoGroupRepository) groupRepository).checkLegacyMembers().blockingAwait();
+    }
+}
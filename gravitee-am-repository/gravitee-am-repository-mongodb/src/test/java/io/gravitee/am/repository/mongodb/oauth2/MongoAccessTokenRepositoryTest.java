@@ -15,112 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
-import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
-import io.gravitee.am.repository.oauth2.model.AccessToken;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.UUID;
+import io.gravitee.am.repository.oauth2.AccessTokenRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoAccessTokenRepositoryTest extends AbstractOAuth2RepositoryTest {
-
-    @Autowired
-    private AccessTokenRepository accessTokenRepository;
-
-    @Override
-    public String collectionName() {
-        return "access_tokens";
-    }
-
-    @Test
-    public void shouldNotFindToken() {
-        TestObserver<AccessToken> observer = accessTokenRepository.findByToken("unknown-token").test();
-
-        observer.awaitTerminalEvent();
-
-        observer.assertComplete();
-        observer.assertValueCount(0);
-        observer.assertNoErrors();
-    }
-
-    @Test
-    public void shouldFindToken() {
-        AccessToken token = new AccessToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setToken("my-token");
-
-        TestObserver<AccessToken> observer = accessTokenRepository
-                .create(token)
-                .toCompletable()
-                .andThen(accessTokenRepository.findByToken("my-token"))
-                .test();
-
-        observer.awaitTerminalEvent();
-
-        observer.assertComplete();
-        observer.assertValueCount(1);
-        observer.assertNoErrors();
-    }
-
-    @Test
-    public void shouldFindByClientIdAndSubject() {
-        AccessToken token = new AccessToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setToken("my-token");
-        token.setClient("my-client-id");
-        token.setSubject("my-subject");
-
-        TestObserver<AccessToken> observer = accessTokenRepository.create(token)
-                .toCompletable()
-                .andThen(accessTokenRepository.findByClientIdAndSubject("my-client-id", "my-subject"))
-                .test();
-
-
-        observer.awaitTerminalEvent();
-
-        observer.assertComplete();
-        observer.assertNoErrors();
-        observer.assertValue(accessToken -> accessToken.getSubject().equals("my-subject") && accessToken.getClient().equals("my-client-id"));
-    }
-
-    @Test
-    public void shouldFindByClientId() {
-        AccessToken token = new AccessToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setToken("my-token");
-        token.setClient("my-client-id-2");
-
-        TestObserver<AccessToken> observer = accessTokenRepository.create(token)
-                .toCompletable()
-                .andThen(accessTokenRepository.findByClientId("my-client-id-2"))
-                .test();
-
-        observer.awaitTerminalEvent();
-        observer.assertComplete();
-        observer.assertNoErrors();
-        observer.assertValueCount(1);
-    }
-
-    @Test
-    public void shouldCountByClientId() {
-        AccessToken token = new AccessToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setToken("my-token");
-        token.setClient("my-client-id-count");
-
-        TestObserver<Long> observer = accessTokenRepository.create(token)
-                .toCompletable()
-                .andThen(accessTokenRepository.countByClientId("my-client-id-count"))
-                .test();
-
-        observer.awaitTerminalEvent();
-        observer.assertComplete();
-        observer.assertNoErrors();
-        observer.assertValue(new Long(1));
-    }
+@ContextConfiguration(classes = OAuth2RepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoAccessTokenRepositoryTest extends AccessTokenRepositoryTest {
 }
@@ -15,60 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
-import io.gravitee.am.repository.oauth2.api.AuthorizationCodeRepository;
-import io.gravitee.am.repository.oauth2.model.AuthorizationCode;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.gravitee.am.repository.oauth2.AuthorizationCodeRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoAuthorizationCodeRepositoryTest extends AbstractOAuth2RepositoryTest {
-
-    @Autowired
-    private AuthorizationCodeRepository authorizationCodeRepository;
-
-    @Override
-    public String collectionName() {
-        return "authorization_codes";
-    }
-
-    @Test
-    public void shouldStoreCode() {
-        String code = "testCode";
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setCode(code);
-
-        authorizationCodeRepository.create(authorizationCode).blockingGet();
-
-        TestObserver<AuthorizationCode> testObserver = authorizationCodeRepository.findByCode(code).test();
-        testObserver.awaitTerminalEvent();
-
-        testObserver.assertComplete();
-        testObserver.assertNoErrors();
-        testObserver.assertValue(authorizationCode1 -> authorizationCode1.getCode().equals(code));
-    }
-
-    @Test
-    public void shouldNotFindCode() {
-        String code = "unknownCode";
-        authorizationCodeRepository.findByCode(code).test().assertEmpty();
-    }
-
-    @Test
-    public void shouldRemoveCode() {
-        String code = "testCode";
-        AuthorizationCode authorizationCode = new AuthorizationCode();
-        authorizationCode.setId(code);
-        authorizationCode.setCode(code);
-
-        authorizationCodeRepository
-                .create(authorizationCode)
-                .toCompletable()
-                .andThen(authorizationCodeRepository.delete(code))
-                .test().assertEmpty();
-    }
-
+@ContextConfiguration(classes = OAuth2RepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoAuthorizationCodeRepositoryTest extends AuthorizationCodeRepositoryTest {
 }
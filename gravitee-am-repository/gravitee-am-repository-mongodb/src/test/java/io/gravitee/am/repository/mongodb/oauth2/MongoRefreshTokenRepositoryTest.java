@@ -15,69 +15,14 @@
  */
 package io.gravitee.am.repository.mongodb.oauth2;
 
-import io.gravitee.am.repository.oauth2.model.RefreshToken;
-import io.reactivex.observers.TestObserver;
-import org.junit.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.UUID;
+import io.gravitee.am.repository.oauth2.RefreshTokenRepositoryTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class MongoRefreshTokenRepositoryTest extends AbstractOAuth2RepositoryTest {
-
-    @Autowired
-    private MongoRefreshTokenRepository refreshTokenRepository;
-
-    @Override
-    public String collectionName() {
-        return "refresh_tokens";
-    }
-
-    @Test
-    public void shouldNotFindToken() {
-        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken("unknown-token").test();
-
-        observer.awaitTerminalEvent();
-
-        observer.assertComplete();
-        observer.assertValueCount(0);
-        observer.assertNoErrors();
-    }
-
-    @Test
-    public void shouldFindToken() {
-        RefreshToken token = new RefreshToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setToken("my-token");
-
-        TestObserver<RefreshToken> observer = refreshTokenRepository
-                .create(token)
-                .toCompletable()
-                .andThen(refreshTokenRepository.findByToken("my-token"))
-                .test();
-
-        observer.awaitTerminalEvent();
-
-        observer.assertComplete();
-        observer.assertValueCount(1);
-        observer.assertNoErrors();
-    }
-
-    @Test
-    public void shouldDelete() {
-        RefreshToken token = new RefreshToken();
-        token.setId(UUID.randomUUID().toString());
-        token.setId("my-token");
-        token.setToken("my-token");
-
-        refreshTokenRepository
-                .create(token)
-                .toCompletable()
-                .andThen(refreshTokenRepository.delete("my-token"))
-                .andThen(refreshTokenRepository.findByToken("my-token"))
-                .test().assertEmpty();
-    }
+@ContextConfiguration(classes = OAuth2RepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class MongoRefreshTokenRepositoryTest extends RefreshTokenRepositoryTest {
 }
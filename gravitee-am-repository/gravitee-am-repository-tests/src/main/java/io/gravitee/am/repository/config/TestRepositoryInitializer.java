@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.config;
+
+/**
+ * Prepare and clean the storage of a repository implementation around each test of the shared test suites.
+ *
+ * Each repository implementation registers one in the test context it runs the suites with.
+ *
+ * @author GraviteeSource Team
+ */
+public interface TestRepositoryInitializer {
+
+    /**
+     * Called before each test, once the repositories have been created.
+     */
+    void setUp();
+
+    /**
+     * Called after each test, it must remove all the data created by the test.
+     */
+    void tearDown();
+}
@@ -13,39 +13,36 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.gravitee.am.repository.mongodb.management;
+package io.gravitee.am.repository.management;
 
-import com.mongodb.reactivestreams.client.MongoDatabase;
-import io.reactivex.Observable;
-import org.bson.Document;
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
-import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
- * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
+ * Base class of the management repository test suites.
+ *
+ * Repository implementations extend the suites and declare the test context to run them with, the context must
+ * provide the repositories under test and a {@link TestRepositoryInitializer}.
+ *
  * @author GraviteeSource Team
  */
 @RunWith(SpringJUnit4ClassRunner.class)
-@ContextConfiguration(classes = ManagementRepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
 public abstract class AbstractManagementRepositoryTest {
 
     @Autowired
-    private MongoDatabase mongoDatabase;
+    private TestRepositoryInitializer testRepositoryInitializer;
 
     @Before
-    public void before() throws InterruptedException {
-        Thread.sleep(1000l);
+    public void setUp() {
+        testRepositoryInitializer.setUp();
     }
 
     @After
-    public void after() {
-        Observable.fromPublisher(mongoDatabase.getCollection(collectionName()).deleteMany(new Document())).subscribe();
+    public void tearDown() {
+        testRepositoryInitializer.tearDown();
     }
-
-    public abstract String collectionName();
 }
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.management;
+
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.GroupRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author GraviteeSource Team
+ */
+public abstract class GroupRepositoryTest extends AbstractManagementRepositoryTest {
+
+    @Autowired
+    protected GroupRepository groupRepository;
+
+    @Test
+    public void testCreate_withMembers() throws TechnicalException {
+        Group groupCreated = groupRepository.create(group("testName", "user-2", "user-1")).blockingGet();
+
+        TestObserver<Group> testObserver = groupRepository.findById(groupCreated.getId()).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(g -> g.getMembers().size() == 2 && g.getMembers().containsAll(Arrays.asList("user-1", "user-2")));
+    }
+
+    @Test
+    public void testUpdate_members() throws TechnicalException {
+        Group groupCreated = groupRepository.create(group("testName", "user-1", "user-2")).blockingGet();
+
+        Group updatedGroup = group("testName", "user-2", "user-3");
+        updatedGroup.setId(groupCreated.getId());
+        TestObserver<Group> testObserver = groupRepository.update(updatedGroup).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(g -> g.getMembers().size() == 2 && g.getMembers().containsAll(Arrays.asList("user-2", "user-3")));
+    }
+
+    @Test
+    public void testFindByMember() throws TechnicalException {
+        Group group1 = groupRepository.create(group("group1", "user-1", "user-2")).blockingGet();
+        groupRepository.create(group("group2", "user-2")).blockingGet();
+
+        TestObserver<List<Group>> testObserver = groupRepository.findByMember("user-2").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(groups -> groups.size() == 2);
+
+        TestObserver<Map<String, List<Group>>> testObserver2 = groupRepository.findByMembers(Arrays.asList("user-1", "user-2", "user-3")).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertNoErrors();
+        testObserver2.assertValue(groups -> groups.size() == 2
+                && groups.get("user-1").size() == 1 && groups.get("user-1").get(0).getId().equals(group1.getId())
+                && groups.get("user-2").size() == 2
+                && !groups.containsKey("user-3"));
+    }
+
+    @Test
+    public void testFindByDomain_membersNotLoaded() throws TechnicalException {
+        groupRepository.create(group("testName", "user-1", "user-2")).blockingGet();
+
+        TestObserver<List<Group>> testObserver = groupRepository.findByDomain("testDomain").test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(groups -> groups.size() == 1 && groups.get(0).getMembers() == null);
+
+        TestObserver<Page<Group>> testObserver2 = groupRepository.findByDomain("testDomain", 0, 10).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertNoErrors();
+        testObserver2.assertValue(page -> page.getTotalCount() == 1 && page.getData().iterator().next().getMembers() == null);
+    }
+
+    @Test
+    public void testFindMembers() throws TechnicalException {
+        Group group = groupRepository.create(group("testName", "user-3", "user-1", "user-2")).blockingGet();
+
+        TestObserver<Page<String>> testObserver = groupRepository.findMembers(group.getId(), 1, 2).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(page -> page.getTotalCount() == 3 && page.getData().equals(Collections.singletonList("user-3")));
+
+        TestObserver<List<String>> testObserver2 = groupRepository.findMembers(group.getId(), "user-1", 10).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertNoErrors();
+        testObserver2.assertValue(Arrays.asList("user-2", "user-3"));
+    }
+
+    @Test
+    public void testAddAndRemoveMembers() throws TechnicalException {
+        Group group = groupRepository.create(group("testName", "user-1")).blockingGet();
+
+        groupRepository.addMembers(group.getId(), Arrays.asList("user-1", "user-2")).blockingAwait();
+        groupRepository.removeMembers(group.getId(), Collections.singletonList("user-1")).blockingAwait();
+
+        TestObserver<Long> testObserver = groupRepository.countMembers(group.getId()).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertValue(1L);
+    }
+
+    @Test
+    public void testDelete() throws TechnicalException {
+        Group group = groupRepository.create(group("testName", "user-1")).blockingGet();
+
+        groupRepository.delete(group.getId()).blockingAwait();
+
+        TestObserver<Group> testObserver = groupRepository.findById(group.getId()).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNoValues();
+
+        TestObserver<Long> testObserver2 = groupRepository.countMembers(group.getId()).test();
+        testObserver2.awaitTerminalEvent();
+        testObserver2.assertValue(0L);
+    }
+
+    private Group group(String name, String... members) {
+        Group group = new Group();
+        group.setName(name);
+        group.setDomain("testDomain");
+        group.setMembers(Arrays.asList(members));
+        return group;
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.management;
+
+import io.gravitee.am.model.Role;
+import io.gravitee.am.repository.exceptions.TechnicalException;
+import io.gravitee.am.repository.management.api.RoleRepository;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public abstract class RoleRepositoryTest extends AbstractManagementRepositoryTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    public void testFindByDomain() throws TechnicalException {
+        // create role
+        Role role = new Role();
+        role.setName("testName");
+        role.setDomain("testDomain");
+        roleRepository.create(role).blockingGet();
+
+        // fetch roles
+        TestObserver<Set<Role>> testObserver = roleRepository.findByDomain("testDomain").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(roles -> roles.size() == 1);
+    }
+
+    @Test
+    public void testFindById() throws TechnicalException {
+        // create role
+        Role role = new Role();
+        role.setName("testName");
+        Role roleCreated = roleRepository.create(role).blockingGet();
+
+        // fetch role
+        TestObserver<Role> testObserver = roleRepository.findById(roleCreated.getId()).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(r -> r.getName().equals("testName"));
+    }
+
+    @Test
+    public void testNotFoundById() throws TechnicalException {
+        TestObserver emptyObserver = roleRepository.findById("test").test();
+        emptyObserver.awaitTerminalEvent();
+        emptyObserver.assertNoValues();
+    }
+
+    @Test
+    public void testCreate() throws TechnicalException {
+        Role role = new Role();
+        role.setName("testName");
+        TestObserver<Role> testObserver = roleRepository.create(role).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(r -> r.getName().equals(role.getName()));
+    }
+
+    @Test
+    public void testUpdate() throws TechnicalException {
+        // create role
+        Role role = new Role();
+        role.setName("testName");
+        Role roleCreated = roleRepository.create(role).blockingGet();
+
+        // update role
+        Role updatedRole = new Role();
+        updatedRole.setId(roleCreated.getId());
+        updatedRole.setName("testUpdatedName");
+
+        TestObserver<Role> testObserver = roleRepository.update(updatedRole).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(r -> r.getName().equals(updatedRole.getName()));
+    }
+
+    @Test
+    public void testDelete() throws TechnicalException {
+        // create role
+        Role role = new Role();
+        role.setName("testName");
+        Role roleCreated = roleRepository.create(role).blockingGet();
+
+        // fetch role
+        TestObserver<Role> testObserver = roleRepository.findById(roleCreated.getId()).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(r -> r.getName().equals(roleCreated.getName()));
+
+        // delete role
+        TestObserver testObserver1 = roleRepository.delete(roleCreated.getId()).test();
+        testObserver1.awaitTerminalEvent();
+
+        // fetch role
+        TestObserver emptyObserver = roleRepository.findById(roleCreated.getId()).test();
+        emptyObserver.awaitTerminalEvent();
+        emptyObserver.assertNoValues();
+    }
+
+    @Test
+    public void testRemovePermission() throws TechnicalException {
+        // create roles
+        Role role = new Role();
+        role.setName("testName");
+        role.setDomain("testDomain");
+        role.setPermissions(Arrays.asList("read", "write"));
+        Role roleCreated = roleRepository.create(role).blockingGet();
+
+        Role otherDomainRole = new Role();
+        otherDomainRole.setName("testName");
+        otherDomainRole.setDomain("otherDomain");
+        otherDomainRole.setPermissions(Arrays.asList("read", "write"));
+        Role otherDomainRoleCreated = roleRepository.create(otherDomainRole).blockingGet();
+
+        // remove permission
+        TestObserver<Long> testObserver = roleRepository.removePermission("testDomain", "write").test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+        testObserver.assertValue(1L);
+
+        // only the roles of the domain are updated
+        assertEquals(Arrays.asList("read"), roleRepository.findById(roleCreated.getId()).blockingGet().getPermissions());
+        assertEquals(Arrays.asList("read", "write"), roleRepository.findById(otherDomainRoleCreated.getId()).blockingGet().getPermissions());
+    }
+
+}
@@ -13,36 +13,36 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.gravitee.am.repository.mongodb.oauth2;
+package io.gravitee.am.repository.oauth2;
 
-import com.mongodb.reactivestreams.client.MongoDatabase;
-import io.reactivex.Observable;
-import junit.framework.TestCase;
-import org.bson.Document;
+import io.gravitee.am.repository.config.TestRepositoryInitializer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
-import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
+/**
+ * Base class of the OAuth2 repository test suites.
+ *
+ * Repository implementations extend the suites and declare the test context to run them with, the context must
+ * provide the repositories under test and a {@link TestRepositoryInitializer}.
+ *
+ * @author GraviteeSource Team
+ */
 @RunWith(SpringJUnit4ClassRunner.class)
-@ContextConfiguration(classes = OAuth2RepositoryTestConfiguration.class, loader = AnnotationConfigContextLoader.class)
-public abstract class AbstractOAuth2RepositoryTest extends TestCase {
+public abstract class AbstractOAuth2RepositoryTest {
 
     @Autowired
-    private MongoDatabase mongoDatabase;
+    private TestRepositoryInitializer testRepositoryInitializer;
 
     @Before
-    public void before() throws InterruptedException {
-        Thread.sleep(1000l);
+    public void setUp() {
+        testRepositoryInitializer.setUp();
     }
 
     @After
-    public void after() {
-        Observable.fromPublisher(mongoDatabase.getCollection(collectionName()).deleteMany(new Document())).subscribe();
+    public void tearDown() {
+        testRepositoryInitializer.tearDown();
     }
-
-    public abstract String collectionName();
 }
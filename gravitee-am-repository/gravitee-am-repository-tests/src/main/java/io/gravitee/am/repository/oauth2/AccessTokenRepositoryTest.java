@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.oauth2;
+
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public abstract class AccessTokenRepositoryTest extends AbstractOAuth2RepositoryTest {
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Test
+    public void shouldNotFindToken() {
+        TestObserver<AccessToken> observer = accessTokenRepository.findByToken("unknown-token").test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertValueCount(0);
+        observer.assertNoErrors();
+    }
+
+    @Test
+    public void shouldFindToken() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token");
+
+        TestObserver<AccessToken> observer = accessTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(accessTokenRepository.findByToken("my-token"))
+                .test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertValueCount(1);
+        observer.assertNoErrors();
+    }
+
+    @Test
+    public void shouldFindByClientIdAndSubject() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token");
+        token.setClient("my-client-id");
+        token.setSubject("my-subject");
+
+        TestObserver<AccessToken> observer = accessTokenRepository.create(token)
+                .toCompletable()
+                .andThen(accessTokenRepository.findByClientIdAndSubject("my-client-id", "my-subject"))
+                .test();
+
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(accessToken -> accessToken.getSubject().equals("my-subject") && accessToken.getClient().equals("my-client-id"));
+    }
+
+    @Test
+    public void shouldFindByClientId() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token");
+        token.setClient("my-client-id-2");
+
+        TestObserver<AccessToken> observer = accessTokenRepository.create(token)
+                .toCompletable()
+                .andThen(accessTokenRepository.findByClientId("my-client-id-2"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValueCount(1);
+    }
+
+    @Test
+    public void shouldCountByClientId() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token");
+        token.setClient("my-client-id-count");
+
+        TestObserver<Long> observer = accessTokenRepository.create(token)
+                .toCompletable()
+                .andThen(accessTokenRepository.countByClientId("my-client-id-count"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(new Long(1));
+    }
+
+    @Test
+    public void shouldDeleteByAuthorizationCode() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token-code-1");
+        token.setAuthorizationCode("my-code");
+
+        AccessToken token2 = new AccessToken();
+        token2.setId(UUID.randomUUID().toString());
+        token2.setToken("my-token-code-2");
+        token2.setAuthorizationCode("my-code");
+
+        AccessToken otherToken = new AccessToken();
+        otherToken.setId(UUID.randomUUID().toString());
+        otherToken.setToken("my-token-code-3");
+        otherToken.setAuthorizationCode("my-other-code");
+
+        accessTokenRepository.create(token).blockingGet();
+        accessTokenRepository.create(token2).blockingGet();
+        accessTokenRepository.create(otherToken).blockingGet();
+
+        TestObserver<AccessToken> observer = accessTokenRepository.deleteByAuthorizationCode("my-code")
+                .andThen(accessTokenRepository.findByAuthorizationCode("my-code"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertNoValues();
+
+        TestObserver<AccessToken> otherCodeObserver = accessTokenRepository.findByToken("my-token-code-3").test();
+        otherCodeObserver.awaitTerminalEvent();
+        otherCodeObserver.assertValueCount(1);
+    }
+
+    @Test
+    public void shouldDeleteByDomainAndSubject() {
+        AccessToken token = new AccessToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token-subject-1");
+        token.setDomain("my-domain");
+        token.setClient("my-client-id");
+        token.setSubject("my-subject");
+
+        AccessToken otherDomainToken = new AccessToken();
+        otherDomainToken.setId(UUID.randomUUID().toString());
+        otherDomainToken.setToken("my-token-subject-2");
+        otherDomainToken.setDomain("my-other-domain");
+        otherDomainToken.setClient("my-client-id");
+        otherDomainToken.setSubject("my-subject");
+
+        accessTokenRepository.create(token).blockingGet();
+        accessTokenRepository.create(otherDomainToken).blockingGet();
+
+        TestObserver<AccessToken> observer = accessTokenRepository.deleteByDomainAndSubject("my-domain", "my-subject")
+                .andThen(accessTokenRepository.findByClientIdAndSubject("my-client-id", "my-subject"))
+                .test();
+
+        observer.awaitTerminalEvent();
+        observer.assertComplete();
+        observer.assertNoErrors();
+        observer.assertValue(accessToken -> accessToken.getToken().equals("my-token-subject-2"));
+    }
+}
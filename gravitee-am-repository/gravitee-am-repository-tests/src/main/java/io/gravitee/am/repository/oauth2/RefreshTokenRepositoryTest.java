@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.oauth2;
+
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public abstract class RefreshTokenRepositoryTest extends AbstractOAuth2RepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    public void shouldNotFindToken() {
+        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken("unknown-token").test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertValueCount(0);
+        observer.assertNoErrors();
+    }
+
+    @Test
+    public void shouldFindToken() {
+        RefreshToken token = new RefreshToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setToken("my-token");
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(refreshTokenRepository.findByToken("my-token"))
+                .test();
+
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertValueCount(1);
+        observer.assertNoErrors();
+    }
+
+    @Test
+    public void shouldDelete() {
+        RefreshToken token = new RefreshToken();
+        token.setId(UUID.randomUUID().toString());
+        token.setId("my-token");
+        token.setToken("my-token");
+
+        TestObserver<RefreshToken> observer = refreshTokenRepository
+                .create(token)
+                .toCompletable()
+                .andThen(refreshTokenRepository.delete("my-token"))
+                .andThen(refreshTokenRepository.findByToken("my-token"))
+                .test();
+        observer.awaitTerminalEvent();
+        observer.assertNoValues();
+    }
+
+    @Test
+    public void shouldDeleteByTokens() {
+        RefreshToken token = new RefreshToken();
+        token.setToken("my-token-1");
+
+        RefreshToken token2 = new RefreshToken();
+        token2.setToken("my-token-2");
+
+        refreshTokenRepository.create(token).blockingGet();
+        refreshTokenRepository.create(token2).blockingGet();
+
+        refreshTokenRepository.deleteByTokens(Arrays.asList("my-token-1", "my-token-2")).blockingAwait();
+
+        assertNotFound("my-token-1");
+        assertNotFound("my-token-2");
+    }
+
+    @Test
+    public void shouldDeleteByDomainAndClientId() {
+        RefreshToken token = new RefreshToken();
+        token.setToken("my-token-client-1");
+        token.setDomain("my-domain");
+        token.setClient("my-client-id");
+
+        RefreshToken otherClientToken = new RefreshToken();
+        otherClientToken.setToken("my-token-client-2");
+        otherClientToken.setDomain("my-domain");
+        otherClientToken.setClient("my-other-client-id");
+
+        refreshTokenRepository.create(token).blockingGet();
+        refreshTokenRepository.create(otherClientToken).blockingGet();
+
+        refreshTokenRepository.deleteByDomainAndClientId("my-domain", "my-client-id").blockingAwait();
+
+        assertNotFound("my-token-client-1");
+        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken("my-token-client-2").test();
+        observer.awaitTerminalEvent();
+        observer.assertValueCount(1);
+    }
+
+    private void assertNotFound(String token) {
+        TestObserver<RefreshToken> observer = refreshTokenRepository.findByToken(token).test();
+        observer.awaitTerminalEvent();
+        observer.assertNoValues();
+    }
+}
@@ -38,6 +38,11 @@ public interface GroupService {
 
     Single<Page<User>> findMembers(String groupId, int page, int size);
 
+    /**
+     * List the members of a group after the given member id (keyset pagination).
+     */
+    Single<Page<User>> findMembers(String groupId, String after, int size);
+
     Maybe<Group> findByDomainAndName(String domain, String groupName);
 
     Maybe<Group> findById(String id);
@@ -48,4 +53,5 @@ public interface GroupService {
 
     Completable delete(String groupId);
 
+    Single<Long> upgradeStorage();
 }
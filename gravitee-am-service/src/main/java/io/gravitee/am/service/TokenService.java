@@ -27,4 +27,11 @@ public interface TokenService {
     Single<TotalToken> findTotalTokensByDomain(String domain);
 
     Single<TotalToken> findTotalTokens();
+
+    /**
+     * Convert the access and refresh tokens stored with a previous storage schema to the current one.
+     *
+     * @return the number of converted tokens
+     */
+    Single<Long> upgradeStorage();
 }
@@ -24,6 +24,7 @@ import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.repository.management.api.ClientRepository;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.ClientService;
 import io.gravitee.am.service.DomainService;
 import io.gravitee.am.service.IdentityProviderService;
@@ -79,6 +80,9 @@ public class ClientServiceImpl implements ClientService {
     @Autowired
     private AccessTokenRepository accessTokenRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Autowired
     private DomainService domainService;
 
@@ -356,6 +360,7 @@ public class ClientServiceImpl implements ClientService {
                     client.setIdTokenCustomClaims(updateClient.getIdTokenCustomClaims());
                     client.setCertificate(updateClient.getCertificate());
                     client.setEnhanceScopesWithUserPermissions(updateClient.isEnhanceScopesWithUserPermissions());
+                    client.setRateLimit(updateClient.getRateLimit());
                     return client;
                 })
                 .map(ResponseTypeUtils::applyDefaultResponseType)
@@ -399,7 +404,11 @@ public class ClientServiceImpl implements ClientService {
                 .flatMapCompletable(client -> {
                     // Reload domain to take care about delete client
                     Event event = new Event(Type.CLIENT, new Payload(client.getId(), client.getDomain(), Action.DELETE));
-                    return clientRepository.delete(clientId).andThen(domainService.reload(client.getDomain(), event).toCompletable());
+                    return clientRepository.delete(clientId)
+                            // revoke the tokens issued to the client
+                            .andThen(accessTokenRepository.deleteByDomainAndClientId(client.getDomain(), client.getClientId()))
+                            .andThen(refreshTokenRepository.deleteByDomainAndClientId(client.getDomain(), client.getClientId()))
+                            .andThen(domainService.reload(client.getDomain(), event).toCompletable());
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
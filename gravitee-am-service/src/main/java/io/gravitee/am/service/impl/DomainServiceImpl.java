@@ -175,6 +175,7 @@ public class DomainServiceImpl implements DomainService {
                     domain.setOidc(oldDomain.getOidc());
                     domain.setScim(updateDomain.getScim());
                     domain.setLoginSettings(updateDomain.getLoginSettings());
+                    domain.setRateLimit(updateDomain.getRateLimit());
 
                     return domainRepository.update(domain);
                 })
@@ -36,6 +36,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -79,18 +82,23 @@ public class GroupServiceImpl implements GroupService {
     @Override
     public Single<Page<User>> findMembers(String groupId, int page, int size) {
         LOGGER.debug("Find members for group : {}", groupId);
-        return findById(groupId)
-                .switchIfEmpty(Single.error(new GroupNotFoundException(groupId)))
-                .flatMap(group -> {
-                    if (group.getMembers() == null || group.getMembers().isEmpty()) {
-                        return Single.just(new Page<>(null, page, size));
-                    } else {
-                        // get members
-                        List<String> sortedMembers = group.getMembers().stream().sorted().collect(Collectors.toList());
-                        List<String> pagedMemberIds = sortedMembers.subList(Math.min(sortedMembers.size(), page), Math.min(sortedMembers.size(), page + size));
-                        return userService.findByIdIn(pagedMemberIds).map(users ->  new Page<>(users, page, pagedMemberIds.size()));
-                    }
-                });
+        return groupRepository.findMembers(groupId, page, size)
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to find members of group {}", groupId, ex);
+                    return Single.error(new TechnicalManagementException(String.format("An error occurs while trying to find members of group %s", groupId), ex));
+                })
+                .flatMap(memberPage -> findMembers(groupId, memberPage.getData(), page, memberPage.getTotalCount()));
+    }
+
+    @Override
+    public Single<Page<User>> findMembers(String groupId, String after, int size) {
+        LOGGER.debug("Find members for group : {} after {}", groupId, after);
+        return Single.zip(groupRepository.findMembers(groupId, after, size), groupRepository.countMembers(groupId), AbstractMap.SimpleEntry::new)
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to find members of group {}", groupId, ex);
+                    return Single.error(new TechnicalManagementException(String.format("An error occurs while trying to find members of group %s", groupId), ex));
+                })
+                .flatMap(members -> findMembers(groupId, members.getKey(), 0, members.getValue()));
     }
 
     @Override
@@ -202,6 +210,29 @@ public class GroupServiceImpl implements GroupService {
                 });
     }
 
+    @Override
+    public Single<Long> upgradeStorage() {
+        LOGGER.debug("Upgrade groups storage");
+        return groupRepository.upgradeStorage()
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to upgrade groups storage", ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to upgrade groups storage", ex));
+                });
+    }
+
+    private Single<Page<User>> findMembers(String groupId, Collection<String> memberIds, int page, long totalCount) {
+        if (totalCount == 0) {
+            // group without members or unknown group
+            return findById(groupId)
+                    .switchIfEmpty(Single.error(new GroupNotFoundException(groupId)))
+                    .map(group -> new Page<User>(null, page, totalCount));
+        }
+        if (memberIds.isEmpty()) {
+            return Single.just(new Page<>(null, page, totalCount));
+        }
+        return userService.findByIdIn(new ArrayList<>(memberIds)).map(users -> new Page<>(users, page, totalCount));
+    }
+
     private Single<Group> setMembers(Group group) {
         List<String> userMembers = group.getMembers() != null ? group.getMembers().stream().filter(member -> member != null).distinct().collect(Collectors.toList()) : null;
         if (userMembers != null) {
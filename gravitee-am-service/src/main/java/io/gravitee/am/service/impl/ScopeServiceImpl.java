@@ -15,11 +15,16 @@
  */
 package io.gravitee.am.service.impl;
 
+import io.gravitee.am.model.common.event.Action;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.common.event.Type;
 import io.gravitee.am.model.oauth2.Scope;
+import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.management.api.RoleRepository;
 import io.gravitee.am.repository.management.api.ScopeRepository;
 import io.gravitee.am.repository.oauth2.api.ScopeApprovalRepository;
-import io.gravitee.am.service.ClientService;
-import io.gravitee.am.service.RoleService;
+import io.gravitee.am.service.DomainService;
 import io.gravitee.am.service.ScopeService;
 import io.gravitee.am.service.exception.AbstractManagementException;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
@@ -29,15 +34,12 @@ import io.gravitee.am.service.exception.SystemScopeDeleteException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
 import io.gravitee.am.service.model.NewScope;
 import io.gravitee.am.service.model.NewSystemScope;
-import io.gravitee.am.service.model.PatchClient;
 import io.gravitee.am.service.model.UpdateClient;
-import io.gravitee.am.service.model.UpdateRole;
 import io.gravitee.am.service.model.UpdateScope;
 import io.gravitee.am.service.model.UpdateSystemScope;
 import io.gravitee.common.utils.UUID;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +48,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -71,10 +72,13 @@ public class ScopeServiceImpl implements ScopeService {
     private ScopeApprovalRepository scopeApprovalRepository;
 
     @Autowired
-    private RoleService roleService;
+    private RoleRepository roleRepository;
 
     @Autowired
-    private ClientService clientService;
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private DomainService domainService;
 
     @Override
     public Maybe<Scope> findById(String id) {
@@ -204,40 +208,17 @@ public class ScopeServiceImpl implements ScopeService {
                     return Single.just(scope);
                 })
                 .flatMapCompletable(scope ->
-
-                        Completable.fromSingle(
-                                // 1_ Remove permissions from role
-                                roleService.findByDomain(scope.getDomain())
-                                        .flatMapObservable(roles -> Observable.fromIterable(roles.stream()
-                                                .filter(role -> role.getPermissions() != null && role.getPermissions().contains(scope.getKey()))
-                                                .collect(Collectors.toList())))
-                                        .flatMapSingle(role -> {
-                                            role.getPermissions().remove(scope.getKey());
-                                            UpdateRole updatedRole = new UpdateRole();
-                                            updatedRole.setName(role.getName());
-                                            updatedRole.setDescription(role.getDescription());
-                                            updatedRole.setPermissions(role.getPermissions());
-                                            // Save role
-                                            return roleService.update(scope.getDomain(), role.getId(), updatedRole);
-                                        }).toList())
-                                .andThen(
-                                        // 2_ Remove scopes from client
-                                        clientService.findByDomain(scope.getDomain())
-                                                .flatMapObservable(clients -> Observable.fromIterable(clients.stream()
-                                                        .filter(client -> client.getScopes() != null && client.getScopes().contains(scope.getKey()))
-                                                        .collect(Collectors.toList())))
-                                                .flatMapSingle(client -> {
-                                                    // Remove scope from client
-                                                    client.getScopes().remove(scope.getKey());
-                                                    // Then patch
-                                                    PatchClient patchClient = new PatchClient();
-                                                    patchClient.setScopes(Optional.of(client.getScopes()));
-                                                    return clientService.patch(scope.getDomain(), client.getId(), patchClient);
-                                                }).toList()).toCompletable()
-                                // 3_ Remove scopes from scope_approvals
-                                .andThen(scopeApprovalRepository.delete(scope.getDomain(), scope.getKey()))
-                                // 4_ Delete scope
-                                .andThen(scopeRepository.delete(scopeId)))
+                        // 1_ Remove permissions from roles
+                        roleRepository.removePermission(scope.getDomain(), scope.getKey())
+                                // 2_ Remove scopes from clients
+                                .flatMap(updatedRoles -> clientRepository.removeScope(scope.getDomain(), scope.getKey()))
+                                .flatMapCompletable(updatedClients ->
+                                        // 3_ Remove scopes from scope_approvals
+                                        scopeApprovalRepository.delete(scope.getDomain(), scope.getKey())
+                                                // 4_ Delete scope
+                                                .andThen(scopeRepository.delete(scopeId))
+                                                // 5_ Reload the domain once so that the gateway picks up all the updated clients
+                                                .andThen(updatedClients > 0 ? reloadDomain(scope.getDomain()) : Completable.complete())))
                                 .onErrorResumeNext(ex -> {
                                     if (ex instanceof AbstractManagementException) {
                                         return Completable.error(ex);
@@ -249,6 +230,11 @@ public class ScopeServiceImpl implements ScopeService {
                                 });
     }
 
+    private Completable reloadDomain(String domain) {
+        Event event = new Event(Type.DOMAIN, new Payload(domain, domain, Action.UPDATE));
+        return domainService.reload(domain, event).toCompletable();
+    }
+
     @Override
     public Single<Set<Scope>> findByDomain(String domain) {
         LOGGER.debug("Find scopes by domain", domain);
@@ -16,6 +16,7 @@
 package io.gravitee.am.service.impl;
 
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.ClientService;
 import io.gravitee.am.service.TokenService;
 import io.gravitee.am.service.exception.TechnicalManagementException;
@@ -42,6 +43,9 @@ public class TokenServiceImpl implements TokenService {
     @Autowired
     private AccessTokenRepository accessTokenRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Override
     public Single<TotalToken> findTotalTokensByDomain(String domain) {
         LOGGER.debug("Find total tokens by domain: {}", domain);
@@ -78,4 +82,15 @@ public class TokenServiceImpl implements TokenService {
                     return Single.error(new TechnicalManagementException("An error occurs while trying to find total tokens", ex));
                 });
     }
+
+    @Override
+    public Single<Long> upgradeStorage() {
+        LOGGER.debug("Upgrade tokens storage");
+        return accessTokenRepository.upgradeStorage()
+                .flatMap(accessTokens -> refreshTokenRepository.upgradeStorage().map(refreshTokens -> accessTokens + refreshTokens))
+                .onErrorResumeNext(ex -> {
+                    LOGGER.error("An error occurs while trying to upgrade tokens storage", ex);
+                    return Single.error(new TechnicalManagementException("An error occurs while trying to upgrade tokens storage", ex));
+                });
+    }
 }
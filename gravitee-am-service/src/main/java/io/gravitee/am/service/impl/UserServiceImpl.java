@@ -16,6 +16,7 @@
 package io.gravitee.am.service.impl;
 
 import io.gravitee.am.common.oauth2.Parameters;
+import io.gravitee.am.model.Group;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.management.api.UserRepository;
@@ -30,7 +31,6 @@ import io.gravitee.am.service.model.UpdateUser;
 import io.gravitee.common.utils.UUID;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -258,16 +258,14 @@ public class UserServiceImpl implements UserService {
         if (idpUser.getAdditionalInformation() != null && idpUser.getAdditionalInformation().containsKey(GROUP_MAPPING_ATTRIBUTE)) {
             Map<String, List<String>> groupMapping = (Map<String, List<String>>) idpUser.getAdditionalInformation().get(GROUP_MAPPING_ATTRIBUTE);
             // for each group if current user is member of one of these groups add corresponding role to the user
-            return Observable.fromIterable(groupMapping.entrySet())
-                    .flatMapSingle(entry -> groupRepository.findByIdIn(entry.getValue())
-                            .map(groups -> groups
-                                    .stream()
-                                    .filter(group -> group.getMembers().contains(user.getId()))
-                                    .findFirst())
-                            .map(optionalGroup -> optionalGroup.isPresent() ? Optional.of(entry.getKey()) : Optional.<String>empty()))
-                    .toList()
-                    .map(optionals -> {
-                        List<String> roles = optionals.stream().filter(Optional::isPresent).map(opt -> opt.get()).collect(Collectors.toList());
+            return groupRepository.findByMember(user.getId())
+                    .map(groups -> {
+                        Set<String> groupIds = groups.stream().map(Group::getId).collect(Collectors.toSet());
+                        List<String> roles = groupMapping.entrySet()
+                                .stream()
+                                .filter(entry -> entry.getValue().stream().anyMatch(groupIds::contains))
+                                .map(Map.Entry::getKey)
+                                .collect(Collectors.toList());
                         user.setRoles(roles);
                         return user;
                     });
@@ -16,6 +16,7 @@
 package io.gravitee.am.service.model;
 
 import io.gravitee.am.model.Client;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.gravitee.am.service.utils.SetterUtils;
 
@@ -79,6 +80,7 @@ public class PatchClient {
     private Optional<Set<String>> oauth2Identities;
     private Optional<String> certificate;
     private Optional<Boolean> enhanceScopesWithUserPermissions;
+    private Optional<RateLimitSettings> rateLimit;
 
     public Optional<List<String>> getRedirectUris() {
         return redirectUris;
@@ -464,6 +466,14 @@ public class PatchClient {
         this.enhanceScopesWithUserPermissions = enhanceScopesWithUserPermissions;
     }
 
+    public Optional<RateLimitSettings> getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(Optional<RateLimitSettings> rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     public Client patch(Client toPatch) {
 
         SetterUtils.safeSet(toPatch::setRedirectUris, this.getRedirectUris());
@@ -514,6 +524,7 @@ public class PatchClient {
         SetterUtils.safeSet(toPatch::setOauth2Identities, this.getOauth2Identities());
         SetterUtils.safeSet(toPatch::setCertificate, this.getCertificate());
         SetterUtils.safeSet(toPatch::setEnhanceScopesWithUserPermissions, this.getEnhanceScopesWithUserPermissions(), boolean.class);
+        SetterUtils.safeSet(toPatch::setRateLimit, this.getRateLimit());
 
         return toPatch;
     }
@@ -18,6 +18,7 @@ package io.gravitee.am.service.model;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.login.LoginSettings;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.oidc.OIDCSettings;
 import io.gravitee.am.model.scim.SCIMSettings;
 import io.gravitee.am.service.model.openid.PatchOIDCSettings;
@@ -45,6 +46,7 @@ public class PatchDomain {
     private Optional<PatchOIDCSettings> oidc;
     private Optional<SCIMSettings> scim;
     private Optional<LoginSettings> loginSettings;
+    private Optional<RateLimitSettings> rateLimit;
 
     public Optional<String> getName() {
         return name;
@@ -118,6 +120,14 @@ public class PatchDomain {
         this.loginSettings = loginSettings;
     }
 
+    public Optional<RateLimitSettings> getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(Optional<RateLimitSettings> rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     public Domain patch(Domain toPatch) {
 
         SetterUtils.safeSet(toPatch::setName, this.getName());
@@ -128,6 +138,7 @@ public class PatchDomain {
         SetterUtils.safeSet(toPatch::setOauth2Identities, this.getOauth2Identities());
         SetterUtils.safeSet(toPatch::setScim, this.getScim());
         SetterUtils.safeSet(toPatch::setLoginSettings, this.getLoginSettings());
+        SetterUtils.safeSet(toPatch::setRateLimit, this.getRateLimit());
 
         if (this.getOidc() != null) {
             if (this.getOidc().isPresent()) {
@@ -15,6 +15,8 @@
  */
 package io.gravitee.am.service.model;
 
+import io.gravitee.am.model.oauth2.RateLimitSettings;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +55,8 @@ public class UpdateClient {
 
     private boolean enhanceScopesWithUserPermissions;
 
+    private RateLimitSettings rateLimit;
+
     public List<String> getRedirectUris() {
         return redirectUris;
     }
@@ -164,4 +168,12 @@ public class UpdateClient {
     public void setEnhanceScopesWithUserPermissions(boolean enhanceScopesWithUserPermissions) {
         this.enhanceScopesWithUserPermissions = enhanceScopesWithUserPermissions;
     }
+
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettings rateLimit) {
+        this.rateLimit = rateLimit;
+    }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.am.service.model;
 
 import io.gravitee.am.model.login.LoginSettings;
+import io.gravitee.am.model.oauth2.RateLimitSettings;
 import io.gravitee.am.model.scim.SCIMSettings;
 
 import javax.validation.constraints.NotNull;
@@ -57,6 +58,8 @@ public class UpdateDomain {
 
     private LoginSettings loginSettings;
 
+    private RateLimitSettings rateLimit;
+
     public String getName() {
         return name;
     }
@@ -120,4 +123,12 @@ public class UpdateDomain {
     public void setLoginSettings(LoginSettings loginSettings) {
         this.loginSettings = loginSettings;
     }
+
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitSettings rateLimit) {
+        this.rateLimit = rateLimit;
+    }
 }
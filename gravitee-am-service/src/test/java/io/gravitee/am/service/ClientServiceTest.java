@@ -21,6 +21,8 @@ import io.gravitee.am.model.IdentityProvider;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.repository.exceptions.TechnicalException;
 import io.gravitee.am.repository.management.api.ClientRepository;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.service.exception.ClientAlreadyExistsException;
 import io.gravitee.am.service.exception.ClientNotFoundException;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
@@ -77,6 +79,12 @@ public class ClientServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
+    @Mock
+    private AccessTokenRepository accessTokenRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -579,8 +587,11 @@ public class ClientServiceTest {
     public void shouldDelete() {
         Client existingClient = Mockito.mock(Client.class);
         when(existingClient.getDomain()).thenReturn("my-domain");
+        when(existingClient.getClientId()).thenReturn("my-client-id");
         when(clientRepository.findById("my-client")).thenReturn(Maybe.just(existingClient));
         when(clientRepository.delete("my-client")).thenReturn(Completable.complete());
+        when(accessTokenRepository.deleteByDomainAndClientId("my-domain", "my-client-id")).thenReturn(Completable.complete());
+        when(refreshTokenRepository.deleteByDomainAndClientId("my-domain", "my-client-id")).thenReturn(Completable.complete());
         when(domainService.reload(eq("my-domain"), any())).thenReturn(Single.just(new Domain()));
 
         TestObserver testObserver = clientService.delete("my-client").test();
@@ -590,6 +601,8 @@ public class ClientServiceTest {
         testObserver.assertNoErrors();
 
         verify(clientRepository, times(1)).delete("my-client");
+        verify(accessTokenRepository, times(1)).deleteByDomainAndClientId("my-domain", "my-client-id");
+        verify(refreshTokenRepository, times(1)).deleteByDomainAndClientId("my-domain", "my-client-id");
     }
 
     @Test